@@ -17,15 +17,30 @@
 package com.amdocs.textcrate;
 
 import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.annotations.CachedRendering;
 import com.amdocs.textcrate.api.annotations.CodeSpec;
 import com.amdocs.textcrate.api.annotations.MessageFormatter;
 import com.amdocs.textcrate.api.annotations.MessageProperty;
 import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.api.annotations.Placeholder;
 import com.amdocs.textcrate.formatters.ToStringFormatter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,13 +48,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Constructs message blueprints from annotated methods of an annotated class.
+ * <p>Constructs message blueprints from annotated methods of an annotated class.</p>
+ *
+ * <p>A repository may extend other interfaces, e.g. a shared repository of common errors. Methods inherited from such
+ * an interface are built by a factory of their declaring interface, and each repository-level annotation
+ * ({@link CodeSpec}, {@link MessageFormatter}, {@link CachedRendering}) is taken from the nearest interface on the path
+ * of inheritance from the declaring interface up to the repository, i.e. from the declaring interface itself, or from
+ * an intermediate interface that extends it, or from the repository. Properties ({@link MessageProperty}) of all the
+ * interfaces on the path are merged, those of nearer interfaces win. If the declaring interface is inherited along
+ * more than one path, the shortest one is used.</p>
  *
  * @author evitaliy
  * @since 08 May 2018
  */
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = {"renderCache", "formattings"})
+@ToString(exclude = {"renderCache", "formattings"})
 class AnnotatedMessageBlueprintFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AnnotatedMessageBlueprintFactory.class);
@@ -61,25 +84,139 @@ class AnnotatedMessageBlueprintFactory {
      */
     private static final Formatter DEFAULT_MSG_CODE_FORMATTER = new SingleArgumentFormatter();
 
+    /**
+     * Custom formatters are shared between repositories whenever possible.
+     */
+    private static final FormatterRegistry FORMATTERS = new FormatterRegistry(FALLBACK_FORMATTER);
+
+    private final Class<?> repositoryClass;
     private final Formatter messageFormatter;
     private final CodeBlueprint.Formatting codeFormatting;
-    private final Map<String, String> properties;
+    private final PropertyTable properties;
+    private final boolean cacheAll;
+    private final RenderCache renderCache;
+    private final Localization localization;
+
+    /**
+     * Messages with the same pattern share its compiled form, which matters for very large repositories.
+     */
+    private final Map<List<Object>, BaseMessageBlueprint.Formatting> formattings = new ConcurrentHashMap<>();
 
     AnnotatedMessageBlueprintFactory(Class<?> clazz) {
         Objects.requireNonNull(clazz, "Class cannot be null");
+        this.repositoryClass = clazz;
         this.messageFormatter = initMessageFormatter(clazz);
         this.codeFormatting = initCodeFormatting(clazz, this.messageFormatter);
-        this.properties = initProperties(clazz);
+        this.properties = PropertyTable.of(initProperties(clazz));
+        this.cacheAll = clazz.isAnnotationPresent(CachedRendering.class);
+        this.renderCache = initRenderCache(clazz);
+        this.localization = new Localization(clazz);
+    }
+
+    private AnnotatedMessageBlueprintFactory(Class<?> declaring, AnnotatedMessageBlueprintFactory repository) {
+
+        // from the declaring interface up to, but not including, the repository
+        List<Class<?>> path = getPath(declaring, repository.repositoryClass);
+        this.repositoryClass = repository.repositoryClass;
+
+        Class<?> formatted = findNearest(path, MessageFormatter.class);
+        this.messageFormatter = formatted == null ? repository.messageFormatter : initMessageFormatter(formatted);
+        Class<?> coded = findNearest(path, CodeSpec.class);
+        this.codeFormatting = coded == null ? repository.codeFormatting
+                                      : initCodeFormatting(coded, this.messageFormatter);
+
+        PropertyTable merged = repository.properties;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            merged = merged.with(initProperties(path.get(i)));
+        }
+
+        this.properties = merged;
+
+        this.cacheAll = (findNearest(path, CachedRendering.class) != null) || repository.cacheAll;
+        // a single cache per repository, sized with the whole hierarchy in mind
+        this.renderCache = repository.renderCache;
+        // translations belong to the repository, see TranslationCatalog
+        this.localization = repository.localization;
+    }
+
+    /**
+     * Creates a factory for methods that a repository inherits from another interface. Should be called on
+     * the factory of the repository.
+     *
+     * @param declaring interface that declares inherited methods
+     * @return factory for the methods of the declaring interface
+     */
+    AnnotatedMessageBlueprintFactory forInherited(Class<?> declaring) {
+        return new AnnotatedMessageBlueprintFactory(declaring, this);
     }
 
     MessageBlueprint createBlueprint(MessageSpec annotation) {
+        return createBlueprint(annotation, Collections.emptyList(), properties);
+    }
+
+    MessageBlueprint createBlueprint(MessageSpec annotation, Method method) {
+
+        Objects.requireNonNull(method, "Method cannot be null");
+
+        MessageBlueprint blueprint = createBlueprint(annotation, getParameterNames(method), getPropertyTable(method));
+        return (renderCache != null) && (cacheAll || method.isAnnotationPresent(CachedRendering.class))
+                       ? new CachingMessageBlueprint(blueprint, renderCache) : blueprint;
+    }
+
+    private MessageBlueprint createBlueprint(MessageSpec annotation, List<String> parameterNames,
+            PropertyTable propertyTable) {
 
         Objects.requireNonNull(annotation, "Annotation cannot be null");
 
-        BaseMessageBlueprint.Formatting formatting =
-                new BaseMessageBlueprint.Formatting(annotation.pattern(), this.messageFormatter);
+        Object event = Instrumentation.beginBlueprintCreation();
+        String pattern = annotation.pattern();
+        BaseMessageBlueprint.Formatting formatting = formattings.computeIfAbsent(
+                Arrays.asList(pattern, parameterNames),
+                key -> new BaseMessageBlueprint.Formatting(pattern, this.messageFormatter, parameterNames));
         CodeBlueprint codeBlueprint = new CodeBlueprint(annotation.id(), this.codeFormatting);
-        return new BaseMessageBlueprint(codeBlueprint, formatting, properties);
+        MessageBlueprint blueprint = new BaseMessageBlueprint(codeBlueprint, formatting, propertyTable, localization);
+        Instrumentation.endBlueprintCreation(event, blueprint);
+        return blueprint;
+    }
+
+    MessageDescriptor createDescriptor(Class<?> repository, MessageSpec annotation, Method method) {
+        Objects.requireNonNull(annotation, "Annotation cannot be null");
+        CodeBlueprint codeBlueprint = new CodeBlueprint(annotation.id(), this.codeFormatting);
+        return new MessageDescriptor(repository, method.getName(), codeBlueprint.getNumericCode(),
+                codeBlueprint.getCode(), annotation.pattern(), getPropertyTable(method).asMap(),
+                method.getGenericParameterTypes(), getParameterNames(method), messageFormatter);
+    }
+
+    /**
+     * A name given explicitly with an annotation takes precedence over the actual name of a parameter, which is only
+     * available if the code has been compiled with <code>-parameters</code> (otherwise it is <code>argN</code>). If
+     * the name of any parameter is not known, none are returned, and a formatter binds placeholders to arguments by
+     * position instead.
+     */
+    private static List<String> getParameterNames(Method method) {
+
+        Parameter[] parameters = method.getParameters();
+        List<String> names = new ArrayList<>(parameters.length);
+        for (Parameter parameter : parameters) {
+
+            Placeholder placeholder = parameter.getAnnotation(Placeholder.class);
+            if (placeholder != null) {
+                names.add(placeholder.value());
+            } else if (parameter.isNamePresent()) {
+                names.add(parameter.getName());
+            }
+        }
+
+        if (names.size() == parameters.length) {
+            return names;
+        }
+
+        if (!names.isEmpty()) {
+            LOGGER.warn("Only some parameters of {} have known names, which will be ignored. Annotate all of them with "
+                                + "@{} or compile with -parameters", method, Placeholder.class.getSimpleName());
+        }
+
+        return Collections.emptyList();
     }
 
     private Formatter initMessageFormatter(Class<?> clazz) {
@@ -90,13 +227,7 @@ class AnnotatedMessageBlueprintFactory {
             return DEFAULT_MESSAGE_FORMATTER;
         }
 
-        try {
-            Formatter requestedFormatter = formatAnnotation.type().newInstance();
-            return new ResilientFormatter(requestedFormatter, FALLBACK_FORMATTER);
-        } catch (Exception e) {
-            LOGGER.error("Formatter " + formatAnnotation.type() + " could not be instantiated", e);
-            return FALLBACK_FORMATTER;
-        }
+        return FORMATTERS.get(formatAnnotation.type());
     }
 
     private CodeBlueprint.Formatting initCodeFormatting(Class<?> clazz, Formatter formatter) {
@@ -110,15 +241,108 @@ class AnnotatedMessageBlueprintFactory {
         }
     }
 
-    private Map<String, String> initProperties(Class<?> clazz) {
-        MessageProperty[] propsAnnotation = clazz.getAnnotationsByType(MessageProperty.class);
+    /**
+     * Properties of a method, on top of those of the repository. The table is computed once per blueprint,
+     * so that messages do not merge properties when they are looked up.
+     *
+     * @param method repository method
+     * @return properties of the method
+     */
+    PropertyTable getPropertyTable(Method method) {
+        return properties.with(initProperties(method));
+    }
+
+    private static Map<String, String> initProperties(AnnotatedElement element) {
+        MessageProperty[] propsAnnotation = element.getAnnotationsByType(MessageProperty.class);
         return propsAnnotation.length == 0 ? Collections.emptyMap()
                        : Arrays.stream(propsAnnotation)
                                .collect(Collectors.toMap(MessageProperty::name, MessageProperty::value));
     }
 
+    private RenderCache initRenderCache(Class<?> clazz) {
+
+        // the repository first, then the interfaces it extends
+        for (Class<?> type : getHierarchy(clazz)) {
+
+            CachedRendering cacheAnnotation = type.getAnnotation(CachedRendering.class);
+            if (cacheAnnotation != null) {
+                return new RenderCache(cacheAnnotation.maximumSize());
+            }
+        }
+
+        boolean anyCached = Arrays.stream(clazz.getMethods())
+                                    .anyMatch(method -> method.isAnnotationPresent(CachedRendering.class));
+        return anyCached ? new RenderCache(CachedRendering.DEFAULT_MAXIMUM_SIZE) : null;
+    }
+
+    private static Class<?> findNearest(List<Class<?>> path, Class<? extends Annotation> annotation) {
+
+        for (Class<?> type : path) {
+            if (type.isAnnotationPresent(annotation)) {
+                return type;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Shortest path of inheritance from an interface up to a repository that extends it.
+     *
+     * @param declaring interface that declares inherited methods
+     * @param repository repository
+     * @return the declaring interface, followed by the interfaces that extend it on the way to the repository,
+     *         excluding the repository itself
+     */
+    private static List<Class<?>> getPath(Class<?> declaring, Class<?> repository) {
+
+        // breadth-first from the repository, remembering how each interface has been reached
+        Map<Class<?>, Class<?>> extending = new HashMap<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(repository);
+
+        while (!queue.isEmpty() && !extending.containsKey(declaring)) {
+
+            Class<?> type = queue.poll();
+            for (Class<?> parent : type.getInterfaces()) {
+                if (!extending.containsKey(parent)) {
+                    extending.put(parent, type);
+                    queue.add(parent);
+                }
+            }
+        }
+
+        List<Class<?>> path = new ArrayList<>();
+        for (Class<?> type = declaring; (type != null) && (type != repository); type = extending.get(type)) {
+            path.add(type);
+        }
+
+        return path;
+    }
+
+    private static Set<Class<?>> getHierarchy(Class<?> clazz) {
+
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(clazz);
+
+        while (!queue.isEmpty()) {
+
+            Class<?> type = queue.poll();
+            if (hierarchy.add(type)) {
+                queue.addAll(Arrays.asList(type.getInterfaces()));
+            }
+        }
+
+        return hierarchy;
+    }
+
+    Optional<RenderCache> getRenderCache() {
+        return Optional.ofNullable(renderCache);
+    }
+
     Map<String, String> getProperties() {
-        return properties;
+        return properties.asMap();
     }
 
 }
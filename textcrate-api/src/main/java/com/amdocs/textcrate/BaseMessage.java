@@ -17,8 +17,13 @@
 package com.amdocs.textcrate;
 
 import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.PropertyKey;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.OptionalInt;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -31,6 +36,11 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode
 class BaseMessage implements Message {
 
+    /**
+     * Room for a typical message when writing to a stream; doubled until the message fits.
+     */
+    private static final int INITIAL_OUTPUT_CAPACITY = 256;
+
     private final Object[] arguments;
     private final MessageBlueprint blueprint;
 
@@ -46,7 +56,11 @@ class BaseMessage implements Message {
 
     @Override
     public String getPattern(Locale locale) {
-        return getPattern(); // ignore the locale for now
+        return blueprint.getPattern(locale);
+    }
+
+    String getPattern(MessageOverlay overlay) {
+        return blueprint.getPattern(overlay);
     }
 
     @Override
@@ -56,7 +70,28 @@ class BaseMessage implements Message {
 
     @Override
     public String getMessage(Locale locale) {
-        return getMessage(); // ignore the locale for now
+        return blueprint.format(locale, arguments);
+    }
+
+    String getMessage(MessageOverlay overlay, Locale locale) {
+        return blueprint.format(overlay, locale, arguments);
+    }
+
+    @Override
+    public int renderTo(ByteBuffer destination) {
+        int start = destination.position();
+        blueprint.encodeTo(destination, arguments);
+        return destination.position() - start;
+    }
+
+    @Override
+    public void renderTo(OutputStream output) throws IOException {
+        ByteBuffer buffer = blueprint.encodeGrowing(ByteBuffer.allocate(INITIAL_OUTPUT_CAPACITY), arguments);
+        output.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+    }
+
+    void writeJson(StringBuilder destination) {
+        blueprint.writeJson(destination, arguments);
     }
 
     @Override
@@ -69,11 +104,21 @@ class BaseMessage implements Message {
         return blueprint.getCode();
     }
 
+    @Override
+    public OptionalInt getNumericCode() {
+        return blueprint.getNumericCode();
+    }
+
     @Override
     public String getProperty(String name) {
         return blueprint.getProperty(name);
     }
 
+    @Override
+    public String getProperty(PropertyKey key) {
+        return blueprint.getProperty(key);
+    }
+
     @Override
     public String toString() {
         return getCode() + " " + getMessage();
@@ -16,9 +16,15 @@
 
 package com.amdocs.textcrate;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.PropertyKey;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import java.util.OptionalInt;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -28,18 +34,103 @@ import lombok.ToString;
  * @author evitaliy
  * @since 18 Oct 17
  */
-@AllArgsConstructor
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "jsonHead")
+@ToString(exclude = "jsonHead")
 class BaseMessageBlueprint implements MessageBlueprint {
 
     private final CodeBlueprint codeBlueprint;
     private final Formatting formatting;
-    private final Map<String, String> properties;
+    private final PropertyTable properties;
+
+    /**
+     * Translated patterns, <code>null</code> if the message is not translated.
+     */
+    private final Localization localization;
+
+    /**
+     * The escaped part of a JSON object that does not depend on arguments, computed on first use. A race may only
+     * compute the same value more than once.
+     */
+    private String jsonHead;
+
+    BaseMessageBlueprint(CodeBlueprint codeBlueprint, Formatting formatting, PropertyTable properties,
+            Localization localization) {
+        this.codeBlueprint = codeBlueprint;
+        this.formatting = formatting;
+        this.properties = properties;
+        this.localization = localization;
+    }
+
+    BaseMessageBlueprint(CodeBlueprint codeBlueprint, Formatting formatting, PropertyTable properties) {
+        this(codeBlueprint, formatting, properties, null);
+    }
+
+    BaseMessageBlueprint(CodeBlueprint codeBlueprint, Formatting formatting, Map<String, String> properties) {
+        this(codeBlueprint, formatting, PropertyTable.of(properties));
+    }
 
     @Override
     public String format(Object[] arguments) {
-        return formatting.formatter.format(formatting.pattern, arguments);
+        Object event = Instrumentation.beginRendering();
+        String message = formatting.compiled.format(arguments);
+        Instrumentation.endRendering(event, this, null);
+        return message;
+    }
+
+    @Override
+    public String format(Locale locale, Object[] arguments) {
+        Object event = Instrumentation.beginRendering();
+        String message = localize(locale).compiled.format(locale, arguments);
+        Instrumentation.endRendering(event, this, locale);
+        return message;
+    }
+
+    @Override
+    public String format(MessageOverlay overlay, Locale locale, Object[] arguments) {
+
+        Formatting override = override(overlay);
+        if (override == null) {
+            return locale == null ? format(arguments) : format(locale, arguments);
+        }
+
+        Object event = Instrumentation.beginRendering();
+        String message = locale == null ? override.compiled.format(arguments)
+                                 : override.compiled.format(locale, arguments);
+        Instrumentation.endRendering(event, this, locale);
+        return message;
+    }
+
+    @Override
+    public void encodeTo(ByteBuffer destination, Object[] arguments) {
+        Object event = Instrumentation.beginRendering();
+        formatting.compiled.encodeTo(destination, null, arguments);
+        Instrumentation.endRendering(event, this, null);
+    }
+
+    @Override
+    public ByteBuffer encodeGrowing(ByteBuffer destination, Object[] arguments) {
+        Object event = Instrumentation.beginRendering();
+        ByteBuffer target = formatting.compiled.encodeGrowing(destination, null, arguments);
+        Instrumentation.endRendering(event, this, null);
+        return target;
+    }
+
+    @Override
+    public void writeJson(StringBuilder destination, Object[] arguments) {
+
+        String head = jsonHead;
+        if (head == null) {
+            head = JsonMessageWriter.head(getCode(), formatting.pattern, properties.asMap());
+            jsonHead = head;
+        }
+
+        destination.append(head);
+        int start = JsonMessageWriter.beginMessage(destination);
+        Object event = Instrumentation.beginRendering();
+        formatting.compiled.formatTo(destination, arguments);
+        Instrumentation.endRendering(event, this, null);
+        JsonMessageWriter.endMessage(destination, start);
+        JsonMessageWriter.appendArguments(destination, arguments);
     }
 
     @Override
@@ -47,21 +138,81 @@ class BaseMessageBlueprint implements MessageBlueprint {
         return formatting.pattern;
     }
 
+    @Override
+    public String getPattern(Locale locale) {
+        return localize(locale).pattern;
+    }
+
+    @Override
+    public String getPattern(MessageOverlay overlay) {
+        Formatting override = override(overlay);
+        return override == null ? formatting.pattern : override.pattern;
+    }
+
+    /**
+     * Overrides are keyed by the repository, which is known only to a blueprint that can be localized.
+     */
+    private Formatting override(MessageOverlay overlay) {
+        return localization == null ? null : overlay.find(localization.getRepository(), codeBlueprint.getNumericCode());
+    }
+
+    private Formatting localize(Locale locale) {
+        return localization == null ? formatting
+                       : localization.localize(locale, codeBlueprint.getNumericCode(), formatting);
+    }
+
     @Override
     public String getCode() {
         return codeBlueprint.getCode();
     }
 
+    @Override
+    public OptionalInt getNumericCode() {
+        return OptionalInt.of(codeBlueprint.getNumericCode());
+    }
+
     @Override
     public String getProperty(String name) {
         return properties.get(name);
     }
 
-    @AllArgsConstructor
-    @EqualsAndHashCode
-    @ToString
+    @Override
+    public String getProperty(PropertyKey key) {
+        return properties.get(key);
+    }
+
+    Formatting getFormatting() {
+        return formatting;
+    }
+
+    /**
+     * The pattern is compiled once, when a blueprint is created, and reused for every message.
+     */
+    @EqualsAndHashCode(exclude = "compiled")
+    @ToString(exclude = "compiled")
     static class Formatting {
+
         private final String pattern;
         private final Formatter formatter;
+        private final List<String> parameterNames;
+        private final CompiledPattern compiled;
+
+        Formatting(String pattern, Formatter formatter) {
+            this(pattern, formatter, Collections.emptyList());
+        }
+
+        Formatting(String pattern, Formatter formatter, List<String> parameterNames) {
+            this.pattern = pattern;
+            this.formatter = formatter;
+            this.parameterNames = parameterNames;
+            this.compiled = formatter == null ? null : formatter.compile(pattern, parameterNames);
+        }
+
+        /**
+         * Same formatting rules for a different pattern, e.g. a translation.
+         */
+        Formatting withPattern(String otherPattern) {
+            return new Formatting(otherPattern, formatter, parameterNames);
+        }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.PropertyKey;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.OptionalInt;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Reuses rendered messages from a {@link RenderCache} when arguments are immutable, and delegates everything else
+ * to the actual blueprint.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@AllArgsConstructor
+@EqualsAndHashCode(exclude = "cache")
+@ToString(exclude = "cache")
+class CachingMessageBlueprint implements MessageBlueprint {
+
+    private final MessageBlueprint delegate;
+    private final RenderCache cache;
+
+    @Override
+    public String format(Object[] arguments) {
+        return RenderCache.isCacheable(arguments)
+                       ? cache.get(delegate, null, arguments, () -> delegate.format(arguments))
+                       : delegate.format(arguments);
+    }
+
+    @Override
+    public String format(Locale locale, Object[] arguments) {
+        return RenderCache.isCacheable(arguments)
+                       ? cache.get(delegate, locale, arguments, () -> delegate.format(locale, arguments))
+                       : delegate.format(locale, arguments);
+    }
+
+    /**
+     * Not cached, since the cache is shared by all overlays.
+     */
+    @Override
+    public String format(MessageOverlay overlay, Locale locale, Object[] arguments) {
+        return delegate.format(overlay, locale, arguments);
+    }
+
+    /**
+     * Not cached, since the cache holds strings, and the point of encoding is not to create one.
+     */
+    @Override
+    public void encodeTo(ByteBuffer destination, Object[] arguments) {
+        delegate.encodeTo(destination, arguments);
+    }
+
+    @Override
+    public ByteBuffer encodeGrowing(ByteBuffer destination, Object[] arguments) {
+        return delegate.encodeGrowing(destination, arguments);
+    }
+
+    @Override
+    public void writeJson(StringBuilder destination, Object[] arguments) {
+        delegate.writeJson(destination, arguments);
+    }
+
+    @Override
+    public String getPattern() {
+        return delegate.getPattern();
+    }
+
+    @Override
+    public String getPattern(Locale locale) {
+        return delegate.getPattern(locale);
+    }
+
+    @Override
+    public String getPattern(MessageOverlay overlay) {
+        return delegate.getPattern(overlay);
+    }
+
+    @Override
+    public String getCode() {
+        return delegate.getCode();
+    }
+
+    @Override
+    public OptionalInt getNumericCode() {
+        return delegate.getNumericCode();
+    }
+
+    @Override
+    public String getProperty(String name) {
+        return delegate.getProperty(name);
+    }
+
+    @Override
+    public String getProperty(PropertyKey key) {
+        return delegate.getProperty(key);
+    }
+}
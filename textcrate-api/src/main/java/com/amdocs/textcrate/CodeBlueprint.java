@@ -16,8 +16,8 @@
 
 package com.amdocs.textcrate;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -28,24 +28,55 @@ import lombok.ToString;
  * @author evitaliy
  * @since 24 Jan 18
  */
-@AllArgsConstructor
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "code")
+@ToString(exclude = "code")
 class CodeBlueprint {
 
     private final int id;
     private final Formatting formatting;
 
+    /**
+     * A message code never changes, so it is computed once. A race may only compute the same value more than once.
+     */
+    private String code;
+
+    CodeBlueprint(int id, Formatting formatting) {
+        this.id = id;
+        this.formatting = formatting;
+    }
+
+    int getNumericCode() {
+        return formatting.offset + id;
+    }
+
     String getCode() {
-        return formatting.formatter.format(formatting.pattern, formatting.offset + id);
+
+        String result = code;
+        if (result == null) {
+            result = formatting.compiled.format(getNumericCode());
+            code = result;
+        }
+
+        return result;
     }
 
-    @AllArgsConstructor
-    @EqualsAndHashCode
-    @ToString
+    /**
+     * Shared by all codes of a repository, so the code pattern is compiled only once per repository.
+     */
+    @EqualsAndHashCode(exclude = "compiled")
+    @ToString(exclude = "compiled")
     static class Formatting {
+
         private final int offset;
         private final String pattern;
         private final Formatter formatter;
+        private final CompiledPattern compiled;
+
+        Formatting(int offset, String pattern, Formatter formatter) {
+            this.offset = offset;
+            this.pattern = pattern;
+            this.formatter = formatter;
+            this.compiled = formatter == null ? null : formatter.compile(pattern);
+        }
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.formatters.MessageFormatFormatter;
+import com.amdocs.textcrate.formatters.NamedPlaceholderFormatter;
+import com.amdocs.textcrate.formatters.PrintfFormatter;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import com.amdocs.textcrate.formatters.ToStringFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.ToString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Creates formatters requested by message repositories. A formatter that declares itself shareable
+ * (see {@link Formatter#isShareable()}) is instantiated only once per type, and the same instance is then used by all
+ * repositories. Any other formatter is instantiated per request, as before.</p>
+ *
+ * <p>Every formatter is wrapped in a {@link ResilientFormatter}, and if a formatter cannot be instantiated the fallback
+ * formatter is returned instead. Failed instantiation is not remembered, so that the error is reported for each
+ * repository that uses the formatter.</p>
+ *
+ * <p>The formatters of this library are instantiated without reflection, which is friendlier to a native image.
+ * Any other formatter type, including a subclass of a built-in formatter, is instantiated reflectively.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@ToString(of = "fallback")
+class FormatterRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterRegistry.class);
+
+    private static final Map<Class<?>, Supplier<Formatter>> BUILT_IN = new HashMap<>();
+
+    static {
+        BUILT_IN.put(Slf4jFormatter.class, Slf4jFormatter::new);
+        BUILT_IN.put(PrintfFormatter.class, PrintfFormatter::new);
+        BUILT_IN.put(MessageFormatFormatter.class, MessageFormatFormatter::new);
+        BUILT_IN.put(NamedPlaceholderFormatter.class, NamedPlaceholderFormatter::new);
+        BUILT_IN.put(ToStringFormatter.class, ToStringFormatter::new);
+    }
+
+    private final Formatter fallback;
+
+    /**
+     * Keyed by formatter type without preventing the type from being unloaded together with its class loader.
+     */
+    private final ClassValue<Supplier<Formatter>> suppliers = new ClassValue<Supplier<Formatter>>() {
+
+        @Override
+        protected Supplier<Formatter> computeValue(Class<?> type) {
+
+            Formatter first = instantiate(type);
+            if (!first.isShareable()) {
+                LOGGER.debug("Formatter {} is not shareable. A new instance will be created for each repository", type);
+                return () -> resilient(instantiate(type));
+            }
+
+            Formatter shared = resilient(first);
+            return () -> shared;
+        }
+    };
+
+    FormatterRegistry(Formatter fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns a formatter of the requested type, shared or not depending on the type.
+     *
+     * @param type formatter type
+     * @return a resilient formatter of the requested type, or the fallback formatter if the type cannot be instantiated
+     */
+    Formatter get(Class<? extends Formatter> type) {
+
+        try {
+            return suppliers.get(type).get();
+        } catch (Exception e) {
+            LOGGER.error("Formatter " + type + " could not be instantiated", e);
+            return fallback;
+        }
+    }
+
+    private Formatter resilient(Formatter formatter) {
+        return new ResilientFormatter(formatter, fallback);
+    }
+
+    /**
+     * Whether a formatter type is instantiated without reflection.
+     *
+     * @param type formatter type
+     * @return <code>true</code> for a formatter of this library, <code>false</code> otherwise
+     */
+    static boolean isBuiltIn(Class<?> type) {
+        return BUILT_IN.containsKey(type);
+    }
+
+    private static Formatter instantiate(Class<?> type) {
+
+        Supplier<Formatter> builtIn = BUILT_IN.get(type);
+        if (builtIn != null) {
+            return builtIn.get();
+        }
+
+        try {
+            return (Formatter) type.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to instantiate formatter " + type.getName(), e);
+        }
+    }
+}
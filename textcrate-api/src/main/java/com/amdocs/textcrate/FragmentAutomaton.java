@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>An Aho-Corasick automaton that finds all occurrences of a set of strings (fragments) in a text in a single pass,
+ * regardless of the number of fragments. Immutable once built, and therefore thread-safe.</p>
+ *
+ * <p>Transitions of a state are kept in a sorted array of characters with a parallel array of target states, which is
+ * compact for the sparse tries that natural-language text makes, and looked up with a binary search.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class FragmentAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+
+    /**
+     * Fragments that end in a state, including those that end in the states of its failure chain.
+     */
+    private final int[][] outputs;
+
+    private final int[] lengths;
+
+    /**
+     * Receives the occurrences of fragments.
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * Called for every occurrence, in the order of the positions where occurrences end.
+         *
+         * @param fragment index of the fragment in the list the automaton has been built from
+         * @param start position in the text where the occurrence starts
+         */
+        void found(int fragment, int start);
+    }
+
+    FragmentAutomaton(List<String> fragments) {
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        this.lengths = new int[fragments.size()];
+        for (int fragment = 0; fragment < fragments.size(); fragment++) {
+
+            String text = fragments.get(fragment);
+            lengths[fragment] = text.length();
+
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+
+                Integer next = trie.get(state).get(text.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    trie.get(state).put(text.charAt(i), next);
+                }
+
+                state = next;
+            }
+
+            ends.get(state).add(fragment);
+        }
+
+        int size = trie.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+
+            Map<Character, Integer> transitions = trie.get(state);
+            labels[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        this.failures = new int[size];
+        this.outputs = new int[size][];
+        link(ends);
+    }
+
+    /**
+     * Length of a fragment.
+     *
+     * @param fragment index of the fragment
+     * @return number of characters
+     */
+    int length(int fragment) {
+        return lengths[fragment];
+    }
+
+    /**
+     * Finds all occurrences of all fragments in a text.
+     *
+     * @param text text to scan
+     * @param listener receives the occurrences
+     */
+    void scan(CharSequence text, Listener listener) {
+
+        int state = ROOT;
+        for (int position = 0; position < text.length(); position++) {
+
+            state = next(state, text.charAt(position));
+            for (int fragment : outputs[state]) {
+                listener.found(fragment, position + 1 - lengths[fragment]);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+
+        int current = state;
+        while (true) {
+
+            int target = transition(current, c);
+            if (target >= 0) {
+                return target;
+            }
+
+            if (current == ROOT) {
+                return ROOT;
+            }
+
+            current = failures[current];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index < 0 ? -1 : targets[state][index];
+    }
+
+    /**
+     * Computes failure links breadth-first, so that the links of shorter prefixes are known before longer ones.
+     */
+    private void link(List<List<Integer>> ends) {
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[ROOT] = toArray(ends.get(ROOT), NO_OUTPUTS);
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            outputs[child] = toArray(ends.get(child), outputs[ROOT]);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+
+                int child = targets[state][i];
+                int failure = next(failures[state], labels[state][i]);
+                failures[child] = failure;
+                outputs[child] = toArray(ends.get(child), outputs[failure]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+
+        if (own.isEmpty()) {
+            return inherited;
+        }
+
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+
+        return merged;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Estimates how often a key has been seen recently, using a Count-Min sketch of 4-bit counters, as in
+ * <a href="https://arxiv.org/abs/1512.00727">TinyLFU</a>. Each key is counted in four counters, and its frequency is
+ * the minimum of them. Once the number of increments reaches a sample size, all counters are halved, so that old
+ * popularity fades out.</p>
+ *
+ * <p>Updates are lock-free. Concurrent updates of the same counter are never lost, but the halving may race with
+ * increments. Since the sketch only gives estimates, this does not matter.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final int DEPTH = 4;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    private static final long[] SEEDS = {
+        0xc3a5_c85c_97cb_3127L, 0xb492_b66f_be98_f273L, 0x9ae1_6a3b_2f90_404fL, 0xcbf2_9ce4_8422_2325L
+    };
+
+    private final AtomicLongArray table;
+    private final AtomicInteger additions = new AtomicInteger();
+    private final int tableMask;
+    private final int sampleSize;
+
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(maximumSize, 16) - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) maximumSize * SAMPLE_FACTOR);
+    }
+
+    /**
+     * Counts one more occurrence of a key.
+     *
+     * @param hash hash code of the key
+     */
+    void increment(int hash) {
+
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            added |= incrementAt(indexOf(hash, i), offsetOf(hash, i));
+        }
+
+        if (added && (additions.incrementAndGet() >= sampleSize)) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimates how many times a key has been seen recently.
+     *
+     * @param hash hash code of the key
+     * @return estimated frequency, between 0 and 15
+     */
+    int frequency(int hash) {
+
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            long word = table.get(indexOf(hash, i));
+            frequency = Math.min(frequency, (int) ((word >>> offsetOf(hash, i)) & MAX_COUNT));
+        }
+
+        return frequency;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+
+        long mask = (long) MAX_COUNT << offset;
+        long word;
+        do {
+            word = table.get(index);
+            if ((word & mask) == mask) {
+                return false;
+            }
+        } while (!table.compareAndSet(index, word, word + (1L << offset)));
+
+        return true;
+    }
+
+    private void reset() {
+
+        additions.set(0);
+        for (int i = 0; i < table.length(); i++) {
+            long word;
+            do {
+                word = table.get(i);
+            } while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+        }
+    }
+
+    private int indexOf(int hash, int depth) {
+        long mixed = (hash + SEEDS[depth]) * SEEDS[depth];
+        return (int) (mixed ^ (mixed >>> 32)) & tableMask;
+    }
+
+    private static int offsetOf(int hash, int depth) {
+        // 16 counters of 4 bits in a word, a different counter for each depth
+        return (((hash >>> (depth << 3)) & 3) << 2 | depth) << 2;
+    }
+}
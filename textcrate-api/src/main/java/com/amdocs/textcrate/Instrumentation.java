@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.Locale;
+
+/**
+ * <p>Reports what the library does to a profiler. On Java 8 nothing is reported, and every method is an empty stub
+ * that the JIT compiler removes completely. On Java 11 and later, a replacement of this class in the multi-release
+ * jar (<code>META-INF/versions/11</code>) emits Java Flight Recorder events.</p>
+ *
+ * <p>A timed operation is wrapped in a pair of calls, e.g.</p>
+ *
+ * <pre>
+ *     Object event = Instrumentation.beginRendering();
+ *     String message = ...;
+ *     Instrumentation.endRendering(event, blueprint, locale);
+ * </pre>
+ *
+ * <p>The object returned by a <code>begin</code> method is <code>null</code> unless a recording is running, in which
+ * case it is used to measure the duration of the operation.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class Instrumentation {
+
+    private Instrumentation() { /* prevent instantiation */ }
+
+    static Object beginRepositoryCreation() {
+        return null;
+    }
+
+    static void endRepositoryCreation(Object event, Class<?> repository, Object provider) {
+        // no instrumentation in Java 8
+    }
+
+    static Object beginBlueprintCreation() {
+        return null;
+    }
+
+    static void endBlueprintCreation(Object event, MessageBlueprint blueprint) {
+        // no instrumentation in Java 8
+    }
+
+    static Object beginRendering() {
+        return null;
+    }
+
+    static void endRendering(Object event, MessageBlueprint blueprint, Locale locale) {
+        // no instrumentation in Java 8
+    }
+
+    static void formatterFellBack(Object formatter, Object fallback, String pattern, Exception error) {
+        // no instrumentation in Java 8
+    }
+}
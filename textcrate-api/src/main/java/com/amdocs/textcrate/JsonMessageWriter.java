@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.Message;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Writes messages as JSON objects, e.g. for structured logging, without a JSON library:</p>
+ *
+ * <pre>
+ *     {"code":"BOR-21","pattern":"'{}' is currently not available","properties":{"type":"Error"},
+ *      "message":"'Dune' is currently not available","arguments":["Dune"]}
+ * </pre>
+ *
+ * <p>A message is appended to a buffer that the caller provides and may reuse. For messages of repositories created
+ * with {@link Messages#from(Class)}, the part of the object that does not depend on the arguments (the code, the
+ * pattern and the properties) is escaped once per message type, the text is rendered directly into the buffer,
+ * and only the arguments are escaped on every call, in a single pass. Other messages are written using their
+ * getters, and without properties, since those cannot be listed.</p>
+ *
+ * <p>Strings and characters of arguments are written as JSON strings, numbers and booleans as JSON values, and other
+ * arguments as strings returned by their <code>toString()</code>. A missing code, pattern, text or argument is
+ * written as <code>null</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class JsonMessageWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonMessageWriter.class);
+
+    private static final String CODE_FIELD = "{\"code\":";
+    private static final String PATTERN_FIELD = ",\"pattern\":";
+    private static final String PROPERTIES_FIELD = ",\"properties\":{";
+    private static final String MESSAGE_FIELD = "},\"message\":";
+    private static final String ARGUMENTS_FIELD = ",\"arguments\":[";
+    private static final String END = "]}";
+
+    private static final String NULL = "null";
+    private static final String FAILED_TO_STRING = "[FAILED toString()]";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int CONTROL_CHARS = 0x20;
+
+    private JsonMessageWriter() { /* prevent instantiation */ }
+
+    /**
+     * Appends a message as a JSON object.
+     *
+     * @param message message to write
+     * @param destination where the object is appended
+     */
+    public static void write(Message message, StringBuilder destination) {
+
+        Objects.requireNonNull(message, "Message cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+
+        if (message instanceof BaseMessage) {
+            ((BaseMessage) message).writeJson(destination);
+            return;
+        }
+
+        destination.append(head(message.getCode(), message.getPattern(), null));
+        appendMessage(destination, message.getMessage());
+        appendArguments(destination, message.getArguments());
+    }
+
+    /**
+     * Writes a message as a JSON object.
+     *
+     * @param message message to write
+     * @return JSON object
+     */
+    public static String toJson(Message message) {
+        StringBuilder builder = new StringBuilder();
+        write(message, builder);
+        return builder.toString();
+    }
+
+    /**
+     * The beginning of a JSON object that does not depend on the arguments of a message, up to and including the
+     * opening brace of the properties.
+     *
+     * @param code message code
+     * @param pattern message pattern
+     * @param properties message properties, or <code>null</code> if unknown
+     * @return escaped fragment, which is a constant for a message type
+     */
+    static String head(String code, String pattern, Map<String, String> properties) {
+
+        StringBuilder head = new StringBuilder(CODE_FIELD);
+        appendString(head, code);
+        head.append(PATTERN_FIELD);
+        appendString(head, pattern);
+        head.append(PROPERTIES_FIELD);
+
+        if (properties != null) {
+
+            String separator = "";
+            for (Map.Entry<String, String> property : new TreeMap<>(properties).entrySet()) {
+                head.append(separator);
+                appendString(head, property.getKey());
+                head.append(':');
+                appendString(head, property.getValue());
+                separator = ",";
+            }
+        }
+
+        return head.toString();
+    }
+
+    /**
+     * Begins the text of a message, which is to be rendered right after, and escaped by {@link #endMessage}.
+     *
+     * @param destination buffer
+     * @return where the text begins
+     */
+    static int beginMessage(StringBuilder destination) {
+        destination.append(MESSAGE_FIELD).append('"');
+        return destination.length();
+    }
+
+    /**
+     * Escapes the text of a message that has been rendered into a buffer, and ends it. Most messages do not need
+     * escaping, and are only scanned.
+     *
+     * @param destination buffer
+     * @param start where the text begins, as returned by {@link #beginMessage}
+     */
+    static void endMessage(StringBuilder destination, int start) {
+
+        int length = destination.length();
+        for (int i = start; i < length; i++) {
+
+            if (needsEscaping(destination.charAt(i))) {
+                String rest = destination.substring(i);
+                destination.setLength(i);
+                appendEscaped(destination, rest);
+                break;
+            }
+        }
+
+        destination.append('"');
+    }
+
+    static void appendArguments(StringBuilder destination, Object[] arguments) {
+
+        destination.append(ARGUMENTS_FIELD);
+
+        if (arguments != null) {
+            for (int i = 0; i < arguments.length; i++) {
+
+                if (i > 0) {
+                    destination.append(',');
+                }
+
+                appendValue(destination, arguments[i]);
+            }
+        }
+
+        destination.append(END);
+    }
+
+    private static void appendMessage(StringBuilder destination, String message) {
+
+        if (message == null) {
+            destination.append(MESSAGE_FIELD).append(NULL);
+            return;
+        }
+
+        int start = beginMessage(destination);
+        destination.append(message);
+        endMessage(destination, start);
+    }
+
+    private static void appendValue(StringBuilder destination, Object value) {
+
+        if (value == null) {
+            destination.append(NULL);
+        } else if ((value instanceof Boolean) || isExactNumber(value)) {
+            destination.append(value);
+        } else if ((value instanceof Double) && Double.isFinite((Double) value)) {
+            destination.append(((Double) value).doubleValue());
+        } else if ((value instanceof Float) && Float.isFinite((Float) value)) {
+            destination.append(((Float) value).floatValue());
+        } else {
+            appendString(destination, value instanceof CharSequence ? (CharSequence) value : toString(value));
+        }
+    }
+
+    private static boolean isExactNumber(Object value) {
+        return (value instanceof Integer) || (value instanceof Long) || (value instanceof Short)
+                       || (value instanceof Byte) || (value instanceof BigInteger) || (value instanceof BigDecimal);
+    }
+
+    @SuppressWarnings("squid:S1181") // same as rendering, an argument must not break writing even with an Error
+    private static String toString(Object value) {
+
+        try {
+            return value.toString();
+        } catch (Throwable e) {
+            LOGGER.warn("Failed toString() on object of type {}", value.getClass().getName(), e);
+            return FAILED_TO_STRING;
+        }
+    }
+
+    private static void appendString(StringBuilder destination, CharSequence value) {
+
+        if (value == null) {
+            destination.append(NULL);
+            return;
+        }
+
+        destination.append('"');
+        appendEscaped(destination, value);
+        destination.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder destination, CharSequence value) {
+
+        int length = value.length();
+        int unescaped = 0;
+        for (int i = 0; i < length; i++) {
+
+            char c = value.charAt(i);
+            if (needsEscaping(c)) {
+                destination.append(value, unescaped, i);
+                appendEscape(destination, c);
+                unescaped = i + 1;
+            }
+        }
+
+        destination.append(value, unescaped, length);
+    }
+
+    private static boolean needsEscaping(char c) {
+        return (c < CONTROL_CHARS) || (c == '"') || (c == '\\');
+    }
+
+    private static void appendEscape(StringBuilder destination, char c) {
+
+        switch (c) {
+            case '"':
+                destination.append("\\\"");
+                break;
+            case '\\':
+                destination.append("\\\\");
+                break;
+            case '\n':
+                destination.append("\\n");
+                break;
+            case '\r':
+                destination.append("\\r");
+                break;
+            case '\t':
+                destination.append("\\t");
+                break;
+            case '\b':
+                destination.append("\\b");
+                break;
+            case '\f':
+                destination.append("\\f");
+                break;
+            default:
+                destination.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Translated patterns of the messages of a repository. A translated pattern is compiled with the formatter of
+ * the original one the first time it is needed, and then reused for the same locale. If there is no translation,
+ * the original pattern is remembered for the locale instead, so it is looked up only once.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = {"repository", "classLoader"})
+@ToString(of = "repository")
+final class Localization {
+
+    private final String repository;
+    private final ClassLoader classLoader;
+    private final Map<Locale, Map<Integer, BaseMessageBlueprint.Formatting>> formattings = new ConcurrentHashMap<>();
+
+    Localization(Class<?> repository) {
+        this(repository.getName(), repository.getClassLoader());
+    }
+
+    Localization(String repository, ClassLoader classLoader) {
+        this.repository = repository;
+        this.classLoader = classLoader;
+    }
+
+    String getRepository() {
+        return repository;
+    }
+
+    BaseMessageBlueprint.Formatting localize(Locale locale, int numericCode, BaseMessageBlueprint.Formatting original) {
+
+        if (locale == null) {
+            return original;
+        }
+
+        Map<Integer, BaseMessageBlueprint.Formatting> byCode =
+                formattings.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        BaseMessageBlueprint.Formatting localized = byCode.get(numericCode);
+        if (localized != null) {
+            return localized;
+        }
+
+        Translations translations = Translations.forClassLoader(classLoader);
+        String pattern = translations.find(classLoader, repository, numericCode, locale);
+        localized = pattern == null ? original : original.withPattern(pattern);
+        BaseMessageBlueprint.Formatting existing = byCode.putIfAbsent(numericCode, localized);
+        return existing == null ? localized : existing;
+    }
+}
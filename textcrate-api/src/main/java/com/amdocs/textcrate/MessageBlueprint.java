@@ -16,6 +16,11 @@
 
 package com.amdocs.textcrate;
 
+import com.amdocs.textcrate.api.PropertyKey;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.OptionalInt;
+
 /**
  * <p>Defines the metadata and formatting rules for a message, but does not include its arguments.
  * An instance of {@link MessageBlueprint} should be used to construct messages that differ only in their arguments.</p>
@@ -27,9 +32,57 @@ interface MessageBlueprint {
 
     String format(Object[] arguments);
 
+    String format(Locale locale, Object[] arguments);
+
+    /**
+     * Formats a message with the pattern that an overlay defines for it, if any.
+     *
+     * @param overlay overrides of message patterns
+     * @param locale desired locale, or <code>null</code> for the default one
+     * @param arguments message arguments
+     * @return formatted message
+     */
+    String format(MessageOverlay overlay, Locale locale, Object[] arguments);
+
+    /**
+     * Writes a message in UTF-8.
+     *
+     * @param destination target buffer
+     * @param arguments message arguments
+     * @throws java.nio.BufferOverflowException if the message does not fit, in which case the position of the buffer
+     *                                          is not changed
+     */
+    void encodeTo(ByteBuffer destination, Object[] arguments);
+
+    /**
+     * Writes a message in UTF-8, replacing the buffer with a larger one whenever the message does not fit, see
+     * {@link com.amdocs.textcrate.api.CompiledPattern#encodeGrowing(ByteBuffer, java.util.Locale, Object...)}.
+     *
+     * @param destination target buffer
+     * @param arguments message arguments
+     * @return the buffer that holds the message, positioned right after it
+     */
+    ByteBuffer encodeGrowing(ByteBuffer destination, Object[] arguments);
+
+    /**
+     * Appends a message as a JSON object, see {@link JsonMessageWriter}.
+     *
+     * @param destination target buffer
+     * @param arguments message arguments
+     */
+    void writeJson(StringBuilder destination, Object[] arguments);
+
     String getPattern();
 
+    String getPattern(Locale locale);
+
+    String getPattern(MessageOverlay overlay);
+
     String getCode();
 
+    OptionalInt getNumericCode();
+
     String getProperty(String name);
+
+    String getProperty(PropertyKey key);
 }
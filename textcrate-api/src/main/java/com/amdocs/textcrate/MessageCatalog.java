@@ -0,0 +1,367 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <p>Answers queries about the messages of registered repositories by their properties (see
+ * {@link com.amdocs.textcrate.api.annotations.MessageProperty}), e.g. for listing all errors intended for end users in
+ * an admin console:</p>
+ *
+ * <pre>
+ *     Map&lt;String, String&gt; query = new HashMap&lt;&gt;();
+ *     query.put("type", "Error");
+ *     query.put("audience", "End User");
+ *     List&lt;MessageDescriptor&gt; errors = Messages.getCatalog().findAll(query);
+ * </pre>
+ *
+ * <p>A repository is registered with the catalog of {@link Messages#getCatalog()} when it is created with
+ * {@link Messages#from(Class)}, and can also be registered explicitly. Registering is cheap, the messages of
+ * a repository are described and indexed on the first query that follows. Each message is assigned a position, and
+ * every property name and value is mapped to a bit set of the positions of the messages that have it, so a query is
+ * a few bit set operations regardless of the number of repositories.</p>
+ *
+ * <p>Queries run against an immutable snapshot of the index, and do not block each other. Indexing new repositories
+ * creates a new snapshot, copying only the bit sets that change.</p>
+ *
+ * <p>The catalog does not prevent a repository from being unloaded together with its class loader, e.g. when a web
+ * application is redeployed. The descriptors of a repository are attached to its class, and the snapshot refers to them
+ * weakly. Once they are gone, they are no longer returned, and the index is rebuilt without them on the next query.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class MessageCatalog {
+
+    private final Map<Class<?>, Boolean> registered = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Queue<Reference<Class<?>>> pending = new ConcurrentLinkedQueue<>();
+    private final ReferenceQueue<MessageDescriptor> unloaded = new ReferenceQueue<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Kept with each class, so that the descriptors, which refer to the class, do not keep it from being unloaded.
+     */
+    private final ClassValue<List<MessageDescriptor>> descriptors = new ClassValue<List<MessageDescriptor>>() {
+
+        @Override
+        protected List<MessageDescriptor> computeValue(Class<?> type) {
+            return describe(type);
+        }
+    };
+
+    MessageCatalog() { /* available via Messages */ }
+
+    /**
+     * Adds repositories to the catalog. Repositories that have already been registered are ignored.
+     *
+     * @param repositories repository interfaces
+     * @throws IllegalArgumentException if any of the types is not an interface
+     */
+    public void register(Class<?>... repositories) {
+
+        Objects.requireNonNull(repositories, "Repositories cannot be null");
+
+        for (Class<?> repository : repositories) {
+
+            Objects.requireNonNull(repository, "Repository cannot be null");
+            if (!repository.isInterface()) {
+                throw new IllegalArgumentException(repository.getName() + " is not an interface");
+            }
+
+            if (registered.putIfAbsent(repository, Boolean.TRUE) == null) {
+                pending.add(new WeakReference<>(repository));
+            }
+        }
+    }
+
+    /**
+     * All annotated messages of the registered repositories, in the order of registration.
+     *
+     * @return unmodifiable list of messages
+     */
+    public List<MessageDescriptor> getMessages() {
+        return current().all();
+    }
+
+    /**
+     * Messages that have a property with a given value.
+     *
+     * @param name property name
+     * @param value property value
+     * @return unmodifiable list of messages, in the order of registration
+     */
+    public List<MessageDescriptor> find(String name, String value) {
+        return findAll(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Messages that have all the given properties, each with the given value.
+     *
+     * @param properties property names and values, all messages match an empty map
+     * @return unmodifiable list of messages, in the order of registration
+     */
+    public List<MessageDescriptor> findAll(Map<String, String> properties) {
+
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        Snapshot current = current();
+        if (properties.isEmpty()) {
+            return current.all();
+        }
+
+        BitSet matches = null;
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+
+            BitSet positions = current.get(property.getKey(), property.getValue());
+            if (positions == null) {
+                return Collections.emptyList();
+            }
+
+            if (matches == null) {
+                matches = (BitSet) positions.clone();
+            } else {
+                matches.and(positions);
+            }
+        }
+
+        return current.select(matches);
+    }
+
+    /**
+     * Messages that have at least one of the given properties with the given value.
+     *
+     * @param properties property names and values, no message matches an empty map
+     * @return unmodifiable list of messages, in the order of registration
+     */
+    public List<MessageDescriptor> findAny(Map<String, String> properties) {
+
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        Snapshot current = current();
+        BitSet matches = new BitSet();
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+
+            BitSet positions = current.get(property.getKey(), property.getValue());
+            if (positions != null) {
+                matches.or(positions);
+            }
+        }
+
+        return current.select(matches);
+    }
+
+    /**
+     * Values of a property among the messages of the registered repositories.
+     *
+     * @param name property name
+     * @return unmodifiable set of values, empty if no message has the property
+     */
+    public Set<String> getPropertyValues(String name) {
+        Map<String, BitSet> values = current().index.get(name);
+        return values == null ? Collections.emptySet() : Collections.unmodifiableSet(values.keySet());
+    }
+
+    private Snapshot current() {
+
+        boolean stale = unloaded.poll() != null;
+        if (!stale && pending.isEmpty()) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+
+            while (unloaded.poll() != null) {
+                stale = true;
+            }
+
+            Snapshot base = stale ? Snapshot.EMPTY.with(snapshot.all(), unloaded) : snapshot;
+            List<MessageDescriptor> added = new ArrayList<>();
+
+            try {
+
+                Reference<Class<?>> reference;
+                while ((reference = pending.poll()) != null) {
+
+                    // may have been unloaded before any query
+                    Class<?> repository = reference.get();
+                    if (repository != null) {
+                        added.addAll(describeRegistered(repository));
+                    }
+                }
+
+            } finally {
+                // whatever has been described is indexed even if another repository fails
+                snapshot = added.isEmpty() ? base : base.with(added, unloaded);
+            }
+
+            return snapshot;
+        }
+    }
+
+    /**
+     * A repository that cannot be described is unregistered, so that it does not fail every query that follows, and
+     * can be registered again.
+     */
+    private List<MessageDescriptor> describeRegistered(Class<?> repository) {
+
+        try {
+            return descriptors.get(repository);
+        } catch (RuntimeException | Error e) {
+            registered.remove(repository);
+            throw e;
+        }
+    }
+
+    /**
+     * Describes the annotated messages of a repository without registering it, e.g. for exporting the messages of
+     * many repositories one at a time. Static methods are not messages, even if annotated.
+     *
+     * @param repository repository interface
+     * @return descriptors of the messages, in the order of their numeric codes
+     * @throws IllegalArgumentException if the type is not an interface
+     */
+    public static List<MessageDescriptor> describe(Class<?> repository) {
+
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        if (!repository.isInterface()) {
+            throw new IllegalArgumentException(repository.getName() + " is not an interface");
+        }
+
+        AnnotatedMessageBlueprintFactory repositoryFactory = new AnnotatedMessageBlueprintFactory(repository);
+        Map<Class<?>, AnnotatedMessageBlueprintFactory> byDeclaringType = new HashMap<>();
+        byDeclaringType.put(repository, repositoryFactory);
+
+        List<MessageDescriptor> descriptors = new ArrayList<>();
+        for (Method method : repository.getMethods()) {
+
+            MessageSpec annotation = method.getAnnotation(MessageSpec.class);
+            if ((annotation != null) && !Modifier.isStatic(method.getModifiers())) {
+                AnnotatedMessageBlueprintFactory factory = byDeclaringType.computeIfAbsent(
+                        method.getDeclaringClass(), repositoryFactory::forInherited);
+                descriptors.add(factory.createDescriptor(repository, annotation, method));
+            }
+        }
+
+        // the order of methods returned by reflection is unspecified
+        descriptors.sort(Comparator.comparingInt(MessageDescriptor::getNumericCode)
+                                 .thenComparing(MessageDescriptor::getMethodName));
+        return descriptors;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyList(), Collections.emptyMap());
+
+        private final List<Reference<MessageDescriptor>> descriptors;
+        private final Map<String, Map<String, BitSet>> index;
+
+        private Snapshot(List<Reference<MessageDescriptor>> descriptors, Map<String, Map<String, BitSet>> index) {
+            this.descriptors = descriptors;
+            this.index = index;
+        }
+
+        private BitSet get(String name, String value) {
+            Map<String, BitSet> values = index.get(name);
+            return values == null ? null : values.get(value);
+        }
+
+        /**
+         * Descriptors that are still around, i.e. whose repositories have not been unloaded.
+         */
+        private List<MessageDescriptor> all() {
+
+            List<MessageDescriptor> all = new ArrayList<>(descriptors.size());
+            for (Reference<MessageDescriptor> reference : descriptors) {
+                addPresent(all, reference);
+            }
+
+            return Collections.unmodifiableList(all);
+        }
+
+        private List<MessageDescriptor> select(BitSet positions) {
+
+            List<MessageDescriptor> selected = new ArrayList<>(positions.cardinality());
+            for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+                addPresent(selected, descriptors.get(position));
+            }
+
+            return Collections.unmodifiableList(selected);
+        }
+
+        private static void addPresent(List<MessageDescriptor> destination, Reference<MessageDescriptor> reference) {
+
+            MessageDescriptor descriptor = reference.get();
+            if (descriptor != null) {
+                destination.add(descriptor);
+            }
+        }
+
+        /**
+         * Bit sets of this snapshot are never modified, because queries may be running against it. Those that get new
+         * positions are copied once, the others are shared with the new snapshot.
+         */
+        private Snapshot with(List<MessageDescriptor> added, ReferenceQueue<MessageDescriptor> unloaded) {
+
+            List<Reference<MessageDescriptor>> mergedDescriptors = new ArrayList<>(descriptors.size() + added.size());
+            mergedDescriptors.addAll(descriptors);
+
+            Map<String, Map<String, BitSet>> mergedIndex = new HashMap<>();
+            index.forEach((name, values) -> mergedIndex.put(name, new HashMap<>(values)));
+
+            Map<BitSet, Boolean> copied = new IdentityHashMap<>();
+            for (MessageDescriptor descriptor : added) {
+
+                int position = mergedDescriptors.size();
+                mergedDescriptors.add(new WeakReference<>(descriptor, unloaded));
+
+                for (Map.Entry<String, String> property : descriptor.getProperties().entrySet()) {
+
+                    Map<String, BitSet> values = mergedIndex.computeIfAbsent(property.getKey(), key -> new HashMap<>());
+                    BitSet positions = values.get(property.getValue());
+                    if ((positions == null) || (copied.get(positions) == null)) {
+                        positions = positions == null ? new BitSet() : (BitSet) positions.clone();
+                        copied.put(positions, Boolean.TRUE);
+                        values.put(property.getValue(), positions);
+                    }
+
+                    positions.set(position);
+                }
+            }
+
+            return new Snapshot(Collections.unmodifiableList(mergedDescriptors), mergedIndex);
+        }
+    }
+}
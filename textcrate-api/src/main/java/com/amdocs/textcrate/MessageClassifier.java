@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * <p>Recognizes the message that a text has been rendered from, and extracts its arguments, e.g. to analyze logs of
+ * services that do not log message codes:</p>
+ *
+ * <pre>
+ *     MessageClassifier classifier = MessageClassifier.of(Messages.getCatalog().getMessages());
+ *     try (Stream&lt;String&gt; lines = Files.lines(log)) {
+ *         classifier.classifyAll(lines).forEachOrdered(match -&gt; ...);
+ *     }
+ * </pre>
+ *
+ * <p>Only messages in the SLF4J format are recognized. The literal text between the placeholders of all patterns is
+ * compiled into a single Aho-Corasick automaton, which finds every literal that occurs in a text in one pass, no
+ * matter how many patterns there are. A message is then only considered if its longest literal has been found, and
+ * it matches if its literals occur in order, with the first one at the beginning of the text, and the last one at the
+ * end. Arguments are the parts of the text in between; an argument that contains the literal following it cannot be
+ * told apart, so it is cut at the first occurrence of the literal. If several messages match, the one with the most
+ * literal text wins.</p>
+ *
+ * <p>A text must be the rendered message only, e.g. without a timestamp or a log level. A classifier is immutable and
+ * thread-safe.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class MessageClassifier {
+
+    private static final int EMPTY = -1;
+
+    private final FragmentAutomaton automaton;
+    private final Template[] templates;
+
+    /**
+     * Templates to consider when a fragment has been found, by the index of the fragment.
+     */
+    private final int[][] anchored;
+
+    private MessageClassifier(FragmentAutomaton automaton, Template[] templates, int[][] anchored) {
+        this.automaton = automaton;
+        this.templates = templates;
+        this.anchored = anchored;
+    }
+
+    /**
+     * Builds a classifier for messages.
+     *
+     * @param descriptors messages to recognize; those that are not in the SLF4J format, or do not have any literal
+     *                    text, are ignored
+     * @return classifier
+     */
+    public static MessageClassifier of(Iterable<MessageDescriptor> descriptors) {
+
+        Objects.requireNonNull(descriptors, "Descriptors cannot be null");
+
+        Map<String, Integer> fragmentIndices = new HashMap<>();
+        List<String> fragments = new ArrayList<>();
+        List<Template> templates = new ArrayList<>();
+        List<List<Integer>> anchored = new ArrayList<>();
+
+        for (MessageDescriptor descriptor : descriptors) {
+
+            if (!descriptor.hasSlf4jPattern() || (descriptor.getPattern() == null)) {
+                continue;
+            }
+
+            List<String> literals = splitLiterals(descriptor.getPattern());
+            int[] indices = new int[literals.size()];
+            int anchor = EMPTY;
+            int literalLength = 0;
+
+            for (int i = 0; i < indices.length; i++) {
+
+                String literal = literals.get(i);
+                if (literal.isEmpty()) {
+                    indices[i] = EMPTY;
+                    continue;
+                }
+
+                indices[i] = fragmentIndices.computeIfAbsent(literal, key -> {
+                    fragments.add(key);
+                    anchored.add(new ArrayList<>());
+                    return fragments.size() - 1;
+                });
+
+                if ((anchor == EMPTY) || (literal.length() > fragments.get(anchor).length())) {
+                    anchor = indices[i];
+                }
+
+                literalLength += literal.length();
+            }
+
+            if (anchor != EMPTY) {
+                anchored.get(anchor).add(templates.size());
+                templates.add(new Template(descriptor, indices, literalLength));
+            }
+        }
+
+        int[][] byFragment = new int[anchored.size()][];
+        for (int i = 0; i < byFragment.length; i++) {
+            byFragment[i] = anchored.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new MessageClassifier(new FragmentAutomaton(fragments), templates.toArray(new Template[0]), byFragment);
+    }
+
+    /**
+     * Number of messages that can be recognized.
+     *
+     * @return number of messages in the SLF4J format, with literal text
+     */
+    public int size() {
+        return templates.length;
+    }
+
+    /**
+     * Recognizes the message of a text.
+     *
+     * @param text rendered message
+     * @return matching message and its arguments, empty if no message matches
+     */
+    public Optional<MessageMatch> classify(String text) {
+
+        Objects.requireNonNull(text, "Text cannot be null");
+
+        Occurrences occurrences = new Occurrences();
+        BitSet candidates = new BitSet(templates.length);
+        automaton.scan(text, (fragment, start) -> {
+            occurrences.add(fragment, start);
+            for (int template : anchored[fragment]) {
+                candidates.set(template);
+            }
+        });
+
+        occurrences.index();
+
+        MessageMatch best = null;
+        int bestLength = -1;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+
+            Template template = templates[i];
+            if (template.literalLength > bestLength) {
+
+                MessageMatch match = match(template, text, occurrences);
+                if (match != null) {
+                    best = match;
+                    bestLength = template.literalLength;
+                }
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Recognizes the messages of many texts in parallel, e.g. of the lines of a large log file. The order of
+     * the results is that of the texts, as long as they are consumed in order, e.g. with
+     * {@link Stream#forEachOrdered(java.util.function.Consumer)} rather than {@link Stream#forEach}.
+     *
+     * @param texts rendered messages
+     * @return results of {@link #classify(String)}, for each text
+     */
+    public Stream<Optional<MessageMatch>> classifyAll(Stream<String> texts) {
+        return texts.parallel().map(this::classify);
+    }
+
+    private MessageMatch match(Template template, String text, Occurrences occurrences) {
+
+        int[] fragments = template.fragments;
+        int last = fragments.length - 1;
+
+        if (last == 0) {
+            // no placeholders, the text is the whole pattern
+            return occurrences.isAt(fragments[0], 0) && (automaton.length(fragments[0]) == text.length())
+                           ? new MessageMatch(template.descriptor, new ArrayList<>()) : null;
+        }
+
+        int cursor = 0;
+        if (fragments[0] != EMPTY) {
+
+            if (!occurrences.isAt(fragments[0], 0)) {
+                return null;
+            }
+
+            cursor = automaton.length(fragments[0]);
+        }
+
+        List<String> arguments = new ArrayList<>(last);
+        for (int i = 1; i < last; i++) {
+
+            if (fragments[i] == EMPTY) {
+                // adjacent placeholders cannot be told apart, the text goes to the last one
+                arguments.add("");
+                continue;
+            }
+
+            int start = occurrences.find(fragments[i], cursor);
+            if (start < 0) {
+                return null;
+            }
+
+            arguments.add(text.substring(cursor, start));
+            cursor = start + automaton.length(fragments[i]);
+        }
+
+        int end = text.length();
+        if (fragments[last] != EMPTY) {
+
+            end -= automaton.length(fragments[last]);
+            if ((end < cursor) || !occurrences.isAt(fragments[last], end)) {
+                return null;
+            }
+        }
+
+        arguments.add(text.substring(cursor, end));
+        return new MessageMatch(template.descriptor, arguments);
+    }
+
+    /**
+     * Splits a pattern into the literal text around its placeholders, following the same rules as SLF4J: an escaped
+     * placeholder is literal text, and a double-escaped one is a placeholder preceded by a single escape character.
+     *
+     * @param pattern pattern in the SLF4J format
+     * @return one more literal than there are placeholders, some of them may be empty
+     */
+    static List<String> splitLiterals(String pattern) {
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int start = 0;
+        int index = pattern.indexOf("{}");
+        while (index >= 0) {
+
+            if (!isEscaped(pattern, index)) {
+                literals.add(literal.append(pattern, start, index).toString());
+                literal.setLength(0);
+                start = index + 2;
+            } else if (!isEscaped(pattern, index - 1)) {
+                // the escape character is dropped
+                literal.append(pattern, start, index - 1);
+                start = index;
+            } else {
+                // one of the two escape characters is kept
+                literals.add(literal.append(pattern, start, index - 1).toString());
+                literal.setLength(0);
+                start = index + 2;
+            }
+
+            index = pattern.indexOf("{}", index + 2);
+        }
+
+        literals.add(literal.append(pattern, start, pattern.length()).toString());
+        return literals;
+    }
+
+    private static boolean isEscaped(String pattern, int index) {
+        return (index > 0) && (pattern.charAt(index - 1) == '\\');
+    }
+
+    /**
+     * A message, with the fragments of its literals in the order of the pattern, or {@link #EMPTY}.
+     */
+    private static final class Template {
+
+        private final MessageDescriptor descriptor;
+        private final int[] fragments;
+        private final int literalLength;
+
+        private Template(MessageDescriptor descriptor, int[] fragments, int literalLength) {
+            this.descriptor = descriptor;
+            this.fragments = fragments;
+            this.literalLength = literalLength;
+        }
+    }
+
+    /**
+     * Fragments found in a text. Once all have been added, they are sorted by fragment and then by start, so that
+     * looking up a fragment takes a binary search rather than a scan of all the fragments of the text.
+     */
+    private static final class Occurrences {
+
+        private static final int FRAGMENT_SHIFT = 32;
+
+        /**
+         * Fragment in the high half, start in the low half.
+         */
+        private long[] keys = new long[16];
+        private int size;
+
+        private void add(int fragment, int start) {
+
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+
+            keys[size++] = key(fragment, start);
+        }
+
+        private void index() {
+            Arrays.sort(keys, 0, size);
+        }
+
+        /**
+         * The leftmost occurrence of a fragment at or after a position.
+         */
+        private int find(int fragment, int from) {
+
+            int index = Arrays.binarySearch(keys, 0, size, key(fragment, from));
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            return (index < size) && ((int) (keys[index] >>> FRAGMENT_SHIFT) == fragment) ? (int) keys[index] : -1;
+        }
+
+        private boolean isAt(int fragment, int start) {
+            return Arrays.binarySearch(keys, 0, size, key(fragment, start)) >= 0;
+        }
+
+        private static long key(int fragment, int start) {
+            return ((long) fragment << FRAGMENT_SHIFT) | start;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Validator;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Static description of a message in a repository, as defined by its annotations, without arguments. Descriptors
+ * are returned by queries of a {@link MessageCatalog}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(exclude = {"parameterNames", "formatter"})
+@ToString(exclude = {"parameterNames", "formatter"})
+public final class MessageDescriptor {
+
+    private final Class<?> repository;
+    private final String methodName;
+    private final int numericCode;
+    private final String code;
+    private final String pattern;
+    private final Map<String, String> properties;
+    private final Type[] parameterTypes;
+    private final List<String> parameterNames;
+    private final Formatter formatter;
+
+    MessageDescriptor(Class<?> repository, String methodName, int numericCode, String code, String pattern,
+            Map<String, String> properties, Type[] parameterTypes, List<String> parameterNames, Formatter formatter) {
+        this.repository = repository;
+        this.methodName = methodName;
+        this.numericCode = numericCode;
+        this.code = code;
+        this.pattern = pattern;
+        this.properties = properties;
+        this.parameterTypes = parameterTypes;
+        this.parameterNames = parameterNames;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Repository interface, which may have inherited the message from another interface.
+     *
+     * @return repository interface
+     */
+    public Class<?> getRepository() {
+        return repository;
+    }
+
+    /**
+     * Name of the repository method that creates the message.
+     *
+     * @return method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Numeric code of the message, i.e. its ID plus the offset of the repository.
+     *
+     * @return numeric code
+     */
+    public int getNumericCode() {
+        return numericCode;
+    }
+
+    /**
+     * Formatted code of the message, as returned by {@link com.amdocs.textcrate.api.Message#getCode()}.
+     *
+     * @return message code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Message pattern, as defined by {@link com.amdocs.textcrate.api.annotations.MessageSpec#pattern()}.
+     *
+     * @return pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Properties of the message, including those of its repository.
+     *
+     * @return unmodifiable map of property names to values
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * A custom property of the message.
+     *
+     * @param name property name
+     * @return property value, or <code>null</code> if undefined
+     */
+    public String getProperty(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * Types of the parameters of the repository method, i.e. of the message arguments.
+     *
+     * @return parameter types, in the order of the parameters
+     */
+    public Type[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    /**
+     * Validates a pattern, e.g. a translation of this message, against the rules of the formatter of the message and
+     * the types of its parameters. Nothing is validated if the formatter does not have a {@link Validator}.
+     *
+     * @param otherPattern pattern to validate instead of the original one
+     * @throws InvalidPatternException if the pattern is not valid for this message
+     */
+    public void validate(String otherPattern) throws InvalidPatternException {
+        Optional<Validator> validator = formatter.getValidator();
+        if (validator.isPresent()) {
+            validator.get().validate(otherPattern, parameterTypes);
+        }
+    }
+
+    /**
+     * Compiles another pattern of this message, e.g. an override, with the formatter of the message. The compiled
+     * pattern belongs to the caller, the formatter does not keep it.
+     */
+    BaseMessageBlueprint.Formatting compile(String otherPattern) {
+        return new BaseMessageBlueprint.Formatting(otherPattern, formatter, parameterNames);
+    }
+
+    Formatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * Whether the message is formatted by SLF4J rules, possibly with a fallback.
+     */
+    boolean hasSlf4jPattern() {
+        Formatter effective = formatter instanceof ResilientFormatter ? ((ResilientFormatter) formatter).getDelegate()
+                                      : formatter;
+        return effective instanceof Slf4jFormatter;
+    }
+}
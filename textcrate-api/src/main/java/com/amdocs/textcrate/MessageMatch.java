@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>A message that a text has been rendered from, as recognized by a {@link MessageClassifier}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class MessageMatch {
+
+    private final MessageDescriptor descriptor;
+    private final List<String> arguments;
+
+    MessageMatch(MessageDescriptor descriptor, List<String> arguments) {
+        this.descriptor = descriptor;
+        this.arguments = Collections.unmodifiableList(arguments);
+    }
+
+    /**
+     * The message.
+     *
+     * @return descriptor of the message, with its code and pattern
+     */
+    public MessageDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Rendered arguments, i.e. the parts of the text where the placeholders of the pattern have been.
+     *
+     * @return unmodifiable list of arguments, in the order of the placeholders
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Message;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Custom patterns of some messages, e.g. texts that a tenant of a multi-tenant application has customized. All
+ * tenants share the same repositories and messages, and an overlay is chosen when a message is formatted:</p>
+ *
+ * <pre>
+ *     MessageOverlay acme = MessageOverlay.named("acme");
+ *     acme.override(BookBorrowingErrors.class, "BOR-22", "You may only borrow {} books at a time");
+ *     ...
+ *     Message message = errors.tooManyBooks(5);
+ *     String text = tenantOverlays.get(tenantId).format(message, locale);
+ * </pre>
+ *
+ * <p>An overridden pattern is validated and compiled with the formatter of the message when it is added, so looking
+ * it up costs a hash lookup of the repository and a probe of a small table of codes. Messages that are not overridden
+ * are formatted as usual, including their translations. An overlay only keeps the patterns that it overrides. They
+ * are compiled without being cached by the formatter, which may be shared by the whole process, so that removing an
+ * override frees its compiled pattern.</p>
+ *
+ * <p>Overlays are thread-safe. Changes replace the overrides of a repository with an updated copy, so that formatting
+ * never waits for them; they are meant to be rare, e.g. when a tenant edits its texts.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class MessageOverlay {
+
+    private final String name;
+    private volatile Map<String, Overrides> repositories = Collections.emptyMap();
+
+    private MessageOverlay(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates an empty overlay.
+     *
+     * @param name name of the overlay, e.g. the ID of a tenant
+     * @return overlay without overrides
+     */
+    public static MessageOverlay named(String name) {
+        return new MessageOverlay(Objects.requireNonNull(name, "Name cannot be null"));
+    }
+
+    /**
+     * Name of the overlay.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Overrides the pattern of a message. Replaces a previous override of the same message, if any.
+     *
+     * @param repository message repository, as passed to {@link Messages#from(Class)}
+     * @param code code of the message, as returned by {@link Message#getCode()}
+     * @param pattern custom pattern, which must be valid for the formatter and the parameters of the message
+     * @throws InvalidPatternException if the pattern is not valid for the message
+     * @throws IllegalArgumentException if the repository does not have a message with the code
+     */
+    public void override(Class<?> repository, String code, String pattern) throws InvalidPatternException {
+
+        Objects.requireNonNull(pattern, "Pattern cannot be null");
+
+        MessageDescriptor descriptor = describe(repository, code);
+        descriptor.validate(pattern);
+        BaseMessageBlueprint.Formatting formatting = descriptor.compile(pattern);
+
+        synchronized (this) {
+            Overrides overrides = repositories.getOrDefault(repository.getName(), Overrides.EMPTY);
+            update(repository.getName(), overrides.with(descriptor.getNumericCode(), formatting));
+        }
+    }
+
+    /**
+     * Removes an override, so that the original pattern of the message is used again.
+     *
+     * @param repository message repository
+     * @param code code of the message
+     * @return <code>true</code> if the message has been overridden
+     * @throws IllegalArgumentException if the repository does not have a message with the code
+     */
+    public boolean reset(Class<?> repository, String code) {
+
+        int numericCode = describe(repository, code).getNumericCode();
+
+        synchronized (this) {
+
+            Overrides overrides = repositories.get(repository.getName());
+            if ((overrides == null) || (overrides.get(numericCode) == null)) {
+                return false;
+            }
+
+            update(repository.getName(), overrides.without(numericCode));
+            return true;
+        }
+    }
+
+    /**
+     * Number of overridden messages.
+     *
+     * @return number of overrides in all repositories
+     */
+    public int size() {
+        return repositories.values().stream().mapToInt(Overrides::size).sum();
+    }
+
+    /**
+     * Full text of a message, with the pattern of this overlay if the message is overridden.
+     *
+     * @param message message of a repository
+     * @return same as {@link Message#getMessage()} unless the message is overridden
+     */
+    public String format(Message message) {
+        return message instanceof BaseMessage ? ((BaseMessage) message).getMessage(this, null) : message.getMessage();
+    }
+
+    /**
+     * Localized text of a message, with the pattern of this overlay if the message is overridden. An overridden
+     * pattern is not translated, but it is still formatted in the locale.
+     *
+     * @param message message of a repository
+     * @param locale desired locale
+     * @return same as {@link Message#getMessage(Locale)} unless the message is overridden
+     */
+    public String format(Message message, Locale locale) {
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        return message instanceof BaseMessage ? ((BaseMessage) message).getMessage(this, locale)
+                       : message.getMessage(locale);
+    }
+
+    /**
+     * Pattern of a message in this overlay.
+     *
+     * @param message message of a repository
+     * @return the overridden pattern, or {@link Message#getPattern()} if the message is not overridden
+     */
+    public String getPattern(Message message) {
+        return message instanceof BaseMessage ? ((BaseMessage) message).getPattern(this) : message.getPattern();
+    }
+
+    BaseMessageBlueprint.Formatting find(String repository, int numericCode) {
+        Overrides overrides = repositories.get(repository);
+        return overrides == null ? null : overrides.get(numericCode);
+    }
+
+    private void update(String repository, Overrides overrides) {
+
+        Map<String, Overrides> updated = new HashMap<>(repositories);
+        if (overrides.size() == 0) {
+            updated.remove(repository);
+        } else {
+            updated.put(repository, overrides);
+        }
+
+        repositories = Collections.unmodifiableMap(updated);
+    }
+
+    private static MessageDescriptor describe(Class<?> repository, String code) {
+
+        Objects.requireNonNull(code, "Code cannot be null");
+        return MessageCatalog.describe(repository).stream()
+                       .filter(descriptor -> code.equals(descriptor.getCode()))
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalArgumentException(
+                               "No message with code " + code + " in " + repository.getName()));
+    }
+
+    @Override
+    public String toString() {
+        return "MessageOverlay(name=" + name + ", size=" + size() + ")";
+    }
+
+    /**
+     * Immutable overrides of a repository in an open-addressing table keyed by numeric code, so that a lookup neither
+     * boxes the code nor follows a chain of nodes.
+     */
+    private static final class Overrides {
+
+        private static final Overrides EMPTY = new Overrides(Collections.emptyMap());
+
+        private final Map<Integer, BaseMessageBlueprint.Formatting> entries;
+        private final int[] codes;
+        private final BaseMessageBlueprint.Formatting[] formattings;
+        private final int mask;
+
+        private Overrides(Map<Integer, BaseMessageBlueprint.Formatting> entries) {
+
+            this.entries = entries;
+
+            // load factor of at most 0.5 keeps probe sequences short
+            int capacity = Integer.highestOneBit(Math.max(1, entries.size() * 2 - 1)) << 1;
+            this.codes = new int[capacity];
+            this.formattings = new BaseMessageBlueprint.Formatting[capacity];
+            this.mask = capacity - 1;
+
+            for (Map.Entry<Integer, BaseMessageBlueprint.Formatting> entry : entries.entrySet()) {
+
+                int index = spread(entry.getKey()) & mask;
+                while (formattings[index] != null) {
+                    index = (index + 1) & mask;
+                }
+
+                codes[index] = entry.getKey();
+                formattings[index] = entry.getValue();
+            }
+        }
+
+        BaseMessageBlueprint.Formatting get(int numericCode) {
+
+            int index = spread(numericCode) & mask;
+            while (formattings[index] != null) {
+
+                if (codes[index] == numericCode) {
+                    return formattings[index];
+                }
+
+                index = (index + 1) & mask;
+            }
+
+            return null;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        Overrides with(int numericCode, BaseMessageBlueprint.Formatting formatting) {
+            Map<Integer, BaseMessageBlueprint.Formatting> updated = new HashMap<>(entries);
+            updated.put(numericCode, formatting);
+            return new Overrides(updated);
+        }
+
+        Overrides without(int numericCode) {
+            Map<Integer, BaseMessageBlueprint.Formatting> updated = new HashMap<>(entries);
+            updated.remove(numericCode);
+            return new Overrides(updated);
+        }
+
+        private static int spread(int hash) {
+            // codes are often round numbers, e.g. offsets of repositories, so low bits alone would cluster
+            int mixed = hash * 0x9E3779B9;
+            return mixed ^ (mixed >>> 16);
+        }
+    }
+}
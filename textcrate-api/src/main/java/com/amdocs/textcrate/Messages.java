@@ -17,9 +17,10 @@
 package com.amdocs.textcrate;
 
 import com.amdocs.textcrate.spi.MessagesProvider;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +30,8 @@ import org.slf4j.LoggerFactory;
  *
  * <p>First, and attempt is made to use one of the instances of {@link MessagesProvider} available via
  * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/ServiceLoader.html">java.util.ServiceLoader</a>, if any.
- * If no custom implementation has been configured, a default best-effort implementation will be used.</p>
+ * If no custom implementation has been configured, a default best-effort implementation will be used. The providers
+ * are loaded once per class loader, and asked in the order of {@link MessagesProvider#getPriority()}.</p>
  *
  * <p><strong>Note:</strong> Caching of the message repositories is the responsibility of a client and/or custom factory
  * service implementation. We cannot predict if the application wants to allow reloading messages in runtime.
@@ -50,6 +52,7 @@ import org.slf4j.LoggerFactory;
 public class Messages {
 
     private static final ProxyMessagesProvider FALLBACK = new ProxyMessagesProvider();
+    private static final MessageCatalog CATALOG = new MessageCatalog();
 
     private Messages() { /* prevent instantiation */ }
 
@@ -62,8 +65,7 @@ public class Messages {
      */
     public static <T> T from(Class<T> clazz) {
         Objects.requireNonNull(clazz, "Class cannot be null");
-        ServiceLoader<MessagesProvider> loader = ServiceLoader.load(MessagesProvider.class);
-        return loadFromProvider(clazz, loader);
+        return loadFromProvider(clazz, Thread.currentThread().getContextClassLoader());
     }
 
     /**
@@ -76,23 +78,114 @@ public class Messages {
      */
     public static <T> T from(Class<T> clazz, ClassLoader classLoader) {
         Objects.requireNonNull(clazz, "Class cannot be null");
-        ServiceLoader<MessagesProvider> loader = ServiceLoader.load(MessagesProvider.class, classLoader);
-        return loadFromProvider(clazz, loader);
+        return loadFromProvider(clazz, classLoader);
+    }
+
+    /**
+     * <p>Eagerly prepares message repositories for use, so that the first message of each type does not pay for
+     * reflection, pattern compilation and formatting of the message code. Repositories are warmed up in parallel
+     * on the common fork-join pool. A failure to warm up one repository does not affect the others, and is reported.
+     * This can be called, for instance, from an application readiness check.</p>
+     *
+     * <p>Only repositories created by the default implementation are actually warmed up.</p>
+     *
+     * @param repositories repository instances as returned by {@link #from(Class)}
+     * @return report with the outcome and timing for each repository
+     */
+    public static WarmUpReport warmUp(Object... repositories) {
+        Objects.requireNonNull(repositories, "Repositories cannot be null");
+        return RepositoryWarmUp.warmUp(repositories);
+    }
+
+    /**
+     * Creates and warms up the message repositories listed in <code>META-INF/textcrate/repositories</code> class path
+     * resources of the context class loader. See {@link #warmUpIndexed(ClassLoader)}.
+     *
+     * @return report with the outcome, timing and instance of each repository
+     */
+    public static WarmUpReport warmUpIndexed() {
+        return warmUpIndexed(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * <p>Creates and warms up the message repositories listed in <code>META-INF/textcrate/repositories</code> class
+     * path resources, as {@link #warmUp(Object...)} does. An index resource contains a fully qualified name of
+     * a repository interface per line. Empty lines and lines that start with <code>#</code> are ignored.</p>
+     *
+     * <p>Since caching of repositories is the responsibility of a client, the repositories that have been created
+     * are available in the report. They should be kept and used by the application, otherwise the warm-up is
+     * useless.</p>
+     *
+     * @param classLoader class loader for looking up the index resources, repository interfaces and custom repository
+     *                    implementations
+     * @return report with the outcome, timing and instance of each repository
+     */
+    public static WarmUpReport warmUpIndexed(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+        return RepositoryWarmUp.warmUpIndexed(classLoader);
+    }
+
+    /**
+     * Lists the message repositories in <code>META-INF/textcrate/repositories</code> class path resources, see
+     * {@link #warmUpIndexed(ClassLoader)}. The repository interfaces are not loaded.
+     *
+     * @param classLoader class loader for looking up the index resources
+     * @return fully qualified names of the repository interfaces without duplicates, in the order of appearance
+     */
+    public static Set<String> getIndexedRepositoryNames(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+        return Collections.unmodifiableSet(RepositoryWarmUp.readIndex(classLoader));
+    }
+
+    /**
+     * Returns statistics of the cache of rendered messages of a repository, if the repository caches its messages
+     * (see {@link com.amdocs.textcrate.api.annotations.CachedRendering}).
+     *
+     * @param repository repository instance as returned by {@link #from(Class)}
+     * @return cache statistics, empty if there is no cache or the repository has not been created by the default
+     *         implementation
+     */
+    public static Optional<RenderCacheStats> getRenderCacheStats(Object repository) {
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        return ProxyMessagesProvider.getRenderCacheStats(repository);
+    }
+
+    /**
+     * Returns the catalog of the message repositories that have been created with {@link #from(Class)}, which can be
+     * queried by message properties. Other repositories can be registered with the catalog explicitly.
+     *
+     * @return application-wide message catalog
+     */
+    public static MessageCatalog getCatalog() {
+        return CATALOG;
     }
 
     @SuppressWarnings({"squid:S3655", "ConstantConditions"}) //// isPresent() on FALLBACK must always succeed
-    private static <T> T loadFromProvider(Class<T> clazz, ServiceLoader<MessagesProvider> loader) {
+    private static <T> T loadFromProvider(Class<T> clazz, ClassLoader classLoader) {
 
-        for (MessagesProvider provider : loader) {
+        Object event = Instrumentation.beginRepositoryCreation();
 
-            Optional<T> messages = provider.getMessages(clazz);
-            if (messages.isPresent()) {
-                logLoading(clazz, provider);
-                return messages.get();
-            }
+        Optional<ProviderSelector.Selection<T>> selection = ProviderSelector.forClassLoader(classLoader).select(clazz);
+        if (selection.isPresent()) {
+            MessagesProvider provider = selection.get().getProvider();
+            logLoading(clazz, provider);
+            Instrumentation.endRepositoryCreation(event, clazz, provider);
+            addToCatalog(clazz);
+            return selection.get().getMessages();
         }
 
-        return FALLBACK.getMessages(clazz).get();
+        T messages = FALLBACK.getMessages(clazz).get();
+        Instrumentation.endRepositoryCreation(event, clazz, FALLBACK);
+        addToCatalog(clazz);
+        return messages;
+    }
+
+    private static void addToCatalog(Class<?> clazz) {
+
+        // a custom provider may support more than interfaces, but only interfaces are described by annotations
+        if (clazz.isInterface()) {
+            CATALOG.register(clazz);
+        }
     }
 
     private static <T> void logLoading(Class<T> clazz, MessagesProvider provider) {
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Assigns dense ordinals to the methods of a repository interface, so that per-method data can be kept in arrays
+ * instead of maps keyed by {@link Method}.</p>
+ *
+ * <p>A dynamic proxy passes the same {@link Method} instances to its invocation handler on every call, but they are
+ * not the instances returned by {@link Class#getMethods()}. A method is therefore resolved by equality once, and then
+ * remembered in an open-addressing table keyed by identity. After that, looking a method up costs an identity hash
+ * code and usually a single reference comparison, regardless of the number of methods. Methods that do not belong to
+ * the interface (e.g. those of {@link Object}) are remembered as well, as {@link #NOT_FOUND}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class MethodTable {
+
+    static final int NOT_FOUND = -1;
+
+    /**
+     * Room for the standard methods of {@link Object} that a proxy dispatches: <code>equals</code>,
+     * <code>hashCode</code> and <code>toString</code>.
+     */
+    private static final int OBJECT_METHODS = 3;
+
+    private final Method[] methods;
+    private final Map<Method, Integer> ordinals;
+    private final AtomicReferenceArray<Entry> identities;
+    private final int mask;
+
+    /**
+     * Remaining number of entries that may be added to the identity table. Bounded to the number of its slots,
+     * so that there are always empty ones, even if methods are not obtained from a proxy and each is a new instance.
+     */
+    private final AtomicInteger vacancies;
+
+    MethodTable(Class<?> clazz) {
+
+        this.methods = clazz.getMethods();
+        this.ordinals = new HashMap<>(methods.length * 2);
+        for (int i = 0; i < methods.length; i++) {
+            ordinals.put(methods[i], i);
+        }
+
+        // load factor of at most 0.5 keeps probe sequences short
+        int capacity = Integer.highestOneBit(Math.max(1, (methods.length + OBJECT_METHODS) * 2 - 1)) << 1;
+        this.identities = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.vacancies = new AtomicInteger(capacity / 2);
+    }
+
+    /**
+     * Number of methods, ordinals are in the range of <code>[0, size)</code>.
+     *
+     * @return number of public methods of the interface
+     */
+    int size() {
+        return methods.length;
+    }
+
+    /**
+     * The method that has been assigned an ordinal.
+     *
+     * @param ordinal ordinal
+     * @return method
+     */
+    Method getMethod(int ordinal) {
+        return methods[ordinal];
+    }
+
+    /**
+     * Ordinal of a method.
+     *
+     * @param method method, usually as passed to an invocation handler
+     * @return ordinal, or {@link #NOT_FOUND} if the method is not a public method of the interface
+     */
+    int getOrdinal(Method method) {
+
+        int index = spread(System.identityHashCode(method)) & mask;
+        while (true) {
+
+            Entry entry = identities.get(index);
+            if (entry == null) {
+                return resolve(method, index);
+            }
+
+            if (entry.method == method) {
+                return entry.ordinal;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int resolve(Method method, int start) {
+
+        Entry resolved = new Entry(method, lookUp(method));
+        if ((vacancies.get() <= 0) || (vacancies.getAndDecrement() <= 0)) {
+            return resolved.ordinal;
+        }
+
+        int index = start;
+        for (int probe = 0; probe <= mask; probe++) {
+
+            if (identities.compareAndSet(index, null, resolved)) {
+                return resolved.ordinal;
+            }
+
+            // another thread may have just inserted the same method
+            Entry entry = identities.get(index);
+            if (entry.method == method) {
+                return entry.ordinal;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return resolved.ordinal;
+    }
+
+    private int lookUp(Method method) {
+        Integer ordinal = ordinals.get(method);
+        return ordinal == null ? NOT_FOUND : ordinal;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+
+        private final Method method;
+        private final int ordinal;
+
+        private Entry(Method method, int ordinal) {
+            this.method = method;
+            this.ordinal = ordinal;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.annotations.MessageFormatter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Generates <a href="https://www.graalvm.org/latest/reference-manual/native-image/">GraalVM native image</a>
+ * configuration for message repositories, so that the default implementation, which is based on dynamic proxies and
+ * annotations, works in a native image. For a set of repository interfaces, the following files are generated:</p>
+ *
+ * <ul>
+ *     <li><code>proxy-config.json</code> &mdash; a dynamic proxy per repository;</li>
+ *     <li><code>reflect-config.json</code> &mdash; methods and annotations of the repositories and the interfaces
+ *     they extend, and the constructors of custom formatters (formatters of this library are instantiated without
+ *     reflection);</li>
+ *     <li><code>resource-config.json</code> &mdash; the repository index (see {@link Messages#warmUpIndexed()}) and
+ *     the translation catalogs (see {@link TranslationCatalog}).</li>
+ * </ul>
+ *
+ * <p>The configuration is picked up by the <code>native-image</code> tool if it is placed under
+ * <code>META-INF/native-image</code> on the class path. For example, the following generates the configuration for
+ * the repositories listed in the index of a module at build time:</p>
+ *
+ * <pre>
+ *     &lt;plugin&gt;
+ *         &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *         &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *         &lt;executions&gt;
+ *             &lt;execution&gt;
+ *                 &lt;phase&gt;process-classes&lt;/phase&gt;
+ *                 &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *                 &lt;configuration&gt;
+ *                     &lt;mainClass&gt;com.amdocs.textcrate.NativeImageConfiguration&lt;/mainClass&gt;
+ *                     &lt;arguments&gt;
+ *                         &lt;argument&gt;target/classes/META-INF/native-image/messages&lt;/argument&gt;
+ *                     &lt;/arguments&gt;
+ *                 &lt;/configuration&gt;
+ *             &lt;/execution&gt;
+ *         &lt;/executions&gt;
+ *     &lt;/plugin&gt;
+ * </pre>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class NativeImageConfiguration {
+
+    static final String PROXY_CONFIG = "proxy-config.json";
+    static final String REFLECT_CONFIG = "reflect-config.json";
+    static final String RESOURCE_CONFIG = "resource-config.json";
+
+    private static final String INDENT = "  ";
+
+    private final Set<Class<?>> repositories;
+
+    private NativeImageConfiguration(Collection<Class<?>> repositories) {
+        this.repositories = new LinkedHashSet<>(repositories);
+    }
+
+    /**
+     * Creates configuration for the given repositories.
+     *
+     * @param repositories repository interfaces
+     * @return native image configuration
+     * @throws IllegalArgumentException if any of the types is not an interface
+     */
+    public static NativeImageConfiguration of(Class<?>... repositories) {
+
+        Objects.requireNonNull(repositories, "Repositories cannot be null");
+
+        for (Class<?> repository : repositories) {
+
+            Objects.requireNonNull(repository, "Repository cannot be null");
+            if (!repository.isInterface()) {
+                throw new IllegalArgumentException("Message repository must be an interface: " + repository.getName());
+            }
+        }
+
+        return new NativeImageConfiguration(Arrays.asList(repositories));
+    }
+
+    /**
+     * Creates configuration for the repositories listed in <code>META-INF/textcrate/repositories</code> class path
+     * resources (see {@link Messages#warmUpIndexed(ClassLoader)}).
+     *
+     * @param classLoader class loader for looking up the index resources and repository interfaces
+     * @return native image configuration
+     * @throws ClassNotFoundException if a listed repository cannot be found
+     */
+    public static NativeImageConfiguration ofIndexed(ClassLoader classLoader) throws ClassNotFoundException {
+
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+
+        Set<String> names = RepositoryWarmUp.readIndex(classLoader);
+        List<Class<?>> repositories = new ArrayList<>(names.size());
+        for (String name : names) {
+            repositories.add(Class.forName(name, false, classLoader));
+        }
+
+        return of(repositories.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Writes <code>proxy-config.json</code>, <code>reflect-config.json</code> and <code>resource-config.json</code>,
+     * replacing existing files.
+     *
+     * @param directory target directory, created if it does not exist
+     * @throws IOException if writing fails
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(PROXY_CONFIG), proxyConfig().getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve(REFLECT_CONFIG), reflectConfig().getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve(RESOURCE_CONFIG), resourceConfig().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>Generates the configuration at build time.</p>
+     *
+     * <p>Arguments: target directory, followed by fully qualified names of repository interfaces. If no repositories
+     * are given, the ones listed in the index resources of the context class loader are used.</p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if writing fails
+     * @throws ClassNotFoundException if a repository cannot be found
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: NativeImageConfiguration <target directory> [repository...]");
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        NativeImageConfiguration configuration;
+        if (args.length == 1) {
+            configuration = ofIndexed(classLoader);
+        } else {
+
+            Class<?>[] repositories = new Class<?>[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                repositories[i - 1] = Class.forName(args[i], false, classLoader);
+            }
+
+            configuration = of(repositories);
+        }
+
+        configuration.writeTo(Paths.get(args[0]));
+    }
+
+    String proxyConfig() {
+
+        StringBuilder json = new StringBuilder("[");
+
+        Iterator<Class<?>> iterator = repositories.iterator();
+        while (iterator.hasNext()) {
+            json.append('\n').append(INDENT).append('[');
+            appendString(json, iterator.next().getName());
+            json.append(']');
+            appendSeparator(json, iterator);
+        }
+
+        return closeArray(json);
+    }
+
+    String reflectConfig() {
+
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        Set<Class<?>> formatters = new LinkedHashSet<>();
+        for (Class<?> repository : repositories) {
+            collectInterfaces(repository, interfaces);
+        }
+
+        // an inherited method may use the formatter of the interface that declares it
+        for (Class<?> type : interfaces) {
+
+            MessageFormatter annotation = type.getAnnotation(MessageFormatter.class);
+            if ((annotation != null) && !FormatterRegistry.isBuiltIn(annotation.type())) {
+                formatters.add(annotation.type());
+            }
+        }
+
+        List<String> entries = new ArrayList<>(interfaces.size() + formatters.size());
+        for (Class<?> type : interfaces) {
+            entries.add(reflectEntry(type, "\"allPublicMethods\": true, \"allDeclaredMethods\": true"));
+        }
+
+        for (Class<?> type : formatters) {
+            entries.add(reflectEntry(type, "\"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]"));
+        }
+
+        StringBuilder json = new StringBuilder("[");
+
+        Iterator<String> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            json.append('\n').append(INDENT).append(iterator.next());
+            appendSeparator(json, iterator);
+        }
+
+        return closeArray(json);
+    }
+
+    String resourceConfig() {
+        StringBuilder json = new StringBuilder("{\n").append(INDENT).append("\"resources\": {\n")
+                                     .append(INDENT).append(INDENT).append("\"includes\": [{\"pattern\": ");
+        appendString(json, Pattern.quote(RepositoryWarmUp.INDEX));
+        json.append("}, {\"pattern\": ");
+        appendString(json, Pattern.quote(TranslationCatalog.RESOURCE_DIRECTORY) + ".*\\.bin");
+        return json.append("}]\n").append(INDENT).append("}\n}\n").toString();
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+
+        if (interfaces.add(type)) {
+            for (Class<?> parent : type.getInterfaces()) {
+                collectInterfaces(parent, interfaces);
+            }
+        }
+    }
+
+    private static String reflectEntry(Class<?> type, String members) {
+        StringBuilder json = new StringBuilder("{\"name\": ");
+        appendString(json, type.getName());
+        return json.append(", ").append(members).append('}').toString();
+    }
+
+    private static void appendSeparator(StringBuilder json, Iterator<?> iterator) {
+        if (iterator.hasNext()) {
+            json.append(',');
+        }
+    }
+
+    private static String closeArray(StringBuilder json) {
+        return json.append(json.length() > 1 ? "\n]\n" : "]\n").toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+
+        json.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+            if ((c == '"') || (c == '\\')) {
+                json.append('\\');
+            }
+
+            json.append(c);
+        }
+
+        json.append('"');
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.api.PropertyKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Immutable properties of a message blueprint. Besides a map by name, the values are laid out in an array indexed by
+ * the slots of their {@link PropertyKey}s, so that looking up a property by key is an array access.</p>
+ *
+ * <p>The array is as long as the highest slot among the property names, and most applications use only a few
+ * property names, so it stays small.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = "values")
+@ToString(of = "values")
+final class PropertyTable {
+
+    static final PropertyTable EMPTY = new PropertyTable(Collections.emptyMap());
+
+    private final Map<String, String> values;
+    private final String[] slots;
+
+    private PropertyTable(Map<String, String> values) {
+
+        this.values = values;
+
+        int length = 0;
+        for (String name : values.keySet()) {
+            length = Math.max(length, PropertyKey.of(name).getSlot() + 1);
+        }
+
+        this.slots = new String[length];
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            slots[PropertyKey.of(entry.getKey()).getSlot()] = entry.getValue();
+        }
+    }
+
+    static PropertyTable of(Map<String, String> properties) {
+        return properties.isEmpty() ? EMPTY : new PropertyTable(Collections.unmodifiableMap(new HashMap<>(properties)));
+    }
+
+    /**
+     * Creates a table with additional properties.
+     *
+     * @param overrides properties that are added to, or replace, the properties of this table
+     * @return a new table, or this one if there is nothing to add
+     */
+    PropertyTable with(Map<String, String> overrides) {
+
+        if (overrides.isEmpty()) {
+            return this;
+        }
+
+        Map<String, String> merged = new HashMap<>(values);
+        merged.putAll(overrides);
+        return new PropertyTable(Collections.unmodifiableMap(merged));
+    }
+
+    String get(String name) {
+        return values.get(name);
+    }
+
+    String get(PropertyKey key) {
+        int slot = key.getSlot();
+        return slot < slots.length ? slots[slot] : null;
+    }
+
+    /**
+     * All properties.
+     *
+     * @return unmodifiable map of property names to values
+     */
+    Map<String, String> asMap() {
+        return values;
+    }
+}
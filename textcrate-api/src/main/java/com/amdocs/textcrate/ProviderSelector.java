@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import com.amdocs.textcrate.spi.MessagesProvider;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Selects a {@link MessagesProvider} for a repository interface. The providers available via
+ * {@link ServiceLoader} are loaded and instantiated once per class loader, and sorted by their priority.</p>
+ *
+ * <p>A provider that returns nothing for an interface is remembered, and is not asked for the same interface
+ * again.</p>
+ *
+ * <p>The selectors are held softly and keyed weakly by class loader. A selector refers to providers, which refer to
+ * the class loader that has loaded them, so a class loader that is no longer used otherwise stays reachable
+ * through its selector until the garbage collector clears the soft reference, at the latest before running out of
+ * memory. Unloading of providers is therefore delayed, not prevented. If a selector has been collected, the
+ * providers are just loaded again.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class ProviderSelector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProviderSelector.class);
+
+    private static final Map<ClassLoader, SoftReference<ProviderSelector>> SELECTORS = new WeakHashMap<>();
+
+    private final List<Candidate> candidates;
+
+    private ProviderSelector(List<Candidate> candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * Returns the selector of the providers visible to a class loader, loading the providers if needed.
+     *
+     * @param classLoader class loader, <code>null</code> for the system class loader
+     * @return provider selector
+     */
+    static ProviderSelector forClassLoader(ClassLoader classLoader) {
+
+        ClassLoader key = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+
+        ProviderSelector existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        // load outside of the lock, since instantiating providers may run arbitrary code
+        ProviderSelector loaded = load(key);
+
+        synchronized (SELECTORS) {
+
+            existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            // the selector keeps the key reachable, so only clearing the soft reference lets the entry go
+            SELECTORS.put(key, new SoftReference<>(loaded));
+            return loaded;
+        }
+    }
+
+    /**
+     * Asks the providers for a repository in the order of their priority, skipping the ones that have already
+     * returned nothing for the interface.
+     *
+     * @param clazz repository interface
+     * @param <T> repository type
+     * @return the repository and the provider that has created it, or empty if no provider has
+     */
+    <T> Optional<Selection<T>> select(Class<T> clazz) {
+
+        for (Candidate candidate : candidates) {
+
+            Optional<T> messages = candidate.getMessages(clazz);
+            if (messages.isPresent()) {
+                return Optional.of(new Selection<>(messages.get(), candidate.provider));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Providers in the order they are asked.
+     *
+     * @return providers sorted by descending priority
+     */
+    List<MessagesProvider> getProviders() {
+
+        List<MessagesProvider> providers = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            providers.add(candidate.provider);
+        }
+
+        return providers;
+    }
+
+    private static ProviderSelector get(ClassLoader classLoader) {
+
+        synchronized (SELECTORS) {
+            SoftReference<ProviderSelector> reference = SELECTORS.get(classLoader);
+            return reference == null ? null : reference.get();
+        }
+    }
+
+    private static ProviderSelector load(ClassLoader classLoader) {
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (MessagesProvider provider : ServiceLoader.load(MessagesProvider.class, classLoader)) {
+            candidates.add(new Candidate(provider));
+        }
+
+        // stable, so that providers with the same priority keep the order of the service loader
+        candidates.sort((first, second) -> Integer.compare(second.priority, first.priority));
+
+        ProviderSelector selector = new ProviderSelector(candidates);
+        LOGGER.debug("Message providers for class loader {}: {}", classLoader, selector.getProviders());
+        return selector;
+    }
+
+    /**
+     * A repository together with the provider that has created it.
+     *
+     * @param <T> repository type
+     */
+    static final class Selection<T> {
+
+        private final T messages;
+        private final MessagesProvider provider;
+
+        private Selection(T messages, MessagesProvider provider) {
+            this.messages = messages;
+            this.provider = provider;
+        }
+
+        T getMessages() {
+            return messages;
+        }
+
+        MessagesProvider getProvider() {
+            return provider;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final MessagesProvider provider;
+        private final int priority;
+
+        /**
+         * Interfaces for which the provider has returned nothing, without preventing them from being unloaded.
+         */
+        private final Set<Class<?>> declined = Collections.synchronizedSet(
+                Collections.newSetFromMap(new WeakHashMap<>()));
+
+        private Candidate(MessagesProvider provider) {
+            this.provider = provider;
+            this.priority = provider.getPriority();
+        }
+
+        private <T> Optional<T> getMessages(Class<T> clazz) {
+
+            if (declined.contains(clazz)) {
+                return Optional.empty();
+            }
+
+            Optional<T> messages = provider.getMessages(clazz);
+            if (!messages.isPresent()) {
+                declined.add(clazz);
+            }
+
+            return messages;
+        }
+    }
+}
@@ -22,11 +22,15 @@ import com.amdocs.textcrate.spi.MessagesProvider;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,18 +53,87 @@ class ProxyMessagesProvider implements MessagesProvider {
         return Optional.of(clazz.cast(repo));
     }
 
+    /**
+     * Eagerly builds the blueprints of all annotated methods of a repository, including their compiled patterns and
+     * message codes, so that the first call to each method does not pay for it.
+     *
+     * @param repository message repository
+     * @return number of blueprints, or empty if the repository has not been created by this provider
+     */
+    static OptionalInt warmUp(Object repository) {
+
+        if ((repository == null) || !Proxy.isProxyClass(repository.getClass())) {
+            return OptionalInt.empty();
+        }
+
+        InvocationHandler handler = Proxy.getInvocationHandler(repository);
+        return handler instanceof MessageRepositoryInvocationHandler
+                       ? OptionalInt.of(((MessageRepositoryInvocationHandler) handler).warmUp())
+                       : OptionalInt.empty();
+    }
+
+    /**
+     * Statistics of the cache of rendered messages of a repository.
+     *
+     * @param repository message repository
+     * @return statistics, or empty if the repository has not been created by this provider or has no cache
+     */
+    static Optional<RenderCacheStats> getRenderCacheStats(Object repository) {
+
+        if ((repository == null) || !Proxy.isProxyClass(repository.getClass())) {
+            return Optional.empty();
+        }
+
+        InvocationHandler handler = Proxy.getInvocationHandler(repository);
+        return handler instanceof MessageRepositoryInvocationHandler
+                       ? ((MessageRepositoryInvocationHandler) handler).blueprintFactory.getRenderCache()
+                                 .map(RenderCache::stats)
+                       : Optional.empty();
+    }
+
     private static class MessageRepositoryInvocationHandler implements InvocationHandler {
 
         private static final Object[] EMPTY_ARGS = new Object[0];
 
         private final Class<?> originalType;
         private final AnnotatedMessageBlueprintFactory blueprintFactory;
-        private final Map<Method, MessageBlueprint> blueprintCache;
+
+        /**
+         * Blueprints of annotated methods, indexed by method ordinal, so that a call does not need to hash
+         * the method or read its annotations once the blueprint exists.
+         */
+        private final MethodTable methodTable;
+        private final AtomicReferenceArray<MessageBlueprint> blueprints;
+
+        /**
+         * Factory for each method, indexed by method ordinal. Inherited methods are built by a factory of the interface
+         * that declares them, so that the hierarchy is resolved once, and not when a method is called.
+         */
+        private final AnnotatedMessageBlueprintFactory[] factories;
+
+        private final Map<Method, MessageBlueprint> unannotatedBlueprints = new ConcurrentHashMap<>();
 
         private <T> MessageRepositoryInvocationHandler(Class<T> clazz) {
             this.originalType = clazz;
             this.blueprintFactory = new AnnotatedMessageBlueprintFactory(clazz);
-            this.blueprintCache = new ConcurrentHashMap<>(clazz.getDeclaredMethods().length);
+            this.methodTable = new MethodTable(clazz);
+            this.blueprints = new AtomicReferenceArray<>(methodTable.size());
+            this.factories = flatten(clazz, blueprintFactory, methodTable);
+        }
+
+        private static AnnotatedMessageBlueprintFactory[] flatten(Class<?> clazz,
+                AnnotatedMessageBlueprintFactory repositoryFactory, MethodTable methodTable) {
+
+            Map<Class<?>, AnnotatedMessageBlueprintFactory> byDeclaringType = new HashMap<>();
+            byDeclaringType.put(clazz, repositoryFactory);
+
+            AnnotatedMessageBlueprintFactory[] factories = new AnnotatedMessageBlueprintFactory[methodTable.size()];
+            for (int ordinal = 0; ordinal < factories.length; ordinal++) {
+                factories[ordinal] = byDeclaringType.computeIfAbsent(
+                        methodTable.getMethod(ordinal).getDeclaringClass(), repositoryFactory::forInherited);
+            }
+
+            return factories;
         }
 
         @Override
@@ -68,13 +141,20 @@ class ProxyMessagesProvider implements MessagesProvider {
 
             Object[] normalizedArgs = args == null ? EMPTY_ARGS : args;
 
+            int ordinal = methodTable.getOrdinal(method);
+            MessageBlueprint existing = ordinal == MethodTable.NOT_FOUND ? null : blueprints.get(ordinal);
+            if (existing != null) {
+                return createMessage(method.getReturnType(), existing, normalizedArgs);
+            }
+
             MessageSpec annotation = method.getAnnotation(MessageSpec.class);
             if (annotation == null) {
                 LOGGER.debug("Method not annotated: {}. Trying to call anyway", method.getName());
                 return invokeUnannotated(method, normalizedArgs);
             }
 
-            return createAnnotatedMessage(method, normalizedArgs, annotation);
+            MessageBlueprint blueprint = getAnnotatedBlueprint(method, ordinal, annotation);
+            return createMessage(method.getReturnType(), blueprint, normalizedArgs);
         }
 
         private Object invokeUnannotated(Method method, Object[] args)
@@ -83,7 +163,7 @@ class ProxyMessagesProvider implements MessagesProvider {
             try {
                 return callStandardObjectMethod(method, args);
             } catch (NoSuchMethodException e) {
-                return createUnannotatedMessage(method, args);
+                return createUnannotatedMessage(method, methodTable.getOrdinal(method), args);
             }
         }
 
@@ -93,16 +173,48 @@ class ProxyMessagesProvider implements MessagesProvider {
             return self.invoke(this, args);
         }
 
-        private Object createUnannotatedMessage(Method method, Object[] args) {
-            MessageBlueprint blueprint = blueprintCache.computeIfAbsent(method,
-                    key -> new UnannotatedMessageBlueprint(method, blueprintFactory.getProperties()));
+        private Object createUnannotatedMessage(Method method, int ordinal, Object[] args) {
+            MessageBlueprint blueprint = unannotatedBlueprints.computeIfAbsent(method,
+                    key -> new UnannotatedMessageBlueprint(method,
+                            getFactory(ordinal).getPropertyTable(method).asMap()));
             return createMessage(method.getReturnType(), blueprint, args);
         }
 
-        private Object createAnnotatedMessage(Method method, Object[] normalizedArgs, MessageSpec annotation) {
-            MessageBlueprint blueprint = blueprintCache.computeIfAbsent(method,
-                    key -> blueprintFactory.createBlueprint(annotation));
-            return createMessage(method.getReturnType(), blueprint, normalizedArgs);
+        private AnnotatedMessageBlueprintFactory getFactory(int ordinal) {
+            return ordinal == MethodTable.NOT_FOUND ? blueprintFactory : factories[ordinal];
+        }
+
+        private MessageBlueprint getAnnotatedBlueprint(Method method, int ordinal, MessageSpec annotation) {
+
+            if (ordinal == MethodTable.NOT_FOUND) {
+                return blueprintFactory.createBlueprint(annotation, method);
+            }
+
+            MessageBlueprint existing = blueprints.get(ordinal);
+            if (existing != null) {
+                return existing;
+            }
+
+            // only one blueprint per method may be published, it caches the message code and is a render cache key
+            MessageBlueprint created = factories[ordinal].createBlueprint(annotation, method);
+            return blueprints.compareAndSet(ordinal, null, created) ? created : blueprints.get(ordinal);
+        }
+
+        private int warmUp() {
+
+            int count = 0;
+            for (int ordinal = 0; ordinal < methodTable.size(); ordinal++) {
+
+                Method method = methodTable.getMethod(ordinal);
+                MessageSpec annotation = method.getAnnotation(MessageSpec.class);
+                if ((annotation != null) && !Modifier.isStatic(method.getModifiers())) {
+                    // the code is cached by the blueprint once computed
+                    getAnnotatedBlueprint(method, ordinal, annotation).getCode();
+                    count++;
+                }
+            }
+
+            return count;
         }
 
         private Object createMessage(Class<?> returnType, MessageBlueprint blueprint, Object[] args) {
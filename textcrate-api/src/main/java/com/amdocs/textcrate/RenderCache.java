@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>A bounded cache of rendered messages, keyed by a blueprint, a locale, and message arguments.</p>
+ *
+ * <p>Entries are spread over segments, each of them a small LRU map under its own lock. When a segment is full,
+ * a new entry is admitted only if it has been requested more often than the least recently used entry of the segment,
+ * which is then evicted. The frequencies are estimated with a {@link FrequencySketch} shared by all segments
+ * (TinyLFU admission). This keeps popular messages in the cache when many one-off messages are rendered.</p>
+ *
+ * <p>Rendered messages are held by soft references, so that they can be collected when memory is low.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class RenderCache {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Exact classes of immutable arguments. Subclasses are not included, as they may be mutable.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Locale.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class, ZonedDateTime.class,
+            OffsetDateTime.class, Duration.class, Period.class)));
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final FrequencySketch sketch;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    RenderCache(int maximumSize) {
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize);
+        }
+
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(
+                Math.min(maximumSize, Runtime.getRuntime().availableProcessors() * 2)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // distribute the remainder, so that the total capacity equals the maximum size
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+
+        this.segmentMask = count - 1;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Whether a message can be cached, i.e. all of its arguments are immutable.
+     *
+     * @param arguments message arguments
+     * @return <code>true</code> if a rendered message with these arguments can be safely reused
+     */
+    static boolean isCacheable(Object[] arguments) {
+
+        for (Object argument : arguments) {
+            if ((argument != null) && !IMMUTABLE_TYPES.contains(argument.getClass()) && !(argument instanceof Enum)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a cached message, or renders and possibly caches it.
+     *
+     * @param blueprint blueprint of the message, compared by identity
+     * @param locale locale, may be <code>null</code>
+     * @param arguments message arguments, must be cacheable
+     * @param renderer renders the message if not in cache
+     * @return rendered message
+     */
+    String get(MessageBlueprint blueprint, Locale locale, Object[] arguments, Supplier<String> renderer) {
+
+        Key key = new Key(blueprint, locale, arguments);
+        sketch.increment(key.hash);
+
+        Segment segment = segments[spread(key.hash) & segmentMask];
+        String rendered = segment.get(key);
+        if (rendered != null) {
+            hits.increment();
+            return rendered;
+        }
+
+        misses.increment();
+        rendered = renderer.get();
+        if (rendered != null) {
+            segment.put(key, rendered);
+        }
+
+        return rendered;
+    }
+
+    RenderCacheStats stats() {
+
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+
+        return new RenderCacheStats(hits.sum(), misses.sum(), evictions.sum(), size, maximumSize);
+    }
+
+    private static int spread(int hash) {
+        // the low bits of the sketch index are taken from the hash too, so use high bits for segments
+        return (hash >>> 16) ^ (hash >>> 24);
+    }
+
+    /**
+     * Cache key. The arguments are copied, as the caller may change its array after the message has been rendered.
+     */
+    private static final class Key {
+
+        private final MessageBlueprint blueprint;
+        private final Locale locale;
+        private final Object[] arguments;
+        private final int hash;
+
+        private Key(MessageBlueprint blueprint, Locale locale, Object[] arguments) {
+            this.blueprint = blueprint;
+            this.locale = locale;
+            this.arguments = arguments.clone();
+            int result = System.identityHashCode(blueprint);
+            result = 31 * result + (locale == null ? 0 : locale.hashCode());
+            result = 31 * result + Arrays.hashCode(this.arguments);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key that = (Key) o;
+            return (hash == that.hash) && (blueprint == that.blueprint) && (locale == null ? that.locale == null
+                           : locale.equals(that.locale)) && Arrays.equals(arguments, that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A rendered message that can be collected when memory is low. Knows its key, so that the entry can be removed.
+     */
+    private static final class Value extends SoftReference<String> {
+
+        private final Key key;
+
+        private Value(Key key, String rendered, ReferenceQueue<String> queue) {
+            super(rendered, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * A part of the cache with its own lock, and entries in the order of access.
+     */
+    private final class Segment {
+
+        private final int capacity;
+        private final LinkedHashMap<Key, Value> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReferenceQueue<String> collected = new ReferenceQueue<>();
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized String get(Key key) {
+            Value value = entries.get(key);
+            return value == null ? null : value.get();
+        }
+
+        private synchronized void put(Key key, String rendered) {
+
+            purgeCollected();
+
+            Value existing = entries.get(key);
+            if ((existing != null) && (existing.get() != null)) {
+                // rendered concurrently by another thread
+                return;
+            }
+
+            if ((existing == null) && (entries.size() >= capacity)) {
+
+                Iterator<Key> eldest = entries.keySet().iterator();
+                Key victim = eldest.next();
+                if (sketch.frequency(key.hash) <= sketch.frequency(victim.hash)) {
+                    // the candidate is not popular enough to replace the victim
+                    return;
+                }
+
+                eldest.remove();
+                evictions.increment();
+            }
+
+            entries.put(key, new Value(key, rendered, collected));
+        }
+
+        private synchronized int size() {
+            purgeCollected();
+            return entries.size();
+        }
+
+        private void purgeCollected() {
+
+            Reference<? extends String> reference;
+            while ((reference = collected.poll()) != null) {
+                Value value = (Value) reference;
+                if (entries.remove(value.key, value)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <p>A snapshot of the statistics of the cache of rendered messages of a repository
+ * (see {@link com.amdocs.textcrate.api.annotations.CachedRendering}), as returned by
+ * {@link Messages#getRenderCacheStats(Object)}. Messages that cannot be cached are not counted.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class RenderCacheStats {
+
+    /**
+     * Number of messages found in the cache.
+     */
+    private final long hitCount;
+
+    /**
+     * Number of messages that had to be rendered.
+     */
+    private final long missCount;
+
+    /**
+     * Number of messages removed from the cache to make room for others, or because memory was low.
+     */
+    private final long evictionCount;
+
+    /**
+     * Number of messages in the cache at the moment of the snapshot.
+     */
+    private final long size;
+
+    /**
+     * Maximum number of messages in the cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * Ratio of messages found in the cache to all cacheable messages.
+     *
+     * @return hit rate between 0 and 1, or 1 if no messages have been requested
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Warms up message repositories in parallel on the common fork-join pool, one task per repository.</p>
+ *
+ * <p>The repositories to be warmed up can also be listed in class path resources named {@link #INDEX}, one fully
+ * qualified interface name per line. Empty lines and lines starting with <code>#</code> are ignored.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class RepositoryWarmUp {
+
+    static final String INDEX = "META-INF/textcrate/repositories";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryWarmUp.class);
+
+    private static final String COMMENT = "#";
+
+    private RepositoryWarmUp() { /* prevent instantiation */ }
+
+    static WarmUpReport warmUp(Object... repositories) {
+
+        List<Task> tasks = new ArrayList<>(repositories.length);
+        for (Object repository : repositories) {
+            Objects.requireNonNull(repository, "Repository cannot be null");
+            tasks.add(new Task(repositoryName(repository), () -> repository));
+        }
+
+        return run(tasks);
+    }
+
+    static WarmUpReport warmUpIndexed(ClassLoader classLoader) {
+
+        List<Task> tasks = readIndex(classLoader).stream()
+                                   .map(name -> new Task(name, () -> Messages.from(
+                                           Class.forName(name, false, classLoader), classLoader)))
+                                   .collect(Collectors.toList());
+        return run(tasks);
+    }
+
+    private static WarmUpReport run(List<Task> tasks) {
+
+        long start = System.nanoTime();
+
+        List<CompletableFuture<WarmUpReport.Entry>> futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(task::execute, ForkJoinPool.commonPool()))
+                .collect(Collectors.toList());
+        List<WarmUpReport.Entry> entries = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+        WarmUpReport report = new WarmUpReport(entries, System.nanoTime() - start);
+        LOGGER.debug("Message repositories warmed up: {}", report);
+        return report;
+    }
+
+    /**
+     * Reads the names of the repositories listed in all {@link #INDEX} resources visible to a class loader.
+     *
+     * @param classLoader class loader
+     * @return repository names without duplicates, in the order of appearance
+     */
+    static Set<String> readIndex(ClassLoader classLoader) {
+
+        // the same repository may be listed by more than one module
+        Set<String> names = new LinkedHashSet<>();
+
+        try {
+
+            Enumeration<URL> resources = classLoader.getResources(INDEX);
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), names);
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + INDEX, e);
+        }
+
+        return names;
+    }
+
+    private static void readIndex(URL resource, Set<String> names) throws IOException {
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith(COMMENT)) {
+                    names.add(name);
+                }
+            }
+        }
+    }
+
+    private static String repositoryName(Object repository) {
+        Class<?>[] interfaces = repository.getClass().getInterfaces();
+        return interfaces.length == 0 ? repository.getClass().getName() : interfaces[0].getName();
+    }
+
+    /**
+     * Warms up a single repository, creating it first if needed.
+     */
+    private static class Task {
+
+        private final String name;
+        private final Callable<Object> repository;
+
+        private Task(String name, Callable<Object> repository) {
+            this.name = name;
+            this.repository = repository;
+        }
+
+        private WarmUpReport.Entry execute() {
+
+            long start = System.nanoTime();
+            Object instance = null;
+
+            try {
+
+                instance = repository.call();
+                OptionalInt count = ProxyMessagesProvider.warmUp(instance);
+                if (!count.isPresent()) {
+                    LOGGER.debug("Repository {} has not been created by the default provider, nothing to warm up",
+                            name);
+                }
+
+                return new WarmUpReport.Entry(name, instance, count.orElse(0), System.nanoTime() - start, null);
+
+            } catch (Exception e) {
+                LOGGER.error("Failed to warm up message repository {}", name, e);
+                return new WarmUpReport.Entry(name, instance, 0, System.nanoTime() - start, e);
+            }
+        }
+    }
+}
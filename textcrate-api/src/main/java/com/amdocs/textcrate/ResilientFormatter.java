@@ -16,10 +16,16 @@
 
 package com.amdocs.textcrate;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.InvalidPatternException;
 import com.amdocs.textcrate.api.Validator;
 import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -44,23 +50,53 @@ class ResilientFormatter implements Formatter, Validator {
     private final Formatter delegate;
     private final Formatter fallback;
 
+    Formatter getDelegate() {
+        return delegate;
+    }
+
     @Override
     public String format(String pattern, Object... arguments) {
 
         try {
             return delegate.format(pattern, arguments);
         } catch (Exception e) {
+            Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
             LOGGER.error("Failed to format message using {} with pattern '{}' and arguments '{}'. Falling back to {}.",
                     delegate, pattern, arguments, fallback, e);
             return fallback.format(pattern, arguments);
         }
     }
 
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return compile(pattern, Collections.emptyList());
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern, List<String> parameterNames) {
+
+        CompiledPattern compiledFallback = fallback.compile(pattern, parameterNames);
+
+        try {
+            return new ResilientPattern(pattern, delegate.compile(pattern, parameterNames), compiledFallback);
+        } catch (Exception e) {
+            Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+            LOGGER.error("Failed to compile pattern '{}' using {}. Falling back to {}.",
+                    pattern, delegate, fallback, e);
+            return compiledFallback;
+        }
+    }
+
     @Override
     public Optional<Validator> getValidator() {
         return Optional.of(this);
     }
 
+    @Override
+    public boolean isShareable() {
+        return delegate.isShareable() && fallback.isShareable();
+    }
+
     @Override
     public void validate(String pattern, Type... types) throws InvalidPatternException {
 
@@ -69,6 +105,7 @@ class ResilientFormatter implements Formatter, Validator {
         } catch (InvalidPatternException ipe) {
             throw ipe;
         } catch (Exception e) {
+            Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
             LOGGER.error("Failed to validate pattern '{}' with types '{}' using {}. Falling back to {}.",
                     pattern, types, delegate, fallback, e);
             validate(fallback, pattern, types);
@@ -82,4 +119,113 @@ class ResilientFormatter implements Formatter, Validator {
             originalValidator.get().validate(pattern, types);
         }
     }
+
+    /**
+     * Falls back to the compiled pattern of the fallback formatter if the compiled pattern of the desired formatter
+     * fails unexpectedly.
+     */
+    @AllArgsConstructor
+    @ToString
+    private static class ResilientPattern implements CompiledPattern {
+
+        private final String pattern;
+        private final CompiledPattern delegate;
+        private final CompiledPattern fallback;
+
+        @Override
+        public String format(Object... arguments) {
+
+            try {
+                return delegate.format(arguments);
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to format message using {} with pattern '{}' and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, arguments, fallback, e);
+                return fallback.format(arguments);
+            }
+        }
+
+        @Override
+        public String format(Locale locale, Object... arguments) {
+
+            try {
+                return delegate.format(locale, arguments);
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to format message using {} with pattern '{}', locale {} and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, locale, arguments, fallback, e);
+                return fallback.format(locale, arguments);
+            }
+        }
+
+        @Override
+        public void formatTo(StringBuilder destination, Object... arguments) {
+
+            int length = destination.length();
+
+            try {
+                delegate.formatTo(destination, arguments);
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to format message using {} with pattern '{}' and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, arguments, fallback, e);
+                // discard whatever has been written before the failure
+                destination.setLength(length);
+                fallback.formatTo(destination, arguments);
+            }
+        }
+
+        @Override
+        public void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+
+            int length = destination.length();
+
+            try {
+                delegate.formatTo(destination, locale, arguments);
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to format message using {} with pattern '{}', locale {} and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, locale, arguments, fallback, e);
+                destination.setLength(length);
+                fallback.formatTo(destination, locale, arguments);
+            }
+        }
+
+        /**
+         * A buffer overflow is not a formatting failure, and is left to the caller to handle.
+         */
+        @Override
+        public void encodeTo(ByteBuffer destination, Locale locale, Object... arguments) {
+
+            int position = destination.position();
+
+            try {
+                delegate.encodeTo(destination, locale, arguments);
+            } catch (BufferOverflowException e) {
+                throw e;
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to encode message using {} with pattern '{}', locale {} and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, locale, arguments, fallback, e);
+                destination.position(position);
+                fallback.encodeTo(destination, locale, arguments);
+            }
+        }
+
+        @Override
+        public ByteBuffer encodeGrowing(ByteBuffer destination, Locale locale, Object... arguments) {
+
+            int position = destination.position();
+
+            try {
+                return delegate.encodeGrowing(destination, locale, arguments);
+            } catch (Exception e) {
+                Instrumentation.formatterFellBack(delegate, fallback, pattern, e);
+                LOGGER.error("Failed to encode message using {} with pattern '{}', locale {} and arguments '{}'. "
+                                     + "Falling back to {}.", delegate, pattern, locale, arguments, fallback, e);
+                destination.position(position);
+                return fallback.encodeGrowing(destination, locale, arguments);
+            }
+        }
+    }
 }
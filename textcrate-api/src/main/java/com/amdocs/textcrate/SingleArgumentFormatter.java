@@ -38,6 +38,11 @@ class SingleArgumentFormatter implements Formatter {
         return String.valueOf(arguments[0]);
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public Optional<Validator> getValidator() {
         return Optional.empty();
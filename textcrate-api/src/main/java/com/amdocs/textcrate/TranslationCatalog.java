@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Translated message patterns for a single locale, as loaded at runtime from class path resources named
+ * {@link #getResourceName(Locale)}. The resources are written by {@link TranslationCatalogWriter}, usually at build
+ * time, from files returned by translators.</p>
+ *
+ * <p>Once translations are on the class path, {@link com.amdocs.textcrate.api.Message#getPattern(Locale)} and
+ * {@link com.amdocs.textcrate.api.Message#getMessage(Locale)} use them. A translation is looked up for the given
+ * locale and then for the more general ones (e.g. <code>de-CH</code>, then <code>de</code>), falling back to
+ * the pattern of the {@link com.amdocs.textcrate.api.annotations.MessageSpec} annotation.</p>
+ *
+ * <p>A translation is identified by the repository interface and the numeric code of the message, so messages
+ * inherited by a repository are translated as part of that repository.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class TranslationCatalog {
+
+    /**
+     * Class path directory of translation resources.
+     */
+    public static final String RESOURCE_DIRECTORY = "META-INF/textcrate/translations/";
+
+    static final int MAGIC = 0x54584354;
+    static final int VERSION = 1;
+
+    static final int END = 0;
+    static final int REPOSITORY = 1;
+    static final int ENTRY = 2;
+
+    private final Locale locale;
+    private final Map<String, Map<Integer, String>> patterns;
+
+    private TranslationCatalog(Locale locale, Map<String, Map<Integer, String>> patterns) {
+        this.locale = locale;
+        this.patterns = patterns;
+    }
+
+    static TranslationCatalog empty(Locale locale) {
+        return new TranslationCatalog(locale, Collections.emptyMap());
+    }
+
+    /**
+     * Name of the class path resource with the translations for a locale.
+     *
+     * @param locale locale
+     * @return resource name, e.g. <code>META-INF/textcrate/translations/de-CH.bin</code>
+     */
+    public static String getResourceName(Locale locale) {
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        return RESOURCE_DIRECTORY + locale.toLanguageTag() + ".bin";
+    }
+
+    /**
+     * Reads translations written by {@link TranslationCatalogWriter}. The stream is not closed.
+     *
+     * @param input input stream
+     * @return translations
+     * @throws IOException if reading fails, or the input is not a translation catalog
+     */
+    public static TranslationCatalog read(InputStream input) throws IOException {
+
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a translation catalog");
+        }
+
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version of translation catalog: " + version);
+        }
+
+        Locale locale = Locale.forLanguageTag(readString(data));
+        Map<String, Map<Integer, String>> patterns = new HashMap<>();
+        Map<Integer, String> current = null;
+
+        while (true) {
+
+            int record = data.readUnsignedByte();
+            switch (record) {
+                case END:
+                    return new TranslationCatalog(locale, patterns);
+                case REPOSITORY:
+                    current = patterns.computeIfAbsent(readString(data), key -> new HashMap<>());
+                    break;
+                case ENTRY:
+                    if (current == null) {
+                        throw new IOException("Translation does not belong to a repository");
+                    }
+
+                    int code = data.readInt();
+                    current.put(code, readString(data));
+                    break;
+                default:
+                    throw new IOException("Corrupt translation catalog, unknown record " + record);
+            }
+        }
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+
+        int length = data.readInt();
+        if (length < 0) {
+            throw new EOFException("Corrupt translation catalog, negative length");
+        }
+
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Locale of the translations.
+     *
+     * @return locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Translated pattern of a message.
+     *
+     * @param repository fully qualified name of the repository interface
+     * @param numericCode numeric code of the message
+     * @return translated pattern, empty if the message has not been translated
+     */
+    public Optional<String> getPattern(String repository, int numericCode) {
+        return Optional.ofNullable(find(repository, numericCode));
+    }
+
+    /**
+     * Number of translations.
+     *
+     * @return number of translated messages
+     */
+    public int size() {
+        return patterns.values().stream().mapToInt(Map::size).sum();
+    }
+
+    String find(String repository, int numericCode) {
+        Map<Integer, String> byCode = patterns.get(repository);
+        return byCode == null ? null : byCode.get(numericCode);
+    }
+
+    /**
+     * Combines translations from several resources for the same locale, e.g. from different modules.
+     *
+     * @param other translations for the same locale
+     * @return translations of both, those of the other catalog win
+     */
+    TranslationCatalog merge(TranslationCatalog other) {
+
+        if (patterns.isEmpty()) {
+            return other;
+        }
+
+        Map<String, Map<Integer, String>> merged = new HashMap<>();
+        patterns.forEach((repository, byCode) -> merged.put(repository, new HashMap<>(byCode)));
+        other.patterns.forEach((repository, byCode) ->
+                merged.computeIfAbsent(repository, key -> new HashMap<>()).putAll(byCode));
+        return new TranslationCatalog(locale, merged);
+    }
+}
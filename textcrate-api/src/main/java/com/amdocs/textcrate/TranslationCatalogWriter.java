@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * <p>Writes translations in the compact binary form that is loaded at runtime by {@link TranslationCatalog}.
+ * Translations are written as they are added, so the writer takes little memory regardless of their number.
+ * Consecutive translations of the same repository share a single record of the repository name.</p>
+ *
+ * <pre>
+ *     try (TranslationCatalogWriter writer = new TranslationCatalogWriter(output, Locale.GERMAN)) {
+ *         writer.write("com.example.BookBorrowingErrors", 21, "'{}' ist zurzeit nicht verfügbar");
+ *     }
+ * </pre>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class TranslationCatalogWriter implements Closeable {
+
+    private final DataOutputStream output;
+    private String repository;
+    private int count;
+
+    /**
+     * Starts a catalog.
+     *
+     * @param output where to write, closed together with the writer
+     * @param locale locale of the translations
+     * @throws IOException if writing fails
+     */
+    public TranslationCatalogWriter(OutputStream output, Locale locale) throws IOException {
+        Objects.requireNonNull(output, "Output cannot be null");
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.output.writeInt(TranslationCatalog.MAGIC);
+        this.output.writeByte(TranslationCatalog.VERSION);
+        writeString(locale.toLanguageTag());
+    }
+
+    /**
+     * Adds a translation. If a message is translated more than once, the last translation wins.
+     *
+     * @param repository fully qualified name of the repository interface
+     * @param numericCode numeric code of the message
+     * @param pattern translated pattern
+     * @throws IOException if writing fails
+     */
+    public void write(String repository, int numericCode, String pattern) throws IOException {
+
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        Objects.requireNonNull(pattern, "Pattern cannot be null");
+
+        if (!repository.equals(this.repository)) {
+            output.writeByte(TranslationCatalog.REPOSITORY);
+            writeString(repository);
+            this.repository = repository;
+        }
+
+        output.writeByte(TranslationCatalog.ENTRY);
+        output.writeInt(numericCode);
+        writeString(pattern);
+        count++;
+    }
+
+    /**
+     * Number of translations written so far.
+     *
+     * @return number of translations
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Completes the catalog and closes the output.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            output.writeByte(TranslationCatalog.END);
+        } finally {
+            output.close();
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Translations visible to a class loader. The resources of a locale are loaded the first time a message is
+ * requested in that locale, and merged if more than one module has them.</p>
+ *
+ * <p>Instances are kept softly per class loader, and do not refer to the class loader themselves, so that they do
+ * not keep it from being unloaded. The class loader is passed in whenever resources may have to be loaded.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class Translations {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Translations.class);
+
+    private static final Map<ClassLoader, SoftReference<Translations>> TRANSLATIONS = new WeakHashMap<>();
+
+    /**
+     * Provides the same fallback from a specific locale to more general ones as resource bundles do.
+     */
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private final Map<Locale, TranslationCatalog> catalogs = new ConcurrentHashMap<>();
+
+    private Translations() {
+        // created per class loader
+    }
+
+    /**
+     * Returns the translations visible to a class loader.
+     *
+     * @param classLoader class loader, <code>null</code> for the system class loader
+     * @return translations
+     */
+    static Translations forClassLoader(ClassLoader classLoader) {
+
+        ClassLoader key = toKey(classLoader);
+
+        synchronized (TRANSLATIONS) {
+
+            SoftReference<Translations> reference = TRANSLATIONS.get(key);
+            Translations existing = reference == null ? null : reference.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            // resources are loaded lazily, per locale, so creating an instance is cheap
+            Translations created = new Translations();
+            TRANSLATIONS.put(key, new SoftReference<>(created));
+            return created;
+        }
+    }
+
+    /**
+     * Finds the translated pattern of a message for a locale or, if there is none, for the closest more general
+     * locale.
+     *
+     * @param classLoader class loader the translations were obtained for, <code>null</code> for the system class
+     *     loader
+     * @param repository fully qualified name of the repository interface
+     * @param numericCode numeric code of the message
+     * @param locale requested locale
+     * @return translated pattern, or <code>null</code> if there is no translation
+     */
+    String find(ClassLoader classLoader, String repository, int numericCode, Locale locale) {
+
+        ClassLoader source = toKey(classLoader);
+
+        List<Locale> candidates = CONTROL.getCandidateLocales("", locale);
+        for (Locale candidate : candidates) {
+
+            if (candidate.equals(Locale.ROOT)) {
+                break;
+            }
+
+            TranslationCatalog catalog = catalogs.computeIfAbsent(candidate, key -> load(source, key));
+            String pattern = catalog.find(repository, numericCode);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+
+        return null;
+    }
+
+    private static ClassLoader toKey(ClassLoader classLoader) {
+        return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+    }
+
+    private static TranslationCatalog load(ClassLoader classLoader, Locale locale) {
+
+        TranslationCatalog catalog = TranslationCatalog.empty(locale);
+
+        try {
+
+            Enumeration<URL> resources = classLoader.getResources(TranslationCatalog.getResourceName(locale));
+            while (resources.hasMoreElements()) {
+                catalog = catalog.merge(read(resources.nextElement()));
+            }
+
+        } catch (IOException e) {
+            // messages fall back to their default patterns, which is better than failing
+            LOGGER.error("Failed to load translations for locale {}", locale, e);
+        }
+
+        return catalog;
+    }
+
+    private static TranslationCatalog read(URL resource) throws IOException {
+
+        try (InputStream input = resource.openStream()) {
+            TranslationCatalog catalog = TranslationCatalog.read(input);
+            LOGGER.debug("Loaded {} translations from {}", catalog.size(), resource);
+            return catalog;
+        }
+    }
+}
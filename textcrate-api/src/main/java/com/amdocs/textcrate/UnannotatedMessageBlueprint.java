@@ -16,9 +16,16 @@
 
 package com.amdocs.textcrate;
 
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.PropertyKey;
+import com.amdocs.textcrate.formatters.PrintfFormatter;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
+import java.util.OptionalInt;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -35,7 +42,10 @@ import lombok.ToString;
 @ToString
 class UnannotatedMessageBlueprint implements MessageBlueprint {
 
-    private static final String CODE = Integer.toString(Integer.MAX_VALUE);
+    private static final int NUMERIC_CODE = Integer.MAX_VALUE;
+    private static final String CODE = Integer.toString(NUMERIC_CODE);
+
+    private static final CompiledPattern MESSAGE = new PrintfFormatter().compile("Unannotated message: %s#%s(%s)");
 
     @NonNull
     private final Method method;
@@ -45,8 +55,37 @@ class UnannotatedMessageBlueprint implements MessageBlueprint {
 
     @Override
     public String format(Object[] arguments) {
-        return String.format("Unannotated message: %s#%s(%s)",
-                method.getDeclaringClass().getName(), method.getName(), Arrays.toString(arguments));
+        return MESSAGE.format(method.getDeclaringClass().getName(), method.getName(), Arrays.toString(arguments));
+    }
+
+    @Override
+    public String format(Locale locale, Object[] arguments) {
+        return format(arguments); // no localization for unannotated messages
+    }
+
+    @Override
+    public String format(MessageOverlay overlay, Locale locale, Object[] arguments) {
+        return format(arguments); // nothing to override
+    }
+
+    @Override
+    public void encodeTo(ByteBuffer destination, Object[] arguments) {
+        destination.put(format(arguments).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ByteBuffer encodeGrowing(ByteBuffer destination, Object[] arguments) {
+        return MESSAGE.encodeGrowing(destination, null, method.getDeclaringClass().getName(), method.getName(),
+                Arrays.toString(arguments));
+    }
+
+    @Override
+    public void writeJson(StringBuilder destination, Object[] arguments) {
+        destination.append(JsonMessageWriter.head(getCode(), getPattern(), properties));
+        int start = JsonMessageWriter.beginMessage(destination);
+        destination.append(format(arguments));
+        JsonMessageWriter.endMessage(destination, start);
+        JsonMessageWriter.appendArguments(destination, arguments);
     }
 
     @Override
@@ -54,13 +93,33 @@ class UnannotatedMessageBlueprint implements MessageBlueprint {
         return method.getDeclaringClass().getName() + ":" + method.getName();
     }
 
+    @Override
+    public String getPattern(Locale locale) {
+        return getPattern();
+    }
+
+    @Override
+    public String getPattern(MessageOverlay overlay) {
+        return getPattern();
+    }
+
     @Override
     public String getCode() {
         return CODE;
     }
 
+    @Override
+    public OptionalInt getNumericCode() {
+        return OptionalInt.of(NUMERIC_CODE);
+    }
+
     @Override
     public String getProperty(String name) {
         return properties.get(name);
     }
+
+    @Override
+    public String getProperty(PropertyKey key) {
+        return properties.get(key.getName());
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Outcome of warming up message repositories with {@link Messages#warmUp(Object...)} or
+ * {@link Messages#warmUpIndexed(ClassLoader)}, with an entry and timing for each repository.</p>
+ *
+ * <p>For example, a readiness check can fail if a repository could not be warmed up:</p>
+ *
+ * <pre>
+ *     WarmUpReport report = Messages.warmUp(BORROWING_ERRORS, INVENTORY_WARNINGS);
+ *     if (!report.isSuccessful()) {
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class WarmUpReport {
+
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+
+    WarmUpReport(List<Entry> entries, long elapsedNanos) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Results for individual repositories, in the order in which the repositories were given or listed.
+     *
+     * @return unmodifiable list of entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Wall-clock time of the whole warm-up. Because repositories are warmed up in parallel, it is usually shorter than
+     * the sum of the times of the individual repositories.
+     *
+     * @return total time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Whether all repositories have been warmed up without errors.
+     *
+     * @return <code>true</code> if no entry has a failure
+     */
+    public boolean isSuccessful() {
+        return entries.stream().noneMatch(entry -> entry.failure != null);
+    }
+
+    /**
+     * Result of warming up a single repository.
+     */
+    @EqualsAndHashCode
+    @ToString
+    public static final class Entry {
+
+        private final String repositoryName;
+        private final Object repository;
+        private final int blueprintCount;
+        private final long elapsedNanos;
+        private final Throwable failure;
+
+        Entry(String repositoryName, Object repository, int blueprintCount, long elapsedNanos, Throwable failure) {
+            this.repositoryName = repositoryName;
+            this.repository = repository;
+            this.blueprintCount = blueprintCount;
+            this.elapsedNanos = elapsedNanos;
+            this.failure = failure;
+        }
+
+        /**
+         * Name of the repository interface.
+         *
+         * @return fully qualified name of the interface
+         */
+        public String getRepositoryName() {
+            return repositoryName;
+        }
+
+        /**
+         * The repository that has been warmed up. Blueprints are cached per repository instance, so the instance must
+         * be kept and used by the application for the warm-up to have an effect.
+         *
+         * @return repository instance, empty if it could not be created
+         */
+        public Optional<Object> getRepository() {
+            return Optional.ofNullable(repository);
+        }
+
+        /**
+         * Number of message blueprints that have been built. A repository that has not been created by the default
+         * provider is not warmed up, and has no blueprints built.
+         *
+         * @return number of messages in the repository that are ready for use
+         */
+        public int getBlueprintCount() {
+            return blueprintCount;
+        }
+
+        /**
+         * Time it took to warm up the repository, including its creation if needed.
+         *
+         * @return warm-up time
+         */
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * Error that prevented the repository from being warmed up.
+         *
+         * @return failure, empty if the warm-up has succeeded
+         */
+        public Optional<Throwable> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * <p>A formatting pattern that has been prepared by a {@link Formatter} for repeated use, so that the pattern does not
+ * need to be parsed again for every message. Implementations must be thread-safe.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@FunctionalInterface
+public interface CompiledPattern {
+
+    /**
+     * Constructs a message by applying arguments to the compiled pattern.
+     *
+     * @param arguments list of message arguments
+     * @return resulting message
+     */
+    String format(Object... arguments);
+
+    /**
+     * Constructs a message in a given {@link Locale} by applying arguments to the compiled pattern. A locale-aware
+     * formatter may, for instance, format numbers and dates according to the locale.
+     *
+     * <p>By default, the locale is ignored.</p>
+     *
+     * @param locale desired locale
+     * @param arguments list of message arguments
+     * @return resulting message
+     */
+    default String format(Locale locale, Object... arguments) {
+        return format(arguments);
+    }
+
+    /**
+     * Constructs a message by applying arguments to the compiled pattern, and appends the result to a given
+     * destination. Useful for avoiding an intermediate string when the message is part of a larger text.
+     *
+     * @param destination where the resulting message will be appended
+     * @param arguments list of message arguments
+     */
+    default void formatTo(StringBuilder destination, Object... arguments) {
+        destination.append(format(arguments));
+    }
+
+    /**
+     * Constructs a message in a given {@link Locale}, and appends the result to a given destination.
+     *
+     * <p>By default, the locale is ignored.</p>
+     *
+     * @param destination where the resulting message will be appended
+     * @param locale desired locale
+     * @param arguments list of message arguments
+     */
+    default void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+        formatTo(destination, arguments);
+    }
+
+    /**
+     * <p>Constructs a message, and writes it in UTF-8 at the current position of a buffer. Useful when a message ends
+     * up as bytes anyway, e.g. in a log shipper or an HTTP response, to avoid creating a string first.</p>
+     *
+     * <p>By default, the message is formatted into a string, which is then encoded.</p>
+     *
+     * @param destination where the encoded message will be written
+     * @param locale desired locale, or <code>null</code> to format the message as by {@link #format(Object...)}
+     * @param arguments list of message arguments
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough room for the message, in which case
+     *                                          its position is not changed
+     */
+    default void encodeTo(ByteBuffer destination, Locale locale, Object... arguments) {
+        String message = locale == null ? format(arguments) : format(locale, arguments);
+        destination.put(String.valueOf(message).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>Constructs a message, and writes it in UTF-8 at the current position of a buffer that is replaced with a
+     * larger one whenever it runs out of room. The bytes already written are carried over to the larger buffer, and
+     * encoding continues from where it stopped. Useful when the length of a message is not known in advance, e.g. when
+     * writing it to a stream.</p>
+     *
+     * <p>By default, the message is formatted into a string, which is then encoded.</p>
+     *
+     * @param destination where the encoded message will be written; if a larger buffer is needed, what this one held
+     *                    before its current position is not changed
+     * @param locale desired locale, or <code>null</code> to format the message as by {@link #format(Object...)}
+     * @param arguments list of message arguments
+     * @return the buffer that holds the message, either the original one or a larger heap buffer, positioned right
+     *         after the message
+     */
+    default ByteBuffer encodeGrowing(ByteBuffer destination, Locale locale, Object... arguments) {
+
+        String message = locale == null ? format(arguments) : format(locale, arguments);
+        byte[] bytes = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+        if (destination.remaining() >= bytes.length) {
+            return destination.put(bytes);
+        }
+
+        ByteBuffer written = (ByteBuffer) destination.duplicate().flip();
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(destination.capacity() * 2, written.limit() + bytes.length));
+        return grown.put(written).put(bytes);
+    }
+}
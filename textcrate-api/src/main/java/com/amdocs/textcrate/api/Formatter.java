@@ -16,6 +16,7 @@
 
 package com.amdocs.textcrate.api;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,10 +36,56 @@ public interface Formatter {
      */
     String format(String pattern, Object... arguments);
 
+    /**
+     * <p>Prepares a pattern for constructing multiple messages. A formatter that parses its patterns should override
+     * this method to parse a pattern only once, instead of doing it each time {@link #format(String, Object...)} is
+     * called.</p>
+     *
+     * <p>The caller keeps the compiled pattern for as long as it needs it, e.g. for the lifetime of a message
+     * blueprint or of an override (see {@link com.amdocs.textcrate.MessageOverlay}). A formatter may be shared by
+     * the whole process, so it should not keep compiled patterns itself, or at least not without a bound.</p>
+     *
+     * <p>By default, the compiled pattern calls {@link #format(String, Object...)} with the original pattern.</p>
+     *
+     * @param pattern formatting pattern
+     * @return thread-safe compiled pattern that produces the same output as this formatter
+     */
+    default CompiledPattern compile(String pattern) {
+        return arguments -> format(pattern, arguments);
+    }
+
+    /**
+     * <p>Prepares a pattern for constructing messages from the arguments of a particular method. A formatter that
+     * refers to arguments by name (rather than by position) should override this method to resolve the names
+     * to argument positions only once, when the pattern is compiled.</p>
+     *
+     * <p>By default, the names are ignored and {@link #compile(String)} is called.</p>
+     *
+     * @param pattern formatting pattern
+     * @param parameterNames names of the method parameters, in the order in which arguments will be passed
+     * @return thread-safe compiled pattern that produces the same output as this formatter
+     */
+    default CompiledPattern compile(String pattern, List<String> parameterNames) {
+        return compile(pattern);
+    }
+
     /**
      * Optionally, allows pattern validation for the formatter.
      *
      * @return an optional validator that matches formatting rules of the formatter
      */
     Optional<Validator> getValidator();
+
+    /**
+     * <p>Whether a single instance of the formatter can be shared by all message repositories that use it. A shareable
+     * formatter must be thread-safe, and must not hold state that is specific to a repository. Sharing allows internal
+     * caches of a formatter (e.g. of parsed patterns) to be reused across repositories.</p>
+     *
+     * <p>By default a formatter is not shareable, and a new instance is created for each repository.</p>
+     *
+     * @return <code>true</code> if the same instance can be used by multiple repositories
+     */
+    default boolean isShareable() {
+        return false;
+    }
 }
@@ -16,7 +16,12 @@
 
 package com.amdocs.textcrate.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.OptionalInt;
 
 /**
  * <p>Represents a formatted message.</p>
@@ -77,6 +82,37 @@ public interface Message {
      */
     String getMessage(Locale locale);
 
+    /**
+     * <p>Writes the full text of the message (see {@link #getMessage()}) in UTF-8 at the current position of a buffer,
+     * e.g. for a log shipper or a network protocol that deals in bytes.</p>
+     *
+     * <p>By default, the text is created as a string first, and then encoded. Implementations should override this
+     * method if they can encode a message without creating a string.</p>
+     *
+     * @param destination where the message will be written
+     * @return number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough room for the message, in which case
+     *                                          its position is not changed
+     */
+    default int renderTo(ByteBuffer destination) {
+        byte[] bytes = getMessage().getBytes(StandardCharsets.UTF_8);
+        destination.put(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * <p>Writes the full text of the message (see {@link #getMessage()}) in UTF-8 to a stream, e.g. to the body of an
+     * HTTP response. The stream is neither flushed nor closed.</p>
+     *
+     * <p>By default, the text is created as a string first, and then encoded.</p>
+     *
+     * @param output where the message will be written
+     * @throws IOException if writing to the stream fails
+     */
+    default void renderTo(OutputStream output) throws IOException {
+        output.write(getMessage().getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Arguments used to construct this message. Normally, such arguments will be inserted into the placeholders
      * of a parametrized message pattern ({@link #getPattern()} and {@link #getPattern(Locale)}).
@@ -92,6 +128,18 @@ public interface Message {
      */
     String getCode();
 
+    /**
+     * <p>Numeric code of the message, i.e. the ID of the message plus the offset of its repository, before it is
+     * formatted into {@link #getCode()}. Useful for comparing and grouping codes without parsing them.</p>
+     *
+     * <p>By default, no numeric code is available.</p>
+     *
+     * @return numeric code if known
+     */
+    default OptionalInt getNumericCode() {
+        return OptionalInt.empty();
+    }
+
     /**
      * A custom property of the message.
      *
@@ -99,4 +147,15 @@ public interface Message {
      * @return value that corresponds to the <i>name</i> or <code>null</code> if undefined
      */
     String getProperty(String name);
+
+    /**
+     * A custom property of the message, looked up by an interned name. Implementations should override this method
+     * if they can do better than looking the property up by name.
+     *
+     * @param key interned property name, cannot be <code>null</code>
+     * @return value that corresponds to the <i>key</i> or <code>null</code> if undefined
+     */
+    default String getProperty(PropertyKey key) {
+        return getProperty(key.getName());
+    }
 }
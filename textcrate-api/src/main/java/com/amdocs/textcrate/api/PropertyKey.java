@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>An interned name of a message property. Each distinct name is assigned a small integer slot the first time
+ * it is interned, which allows looking up a property of a message by an array index instead of hashing a string, e.g.
+ * </p>
+ *
+ * <pre>
+ *     private static final PropertyKey TEAM = PropertyKey.of("team");
+ *     ...
+ *     if ("Error".equals(message.getProperty(PropertyKey.TYPE))) {
+ *         alert(message.getProperty(TEAM), message);
+ *     }
+ * </pre>
+ *
+ * <p>Property names of all annotated repositories are interned automatically. Keys are never released, and are meant
+ * to be kept in constants, so they should not be created from arbitrary input.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class PropertyKey {
+
+    private static final Map<String, PropertyKey> KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger SLOTS = new AtomicInteger();
+
+    /**
+     * Application-specific message type, e.g. <i>Error</i> or <i>Warning</i>.
+     */
+    public static final PropertyKey TYPE = of("type");
+
+    /**
+     * Severity of a message.
+     */
+    public static final PropertyKey SEVERITY = of("severity");
+
+    /**
+     * Intended audience of a message, e.g. end users or operations.
+     */
+    public static final PropertyKey AUDIENCE = of("audience");
+
+    private final String name;
+    private final int slot;
+
+    private PropertyKey(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    /**
+     * Interns a property name.
+     *
+     * @param name property name
+     * @return the key of the name, the same instance for the same name
+     */
+    public static PropertyKey of(String name) {
+        Objects.requireNonNull(name, "Property name cannot be null");
+        return KEYS.computeIfAbsent(name, key -> new PropertyKey(key, SLOTS.getAndIncrement()));
+    }
+
+    /**
+     * Property name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Slot of this key, unique among all keys, and assigned in the order of interning.
+     *
+     * @return non-negative number
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
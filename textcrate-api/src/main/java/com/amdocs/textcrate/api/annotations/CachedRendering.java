@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Enables caching of rendered messages, for messages that are often constructed with the same arguments, e.g.</p>
+ *
+ * <pre>
+ *     &#64;CachedRendering(maximumSize = 512)
+ *     public interface OutageErrors {
+ *
+ *         &#64;MessageSpec(id = 1, pattern = "Service {} is unavailable")
+ *         Message serviceUnavailable(String service);
+ *     }
+ * </pre>
+ *
+ * <p>When placed on a repository interface, the rendering of all its messages is cached. When placed on a method,
+ * only the rendering of that message is cached. The size of the cache is taken from the repository interface, if
+ * annotated, and is shared by all messages of the repository.</p>
+ *
+ * <p>A message is looked up in the cache only if all of its arguments are of well-known immutable types, such as
+ * <code>String</code>, primitive wrappers, enums and <code>java.time</code> values. Other messages are always
+ * rendered. Cached messages may be evicted at any time, in particular when memory is low.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface CachedRendering {
+
+    /**
+     * Default maximum number of rendered messages in the cache of a repository.
+     */
+    int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Maximum number of rendered messages that the cache of a repository holds. Ignored on methods.
+     *
+     * @return maximum size of the cache
+     */
+    int maximumSize() default DEFAULT_MAXIMUM_SIZE;
+}
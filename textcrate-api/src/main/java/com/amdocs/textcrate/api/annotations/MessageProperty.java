@@ -23,7 +23,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * <p>Allows to configure custom repository-wide properties that will be copied to each message in this repository.</p>
+ * <p>Allows to configure custom repository-wide properties that will be copied to each message in this repository.
+ * Properties can also be set on a method, in addition to or instead of those of the repository. A property of
+ * a method replaces a repository-wide property with the same name.</p>
  *
  * <p>For example, a user wants to have an application-specific message type or category as follows.</p>
  *
@@ -41,6 +43,9 @@ import java.lang.annotation.Target;
  *     &#64;MessageProperty(name="typeDescription", value="Validation Errors")
  *     public interface ValidationErrors {
  *
+ *         &#64;MessageSpec(id = 1, pattern = "Name is too long")
+ *         &#64;MessageProperty(name="audience", value="End User")
+ *         Message nameTooLong();
  *     }
  * </pre>
  *
@@ -49,7 +54,7 @@ import java.lang.annotation.Target;
  */
 @Repeatable(MessageProperty.Properties.class)
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.TYPE)
+@Target({ElementType.TYPE, ElementType.METHOD})
 public @interface MessageProperty {
 
     /**
@@ -67,7 +72,7 @@ public @interface MessageProperty {
     String value();
 
     @Retention(RetentionPolicy.RUNTIME)
-    @Target(ElementType.TYPE)
+    @Target({ElementType.TYPE, ElementType.METHOD})
     @interface Properties {
         @SuppressWarnings("unused")
         MessageProperty[] value();
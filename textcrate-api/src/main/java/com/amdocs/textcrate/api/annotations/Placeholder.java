@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Names a message parameter, so that a formatter that supports named placeholders can refer to it in a pattern,
+ * e.g.</p>
+ *
+ * <pre>
+ *     &#64;MessageSpec(id = 12, pattern = "Book '{title}' is out of stock in {store}")
+ *     Message outOfStock(&#64;Placeholder("store") String store, &#64;Placeholder("title") String title);
+ * </pre>
+ *
+ * <p>The annotation is not needed if the repository interface is compiled with the <code>-parameters</code> option
+ * of <code>javac</code>, in which case the actual names of the parameters are used.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Placeholder {
+
+    /**
+     * The name by which the parameter is referred to in a message pattern.
+     *
+     * @return name of the placeholder
+     */
+    String value();
+}
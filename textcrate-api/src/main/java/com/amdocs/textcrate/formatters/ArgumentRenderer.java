@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Renders message arguments into a {@link BoundedAppender}. Arrays are rendered deeply in the same way
+ * as <a href="https://www.slf4j.org/api/org/slf4j/helpers/MessageFormatter.html">SLF4J</a> does it, and any other
+ * argument is converted using its <code>toString()</code>.</p>
+ *
+ * <p>When rendering is bounded by {@link RenderLimits}, collections and maps are rendered in the format of
+ * <code>AbstractCollection.toString()</code> and <code>AbstractMap.toString()</code>, but streamed element by element
+ * (as arrays always are), so that rendering stops as soon as the output is full, without calling
+ * <code>toString()</code> on a potentially huge container. Arrays inside a collection or a map are converted using
+ * their <code>toString()</code>, as the container itself would do it. What differs from the <code>toString()</code> of
+ * a container is that an overridden <code>toString()</code> is not called, and that a cycle deeper than a container
+ * holding itself is rendered as <code>...</code> instead of never returning.</p>
+ *
+ * <p>Same as in SLF4J, if the <code>toString()</code> of an argument throws anything, the argument is rendered as
+ * <code>[FAILED toString()]</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class ArgumentRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentRenderer.class);
+
+    private static final String NULL = "null";
+    private static final String SEPARATOR = ", ";
+    private static final String ALREADY_SEEN = "...";
+    private static final String THIS_COLLECTION = "(this Collection)";
+    private static final String THIS_MAP = "(this Map)";
+    private static final String FAILED_TO_STRING = "[FAILED toString()]";
+
+    private ArgumentRenderer() { /* prevent instantiation */ }
+
+    /**
+     * Renders a single argument within its own length limit.
+     *
+     * @param out destination
+     * @param argument argument, may be <code>null</code>
+     * @param limits rendering limits
+     */
+    static void render(BoundedAppender out, Object argument, RenderLimits limits) {
+        render(out, argument, limits, null);
+    }
+
+    /**
+     * Renders a single argument within its own length limit, according to a locale. Numbers, dates and times are
+     * rendered using {@link LocalizedValues}. This also applies to elements of arrays, and to elements of collections
+     * and maps if they are streamed (i.e. rendering is bounded).
+     *
+     * @param out destination
+     * @param argument argument, may be <code>null</code>
+     * @param limits rendering limits
+     * @param locale locale, or <code>null</code> to render everything using <code>toString()</code>
+     */
+    static void render(BoundedAppender out, Object argument, RenderLimits limits, Locale locale) {
+
+        if (!limits.isBounded()) {
+            render(out, argument, false, null, locale);
+            return;
+        }
+
+        out.beginArgument(limits.getMaxArgumentLength());
+        try {
+            render(out, argument, true, null, locale);
+        } finally {
+            out.endArgument();
+        }
+    }
+
+    private static void render(BoundedAppender out, Object argument, boolean streamed, Map<Object, Object> seen,
+            Locale locale) {
+
+        String localized = locale == null ? null : LocalizedValues.format(argument, locale);
+
+        if (argument == null) {
+            out.append(NULL);
+        } else if (localized != null) {
+            out.append(localized);
+        } else if (argument.getClass().isArray()) {
+            renderArray(out, argument, streamed, seen, locale);
+        } else if (!streamed) {
+            renderObject(out, argument);
+        } else if (argument instanceof CharSequence) {
+            out.append((CharSequence) argument);
+        } else if (argument instanceof Collection) {
+            renderCollection(out, (Collection<?>) argument, seen, locale);
+        } else if (argument instanceof Map) {
+            renderMap(out, (Map<?, ?>) argument, seen, locale);
+        } else {
+            renderObject(out, argument);
+        }
+    }
+
+    /**
+     * Renders a single argument within its own length limit, the same way {@link java.util.Arrays#toString(Object[])}
+     * renders an element, i.e. an array argument is converted using its <code>toString()</code> instead of being
+     * rendered deeply.
+     *
+     * @param out destination
+     * @param argument argument, may be <code>null</code>
+     * @param limits rendering limits
+     */
+    static void renderAsElement(BoundedAppender out, Object argument, RenderLimits limits) {
+
+        if ((argument == null) || !argument.getClass().isArray()) {
+            render(out, argument, limits);
+            return;
+        }
+
+        if (!limits.isBounded()) {
+            renderObject(out, argument);
+            return;
+        }
+
+        out.beginArgument(limits.getMaxArgumentLength());
+        try {
+            renderObject(out, argument);
+        } finally {
+            out.endArgument();
+        }
+    }
+
+    private static void renderArray(BoundedAppender out, Object array, boolean streamed, Map<Object, Object> seen,
+            Locale locale) {
+
+        out.append('[');
+
+        if (array instanceof Object[]) {
+
+            Map<Object, Object> visited = markSeen(array, seen);
+            if (visited == null) {
+                out.append(ALREADY_SEEN);
+            } else {
+                Object[] elements = (Object[]) array;
+                for (int i = 0; (i < elements.length) && !out.isFull(); i++) {
+                    appendSeparator(out, i);
+                    render(out, elements[i], streamed, visited, locale);
+                }
+                visited.remove(array);
+            }
+
+        } else {
+
+            int length = Array.getLength(array);
+            for (int i = 0; (i < length) && !out.isFull(); i++) {
+                appendSeparator(out, i);
+                Object element = Array.get(array, i);
+                String localized = locale == null ? null : LocalizedValues.format(element, locale);
+                out.append(localized == null ? String.valueOf(element) : localized);
+            }
+        }
+
+        out.append(']');
+    }
+
+    private static void renderCollection(BoundedAppender out, Collection<?> collection, Map<Object, Object> seen,
+            Locale locale) {
+
+        Map<Object, Object> visited = markSeen(collection, seen);
+        if (visited == null) {
+            out.append(ALREADY_SEEN);
+            return;
+        }
+
+        out.append('[');
+
+        Iterator<?> iterator = collection.iterator();
+        for (int i = 0; iterator.hasNext() && !out.isFull(); i++) {
+            appendSeparator(out, i);
+            renderContained(out, iterator.next(), collection, THIS_COLLECTION, visited, locale);
+        }
+
+        out.append(']');
+        visited.remove(collection);
+    }
+
+    private static void renderMap(BoundedAppender out, Map<?, ?> map, Map<Object, Object> seen, Locale locale) {
+
+        Map<Object, Object> visited = markSeen(map, seen);
+        if (visited == null) {
+            out.append(ALREADY_SEEN);
+            return;
+        }
+
+        out.append('{');
+
+        Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        for (int i = 0; iterator.hasNext() && !out.isFull(); i++) {
+            appendSeparator(out, i);
+            Map.Entry<?, ?> entry = iterator.next();
+            renderContained(out, entry.getKey(), map, THIS_MAP, visited, locale);
+            out.append('=');
+            renderContained(out, entry.getValue(), map, THIS_MAP, visited, locale);
+        }
+
+        out.append('}');
+        visited.remove(map);
+    }
+
+    private static void renderContained(BoundedAppender out, Object element, Object container, String self,
+            Map<Object, Object> seen, Locale locale) {
+
+        if (element == container) {
+            out.append(self);
+        } else if ((element != null) && element.getClass().isArray()) {
+            renderObject(out, element);
+        } else {
+            render(out, element, true, seen, locale);
+        }
+    }
+
+    @SuppressWarnings("squid:S1181") // same as SLF4J, an argument must not break formatting even with an Error
+    private static void renderObject(BoundedAppender out, Object argument) {
+
+        String string;
+        try {
+            string = argument.toString();
+        } catch (Throwable e) {
+            LOGGER.warn("Failed toString() on object of type {}", argument.getClass().getName(), e);
+            string = FAILED_TO_STRING;
+        }
+
+        out.append(string == null ? NULL : string);
+    }
+
+    private static Map<Object, Object> markSeen(Object container, Map<Object, Object> seen) {
+
+        Map<Object, Object> visited = seen == null ? new IdentityHashMap<>() : seen;
+        return visited.put(container, container) == null ? visited : null;
+    }
+
+    private static void appendSeparator(BoundedAppender out, int index) {
+        if (index > 0) {
+            out.append(SEPARATOR);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static com.amdocs.textcrate.formatters.RenderLimits.ELISION_MARKER;
+
+/**
+ * <p>Appends text to a {@link StringBuilder} up to a maximum length. Once the limit is reached, the text is cut,
+ * the elision marker is written, and all subsequent appends are ignored. Because nothing is written past the limit,
+ * callers can check {@link #isFull()} to stop producing text early.</p>
+ *
+ * <p>A narrower window can be opened for an argument, so that the argument is cut at its own limit and the rest of
+ * the message continues to be rendered.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class BoundedAppender {
+
+    private final StringBuilder target;
+    private final int maxPosition;
+
+    private int limit;
+    private boolean full;
+    private boolean argumentFull;
+
+    BoundedAppender(StringBuilder target, int maxLength) {
+        this.target = target;
+        this.maxPosition = saturatedAdd(target.length(), maxLength);
+        this.limit = this.maxPosition;
+    }
+
+    /**
+     * Whether the current window (the whole message or an argument) does not accept any more text.
+     *
+     * @return <code>true</code> if appending will have no effect
+     */
+    boolean isFull() {
+        return full || argumentFull;
+    }
+
+    /**
+     * Narrows the limit down for an argument that is about to be appended.
+     *
+     * @param maxArgumentLength maximum length of the argument
+     */
+    void beginArgument(int maxArgumentLength) {
+        this.limit = Math.min(maxPosition, saturatedAdd(target.length(), maxArgumentLength));
+    }
+
+    /**
+     * Restores the limit of the whole message after an argument has been appended.
+     */
+    void endArgument() {
+        this.limit = maxPosition;
+        this.argumentFull = false;
+    }
+
+    BoundedAppender append(char c) {
+
+        if (isFull()) {
+            return this;
+        }
+
+        if (target.length() < limit) {
+            target.append(c);
+        } else {
+            cut();
+        }
+
+        return this;
+    }
+
+    BoundedAppender append(CharSequence chars) {
+        return append(chars, 0, chars.length());
+    }
+
+    BoundedAppender append(CharSequence chars, int start, int end) {
+
+        if (isFull()) {
+            return this;
+        }
+
+        if (end - start <= limit - target.length()) {
+            target.append(chars, start, end);
+            return this;
+        }
+
+        int fits = limit - ELISION_MARKER.length() - target.length();
+        if (fits > 0) {
+            target.append(chars, start, start + fits);
+        }
+
+        cut();
+        return this;
+    }
+
+    private void cut() {
+
+        // may drop up to the length of the marker from what has already been written
+        target.setLength(Math.min(target.length(), limit - ELISION_MARKER.length()));
+        target.append(ELISION_MARKER);
+
+        if (limit == maxPosition) {
+            full = true;
+        } else {
+            argumentFull = true;
+        }
+    }
+
+    private static int saturatedAdd(int position, int length) {
+        int sum = position + length;
+        return sum < 0 ? Integer.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Renders numbers, dates and times according to a locale. Everything that is expensive to look up is cached per
+ * locale: <code>DateTimeFormatter</code> instances are thread-safe and shared, while <code>NumberFormat</code>
+ * instances are cloned from a per-locale prototype and kept in a {@link StripedPool}. Hence, no
+ * <code>NumberFormat.getInstance()</code> lookup happens when a message is rendered.</p>
+ *
+ * <p>Numbers are rendered with all their fraction digits, only grouping and separators depend on the locale. Integral
+ * numbers are not grouped, since they are often identifiers, ports or years rather than amounts. Dates and times use
+ * the medium style of the locale. A <code>java.util.Date</code> is interpreted in the default time zone, as its
+ * <code>toString()</code> does, while its subclasses (e.g. in <code>java.sql</code>) are not localized.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class LocalizedValues {
+
+    private static final ConcurrentMap<Locale, StripedPool<NumberFormat>> NUMBER_FORMATS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Locale, StripedPool<NumberFormat>> INTEGER_FORMATS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Locale, DateTimeFormatter[]> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final int DATE = 0;
+    private static final int TIME = 1;
+    private static final int DATE_TIME = 2;
+
+    private LocalizedValues() { /* prevent instantiation */ }
+
+    /**
+     * Renders a value according to a locale if it is a number, a date or a time.
+     *
+     * @param value value to render, may be <code>null</code>
+     * @param locale locale
+     * @return localized representation of the value, or <code>null</code> if the value cannot be localized
+     */
+    static String format(Object value, Locale locale) {
+
+        if (value instanceof Number) {
+            return formatNumber((Number) value, locale);
+        }
+
+        if ((value != null) && (value.getClass() == Date.class)) {
+            return formatDate((Date) value, locale);
+        }
+
+        int style = dateTimeStyle(value);
+        return style < 0 ? null : dateTimeFormatters(locale)[style].format((Temporal) value);
+    }
+
+    private static String formatNumber(Number number, Locale locale) {
+
+        Number normalized;
+        boolean integral = false;
+        if ((number instanceof Integer) || (number instanceof Long) || (number instanceof Short)
+                    || (number instanceof Byte) || (number instanceof BigInteger)) {
+            normalized = number;
+            integral = true;
+        } else if ((number instanceof Double) || (number instanceof BigDecimal)) {
+            normalized = number;
+        } else if (number instanceof Float) {
+            // widening to double would add digits that Float.toString() does not show
+            float value = number.floatValue();
+            normalized = Float.isNaN(value) || Float.isInfinite(value) ? (Number) number.doubleValue()
+                                 : new BigDecimal(Float.toString(value));
+        } else {
+            // custom Number implementations may render themselves in a special way
+            return null;
+        }
+
+        StripedPool<NumberFormat> pool = integral ? numberFormats(INTEGER_FORMATS, locale, false)
+                                                 : numberFormats(NUMBER_FORMATS, locale, true);
+        NumberFormat format = pool.borrow();
+        try {
+            return format.format(normalized);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    private static String formatDate(Date date, Locale locale) {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        return dateTimeFormatters(locale)[DATE_TIME].format(dateTime);
+    }
+
+    private static int dateTimeStyle(Object value) {
+
+        if (value instanceof LocalDate) {
+            return DATE;
+        }
+
+        if ((value instanceof LocalTime) || (value instanceof OffsetTime)) {
+            return TIME;
+        }
+
+        if ((value instanceof LocalDateTime) || (value instanceof ZonedDateTime)
+                    || (value instanceof OffsetDateTime)) {
+            return DATE_TIME;
+        }
+
+        // e.g. Instant cannot be rendered in a local form without a time zone
+        return -1;
+    }
+
+    private static StripedPool<NumberFormat> numberFormats(ConcurrentMap<Locale, StripedPool<NumberFormat>> formats,
+            Locale locale, boolean grouping) {
+
+        StripedPool<NumberFormat> pool = formats.get(locale);
+        if (pool != null) {
+            return pool;
+        }
+
+        return formats.computeIfAbsent(locale, key -> {
+            NumberFormat prototype = NumberFormat.getInstance(key);
+            prototype.setMaximumFractionDigits(Integer.MAX_VALUE);
+            prototype.setGroupingUsed(grouping);
+            return new StripedPool<>(() -> (NumberFormat) prototype.clone());
+        });
+    }
+
+    private static DateTimeFormatter[] dateTimeFormatters(Locale locale) {
+
+        DateTimeFormatter[] formatters = DATE_TIME_FORMATTERS.get(locale);
+        if (formatters != null) {
+            return formatters;
+        }
+
+        return DATE_TIME_FORMATTERS.computeIfAbsent(locale, key -> new DateTimeFormatter[] {
+                DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(key),
+                DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM).withLocale(key),
+                DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(key)
+        });
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Validator;
+import java.lang.reflect.Type;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * <p>This formatter allows both constructing messages and validating patterns using the
+ * <a href="https://docs.oracle.com/javase/8/docs/api/java/text/MessageFormat.html">java.text.MessageFormat</a>
+ * format, including number, date and choice sub-formats, e.g.</p>
+ *
+ * <pre>
+ *     &#64;MessageSpec(id = 5, pattern = "{0,choice,0#No books|1#One book|1&lt;{0,number,integer} books} due {1,date}")
+ *     Message booksDue(int count, Date dueDate);
+ * </pre>
+ *
+ * <p>A {@link MessageFormat} is expensive to create and is not thread-safe. A compiled pattern therefore keeps a small
+ * pool of parsed {@link MessageFormat} instances per {@link Locale}. Compiled patterns are not cached by
+ * {@link #compile(String)}, since message blueprints hold their own, and only a few recently used ones are kept for
+ * {@link #format(String, Object...)}. Messages are formatted in the locale requested by
+ * {@link com.amdocs.textcrate.api.Message#getMessage(Locale)}, or in the default format locale otherwise.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(exclude = "patterns")
+@NoArgsConstructor
+@ToString(exclude = "patterns")
+public class MessageFormatFormatter implements Formatter, Validator {
+
+    private final PatternCache<MessageFormatPattern> patterns = new PatternCache<>(MessageFormatPattern::new);
+
+    @Override
+    public String format(String pattern, Object... arguments) {
+        return patterns.get(pattern).format(arguments);
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new MessageFormatPattern(pattern);
+    }
+
+    int getCachedPatternCount() {
+        return patterns.size();
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    @Override
+    public Optional<Validator> getValidator() {
+        return Optional.of(this);
+    }
+
+    @Override
+    public void validate(String pattern, Type... types) throws InvalidPatternException {
+
+        if ((pattern == null) || pattern.trim().isEmpty()) {
+            throw new InvalidPatternException("Pattern cannot be empty");
+        }
+
+        MessageFormat format;
+        try {
+            format = new MessageFormat(pattern, Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPatternException("Invalid pattern: " + e.getMessage(), e);
+        }
+
+        if (format.toPattern().trim().matches("\\{0(,[^}]*)?}")) {
+            throw new InvalidPatternException("Pattern too generic");
+        }
+
+        // contains an entry for each index up to the highest one used in the pattern
+        Format[] formats = format.getFormatsByArgumentIndex();
+        if (formats.length != types.length) {
+            throw new InvalidPatternException(
+                    String.format("Parameter count %d does not match the pattern: %d", types.length, formats.length));
+        }
+
+        for (int i = 0; i < formats.length; i++) {
+            validateType(i, formats[i], types[i]);
+        }
+    }
+
+    private static void validateType(int index, Format format, Type type) throws InvalidPatternException {
+
+        if (!(type instanceof Class)) {
+            return; // cannot reliably check generic types
+        }
+
+        Class<?> clazz = (Class<?>) type;
+        if ((format instanceof NumberFormat) && !isNumeric(clazz)) {
+            throw new InvalidPatternException(
+                    String.format("Parameter %d of type %s cannot be formatted as a number", index, clazz.getName()));
+        }
+
+        if ((format instanceof DateFormat) && !isNumeric(clazz) && !Date.class.isAssignableFrom(clazz)) {
+            throw new InvalidPatternException(
+                    String.format("Parameter %d of type %s cannot be formatted as a date", index, clazz.getName()));
+        }
+    }
+
+    private static boolean isNumeric(Class<?> clazz) {
+        return Number.class.isAssignableFrom(clazz)
+                       || (clazz.isPrimitive() && (clazz != Boolean.TYPE) && (clazz != Character.TYPE)
+                                   && (clazz != Void.TYPE));
+    }
+}
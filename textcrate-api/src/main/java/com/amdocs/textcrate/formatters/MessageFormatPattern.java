@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import java.text.FieldPosition;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>A pattern in the {@link MessageFormat} format. A {@link MessageFormat} is expensive to create and is not
+ * thread-safe, so the pattern is parsed once per locale, and the parsed instances are then cloned and reused through
+ * a {@link StripedPool}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = "pattern")
+@ToString(of = "pattern")
+final class MessageFormatPattern implements CompiledPattern {
+
+    private final String pattern;
+    private final ConcurrentMap<Locale, StripedPool<MessageFormat>> pools = new ConcurrentHashMap<>();
+
+    MessageFormatPattern(String pattern) {
+        this.pattern = pattern;
+        // fail early if the pattern is invalid
+        pool(defaultLocale());
+    }
+
+    @Override
+    public String format(Object... arguments) {
+        return format(defaultLocale(), arguments);
+    }
+
+    @Override
+    public String format(Locale locale, Object... arguments) {
+        StringBuilder builder = new StringBuilder(pattern.length() + 32);
+        formatTo(builder, locale, arguments);
+        return builder.toString();
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Object... arguments) {
+        formatTo(destination, defaultLocale(), arguments);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+
+        StripedPool<MessageFormat> pool = pool(locale == null ? defaultLocale() : locale);
+        MessageFormat format = pool.borrow();
+
+        try {
+            // MessageFormat only writes to a StringBuffer
+            StringBuffer buffer = new StringBuffer(pattern.length() + 32);
+            destination.append(format.format(arguments, buffer, new FieldPosition(0)));
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    private StripedPool<MessageFormat> pool(Locale locale) {
+
+        StripedPool<MessageFormat> pool = pools.get(locale);
+        if (pool != null) {
+            return pool;
+        }
+
+        return pools.computeIfAbsent(locale, key -> {
+            MessageFormat prototype = new MessageFormat(pattern, key);
+            // cloning a parsed format is much cheaper than parsing the pattern again
+            return new StripedPool<>(() -> (MessageFormat) prototype.clone());
+        });
+    }
+
+    private static Locale defaultLocale() {
+        return Locale.getDefault(Locale.Category.FORMAT);
+    }
+}
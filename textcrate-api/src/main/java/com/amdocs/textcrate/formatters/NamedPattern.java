@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>A pattern with named placeholders, e.g. <code>{title}</code>. The names are resolved to argument positions when
+ * the pattern is compiled, so that rendering a message is a sequence of literal copies and indexed argument lookups.
+ * A placeholder is a Java identifier in curly brackets. Anything else is copied as is, and a curly bracket can be
+ * escaped with a backslash.</p>
+ *
+ * <p>When the parameter names are not known, each distinct name is bound to the next argument in the order in which
+ * the names first appear in the pattern.</p>
+ *
+ * <p>If a locale is given, numbers, dates and times are rendered according to it.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = {"pattern", "parameterNames"})
+@ToString(of = {"pattern", "parameterNames"})
+final class NamedPattern implements CompiledPattern {
+
+    private static final char DELIMITER_START = '{';
+    private static final char DELIMITER_END = '}';
+    private static final char ESCAPE_CHAR = '\\';
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String pattern;
+    private final List<String> parameterNames;
+
+    /**
+     * Literal text preceding each placeholder, with escape characters removed.
+     */
+    private final String[] literals;
+
+    /**
+     * Position of the argument that replaces each placeholder.
+     */
+    private final int[] indices;
+
+    /**
+     * Placeholders as they appear in the pattern, rendered as is if an argument is missing.
+     */
+    private final String[] placeholders;
+
+    /**
+     * Literal text after the last placeholder, with escape characters removed.
+     */
+    private final String tail;
+
+    private final int names;
+    private final int estimatedLength;
+
+    /**
+     * Parses a pattern and binds its placeholders to arguments.
+     *
+     * @param pattern pattern with named placeholders
+     * @param parameterNames names of the arguments by position, may be empty if unknown
+     * @throws IllegalArgumentException if a placeholder does not match any of the parameter names
+     */
+    NamedPattern(String pattern, List<String> parameterNames) {
+
+        this.pattern = pattern;
+        this.parameterNames = parameterNames;
+
+        List<String> literalList = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int length = pattern == null ? 0 : pattern.length();
+        int position = 0;
+        while (position < length) {
+
+            char current = pattern.charAt(position);
+            int end = current == DELIMITER_START ? placeholderEnd(pattern, position) : -1;
+
+            if ((current == ESCAPE_CHAR) && (position + 1 < length) && isDelimiter(pattern.charAt(position + 1))) {
+                literal.append(pattern.charAt(position + 1));
+                position += 2;
+            } else if (end > 0) {
+                literalList.add(literal.toString());
+                literal.setLength(0);
+                nameList.add(pattern.substring(position + 1, end));
+                position = end + 1;
+            } else {
+                literal.append(current);
+                position++;
+            }
+        }
+
+        this.literals = literalList.toArray(new String[0]);
+        this.tail = literal.toString();
+        this.placeholders = new String[nameList.size()];
+        this.indices = new int[nameList.size()];
+
+        Set<String> distinct = new LinkedHashSet<>(nameList);
+        List<String> bound = parameterNames.isEmpty() ? new ArrayList<>(distinct) : parameterNames;
+        for (int i = 0; i < indices.length; i++) {
+
+            String name = nameList.get(i);
+            placeholders[i] = DELIMITER_START + name + DELIMITER_END;
+            indices[i] = bound.indexOf(name);
+            if (indices[i] < 0) {
+                throw new IllegalArgumentException(String.format("Placeholder %s in pattern '%s' does not match "
+                                                                         + "any of the parameters %s",
+                        placeholders[i], pattern, parameterNames));
+            }
+        }
+
+        this.names = distinct.size();
+        this.estimatedLength = length + indices.length * ESTIMATED_ARGUMENT_LENGTH;
+    }
+
+    @Override
+    public String format(Object... arguments) {
+        return render(null, arguments);
+    }
+
+    @Override
+    public String format(Locale locale, Object... arguments) {
+        return render(locale, arguments);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Object... arguments) {
+        render(destination, null, arguments);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+        render(destination, locale, arguments);
+    }
+
+    /**
+     * Number of distinct placeholder names in the pattern.
+     *
+     * @return number of arguments the pattern refers to
+     */
+    int getNameCount() {
+        return names;
+    }
+
+    private String render(Locale locale, Object[] arguments) {
+
+        if (pattern == null) {
+            return null;
+        }
+
+        StringBuilder builder = RenderBuffers.SHARED.acquire(estimatedLength);
+        render(builder, locale, arguments);
+        return RenderBuffers.SHARED.release(builder);
+    }
+
+    private void render(StringBuilder destination, Locale locale, Object[] arguments) {
+
+        if (pattern == null) {
+            destination.append((String) null);
+            return;
+        }
+
+        Object[] effective = arguments == null ? NO_ARGUMENTS : arguments;
+        BoundedAppender out = new BoundedAppender(destination, Integer.MAX_VALUE);
+
+        for (int i = 0; i < indices.length; i++) {
+
+            destination.append(literals[i]);
+
+            int index = indices[i];
+            if (index < effective.length) {
+                ArgumentRenderer.render(out, effective[index], RenderLimits.UNLIMITED, locale);
+            } else {
+                destination.append(placeholders[i]);
+            }
+        }
+
+        destination.append(tail);
+    }
+
+    private static int placeholderEnd(String pattern, int start) {
+
+        int position = start + 1;
+        if ((position >= pattern.length()) || !Character.isJavaIdentifierStart(pattern.charAt(position))) {
+            return -1;
+        }
+
+        do {
+            position++;
+        } while ((position < pattern.length()) && Character.isJavaIdentifierPart(pattern.charAt(position)));
+
+        return (position < pattern.length()) && (pattern.charAt(position) == DELIMITER_END) ? position : -1;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return (c == DELIMITER_START) || (c == DELIMITER_END);
+    }
+}
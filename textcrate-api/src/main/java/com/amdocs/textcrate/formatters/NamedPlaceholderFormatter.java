@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Validator;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * <p>This formatter refers to message arguments by name rather than by position, which makes patterns easier to
+ * translate, e.g.</p>
+ *
+ * <pre>
+ *     &#64;MessageSpec(id = 12, pattern = "Book '{title}' is out of stock in {store}")
+ *     Message outOfStock(&#64;Placeholder("store") String store, &#64;Placeholder("title") String title);
+ * </pre>
+ *
+ * <p>The names come from {@link com.amdocs.textcrate.api.annotations.Placeholder} annotations or, if the repository
+ * is compiled with <code>-parameters</code>, from the names of the parameters themselves. They are resolved
+ * to argument positions once, when a message method is first used, so that no name lookup happens when a message
+ * is rendered. A placeholder that does not match any parameter fails the compilation of its pattern.</p>
+ *
+ * <p>Without parameter names (e.g. in {@link #format(String, Object...)}), each distinct name is bound to the next
+ * argument in the order in which the names first appear in the pattern.</p>
+ *
+ * <p>Compiled patterns are not cached by {@link #compile(String)}, since message blueprints hold their own, and only
+ * a few recently used ones are kept for {@link #format(String, Object...)}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(exclude = "patterns")
+@NoArgsConstructor
+@ToString(exclude = "patterns")
+public class NamedPlaceholderFormatter implements Formatter, Validator {
+
+    private final PatternCache<NamedPattern> patterns =
+            new PatternCache<>(pattern -> new NamedPattern(pattern, Collections.emptyList()));
+
+    @Override
+    public String format(String pattern, Object... arguments) {
+        return patterns.get(pattern).format(arguments);
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new NamedPattern(pattern, Collections.emptyList());
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern, List<String> parameterNames) {
+        return new NamedPattern(pattern, parameterNames);
+    }
+
+    int getCachedPatternCount() {
+        return patterns.size();
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    @Override
+    public Optional<Validator> getValidator() {
+        return Optional.of(this);
+    }
+
+    @Override
+    public void validate(String pattern, Type... types) throws InvalidPatternException {
+
+        if ((pattern == null) || pattern.trim().isEmpty()) {
+            throw new InvalidPatternException("Pattern cannot be empty");
+        }
+
+        NamedPattern compiled = new NamedPattern(pattern, Collections.emptyList());
+        if (pattern.trim().matches("\\{[^}]+}") && (compiled.getNameCount() == 1)) {
+            throw new InvalidPatternException("Pattern too generic");
+        }
+
+        int count = types == null ? 0 : types.length;
+        if (compiled.getNameCount() != count) {
+            throw new InvalidPatternException(String.format("Parameter count %d does not match the pattern: %d",
+                    count, compiled.getNameCount()));
+        }
+    }
+}
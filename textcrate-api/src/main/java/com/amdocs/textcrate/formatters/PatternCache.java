@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>A small least-recently-used cache of compiled patterns, for formatting with a pattern string that has not been
+ * compiled in advance (see {@link com.amdocs.textcrate.api.Formatter#format(String, Object...)}). A formatter may be
+ * shared by the whole process, and such patterns may come from anywhere, so the cache is bounded. Message blueprints
+ * hold their own compiled patterns and do not go through the cache.</p>
+ *
+ * @param <V> type of compiled patterns
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class PatternCache<V> {
+
+    /**
+     * Default number of patterns kept in a cache.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final Map<String, V> patterns;
+    private final Function<String, V> compiler;
+
+    PatternCache(Function<String, V> compiler) {
+        this(compiler, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    PatternCache(Function<String, V> compiler, int maximumSize) {
+
+        this.compiler = compiler;
+        this.patterns = new LinkedHashMap<String, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a compiled pattern, compiling it if it is not in the cache.
+     *
+     * @param pattern pattern string
+     * @return compiled pattern
+     */
+    V get(String pattern) {
+
+        synchronized (patterns) {
+            V compiled = patterns.get(pattern);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        // compiled outside the lock, racing threads may compile the same pattern more than once
+        V compiled = compiler.apply(pattern);
+        synchronized (patterns) {
+            V previous = patterns.putIfAbsent(pattern, compiled);
+            return previous == null ? compiled : previous;
+        }
+    }
+
+    int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Validator;
+import java.lang.reflect.Type;
+import java.util.IllegalFormatException;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * <p>This formatter allows both constructing messages and validating patterns using the
+ * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html#syntax">printf</a> format of
+ * <code>String.format()</code>, e.g.</p>
+ *
+ * <pre>
+ *     &#64;MessageSpec(id = 7, pattern = "Order %08d total is %.2f")
+ *     Message orderTotal(long orderId, double total);
+ * </pre>
+ *
+ * <p>Unlike <code>String.format()</code>, that parses the format string and sets up a <code>java.util.Formatter</code>
+ * on every call, a compiled pattern is parsed only once into a plan of format specifiers. The most common specifiers
+ * (e.g. <code>%s</code>, <code>%d</code>, <code>%5s</code>, <code>%08d</code>) are rendered directly, and only
+ * the rest is delegated to <code>String.format()</code> one specifier at a time. Compiled patterns are not cached by
+ * {@link #compile(String)}, since message blueprints hold their own, and only a few recently used ones are kept for
+ * {@link #format(String, Object...)}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(exclude = "patterns")
+@NoArgsConstructor
+@ToString(exclude = "patterns")
+public class PrintfFormatter implements Formatter, Validator {
+
+    private final PatternCache<PrintfPattern> patterns = new PatternCache<>(PrintfPattern::new);
+
+    @Override
+    public String format(String pattern, Object... arguments) {
+        return patterns.get(pattern).format(arguments);
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new PrintfPattern(pattern);
+    }
+
+    int getCachedPatternCount() {
+        return patterns.size();
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    @Override
+    public Optional<Validator> getValidator() {
+        return Optional.of(this);
+    }
+
+    @Override
+    public void validate(String pattern, Type... types) throws InvalidPatternException {
+
+        if ((pattern == null) || pattern.trim().isEmpty()) {
+            throw new InvalidPatternException("Pattern cannot be empty");
+        }
+
+        if (pattern.trim().matches("%(1\\$)?s")) {
+            throw new InvalidPatternException("Pattern too generic");
+        }
+
+        PrintfPattern compiled;
+        try {
+            compiled = new PrintfPattern(pattern);
+        } catch (IllegalFormatException e) {
+            throw new InvalidPatternException("Invalid pattern: " + e.getMessage(), e);
+        }
+
+        compiled.validate(types);
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>A pattern in the {@link java.util.Formatter} (printf) format, parsed once into a plan of literal text and format
+ * specifiers.</p>
+ *
+ * <p>The most common specifiers &mdash; <code>%s</code> and <code>%d</code> with an optional width, and
+ * <code>%-</code>/<code>%0</code> flags, <code>%s</code> with a precision, as well as <code>%%</code> and
+ * <code>%n</code> &mdash; are rendered directly into the output. Any other specifier, a {@link Formattable}
+ * argument, or a locale with non-ASCII digits are handed over to {@link String#format(Locale, String, Object...)} for
+ * that specifier only, so the output is always the same as of <code>String.format()</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = "pattern")
+@ToString(of = "pattern")
+final class PrintfPattern implements CompiledPattern {
+
+    // same syntax as used by java.util.Formatter
+    private static final Pattern SPECIFIER =
+            Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    private static final String NULL = "null";
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final ConcurrentMap<Locale, Boolean> ASCII_DIGITS = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final Segment[] segments;
+    private final int estimatedLength;
+
+    PrintfPattern(String pattern) {
+        this.pattern = pattern;
+        this.segments = parse(pattern);
+        this.estimatedLength = pattern.length() + segments.length * ESTIMATED_ARGUMENT_LENGTH;
+    }
+
+    @Override
+    public String format(Object... arguments) {
+        return format(defaultLocale(), arguments);
+    }
+
+    @Override
+    public String format(Locale locale, Object... arguments) {
+        StringBuilder builder = RenderBuffers.SHARED.acquire(estimatedLength);
+        formatTo(builder, locale, arguments);
+        return RenderBuffers.SHARED.release(builder);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Object... arguments) {
+        formatTo(destination, defaultLocale(), arguments);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+
+        Object[] normalized = arguments == null ? NO_ARGUMENTS : arguments;
+        for (Segment segment : segments) {
+            segment.render(destination, locale, normalized);
+        }
+    }
+
+    /**
+     * Validates the types of parameters against the conversions of the pattern.
+     *
+     * @param types list of parameter types
+     * @throws InvalidPatternException if the number or the types of parameters do not match the pattern
+     */
+    void validate(Type... types) throws InvalidPatternException {
+
+        int count = 0;
+        for (Segment segment : segments) {
+            count = Math.max(count, segment.index + 1);
+        }
+
+        if (count != types.length) {
+            throw new InvalidPatternException(
+                    String.format("Parameter count %d does not match the pattern: %d", types.length, count));
+        }
+
+        for (Segment segment : segments) {
+            if ((segment.index >= 0) && (types[segment.index] instanceof Class)
+                        && !segment.accepts((Class<?>) types[segment.index])) {
+                throw new InvalidPatternException(String.format("Parameter %d of type %s does not match '%s'",
+                        segment.index, ((Class<?>) types[segment.index]).getName(), segment.text));
+            }
+        }
+    }
+
+    private static Segment[] parse(String pattern) {
+
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = SPECIFIER.matcher(pattern);
+
+        int ordinary = 0;
+        int previous = -1;
+        int start = 0;
+
+        int percent = pattern.indexOf('%');
+        while (percent >= 0) {
+
+            if (percent > start) {
+                segments.add(new Literal(pattern.substring(start, percent)));
+            }
+
+            if (!matcher.find(percent) || (matcher.start() != percent)) {
+                throw new UnknownFormatConversionException(
+                        percent + 1 < pattern.length() ? String.valueOf(pattern.charAt(percent + 1)) : "%");
+            }
+
+            Specifier specifier = new Specifier(matcher);
+            int index;
+            if (!specifier.takesArgument()) {
+                index = -1;
+            } else if (specifier.relative) {
+                if (previous < 0) {
+                    throw new MissingFormatArgumentException(specifier.text);
+                }
+                index = previous;
+            } else if (specifier.explicitIndex >= 0) {
+                index = specifier.explicitIndex;
+            } else {
+                index = ordinary++;
+            }
+
+            previous = index >= 0 ? index : previous;
+            segments.add(specifier.toSegment(index));
+            start = matcher.end();
+            percent = pattern.indexOf('%', start);
+        }
+
+        if (start < pattern.length()) {
+            segments.add(new Literal(pattern.substring(start)));
+        }
+
+        return segments.toArray(new Segment[0]);
+    }
+
+    private static Locale defaultLocale() {
+        return Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    private static boolean hasAsciiDigits(Locale locale) {
+        return (locale == null) || ASCII_DIGITS.computeIfAbsent(locale,
+                key -> DecimalFormatSymbols.getInstance(key).getZeroDigit() == '0');
+    }
+
+    private static void pad(StringBuilder destination, int from, int width, boolean leftJustify) {
+
+        int padding = width - (destination.length() - from);
+        if (padding <= 0) {
+            return;
+        }
+
+        if (leftJustify) {
+            appendRepeated(destination, ' ', padding);
+        } else {
+            destination.insert(from, spaces(padding));
+        }
+    }
+
+    private static void appendRepeated(StringBuilder destination, char c, int count) {
+        for (int i = 0; i < count; i++) {
+            destination.append(c);
+        }
+    }
+
+    private static String spaces(int count) {
+        StringBuilder builder = new StringBuilder(count);
+        appendRepeated(builder, ' ', count);
+        return builder.toString();
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return (type == Integer.class) || (type == Integer.TYPE) || (type == Long.class) || (type == Long.TYPE)
+                       || (type == Short.class) || (type == Short.TYPE) || (type == Byte.class)
+                       || (type == Byte.TYPE) || BigInteger.class.isAssignableFrom(type);
+    }
+
+    private static boolean isFloatingPoint(Class<?> type) {
+        return (type == Double.class) || (type == Double.TYPE) || (type == Float.class) || (type == Float.TYPE)
+                       || BigDecimal.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Raw parts of a format specifier, before it is turned into a segment.
+     */
+    private static class Specifier {
+
+        private final String text;
+        private final int explicitIndex;
+        private final boolean relative;
+        private final String flags;
+        private final int width;
+        private final int precision;
+        private final boolean dateTime;
+        private final char conversion;
+
+        private Specifier(Matcher matcher) {
+            this.text = matcher.group();
+            this.explicitIndex = matcher.group(1) == null ? -1 : Integer.parseInt(
+                    matcher.group(1).substring(0, matcher.group(1).length() - 1)) - 1;
+            String allFlags = matcher.group(2) == null ? "" : matcher.group(2);
+            this.relative = allFlags.indexOf('<') >= 0;
+            this.flags = allFlags.replace("<", "");
+            this.width = matcher.group(3) == null ? -1 : Integer.parseInt(matcher.group(3));
+            this.precision = matcher.group(4) == null ? -1 : Integer.parseInt(matcher.group(4).substring(1));
+            this.dateTime = matcher.group(5) != null;
+            this.conversion = matcher.group(6).charAt(0);
+        }
+
+        private boolean takesArgument() {
+            return dateTime || ((conversion != '%') && (conversion != 'n'));
+        }
+
+        private boolean isPlain() {
+            return flags.isEmpty() && (width < 0) && (precision < 0);
+        }
+
+        private Segment toSegment(int index) {
+
+            // the specifier without an explicit index, as the argument is passed to String.format() directly
+            String delegated = "%" + flags + (width < 0 ? "" : Integer.toString(width))
+                                       + (precision < 0 ? "" : "." + precision)
+                                       + (dateTime ? text.substring(text.length() - 2) : String.valueOf(conversion));
+
+            if (dateTime) {
+                return new Delegated(text, index, delegated, 't');
+            }
+
+            if ((conversion == '%') && isPlain()) {
+                return new Literal("%");
+            }
+
+            if ((conversion == 'n') && isPlain()) {
+                return new Literal(System.lineSeparator());
+            }
+
+            boolean justified = "-".equals(flags) && (width >= 0);
+            if ((conversion == 's') && (flags.isEmpty() || justified)) {
+                return new StringSegment(text, index, delegated, width, precision, justified);
+            }
+
+            boolean zeroPadded = "0".equals(flags) && (width >= 0);
+            if ((conversion == 'd') && (precision < 0) && (flags.isEmpty() || justified || zeroPadded)) {
+                return new IntegerSegment(text, index, delegated, width, justified, zeroPadded);
+            }
+
+            return new Delegated(text, index, delegated, conversion);
+        }
+    }
+
+    /**
+     * Part of a compiled pattern.
+     */
+    private abstract static class Segment {
+
+        final String text;
+
+        /**
+         * Index of the argument used by this segment, or <code>-1</code> if none.
+         */
+        final int index;
+
+        Segment(String text, int index) {
+            this.text = text;
+            this.index = index;
+        }
+
+        abstract void render(StringBuilder destination, Locale locale, Object[] arguments);
+
+        boolean accepts(Class<?> type) {
+            return true;
+        }
+
+        Object argument(Object[] arguments) {
+
+            if (index >= arguments.length) {
+                throw new MissingFormatArgumentException(text);
+            }
+
+            return arguments[index];
+        }
+    }
+
+    private static class Literal extends Segment {
+
+        Literal(String text) {
+            super(text, -1);
+        }
+
+        @Override
+        void render(StringBuilder destination, Locale locale, Object[] arguments) {
+            destination.append(text);
+        }
+    }
+
+    /**
+     * Any specifier that is not rendered directly.
+     */
+    private static class Delegated extends Segment {
+
+        private final String delegated;
+        private final char conversion;
+
+        Delegated(String text, int index, String delegated, char conversion) {
+            super(text, index);
+            this.delegated = delegated;
+            this.conversion = Character.toLowerCase(conversion);
+            // fail on compilation rather than on first use, String.format() checks conversions and flags upfront
+            String.format(Locale.ROOT, delegated, (Object) null);
+        }
+
+        @Override
+        void render(StringBuilder destination, Locale locale, Object[] arguments) {
+            destination.append(index < 0 ? String.format(locale, delegated)
+                                       : String.format(locale, delegated, argument(arguments)));
+        }
+
+        @Override
+        boolean accepts(Class<?> type) {
+
+            switch (conversion) {
+                case 'd':
+                case 'o':
+                case 'x':
+                    return isIntegral(type);
+                case 'e':
+                case 'f':
+                case 'g':
+                case 'a':
+                    return isFloatingPoint(type);
+                case 'c':
+                    return (type == Character.class) || (type == Character.TYPE) || (type == Byte.class)
+                                   || (type == Byte.TYPE) || (type == Short.class) || (type == Short.TYPE)
+                                   || (type == Integer.class) || (type == Integer.TYPE);
+                case 't':
+                    return (type == Long.class) || (type == Long.TYPE) || Date.class.isAssignableFrom(type)
+                                   || Calendar.class.isAssignableFrom(type)
+                                   || TemporalAccessor.class.isAssignableFrom(type);
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * <code>%s</code> with an optional width, precision and left justification.
+     */
+    private static class StringSegment extends Delegated {
+
+        private final int width;
+        private final int precision;
+        private final boolean leftJustify;
+
+        StringSegment(String text, int index, String delegated, int width, int precision, boolean leftJustify) {
+            super(text, index, delegated, 's');
+            this.width = width;
+            this.precision = precision;
+            this.leftJustify = leftJustify;
+        }
+
+        @Override
+        void render(StringBuilder destination, Locale locale, Object[] arguments) {
+
+            Object argument = argument(arguments);
+            if (argument instanceof Formattable) {
+                super.render(destination, locale, arguments);
+                return;
+            }
+
+            int start = destination.length();
+            String string = argument == null ? NULL : argument.toString();
+            if ((precision >= 0) && (precision < string.length())) {
+                destination.append(string, 0, precision);
+            } else {
+                destination.append(string);
+            }
+
+            pad(destination, start, width, leftJustify);
+        }
+    }
+
+    /**
+     * <code>%d</code> with an optional width, and left justification or zero padding.
+     */
+    private static class IntegerSegment extends Delegated {
+
+        private final int width;
+        private final boolean leftJustify;
+        private final boolean zeroPad;
+
+        IntegerSegment(String text, int index, String delegated, int width, boolean leftJustify, boolean zeroPad) {
+            super(text, index, delegated, 'd');
+            this.width = width;
+            this.leftJustify = leftJustify;
+            this.zeroPad = zeroPad;
+        }
+
+        @Override
+        void render(StringBuilder destination, Locale locale, Object[] arguments) {
+
+            Object argument = argument(arguments);
+            boolean fast = (argument instanceof Integer) || (argument instanceof Long)
+                                   || (argument instanceof Short) || (argument instanceof Byte);
+            if (!fast || !hasAsciiDigits(locale)) {
+                super.render(destination, locale, arguments);
+                return;
+            }
+
+            long value = ((Number) argument).longValue();
+            int start = destination.length();
+            destination.append(value);
+
+            if (!zeroPad) {
+                pad(destination, start, width, leftJustify);
+                return;
+            }
+
+            int zeros = width - (destination.length() - start);
+            int digits = value < 0 ? start + 1 : start;
+            for (int i = 0; i < zeros; i++) {
+                destination.insert(digits, '0');
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+/**
+ * <p>Reusable buffers for rendering messages, so that a render does not allocate a new {@link StringBuilder} and grow
+ * it from its default size. A buffer is taken from a {@link StripedPool} rather than a thread-local, so that virtual
+ * threads, which are many and short-lived, neither get a buffer each nor keep one alive after they are done.</p>
+ *
+ * <p>Buffers that have grown beyond a cap while rendering a long message are not returned to the pool, so a single
+ * huge message does not retain memory for the lifetime of the application.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class RenderBuffers {
+
+    /**
+     * Large enough for the vast majority of messages, small enough to keep a few of them per processor.
+     */
+    static final int DEFAULT_MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    static final RenderBuffers SHARED = new RenderBuffers(DEFAULT_MAX_RETAINED_CAPACITY);
+
+    private final StripedPool<StringBuilder> pool = new StripedPool<>(StringBuilder::new);
+    private final int maxRetainedCapacity;
+
+    RenderBuffers(int maxRetainedCapacity) {
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * Takes an empty buffer. If rendering fails, the buffer must not be released, and will simply be dropped.
+     *
+     * @param estimatedLength expected length of the rendered message, e.g. as estimated by a compiled pattern
+     * @return empty buffer with at least the estimated capacity, for exclusive use by the current thread
+     */
+    StringBuilder acquire(int estimatedLength) {
+        StringBuilder buffer = pool.borrow();
+        buffer.ensureCapacity(Math.min(estimatedLength, maxRetainedCapacity));
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool, unless it has grown too large.
+     *
+     * @param buffer a buffer that has been acquired, and must not be used afterwards
+     * @return the contents of the buffer
+     */
+    String release(StringBuilder buffer) {
+        String result = buffer.toString();
+        recycle(buffer);
+        return result;
+    }
+
+    /**
+     * Returns a buffer to the pool without taking its contents, e.g. when they have already been copied elsewhere.
+     *
+     * @param buffer a buffer that has been acquired, and must not be used afterwards
+     */
+    void recycle(StringBuilder buffer) {
+
+        if (buffer.capacity() <= maxRetainedCapacity) {
+            buffer.setLength(0);
+            pool.release(buffer);
+        }
+    }
+}
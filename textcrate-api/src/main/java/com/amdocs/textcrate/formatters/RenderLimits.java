@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <p>Caps the size of a rendered message. A formatter that honors the limits stops writing as soon as a limit is
+ * reached, and marks the cut with {@link #ELISION_MARKER}. The marker counts towards the limit.</p>
+ *
+ * <p>For example, a repository whose arguments may be huge collections can use</p>
+ *
+ * <pre>
+ *     public class BoundedFormatter extends Slf4jFormatter {
+ *         public BoundedFormatter() {
+ *             super(RenderLimits.of(4096, 512));
+ *         }
+ *     }
+ *
+ *     &#64;MessageFormatter(type = BoundedFormatter.class)
+ *     public interface InventoryMessages {
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class RenderLimits {
+
+    /**
+     * Replaces the part of a message or argument that did not fit into a limit.
+     */
+    public static final String ELISION_MARKER = "...";
+
+    /**
+     * No limits, messages are rendered in full.
+     */
+    public static final RenderLimits UNLIMITED = new RenderLimits(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * Maximum number of characters in a rendered message, including the elision marker.
+     */
+    private final int maxLength;
+
+    /**
+     * Maximum number of characters a single argument may take in a rendered message, including the elision marker.
+     */
+    private final int maxArgumentLength;
+
+    private RenderLimits(int maxLength, int maxArgumentLength) {
+        this.maxLength = maxLength;
+        this.maxArgumentLength = maxArgumentLength;
+    }
+
+    /**
+     * Creates limits for rendered messages.
+     *
+     * @param maxLength maximum length of a rendered message
+     * @param maxArgumentLength maximum length of each rendered argument
+     * @return message limits
+     * @throws IllegalArgumentException if a limit is too small to hold at least the elision marker
+     */
+    public static RenderLimits of(int maxLength, int maxArgumentLength) {
+        requireRoomForMarker(maxLength, "Maximum length");
+        requireRoomForMarker(maxArgumentLength, "Maximum argument length");
+        return new RenderLimits(maxLength, maxArgumentLength);
+    }
+
+    /**
+     * Whether any of the limits is actually set.
+     *
+     * @return <code>false</code> if messages will be rendered in full, <code>true</code> otherwise
+     */
+    public boolean isBounded() {
+        return (maxLength != Integer.MAX_VALUE) || (maxArgumentLength != Integer.MAX_VALUE);
+    }
+
+    private static void requireRoomForMarker(int limit, String name) {
+        if (limit < ELISION_MARKER.length()) {
+            throw new IllegalArgumentException(String.format("%s must be at least %d, but was %d",
+                    name, ELISION_MARKER.length(), limit));
+        }
+    }
+}
@@ -16,15 +16,16 @@
 
 package com.amdocs.textcrate.formatters;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.InvalidPatternException;
 import com.amdocs.textcrate.api.Validator;
 import java.lang.reflect.Type;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.slf4j.helpers.MessageFormatter;
 
@@ -38,11 +39,19 @@ import org.slf4j.helpers.MessageFormatter;
  * <p>Deferring message construction for logging
  * (see <a href="http://slf4j.org/faq.html#logging_performance">What is the fastest way of (not) logging?</a>):</p>
  *
+ * <p>A compiled pattern (see {@link #compile(String)}) is parsed only once, and then rendered by the formatter itself
+ * following the same rules as SLF4J. When a compiled pattern is given a locale (e.g. through
+ * {@link com.amdocs.textcrate.api.Message#getMessage(java.util.Locale)}), arguments that are numbers, dates or times
+ * are rendered according to the locale rather than with <code>toString()</code>.</p>
+ *
+ * <p>If the formatter is created with {@link RenderLimits}, the output never grows beyond the limits. Arrays,
+ * collections and maps are rendered element by element in this mode, and rendering stops once a limit has been
+ * reached.</p>
+ *
  * @author evitaliy
  * @since 22 Aug 17
  */
 @EqualsAndHashCode
-@NoArgsConstructor
 @ToString
 public class Slf4jFormatter implements Formatter, Validator {
 
@@ -51,9 +60,30 @@ public class Slf4jFormatter implements Formatter, Validator {
     private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(
             Pattern.quote(Character.toString(ESCAPE_CHAR)) + "*" + Pattern.quote(PLACEHOLDER));
 
+    private final RenderLimits limits;
+
+    public Slf4jFormatter() {
+        this(RenderLimits.UNLIMITED);
+    }
+
+    public Slf4jFormatter(RenderLimits limits) {
+        this.limits = Objects.requireNonNull(limits, "Limits cannot be null");
+    }
+
     @Override
     public String format(String pattern, Object... arguments) {
-        return MessageFormatter.arrayFormat(pattern, arguments).getMessage();
+        return limits.isBounded() ? compile(pattern).format(arguments)
+                       : MessageFormatter.arrayFormat(pattern, arguments).getMessage();
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Slf4jPattern(pattern, limits);
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
     }
 
     @Override
@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>A pattern in the SLF4J format, parsed once into a list of placeholders. Rendering gives exactly the same result as
+ * <a href="https://www.slf4j.org/api/org/slf4j/helpers/MessageFormatter.html">org.slf4j.helpers.MessageFormatter</a>,
+ * including escaped placeholders, deep rendering of arrays, and ignoring a trailing throwable argument.</p>
+ *
+ * <p>Because the output of SLF4J depends on the number of arguments (escape characters are kept as is after the last
+ * argument has been used), the original offsets of placeholders are kept, and the remaining part of the pattern is
+ * copied verbatim once arguments run out.</p>
+ *
+ * <p>A message is rendered into a buffer from {@link RenderBuffers}, presized from the length of the pattern and
+ * the number of placeholders.</p>
+ *
+ * <p>The literal text of the pattern is also encoded in UTF-8 once, so that a message can be written to a
+ * {@link ByteBuffer} by copying the literals and encoding only the arguments.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode(of = {"pattern", "limits"})
+@ToString(of = {"pattern", "limits"})
+final class Slf4jPattern implements CompiledPattern {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final char DELIMITER_START = '{';
+    private static final char ESCAPE_CHAR = '\\';
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String pattern;
+    private final RenderLimits limits;
+
+    /**
+     * Where the literal text preceding each placeholder starts.
+     */
+    private final int[] literalStarts;
+
+    /**
+     * Where the literal text preceding each placeholder ends, not including escape characters.
+     */
+    private final int[] literalEnds;
+
+    /**
+     * Whether a placeholder consumes an argument, or is an escaped delimiter to be output as is.
+     */
+    private final boolean[] consumesArgument;
+
+    /**
+     * Where the literal text after the last placeholder starts.
+     */
+    private final int tailStart;
+
+    private final int estimatedLength;
+
+    /**
+     * The whole pattern in UTF-8, with the offsets of the literals in it.
+     */
+    private final byte[] encoded;
+    private final int[] literalByteStarts;
+    private final int[] literalByteEnds;
+    private final int tailByteStart;
+
+    Slf4jPattern(String pattern, RenderLimits limits) {
+
+        this.pattern = pattern;
+        this.limits = limits;
+
+        List<int[]> placeholders = new ArrayList<>();
+        int start = 0;
+        int arguments = 0;
+
+        int index = pattern == null ? -1 : pattern.indexOf(PLACEHOLDER);
+        while (index >= 0) {
+
+            if (!isEscaped(pattern, index)) {
+                placeholders.add(new int[] {start, index, 1});
+                start = index + PLACEHOLDER.length();
+                arguments++;
+            } else if (!isEscaped(pattern, index - 1)) {
+                // the escape char is dropped, the placeholder is output as is and does not consume an argument
+                placeholders.add(new int[] {start, index - 1, 0});
+                start = index + 1;
+            } else {
+                // a double-escaped placeholder is output as a single escape char followed by the argument
+                placeholders.add(new int[] {start, index - 1, 1});
+                start = index + PLACEHOLDER.length();
+                arguments++;
+            }
+
+            index = pattern.indexOf(PLACEHOLDER, index + PLACEHOLDER.length());
+        }
+
+        this.literalStarts = new int[placeholders.size()];
+        this.literalEnds = new int[placeholders.size()];
+        this.consumesArgument = new boolean[placeholders.size()];
+        for (int i = 0; i < placeholders.size(); i++) {
+            int[] placeholder = placeholders.get(i);
+            literalStarts[i] = placeholder[0];
+            literalEnds[i] = placeholder[1];
+            consumesArgument[i] = placeholder[2] == 1;
+        }
+
+        this.tailStart = start;
+
+        this.encoded = pattern == null ? null : pattern.getBytes(StandardCharsets.UTF_8);
+        this.literalByteStarts = new int[literalStarts.length];
+        this.literalByteEnds = new int[literalStarts.length];
+        for (int i = 0; i < literalStarts.length; i++) {
+            literalByteStarts[i] = Utf8Encoder.length(pattern, 0, literalStarts[i]);
+            literalByteEnds[i] = literalByteStarts[i] + Utf8Encoder.length(pattern, literalStarts[i], literalEnds[i]);
+        }
+
+        this.tailByteStart = pattern == null ? 0 : Utf8Encoder.length(pattern, 0, tailStart);
+        this.estimatedLength = pattern == null ? 0
+                                       : (int) Math.min(limits.getMaxLength(),
+                                               pattern.length() + (long) arguments * ESTIMATED_ARGUMENT_LENGTH);
+    }
+
+    @Override
+    public String format(Object... arguments) {
+        return render(null, arguments);
+    }
+
+    /**
+     * Renders numbers, dates and times in the arguments according to the locale.
+     */
+    @Override
+    public String format(Locale locale, Object... arguments) {
+        return render(locale, arguments);
+    }
+
+    @Override
+    public void formatTo(StringBuilder destination, Object... arguments) {
+        render(destination, null, arguments);
+    }
+
+    /**
+     * Renders numbers, dates and times in the arguments according to the locale.
+     */
+    @Override
+    public void formatTo(StringBuilder destination, Locale locale, Object... arguments) {
+        render(destination, locale, arguments);
+    }
+
+    /**
+     * Copies the pre-encoded literals, and encodes only the arguments. Rendering bounded by {@link RenderLimits}
+     * counts characters, so it is done as a string first.
+     */
+    @Override
+    public void encodeTo(ByteBuffer destination, Locale locale, Object... arguments) {
+
+        if ((pattern == null) || limits.isBounded()) {
+            CompiledPattern.super.encodeTo(destination, locale, arguments);
+            return;
+        }
+
+        int position = destination.position();
+        try {
+            encode(destination, false, locale, arguments);
+        } catch (BufferOverflowException e) {
+            destination.position(position);
+            throw e;
+        }
+    }
+
+    /**
+     * Same as {@link #encodeTo(ByteBuffer, Locale, Object...)}, but makes room before each literal and argument
+     * instead of failing.
+     */
+    @Override
+    public ByteBuffer encodeGrowing(ByteBuffer destination, Locale locale, Object... arguments) {
+
+        if ((pattern == null) || limits.isBounded()) {
+            return CompiledPattern.super.encodeGrowing(destination, locale, arguments);
+        }
+
+        return encode(destination, true, locale, arguments);
+    }
+
+    private ByteBuffer encode(ByteBuffer destination, boolean growing, Locale locale, Object[] arguments) {
+
+        ByteBuffer target = destination;
+        StringBuilder scratch = null;
+
+        try {
+
+            Object[] effective = trimThrowable(arguments);
+
+            int next = 0;
+            int start = 0;
+            for (int i = 0; (i < literalStarts.length) && (next < effective.length); i++) {
+
+                target = put(target, growing, literalByteStarts[i], literalByteEnds[i]);
+
+                if (!consumesArgument[i]) {
+                    target = growing ? Utf8Encoder.ensureRemaining(target, 1) : target;
+                    target.put((byte) DELIMITER_START);
+                } else if (effective[next] instanceof String) {
+                    target = encodeChars((String) effective[next++], target, growing);
+                } else {
+                    scratch = scratch == null ? RenderBuffers.SHARED.acquire(ESTIMATED_ARGUMENT_LENGTH) : scratch;
+                    scratch.setLength(0);
+                    ArgumentRenderer.render(new BoundedAppender(scratch, limits.getMaxLength()), effective[next++],
+                            limits, locale);
+                    target = encodeChars(scratch, target, growing);
+                }
+
+                start = nextByteStart(i);
+            }
+
+            return put(target, growing, start, encoded.length);
+
+        } finally {
+            if (scratch != null) {
+                RenderBuffers.SHARED.recycle(scratch);
+            }
+        }
+    }
+
+    private ByteBuffer put(ByteBuffer destination, boolean growing, int from, int to) {
+        ByteBuffer target = growing ? Utf8Encoder.ensureRemaining(destination, to - from) : destination;
+        return target.put(encoded, from, to - from);
+    }
+
+    private static ByteBuffer encodeChars(CharSequence chars, ByteBuffer destination, boolean growing) {
+
+        if (growing) {
+            return Utf8Encoder.encodeGrowing(chars, destination);
+        }
+
+        Utf8Encoder.encode(chars, destination);
+        return destination;
+    }
+
+    private String render(Locale locale, Object[] arguments) {
+
+        if (pattern == null) {
+            return null;
+        }
+
+        StringBuilder builder = RenderBuffers.SHARED.acquire(estimatedLength);
+        render(builder, locale, arguments);
+        return RenderBuffers.SHARED.release(builder);
+    }
+
+    private void render(StringBuilder destination, Locale locale, Object[] arguments) {
+
+        if (pattern == null) {
+            destination.append((String) null);
+            return;
+        }
+
+        // SLF4J treats a trailing throwable as an exception to log, not as an argument
+        Object[] effective = trimThrowable(arguments);
+        BoundedAppender out = new BoundedAppender(destination, limits.getMaxLength());
+
+        int next = 0;
+        int start = 0;
+        for (int i = 0; (i < literalStarts.length) && (next < effective.length) && !out.isFull(); i++) {
+
+            out.append(pattern, literalStarts[i], literalEnds[i]);
+
+            if (consumesArgument[i]) {
+                ArgumentRenderer.render(out, effective[next++], limits, locale);
+            } else {
+                out.append(DELIMITER_START);
+            }
+
+            start = nextStart(i);
+        }
+
+        out.append(pattern, start, pattern.length());
+    }
+
+    private int nextStart(int placeholder) {
+        return placeholder + 1 < literalStarts.length ? literalStarts[placeholder + 1] : tailStart;
+    }
+
+    private int nextByteStart(int placeholder) {
+        return placeholder + 1 < literalByteStarts.length ? literalByteStarts[placeholder + 1] : tailByteStart;
+    }
+
+    private static boolean isEscaped(String pattern, int index) {
+        return (index > 0) && (pattern.charAt(index - 1) == ESCAPE_CHAR);
+    }
+
+    private static Object[] trimThrowable(Object[] arguments) {
+
+        if ((arguments == null) || (arguments.length == 0)) {
+            return NO_ARGUMENTS;
+        }
+
+        int last = arguments.length - 1;
+        return arguments[last] instanceof Throwable ? Arrays.copyOf(arguments, last) : arguments;
+    }
+}
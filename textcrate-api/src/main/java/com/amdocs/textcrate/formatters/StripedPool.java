@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * <p>A small lock-free pool for objects that are expensive to create and not thread-safe, such as
+ * <code>java.text.Format</code> instances. The pool has a fixed number of slots (stripes), and a thread picks a slot
+ * according to its ID. If the slot is empty, because another thread is using the object, a new object is created
+ * instead of waiting. An object is returned to its slot only if the slot is still empty, otherwise it is dropped.</p>
+ *
+ * <p>The pool never holds more objects than it has slots, does not block, and does not rely on thread-local storage,
+ * so it behaves the same for platform threads and for a large number of short-lived threads.</p>
+ *
+ * @param <T> type of pooled objects
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class StripedPool<T> {
+
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private final AtomicReferenceArray<T> slots = new AtomicReferenceArray<>(STRIPES);
+    private final Supplier<T> factory;
+
+    StripedPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Takes an object from the pool, or creates a new one if none is available to the current thread. The object must
+     * be returned with {@link #release(Object)} when no longer used.
+     *
+     * @return an object for exclusive use by the current thread
+     */
+    T borrow() {
+        T pooled = slots.getAndSet(stripe(), null);
+        return pooled == null ? factory.get() : pooled;
+    }
+
+    /**
+     * Returns an object to the pool.
+     *
+     * @param object an object that has previously been borrowed, and is not used any more
+     */
+    void release(T object) {
+        slots.compareAndSet(stripe(), null, object);
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32)) & (STRIPES - 1);
+    }
+
+    private static int stripes(int processors) {
+        // twice the number of processors rounded up to a power of two, so that a stripe can be selected with a mask
+        return Integer.highestOneBit(Math.max(1, Math.min(processors, 32)) * 4 - 1);
+    }
+}
@@ -19,9 +19,9 @@ package com.amdocs.textcrate.formatters;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.Validator;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 /**
@@ -29,17 +29,61 @@ import lombok.ToString;
  * a message will be converted to <code>String</code> "AS IS", without the pattern being applied to the arguments.
  * Can be useful for testing, but not recommended for production use.
  *
+ * <p>If the formatter is created with {@link RenderLimits}, the output never grows beyond the limits, and array,
+ * collection and map arguments are rendered element by element until a limit has been reached. Within the limits, the
+ * output is the same as without them, except that an argument whose <code>toString()</code> throws is rendered as
+ * <code>[FAILED toString()]</code> instead of failing the formatting.</p>
+ *
  * @author evitaliy
  * @since 8 May 2018
  */
 @EqualsAndHashCode
-@NoArgsConstructor
 @ToString
 public class ToStringFormatter implements Formatter {
 
+    private static final String PATTERN_PREFIX = "Pattern: '";
+    private static final String ARGUMENTS_PREFIX = "'. Arguments: ";
+
+    private final RenderLimits limits;
+
+    public ToStringFormatter() {
+        this(RenderLimits.UNLIMITED);
+    }
+
+    public ToStringFormatter(RenderLimits limits) {
+        this.limits = Objects.requireNonNull(limits, "Limits cannot be null");
+    }
+
     @Override
     public String format(String pattern, Object... arguments) {
-        return "Pattern: '" + pattern + "'. Arguments: " + Arrays.toString(arguments);
+
+        if (!limits.isBounded()) {
+            return PATTERN_PREFIX + pattern + ARGUMENTS_PREFIX + Arrays.toString(arguments);
+        }
+
+        StringBuilder builder = new StringBuilder(Math.min(limits.getMaxLength(), 64));
+        BoundedAppender out = new BoundedAppender(builder, limits.getMaxLength());
+        out.append(PATTERN_PREFIX).append(String.valueOf(pattern)).append(ARGUMENTS_PREFIX);
+
+        if (arguments == null) {
+            out.append("null");
+        } else {
+            out.append('[');
+            for (int i = 0; (i < arguments.length) && !out.isFull(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                ArgumentRenderer.renderAsElement(out, arguments[i], limits);
+            }
+            out.append(']');
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
     }
 
     @Override
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Encodes characters as UTF-8 straight into a {@link ByteBuffer}, without an intermediate byte array. ASCII text,
+ * which most messages are, is copied directly into the backing array of a heap buffer.</p>
+ *
+ * <p>Malformed surrogates are replaced with <code>?</code>, the same as
+ * {@link String#getBytes(java.nio.charset.Charset)} does.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class Utf8Encoder {
+
+    private static final int MAX_ASCII = 0x7F;
+    private static final int MAX_TWO_BYTES = 0x7FF;
+    private static final byte REPLACEMENT = '?';
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private Utf8Encoder() { /* prevent instantiation */ }
+
+    /**
+     * Encodes characters at the current position of a buffer.
+     *
+     * @param chars characters to encode
+     * @param destination target buffer
+     * @throws java.nio.BufferOverflowException if the buffer is too small, in which case some of the bytes may have
+     *                                          been written
+     */
+    static void encode(CharSequence chars, ByteBuffer destination) {
+
+        int length = chars.length();
+        int index = destination.hasArray() ? encodeAscii(chars, destination) : 0;
+
+        while (index < length) {
+
+            char c = chars.charAt(index++);
+            if (c <= MAX_ASCII) {
+                destination.put((byte) c);
+            } else if (c <= MAX_TWO_BYTES) {
+                destination.put((byte) (0xC0 | (c >> 6)));
+                destination.put((byte) (0x80 | (c & 0x3F)));
+            } else if (!Character.isSurrogate(c)) {
+                destination.put((byte) (0xE0 | (c >> 12)));
+                destination.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                destination.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && (index < length)
+                               && Character.isLowSurrogate(chars.charAt(index))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(index++));
+                destination.put((byte) (0xF0 | (codePoint >> 18)));
+                destination.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                destination.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                destination.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                destination.put(REPLACEMENT);
+            }
+        }
+    }
+
+    /**
+     * Encodes characters at the current position of a buffer, replacing the buffer with a larger one if the characters
+     * do not fit.
+     *
+     * @param chars characters to encode
+     * @param destination target buffer
+     * @return the buffer that holds the encoded characters
+     */
+    static ByteBuffer encodeGrowing(CharSequence chars, ByteBuffer destination) {
+
+        int length = chars.length();
+        ByteBuffer target = destination;
+        if (destination.remaining() < length * MAX_BYTES_PER_CHAR) {
+            target = ensureRemaining(destination, length(chars, 0, length));
+        }
+
+        encode(chars, target);
+        return target;
+    }
+
+    /**
+     * Makes sure a buffer has room for a number of bytes, by copying what it already holds into a larger one if needed.
+     * The original buffer is not modified.
+     *
+     * @param destination buffer
+     * @param required number of bytes that must fit at the current position
+     * @return either the original buffer or a larger heap buffer with the same content and position
+     */
+    static ByteBuffer ensureRemaining(ByteBuffer destination, int required) {
+
+        if (destination.remaining() >= required) {
+            return destination;
+        }
+
+        ByteBuffer written = (ByteBuffer) destination.duplicate().flip();
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(destination.capacity() * 2, written.limit() + required));
+        return grown.put(written);
+    }
+
+    /**
+     * Number of bytes that encoding a range of characters takes.
+     *
+     * @param chars characters
+     * @param start first character, inclusive
+     * @param end last character, exclusive
+     * @return length in UTF-8
+     */
+    static int length(CharSequence chars, int start, int end) {
+
+        int bytes = 0;
+        int index = start;
+        while (index < end) {
+
+            char c = chars.charAt(index++);
+            if (c <= MAX_ASCII) {
+                bytes++;
+            } else if (c <= MAX_TWO_BYTES) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isHighSurrogate(c) && (index < end) && Character.isLowSurrogate(chars.charAt(index))) {
+                index++;
+                bytes += 4;
+            } else {
+                bytes++;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Copies leading ASCII characters into the backing array, for as long as there is room.
+     *
+     * @return number of characters copied
+     */
+    private static int encodeAscii(CharSequence chars, ByteBuffer destination) {
+
+        byte[] array = destination.array();
+        int offset = destination.arrayOffset() + destination.position();
+        int count = Math.min(chars.length(), destination.remaining());
+
+        int index = 0;
+        while (index < count) {
+
+            char c = chars.charAt(index);
+            if (c > MAX_ASCII) {
+                break;
+            }
+
+            array[offset + index] = (byte) c;
+            index++;
+        }
+
+        destination.position(destination.position() + index);
+        return index;
+    }
+}
@@ -24,11 +24,19 @@ import java.util.Optional;
  * <p>Implements a service that retrieves a repository specification defined by a Java interface annotated with
  *  {@link MessageSpec} and {@link CodeSpec}, and returns a concrete implementation &mdash; if available.</p>
  *
+ * <p>Providers are loaded once per class loader, and asked in the order of their {@link #getPriority() priority}.
+ * A provider that has returned nothing for an interface is not asked again for the same interface.</p>
+ *
  * @author evitaliy
  * @since 18 Sep 2016
  */
 public interface MessagesProvider {
 
+    /**
+     * Priority of a provider that does not declare one.
+     */
+    int DEFAULT_PRIORITY = 0;
+
     /**
      * Returns a concrete implementation of a message repository specified by an interface.
      *
@@ -38,4 +46,15 @@ public interface MessagesProvider {
      * @return optionally, a concrete implementation of the interface given as the argument
      */
     <T> Optional<T> getMessages(Class<T> clazz);
+
+    /**
+     * Priority of this provider relative to other providers, e.g. a provider of generated implementations should have
+     * a higher priority than a general-purpose one. Providers with the same priority are asked in the order they have
+     * been found by {@link java.util.ServiceLoader}.
+     *
+     * @return priority, the higher the earlier the provider is asked
+     */
+    default int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import com.amdocs.textcrate.api.Message;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Protects a destination of messages (e.g. a logger) from storms of the same message. Messages are counted by
+ * their code within a time window. The first occurrences of a code in a window are passed on, and the rest are
+ * suppressed. When the window of a code ends, a single {@link SuppressionSummary} with the number of suppressed
+ * occurrences is passed on instead.</p>
+ *
+ * <pre>
+ *     Consumer&lt;Message&gt; logged = message -&gt; LOGGER.error("[{}] {}", message.getCode(), message.getMessage());
+ *     AggregatingSink sink = new AggregatingSink(logged, 10, Duration.ofMinutes(1));
+ *     sink.accept(repository.serviceUnavailable("billing"));
+ * </pre>
+ *
+ * <p>A suppressed message is never rendered, so suppression costs no more than counting. The counters are lock-free.
+ * Window boundaries are detected by incoming messages, therefore the summary of a code is passed on with the first
+ * message of the code after the window has ended, or when {@link #flush()} is called. At the boundaries, the counts
+ * are approximate under concurrency.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class AggregatingSink implements Consumer<Message> {
+
+    private final Consumer<Message> downstream;
+    private final int passThrough;
+    private final Duration window;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a sink that aggregates messages before passing them on.
+     *
+     * @param downstream where messages and summaries are passed on
+     * @param passThrough how many occurrences of a code are passed on in each window
+     * @param window duration of a window
+     */
+    public AggregatingSink(Consumer<Message> downstream, int passThrough, Duration window) {
+        this(downstream, passThrough, window, System::nanoTime);
+    }
+
+    AggregatingSink(Consumer<Message> downstream, int passThrough, Duration window, LongSupplier clock) {
+
+        this.downstream = Objects.requireNonNull(downstream, "Downstream cannot be null");
+
+        if (passThrough < 0) {
+            throw new IllegalArgumentException("Number of messages to pass through cannot be negative");
+        }
+
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive, but was " + window);
+        }
+
+        this.passThrough = passThrough;
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    @Override
+    public void accept(Message message) {
+
+        String code = message.getCode();
+        long now = clock.getAsLong();
+
+        Window current = windows.get(code);
+        if (current == null) {
+            current = windows.computeIfAbsent(code, key -> new Window(now));
+        }
+
+        long start = current.start.get();
+        if ((now - start >= windowNanos) && current.start.compareAndSet(start, now)) {
+            // only one thread closes the window
+            summarize(current.close(code));
+        }
+
+        if (current.count.incrementAndGet() <= passThrough) {
+            downstream.accept(message);
+            return;
+        }
+
+        current.suppressed.incrementAndGet();
+        if (current.sample.get() == null) {
+            current.sample.compareAndSet(null, message);
+        }
+    }
+
+    /**
+     * Passes on the summaries of all codes that have suppressed messages, and starts new windows for them. May be
+     * called periodically or on shutdown, so that the summaries are not delayed until the next message.
+     */
+    public void flush() {
+
+        long now = clock.getAsLong();
+        windows.forEach((code, current) -> {
+            current.start.set(now);
+            summarize(current.close(code));
+        });
+    }
+
+    private void summarize(SuppressionSummary summary) {
+        if (summary != null) {
+            downstream.accept(summary);
+        }
+    }
+
+    /**
+     * Counters of a single code.
+     */
+    private class Window {
+
+        private final AtomicLong start;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicReference<Message> sample = new AtomicReference<>();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+
+        private SuppressionSummary close(String code) {
+
+            long total = suppressed.getAndSet(0);
+            Message example = sample.getAndSet(null);
+            count.set(0);
+            return total == 0 ? null : new SuppressionSummary(code, total, window, example);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.PropertyKey;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Caps the rate of messages selected either by a range of numeric codes (see {@link Message#getNumericCode()}),
+ * or by the value of a message property (e.g. <code>type=Warning</code>, see
+ * {@link com.amdocs.textcrate.api.annotations.MessageProperty}). Each message code that matches a rule has its own
+ * limit.</p>
+ *
+ * <p>The limit is defined as a sustained rate, and a burst of messages that are allowed at once before the rate
+ * applies.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class RateLimitRule {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int fromCode;
+    private final int toCode;
+    private final PropertyKey propertyKey;
+    private final String propertyValue;
+
+    /**
+     * Time between two messages at the sustained rate.
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * How far ahead of the sustained rate the messages may get, which allows bursts.
+     */
+    private final long toleranceNanos;
+
+    RateLimitRule(int fromCode, int toCode, String propertyName, String propertyValue, double permitsPerSecond,
+            int burst) {
+
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive, but was " + permitsPerSecond);
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1, but was " + burst);
+        }
+
+        this.fromCode = fromCode;
+        this.toCode = toCode;
+        this.propertyKey = propertyName == null ? null : PropertyKey.of(propertyName);
+        this.propertyValue = propertyValue;
+        this.emissionIntervalNanos = Math.max(1, (long) (NANOS_PER_SECOND / permitsPerSecond));
+        this.toleranceNanos = tolerance(emissionIntervalNanos, burst);
+    }
+
+    /**
+     * A tolerance beyond the range of <code>long</code> is capped, so that the arrival time of the next message never
+     * gets further ahead of the current time than can be compared.
+     */
+    private static long tolerance(long emissionIntervalNanos, int burst) {
+
+        long maxTolerance = Long.MAX_VALUE - emissionIntervalNanos;
+
+        try {
+            return Math.min(Math.multiplyExact(emissionIntervalNanos, burst - 1L), maxTolerance);
+        } catch (ArithmeticException e) {
+            return maxTolerance;
+        }
+    }
+
+    /**
+     * Limits messages with numeric codes in a range.
+     *
+     * @param fromCode lowest code, inclusive
+     * @param toCode highest code, inclusive
+     * @param permitsPerSecond sustained rate of messages of each code
+     * @param burst number of messages of each code that can pass at once
+     * @return rate limit rule
+     */
+    public static RateLimitRule forCodes(int fromCode, int toCode, double permitsPerSecond, int burst) {
+
+        if (fromCode > toCode) {
+            throw new IllegalArgumentException(String.format("Invalid code range [%d, %d]", fromCode, toCode));
+        }
+
+        return new RateLimitRule(fromCode, toCode, null, null, permitsPerSecond, burst);
+    }
+
+    /**
+     * Limits messages that have a property with a given value.
+     *
+     * @param name name of the property
+     * @param value value of the property
+     * @param permitsPerSecond sustained rate of messages of each code
+     * @param burst number of messages of each code that can pass at once
+     * @return rate limit rule
+     */
+    public static RateLimitRule forProperty(String name, String value, double permitsPerSecond, int burst) {
+        Objects.requireNonNull(name, "Property name cannot be null");
+        Objects.requireNonNull(value, "Property value cannot be null");
+        return new RateLimitRule(Integer.MIN_VALUE, Integer.MAX_VALUE, name, value, permitsPerSecond, burst);
+    }
+
+    boolean matches(int code, Message message) {
+        return (code >= fromCode) && (code <= toCode)
+                       && ((propertyKey == null) || propertyValue.equals(message.getProperty(propertyKey)));
+    }
+
+    long getEmissionIntervalNanos() {
+        return emissionIntervalNanos;
+    }
+
+    long getToleranceNanos() {
+        return toleranceNanos;
+    }
+}
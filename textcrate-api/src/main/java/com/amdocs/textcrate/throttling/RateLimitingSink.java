@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import com.amdocs.textcrate.api.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Caps the rate of noisy messages before they reach a destination (e.g. a logger). Each message code (see
+ * {@link Message#getCode()}) whose numeric value (see {@link Message#getNumericCode()}) matches one of the
+ * {@link RateLimitRule}s has its own token bucket. The first matching rule applies, and messages that match no rule are
+ * always passed on.</p>
+ *
+ * <pre>
+ *     RateLimitingSink sink = new RateLimitingSink(logged, Arrays.asList(
+ *             RateLimitRule.forCodes(2000, 2999, 1.0, 10),
+ *             RateLimitRule.forProperty("type", "Warning", 5.0, 50)));
+ * </pre>
+ *
+ * <p>A denied message is never rendered. Rules are matched only once per code, since the properties of a message are
+ * defined by its repository. Buckets are keyed by the full code rather than by its numeric value, because the code
+ * includes the prefix of the repository (see {@link com.amdocs.textcrate.api.annotations.CodeSpec}), and repositories
+ * may use the same numeric codes with different properties. Checking a limit is lock-free and does not allocate.</p>
+ *
+ * <p>The number of codes that can be tracked is fixed. Messages without a numeric code, and messages of codes beyond
+ * the capacity are passed on without limits.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RateLimitingSink implements Consumer<Message> {
+
+    /**
+     * Default number of distinct codes that can be tracked.
+     */
+    public static final int DEFAULT_MAX_CODES = 4096;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitingSink.class);
+
+    /**
+     * Marks a code that matches no rule, so that the rules are not matched again.
+     */
+    private static final RateLimitRule NO_LIMIT = new RateLimitRule(0, 0, null, null, 1.0, 1);
+
+    private final Consumer<Message> downstream;
+    private final List<RateLimitRule> rules;
+    private final TokenBuckets buckets;
+    private final LongSupplier clock;
+    private final LongAdder denied = new LongAdder();
+
+    /**
+     * Creates a sink that can track up to {@link #DEFAULT_MAX_CODES} codes.
+     *
+     * @param downstream where allowed messages are passed on
+     * @param rules rate limits, in the order of precedence
+     */
+    public RateLimitingSink(Consumer<Message> downstream, List<RateLimitRule> rules) {
+        this(downstream, rules, DEFAULT_MAX_CODES);
+    }
+
+    /**
+     * Creates a sink.
+     *
+     * @param downstream where allowed messages are passed on
+     * @param rules rate limits, in the order of precedence
+     * @param maxCodes maximum number of distinct codes that can be tracked
+     */
+    public RateLimitingSink(Consumer<Message> downstream, List<RateLimitRule> rules, int maxCodes) {
+        this(downstream, rules, maxCodes, System::nanoTime);
+    }
+
+    RateLimitingSink(Consumer<Message> downstream, List<RateLimitRule> rules, int maxCodes, LongSupplier clock) {
+        this.downstream = Objects.requireNonNull(downstream, "Downstream cannot be null");
+        Objects.requireNonNull(rules, "Rules cannot be null");
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.buckets = new TokenBuckets(maxCodes);
+        this.clock = clock;
+    }
+
+    @Override
+    public void accept(Message message) {
+
+        if (isAllowed(message)) {
+            downstream.accept(message);
+        } else {
+            denied.increment();
+        }
+    }
+
+    /**
+     * Number of messages that have not been passed on because of rate limits.
+     *
+     * @return number of denied messages
+     */
+    public long getDeniedCount() {
+        return denied.sum();
+    }
+
+    private boolean isAllowed(Message message) {
+
+        OptionalInt code = message.getNumericCode();
+        if (!code.isPresent()) {
+            return true;
+        }
+
+        int slot = buckets.slotOf(message.getCode());
+        if (slot < 0) {
+            LOGGER.debug("Cannot track code {}, passing the message without a limit", message.getCode());
+            return true;
+        }
+
+        RateLimitRule rule = buckets.getRule(slot);
+        if (rule == null) {
+            // racing threads will find the same rule
+            rule = findRule(code.getAsInt(), message);
+            buckets.setRule(slot, rule);
+        }
+
+        return (rule == NO_LIMIT) || buckets.tryAcquire(slot, rule, clock.getAsLong());
+    }
+
+    private RateLimitRule findRule(int code, Message message) {
+
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(code, message)) {
+                return rule;
+            }
+        }
+
+        return NO_LIMIT;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.PropertyKey;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Reports that occurrences of a message have been suppressed. The summary has the same code and properties as
+ * the suppressed message, so that it is routed the same way, and an example of the arguments that were used.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class SuppressionSummary implements Message {
+
+    private static final String PATTERN = "Message {} was suppressed {} times within {} ms, e.g. with arguments {}";
+    private static final CompiledPattern COMPILED = new Slf4jFormatter().compile(PATTERN);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String code;
+    private final long suppressedCount;
+    private final Duration window;
+    private final Message sample;
+
+    SuppressionSummary(String code, long suppressedCount, Duration window, Message sample) {
+        this.code = code;
+        this.suppressedCount = suppressedCount;
+        this.window = window;
+        this.sample = sample;
+    }
+
+    /**
+     * Number of occurrences that have not been passed on.
+     *
+     * @return number of suppressed messages
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * Time window during which the messages were suppressed.
+     *
+     * @return duration of the window
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * One of the suppressed messages. The sample is never rendered by the summary itself, only its arguments are.
+     *
+     * @return an example of a suppressed message, may be empty under heavy concurrency
+     */
+    public Optional<Message> getSample() {
+        return Optional.ofNullable(sample);
+    }
+
+    @Override
+    public String getPattern() {
+        return PATTERN;
+    }
+
+    @Override
+    public String getPattern(Locale locale) {
+        return PATTERN;
+    }
+
+    @Override
+    public String getMessage() {
+        return COMPILED.format(getArguments());
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return COMPILED.format(locale, getArguments());
+    }
+
+    @Override
+    public Object[] getArguments() {
+        Object[] sampleArguments = sample == null ? NO_ARGUMENTS : sample.getArguments();
+        return new Object[] {code, suppressedCount, window.toMillis(), sampleArguments};
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public OptionalInt getNumericCode() {
+        return sample == null ? OptionalInt.empty() : sample.getNumericCode();
+    }
+
+    @Override
+    public String getProperty(String name) {
+        return sample == null ? null : sample.getProperty(name);
+    }
+
+    @Override
+    public String getProperty(PropertyKey key) {
+        return sample == null ? null : sample.getProperty(key);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Lock-free token buckets keyed by message codes, in an open-addressing hash table. A slot is claimed by a code
+ * forever, so a table has a fixed capacity. Looking up a code does not allocate, since a string caches its hash
+ * code.</p>
+ *
+ * <p>Each bucket is implemented with the Generic Cell Rate Algorithm (GCRA), which keeps a single number per bucket:
+ * the theoretical arrival time of the next message at the sustained rate. A message is allowed if it does not arrive
+ * earlier than that time minus the burst tolerance. Allowing a message moves the time forward by one emission
+ * interval with a compare-and-set, so there is no refill thread or timestamp arithmetic beyond that.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class TokenBuckets {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    /**
+     * Codes that claimed the slots, <code>null</code> in an unclaimed slot.
+     */
+    private final AtomicReferenceArray<String> codes;
+    private final AtomicLongArray arrivals;
+    private final AtomicReferenceArray<RateLimitRule> rules;
+    private final int mask;
+
+    TokenBuckets(int maxCodes) {
+
+        // at most half full, to keep probing short
+        int capacity = Integer.highestOneBit(Math.max(maxCodes, 2) * 2 - 1) << 1;
+        this.codes = new AtomicReferenceArray<>(capacity);
+        this.arrivals = new AtomicLongArray(capacity);
+        this.rules = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            arrivals.set(i, NEVER);
+        }
+    }
+
+    /**
+     * Finds the slot of a code, or claims a new one.
+     *
+     * @param code message code
+     * @return slot, or <code>-1</code> if the table is full or the code cannot be stored
+     */
+    int slotOf(String code) {
+
+        if (code == null) {
+            return -1;
+        }
+
+        int start = mix(code.hashCode()) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+
+            int slot = (start + probe) & mask;
+            String current = codes.get(slot);
+            if (code.equals(current)) {
+                return slot;
+            }
+
+            if ((current == null) && (codes.compareAndSet(slot, null, code) || code.equals(codes.get(slot)))) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    RateLimitRule getRule(int slot) {
+        return rules.get(slot);
+    }
+
+    void setRule(int slot, RateLimitRule rule) {
+        rules.set(slot, rule);
+    }
+
+    /**
+     * Takes a token from the bucket of a slot, if available.
+     *
+     * @param slot slot of a code
+     * @param rule rate limit of the code
+     * @param now current time in nanoseconds
+     * @return <code>true</code> if a message is allowed
+     */
+    boolean tryAcquire(int slot, RateLimitRule rule, long now) {
+
+        while (true) {
+
+            long arrival = arrivals.get(slot);
+            long base = (arrival == NEVER) || (arrival - now < 0) ? now : arrival;
+            if (base - now > rule.getToleranceNanos()) {
+                return false;
+            }
+
+            if (arrivals.compareAndSet(slot, arrival, base + rule.getEmissionIntervalNanos())) {
+                return true;
+            }
+        }
+    }
+
+    private static int mix(int hashCode) {
+        // codes are often consecutive, spread their hash codes over the table
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
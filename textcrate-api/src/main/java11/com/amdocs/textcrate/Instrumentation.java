@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import java.util.Locale;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>Reports what the library does to Java Flight Recorder. This class replaces the no-op Java 8 version in the
+ * multi-release jar.</p>
+ *
+ * <p>When no recording is running, or an event type is disabled, a <code>begin</code> method returns
+ * <code>null</code> after checking a flag of the event type, and the matching <code>end</code> method returns
+ * immediately. Event fields, such as message codes, are only computed if the event is actually committed.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class Instrumentation {
+
+    private static final String CATEGORY = "TextCrate";
+
+    /*
+     * Used only to check whether an event type is enabled, which does not depend on an instance.
+     */
+    private static final RepositoryCreationEvent REPOSITORY_CREATION = new RepositoryCreationEvent();
+    private static final BlueprintCreationEvent BLUEPRINT_CREATION = new BlueprintCreationEvent();
+    private static final RenderingEvent RENDERING = new RenderingEvent();
+
+    private Instrumentation() { /* prevent instantiation */ }
+
+    static Object beginRepositoryCreation() {
+
+        if (!REPOSITORY_CREATION.isEnabled()) {
+            return null;
+        }
+
+        RepositoryCreationEvent event = new RepositoryCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endRepositoryCreation(Object event, Class<?> repository, Object provider) {
+
+        if (event == null) {
+            return;
+        }
+
+        RepositoryCreationEvent creation = (RepositoryCreationEvent) event;
+        creation.end();
+        if (creation.shouldCommit()) {
+            creation.repository = repository.getName();
+            creation.provider = String.valueOf(provider);
+            creation.commit();
+        }
+    }
+
+    static Object beginBlueprintCreation() {
+
+        if (!BLUEPRINT_CREATION.isEnabled()) {
+            return null;
+        }
+
+        BlueprintCreationEvent event = new BlueprintCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endBlueprintCreation(Object event, MessageBlueprint blueprint) {
+
+        if (event == null) {
+            return;
+        }
+
+        BlueprintCreationEvent creation = (BlueprintCreationEvent) event;
+        creation.end();
+        if (creation.shouldCommit()) {
+            creation.code = blueprint.getCode();
+            creation.pattern = blueprint.getPattern();
+            creation.commit();
+        }
+    }
+
+    static Object beginRendering() {
+
+        if (!RENDERING.isEnabled()) {
+            return null;
+        }
+
+        RenderingEvent event = new RenderingEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endRendering(Object event, MessageBlueprint blueprint, Locale locale) {
+
+        if (event == null) {
+            return;
+        }
+
+        RenderingEvent rendering = (RenderingEvent) event;
+        rendering.end();
+        if (rendering.shouldCommit()) {
+            rendering.code = blueprint.getCode();
+            rendering.pattern = blueprint.getPattern();
+            rendering.locale = locale == null ? null : locale.toLanguageTag();
+            rendering.commit();
+        }
+    }
+
+    static void formatterFellBack(Object formatter, Object fallback, String pattern, Exception error) {
+
+        FallbackEvent event = new FallbackEvent();
+        if (event.isEnabled()) {
+            event.formatter = String.valueOf(formatter);
+            event.fallback = String.valueOf(fallback);
+            event.pattern = pattern;
+            event.error = String.valueOf(error);
+            event.commit();
+        }
+    }
+
+    @Name("com.amdocs.textcrate.RepositoryCreation")
+    @Label("Repository Creation")
+    @Description("A message repository has been created by Messages.from()")
+    @Category(CATEGORY)
+    static final class RepositoryCreationEvent extends Event {
+
+        @Label("Repository")
+        String repository;
+
+        @Label("Provider")
+        String provider;
+    }
+
+    @Name("com.amdocs.textcrate.BlueprintCreation")
+    @Label("Blueprint Creation")
+    @Description("Annotations of a message method have been processed, and its pattern compiled")
+    @Category(CATEGORY)
+    static final class BlueprintCreationEvent extends Event {
+
+        @Label("Code")
+        String code;
+
+        @Label("Pattern")
+        String pattern;
+    }
+
+    @Name("com.amdocs.textcrate.Rendering")
+    @Label("Message Rendering")
+    @Description("The text of a message has been constructed")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RenderingEvent extends Event {
+
+        @Label("Code")
+        String code;
+
+        @Label("Pattern")
+        String pattern;
+
+        @Label("Locale")
+        String locale;
+    }
+
+    @Name("com.amdocs.textcrate.FormatterFallback")
+    @Label("Formatter Fallback")
+    @Description("A formatter has failed, and a fallback formatter has been used instead")
+    @Category(CATEGORY)
+    static final class FallbackEvent extends Event {
+
+        @Label("Formatter")
+        String formatter;
+
+        @Label("Fallback")
+        String fallback;
+
+        @Label("Pattern")
+        String pattern;
+
+        @Label("Error")
+        String error;
+    }
+}
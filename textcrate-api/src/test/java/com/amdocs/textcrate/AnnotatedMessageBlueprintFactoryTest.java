@@ -17,10 +17,13 @@
 package com.amdocs.textcrate;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.Message;
 import com.amdocs.textcrate.api.Validator;
 import com.amdocs.textcrate.api.annotations.CodeSpec;
 import com.amdocs.textcrate.api.annotations.MessageFormatter;
@@ -28,6 +31,9 @@ import com.amdocs.textcrate.api.annotations.MessageProperty;
 import com.amdocs.textcrate.api.annotations.MessageSpec;
 import com.amdocs.textcrate.formatters.ToStringFormatter;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -149,6 +155,22 @@ public class AnnotatedMessageBlueprintFactoryTest {
         assertEquals(factory.getProperties().size(), 2);
     }
 
+    @Test
+    public void formattingSharedWhenSamePattern() {
+
+        AnnotatedMessageBlueprintFactory factory = new AnnotatedMessageBlueprintFactory(this.getClass());
+        BaseMessageBlueprint first = (BaseMessageBlueprint) factory.createBlueprint(
+                new MessageSpecAnnotationMock("Shared {}", 1));
+        BaseMessageBlueprint second = (BaseMessageBlueprint) factory.createBlueprint(
+                new MessageSpecAnnotationMock("Shared {}", 2));
+        BaseMessageBlueprint third = (BaseMessageBlueprint) factory.createBlueprint(
+                new MessageSpecAnnotationMock("Not shared {}", 3));
+
+        assertSame(first.getFormatting(), second.getFormatting());
+        assertNotSame(first.getFormatting(), third.getFormatting());
+        assertEquals(second.getCode(), "2");
+    }
+
     @Test(expectedExceptions = UnsupportedOperationException.class)
     public void propertiesUnmodifiable() {
         AnnotatedMessageBlueprintFactory factory =
@@ -156,6 +178,46 @@ public class AnnotatedMessageBlueprintFactoryTest {
         factory.getProperties().put("Modification", "Attempt");
     }
 
+    @Test
+    public void placeholdersBoundByPositionWhenCompiledWithoutParameterNames() throws Exception {
+        Class<?> repository = compileBookMessages("PositionalBookMessages");
+        assertEquals(renderBook(repository, "inStore", "T", "S"), "Book 'T' in S");
+    }
+
+    @Test
+    public void placeholdersBoundByNameWhenCompiledWithParameterNames() throws Exception {
+        Class<?> repository = compileBookMessages("NamedBookMessages", "-parameters");
+        assertEquals(renderBook(repository, "inStore", "T", "S"), "Book 'T' in S");
+        assertEquals(renderBook(repository, "byStore", "S", "T"), "Book 'T' in S");
+    }
+
+    private static String renderBook(Class<?> repository, String method, Object... arguments) throws Exception {
+        Object messages = new ProxyMessagesProvider().getMessages(repository).orElseThrow(IllegalStateException::new);
+        Method declared = repository.getMethod(method, String.class, String.class);
+        return ((Message) declared.invoke(messages, arguments)).getMessage();
+    }
+
+    /**
+     * Compiled on the fly, because whether parameter names are retained depends on the compiler options.
+     */
+    private static Class<?> compileBookMessages(String name, String... options) throws Exception {
+
+        String source = "import com.amdocs.textcrate.api.Message;\n"
+                                + "import com.amdocs.textcrate.api.annotations.MessageFormatter;\n"
+                                + "import com.amdocs.textcrate.api.annotations.MessageSpec;\n"
+                                + "import com.amdocs.textcrate.formatters.NamedPlaceholderFormatter;\n\n"
+                                + "@MessageFormatter(type = NamedPlaceholderFormatter.class)\n"
+                                + "public interface " + name + " {\n\n"
+                                + "    @MessageSpec(id = 1, pattern = \"Book '{title}' in {store}\")\n"
+                                + "    Message inStore(String title, String store);\n\n"
+                                + "    @MessageSpec(id = 2, pattern = \"Book '{title}' in {store}\")\n"
+                                + "    Message byStore(String store, String title);\n"
+                                + "}\n";
+
+        Path directory = RepositoryCompiler.compile(Collections.singletonMap(name, source), options);
+        return RepositoryCompiler.load(directory, name);
+    }
+
     @AllArgsConstructor
     @EqualsAndHashCode
     @ToString
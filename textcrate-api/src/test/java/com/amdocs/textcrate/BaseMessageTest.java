@@ -22,6 +22,10 @@ import static org.testng.Assert.assertNotEquals;
 import com.amdocs.textcrate.CodeBlueprint.Formatting;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
@@ -66,6 +70,28 @@ public class BaseMessageTest {
     public void toStringHasCodeAndMessage() {
         assertEquals(new BaseMessage(buildStubBlueprint(0), "Hello").toString(), "[0] [Hello]");
     }
+    @Test
+    public void bytesSameAsMessageWhenRenderedToBuffer() {
+
+        BaseMessage message = new BaseMessage(buildStubBlueprint(0), "Grüße");
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+
+        assertEquals(message.renderTo(buffer), 9);
+        assertEquals(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), "[Grüße]");
+    }
+
+    @Test
+    public void bytesSameAsMessageWhenRenderedToStream() throws IOException {
+
+        char[] chars = new char[1000];
+        Arrays.fill(chars, 'é');
+        BaseMessage message = new BaseMessage(buildStubBlueprint(0), new String(chars));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        message.renderTo(output);
+        assertEquals(output.toByteArray(), message.getMessage().getBytes(StandardCharsets.UTF_8));
+    }
+
 
     private BaseMessageBlueprint buildStubBlueprint(int id) {
         StubFormatter formatter = new StubFormatter();
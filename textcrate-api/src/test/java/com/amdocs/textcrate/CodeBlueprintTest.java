@@ -19,7 +19,10 @@ package com.amdocs.textcrate;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.annotations.Test;
 
 /**
@@ -61,4 +64,27 @@ public class CodeBlueprintTest {
         assertEquals(one.hashCode(), two.hashCode());
     }
 
+    @Test
+    public void codeFormattedOnceWhenRequestedRepeatedly() {
+
+        AtomicInteger calls = new AtomicInteger();
+        Formatter counting = new Slf4jFormatter() {
+            @Override
+            public String format(String pattern, Object... arguments) {
+                calls.incrementAndGet();
+                return super.format(pattern, arguments);
+            }
+
+            @Override
+            public CompiledPattern compile(String pattern) {
+                return arguments -> format(pattern, arguments);
+            }
+        };
+
+        CodeBlueprint blueprint = new CodeBlueprint(7, new CodeBlueprint.Formatting(100, "ERR-{}", counting));
+        assertEquals(blueprint.getCode(), "ERR-107");
+        assertEquals(blueprint.getCode(), "ERR-107");
+        assertEquals(calls.get(), 1);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.Validator;
+import com.amdocs.textcrate.formatters.RenderLimits;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import com.amdocs.textcrate.formatters.ToStringFormatter;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+/**
+ * Tests sharing formatter instances between repositories.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class FormatterRegistryTest {
+
+    private static final Formatter FALLBACK = new ToStringFormatter();
+
+    @Test
+    public void sameInstanceReturnedWhenFormatterShareable() {
+        FormatterRegistry registry = new FormatterRegistry(FALLBACK);
+        assertSame(registry.get(Slf4jFormatter.class), registry.get(Slf4jFormatter.class));
+    }
+
+    @Test
+    public void newInstanceReturnedWhenFormatterNotShareable() {
+        FormatterRegistry registry = new FormatterRegistry(FALLBACK);
+        assertNotSame(registry.get(NonShareableFormatter.class), registry.get(NonShareableFormatter.class));
+    }
+
+    @Test
+    public void formatterWrappedInResilientFormatter() {
+        Formatter formatter = new FormatterRegistry(FALLBACK).get(Slf4jFormatter.class);
+        assertEquals(formatter, new ResilientFormatter(new Slf4jFormatter(), FALLBACK));
+    }
+
+    @Test
+    public void fallbackReturnedWhenFormatterCannotBeInstantiated() {
+        FormatterRegistry registry = new FormatterRegistry(FALLBACK);
+        assertSame(registry.get(NonInstantiableFormatter.class), FALLBACK);
+        assertSame(registry.get(NonInstantiableFormatter.class), FALLBACK);
+    }
+
+    @Test
+    public void libraryFormattersBuiltInWhenExactType() {
+        assertTrue(FormatterRegistry.isBuiltIn(Slf4jFormatter.class));
+        assertTrue(FormatterRegistry.isBuiltIn(ToStringFormatter.class));
+        assertFalse(FormatterRegistry.isBuiltIn(BoundedSlf4jFormatter.class));
+        assertFalse(FormatterRegistry.isBuiltIn(NonShareableFormatter.class));
+    }
+
+    @Test
+    public void subclassOfLibraryFormatterInstantiatedReflectively() {
+        Formatter formatter = new FormatterRegistry(FALLBACK).get(BoundedSlf4jFormatter.class);
+        assertEquals(formatter, new ResilientFormatter(new BoundedSlf4jFormatter(), FALLBACK));
+    }
+
+    public static class BoundedSlf4jFormatter extends Slf4jFormatter {
+
+        public BoundedSlf4jFormatter() {
+            super(RenderLimits.of(16, 8));
+        }
+    }
+
+    static class NonShareableFormatter implements Formatter {
+
+        @Override
+        public String format(String pattern, Object... arguments) {
+            return pattern;
+        }
+
+        @Override
+        public Optional<Validator> getValidator() {
+            return Optional.empty();
+        }
+    }
+
+    static class NonInstantiableFormatter extends NonShareableFormatter {
+
+        NonInstantiableFormatter() {
+            throw new UnsupportedOperationException("constructor");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/**
+ * Tests finding fragments in a text.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class FragmentAutomatonTest {
+
+    @Test
+    public void allOccurrencesFoundWhenFragmentsOverlap() {
+        FragmentAutomaton automaton = new FragmentAutomaton(Arrays.asList("he", "she", "his", "hers"));
+        assertEquals(scan(automaton, "ushers"), Arrays.asList("he@2", "she@1", "hers@2"));
+    }
+
+    @Test
+    public void repeatedOccurrencesFoundWhenFragmentRepeats() {
+        FragmentAutomaton automaton = new FragmentAutomaton(Collections.singletonList("aa"));
+        assertEquals(scan(automaton, "aaaa"), Arrays.asList("aa@0", "aa@1", "aa@2"));
+    }
+
+    @Test
+    public void occurrenceFoundWhenSuffixOfAnotherFragment() {
+        FragmentAutomaton automaton = new FragmentAutomaton(Arrays.asList(" not available", "able"));
+        assertEquals(scan(automaton, "'Dune' is not available"), Arrays.asList("able@19", " not available@9"));
+    }
+
+    @Test
+    public void nothingFoundWhenNoFragmentOccurs() {
+        FragmentAutomaton automaton = new FragmentAutomaton(Arrays.asList("abc", "bcd"));
+        assertEquals(scan(automaton, "abdbcabd"), Collections.emptyList());
+    }
+
+    @Test
+    public void nothingFoundWhenNoFragments() {
+        FragmentAutomaton automaton = new FragmentAutomaton(Collections.emptyList());
+        assertEquals(scan(automaton, "text"), Collections.emptyList());
+    }
+
+    private static List<String> scan(FragmentAutomaton automaton, String text) {
+
+        List<String> found = new ArrayList<>();
+        automaton.scan(text, (fragment, start) ->
+                found.add(text.substring(start, start + automaton.length(fragment)) + "@" + start));
+        return found;
+    }
+}
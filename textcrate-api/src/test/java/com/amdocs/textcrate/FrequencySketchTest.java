@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests frequency estimation.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class FrequencySketchTest {
+
+    @Test
+    public void zeroWhenNeverSeen() {
+        assertEquals(new FrequencySketch(100).frequency("never".hashCode()), 0);
+    }
+
+    @Test
+    public void countedWhenIncremented() {
+
+        FrequencySketch sketch = new FrequencySketch(100);
+        int hash = "key".hashCode();
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(hash);
+        }
+
+        assertEquals(sketch.frequency(hash), 5);
+    }
+
+    @Test
+    public void saturatedWhenIncrementedManyTimes() {
+
+        FrequencySketch sketch = new FrequencySketch(100);
+        int hash = "key".hashCode();
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(hash);
+        }
+
+        assertEquals(sketch.frequency(hash), 15);
+    }
+
+    @Test
+    public void halvedWhenSampleSizeReached() {
+
+        FrequencySketch sketch = new FrequencySketch(16);
+        int popular = "popular".hashCode();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(popular);
+        }
+
+        // the sample size is ten times the maximum size
+        for (int i = 0; i < 160; i++) {
+            sketch.increment(("other" + i).hashCode());
+        }
+
+        assertTrue(sketch.frequency(popular) < 8);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.math.BigDecimal;
+import java.util.Locale;
+import org.testng.annotations.Test;
+
+/**
+ * Tests writing messages as JSON.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class JsonMessageWriterTest {
+
+    private static final JsonMessages MESSAGES = Messages.from(JsonMessages.class);
+
+    @Test
+    public void allFieldsWrittenWhenMessageOfRepository() {
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.bookUnavailable("Dune")),
+                "{\"code\":\"JSN-1\",\"pattern\":\"'{}' is currently not available\","
+                        + "\"properties\":{\"audience\":\"customer\",\"type\":\"Error\"},"
+                        + "\"message\":\"'Dune' is currently not available\",\"arguments\":[\"Dune\"]}");
+    }
+
+    @Test
+    public void specialCharactersEscapedWhenInPatternOrArguments() {
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.quoted("a\"b\\c\nd\u0001")),
+                "{\"code\":\"JSN-2\",\"pattern\":\"Quoted \\\"{}\\\"\\t!\","
+                        + "\"properties\":{\"audience\":\"operations\",\"type\":\"Error\"},"
+                        + "\"message\":\"Quoted \\\"a\\\"b\\\\c\\nd\\u0001\\\"\\t!\","
+                        + "\"arguments\":[\"a\\\"b\\\\c\\nd\\u0001\"]}");
+    }
+
+    @Test
+    public void valuesWrittenByTypeWhenArgumentsNotStrings() {
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.values(42, 1.5, Double.NaN, true, null, new BigDecimal("0.10"),
+                'x', Locale.CANADA_FRENCH)),
+                "{\"code\":\"JSN-3\",\"pattern\":\"{} {} {} {} {} {} {} {}\","
+                        + "\"properties\":{\"type\":\"Error\"},"
+                        + "\"message\":\"42 1.5 NaN true null 0.10 x fr_CA\","
+                        + "\"arguments\":[42,1.5,\"NaN\",true,null,0.10,\"x\",\"fr_CA\"]}");
+    }
+
+    @Test
+    public void appendedToBufferWhenWrittenRepeatedly() {
+
+        StringBuilder buffer = new StringBuilder("[");
+        JsonMessageWriter.write(MESSAGES.bookUnavailable("A"), buffer);
+        buffer.append(',');
+        JsonMessageWriter.write(MESSAGES.bookUnavailable("B"), buffer);
+        buffer.append(']');
+
+        String first = JsonMessageWriter.toJson(MESSAGES.bookUnavailable("A"));
+        String second = JsonMessageWriter.toJson(MESSAGES.bookUnavailable("B"));
+        assertEquals(buffer.toString(), "[" + first + "," + second + "]");
+    }
+
+    @Test
+    public void failureWrittenWhenArgumentToStringThrows() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Broken");
+            }
+        };
+
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.quoted(broken)).replaceAll(".*\"arguments\":", ""),
+                "[\"[FAILED toString()]\"]}");
+    }
+
+    @Test
+    public void failureWrittenWhenArgumentToStringThrowsError() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new StackOverflowError("Broken");
+            }
+        };
+
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.quoted(broken)).replaceAll(".*\"arguments\":", ""),
+                "[\"[FAILED toString()]\"]}");
+    }
+
+    @Test
+    public void nullWrittenWhenArgumentToStringReturnsNull() {
+        Object empty = new Object() {
+            @Override
+            public String toString() {
+                return null;
+            }
+        };
+
+        assertEquals(JsonMessageWriter.toJson(MESSAGES.quoted(empty)).replaceAll(".*\"arguments\":", ""),
+                "[null]}");
+    }
+
+    @Test
+    public void nullWrittenWhenMessageOfOtherProviderHasNoCodePatternOrText() {
+        assertEquals(JsonMessageWriter.toJson(new IncompleteMessage()),
+                "{\"code\":null,\"pattern\":null,\"properties\":{},\"message\":null,\"arguments\":[]}");
+    }
+
+    @Test
+    public void propertiesEmptyWhenMessageOfOtherProvider() {
+
+        Message message = new Message() {
+
+            @Override
+            public String getPattern() {
+                return "Other {}";
+            }
+
+            @Override
+            public String getPattern(Locale locale) {
+                return getPattern();
+            }
+
+            @Override
+            public String getMessage() {
+                return "Other \"one\"";
+            }
+
+            @Override
+            public String getMessage(Locale locale) {
+                return getMessage();
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[] {"\"one\""};
+            }
+
+            @Override
+            public String getCode() {
+                return "OTH-1";
+            }
+
+            @Override
+            public String getProperty(String name) {
+                return "ignored";
+            }
+        };
+
+        assertEquals(JsonMessageWriter.toJson(message),
+                "{\"code\":\"OTH-1\",\"pattern\":\"Other {}\",\"properties\":{},"
+                        + "\"message\":\"Other \\\"one\\\"\",\"arguments\":[\"\\\"one\\\"\"]}");
+    }
+
+    private static class IncompleteMessage implements Message {
+
+        @Override
+        public String getPattern() {
+            return null;
+        }
+
+        @Override
+        public String getPattern(Locale locale) {
+            return null;
+        }
+
+        @Override
+        public String getMessage() {
+            return null;
+        }
+
+        @Override
+        public String getMessage(Locale locale) {
+            return null;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return new Object[0];
+        }
+
+        @Override
+        public String getCode() {
+            return null;
+        }
+
+        @Override
+        public String getProperty(String name) {
+            return null;
+        }
+    }
+
+    @CodeSpec(pattern = "JSN-{}")
+    @MessageProperty(name = "type", value = "Error")
+    interface JsonMessages {
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        @MessageProperty(name = "audience", value = "customer")
+        Message bookUnavailable(String title);
+
+        @MessageSpec(id = 2, pattern = "Quoted \"{}\"\t!")
+        @MessageProperty(name = "audience", value = "operations")
+        Message quoted(Object value);
+
+        @MessageSpec(id = 3, pattern = "{} {} {} {} {} {} {} {}")
+        Message values(int integer, double decimal, double notNumber, boolean flag, Object nothing, BigDecimal exact,
+                char character, Locale other);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+/**
+ * <p>Measures the cost of calling a method of a repository created by the default provider, as the number of methods
+ * in the repository grows. The per-call latency is expected to be flat.</p>
+ *
+ * <p>Repository interfaces of the required size are generated and compiled on the fly, so a JDK is needed.
+ * Benchmarks are excluded from a regular build, and can be run with <code>mvn test -P benchmark</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class LargeRepositoryBenchmarkTest {
+
+    private static final int[] METHOD_COUNTS = {10, 100, 1000, 2000};
+    private static final int CALLS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Generous, since the numbers are noisy on shared build machines, but enough to catch a linear lookup.
+     */
+    private static final double MAX_SLOWDOWN = 3.0;
+
+    @Test(groups = "benchmark")
+    public void perCallLatencyFlatWhenMethodCountGrows() throws Throwable {
+
+        double[] nanosPerCall = new double[METHOD_COUNTS.length];
+        for (int i = 0; i < METHOD_COUNTS.length; i++) {
+            Class<?> repository = generate(METHOD_COUNTS[i]);
+            nanosPerCall[i] = measure(repository);
+            Reporter.log(String.format("%5d methods: %6.1f ns/call", METHOD_COUNTS[i], nanosPerCall[i]), true);
+        }
+
+        double slowdown = nanosPerCall[nanosPerCall.length - 1] / nanosPerCall[0];
+        assertTrue(slowdown < MAX_SLOWDOWN, String.format("Slowdown %.2f", slowdown));
+    }
+
+    private static double measure(Class<?> repository) throws Throwable {
+
+        Object proxy = Messages.from(repository);
+        InvocationHandler handler = Proxy.getInvocationHandler(proxy);
+
+        // Proxy classes are shared by all proxies of the same interfaces, so each method is called once through
+        // a recording proxy to capture the Method instances that the repository proxy passes to its handler.
+        // Timing the calls through the proxy itself would mostly measure the proxy class generated by the JDK,
+        // whose cost per call grows with the number of its methods regardless of the handler.
+        Method[] methods = repository.getMethods();
+        List<Method> captured = new ArrayList<>(methods.length);
+        Object recorder = Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[] {repository},
+                (p, method, arguments) -> {
+                    captured.add(method);
+                    return handler.invoke(proxy, method, arguments);
+                });
+
+        for (Method method : methods) {
+            method.invoke(recorder, "argument");
+        }
+
+        Method[] calls = captured.toArray(new Method[0]);
+        Object[] arguments = {"argument"};
+
+        long best = Long.MAX_VALUE;
+        int checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                Message message = (Message) handler.invoke(proxy, calls[i % calls.length], arguments);
+                checksum += message.getMessage().length();
+            }
+
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        // keeps the calls from being optimized away
+        assertTrue(checksum != 0);
+        return (double) best / CALLS;
+    }
+
+    private static Class<?> generate(int methodCount) throws IOException, ClassNotFoundException {
+
+        String name = "LargeMessages" + methodCount;
+        StringBuilder source = new StringBuilder("import com.amdocs.textcrate.api.Message;\n")
+                                       .append("import com.amdocs.textcrate.api.annotations.MessageSpec;\n\n")
+                                       .append("public interface ").append(name).append(" {\n");
+        for (int i = 0; i < methodCount; i++) {
+            source.append("    @MessageSpec(id = ").append(i).append(", pattern = \"Message ").append(i % 50)
+                  .append(" with {}\")\n    Message message").append(i).append("(String argument);\n");
+        }
+
+        source.append("}\n");
+
+        Path directory = RepositoryCompiler.compile(Collections.singletonMap(name, source.toString()));
+        return RepositoryCompiler.load(directory, name);
+    }
+}
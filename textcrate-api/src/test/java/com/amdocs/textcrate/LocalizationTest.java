@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Locale;
+import org.testng.annotations.Test;
+
+/**
+ * Tests looking up translated patterns of messages.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class LocalizationTest {
+
+    private static final String REPOSITORY = "com.example.BookBorrowingErrors";
+
+    @Test
+    public void translationUsedWhenAvailableForLocale() throws IOException {
+        Localization localization = new Localization(REPOSITORY, loaderWithGerman());
+        BaseMessageBlueprint.Formatting original = formatting("'{}' is currently not available");
+        assertEquals(getPattern(localization.localize(Locale.GERMAN, 21, original)),
+                "'{}' ist zurzeit nicht verfügbar");
+    }
+
+    @Test
+    public void translationOfLanguageUsedWhenCountryNotTranslated() throws IOException {
+        Localization localization = new Localization(REPOSITORY, loaderWithGerman());
+        BaseMessageBlueprint.Formatting original = formatting("More than {} books");
+        assertEquals(getPattern(localization.localize(Locale.forLanguageTag("de-CH"), 22, original)),
+                "Mehr als {} Bücher");
+    }
+
+    @Test
+    public void originalUsedWhenNotTranslated() throws IOException {
+        Localization localization = new Localization(REPOSITORY, loaderWithGerman());
+        BaseMessageBlueprint.Formatting original = formatting("Card expires soon");
+        assertSame(localization.localize(Locale.GERMAN, 23, original), original);
+        assertSame(localization.localize(Locale.FRENCH, 21, original), original);
+        assertSame(localization.localize(null, 21, original), original);
+    }
+
+    @Test
+    public void translatedMessageRenderedWhenBlueprintLocalized() throws IOException {
+
+        Localization localization = new Localization(REPOSITORY, loaderWithGerman());
+        CodeBlueprint code = new CodeBlueprint(1, new CodeBlueprint.Formatting(20, "{}", new Slf4jFormatter()));
+        BaseMessageBlueprint blueprint = new BaseMessageBlueprint(code,
+                formatting("'{}' is currently not available"), PropertyTable.EMPTY, localization);
+        Object[] arguments = {"Dune"};
+
+        assertEquals(blueprint.getPattern(Locale.GERMAN), "'{}' ist zurzeit nicht verfügbar");
+        assertEquals(blueprint.format(Locale.GERMAN, arguments), "'Dune' ist zurzeit nicht verfügbar");
+        assertEquals(blueprint.format(Locale.ENGLISH, arguments), "'Dune' is currently not available");
+        assertEquals(blueprint.format(arguments), "'Dune' is currently not available");
+    }
+
+    @Test
+    public void originalPatternReturnedWhenRepositoryNotTranslated() {
+        Message message = Messages.from(UntranslatedMessages.class).notTranslated("Dune");
+        assertEquals(message.getPattern(Locale.GERMAN), "Book {} is not translated");
+        assertEquals(message.getMessage(Locale.GERMAN), "Book Dune is not translated");
+    }
+
+    @Test
+    public void classLoaderNotRetainedWhenTranslationsKept() throws IOException {
+
+        ClassLoader classLoader = loaderWithGerman();
+        Translations translations = Translations.forClassLoader(classLoader);
+        assertEquals(translations.find(classLoader, REPOSITORY, 21, Locale.GERMAN),
+                "'{}' ist zurzeit nicht verfügbar");
+
+        WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+        classLoader = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+
+        assertNull(reference.get());
+        assertEquals(translations.find(null, REPOSITORY, 21, Locale.GERMAN), "'{}' ist zurzeit nicht verfügbar");
+    }
+
+    private static ClassLoader loaderWithGerman() throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TranslationCatalogWriter writer = new TranslationCatalogWriter(output, Locale.GERMAN)) {
+            writer.write(REPOSITORY, 21, "'{}' ist zurzeit nicht verfügbar");
+            writer.write(REPOSITORY, 22, "Mehr als {} Bücher");
+        }
+
+        return new ServiceHelperClassLoader(TranslationCatalog.getResourceName(Locale.GERMAN), output.toByteArray(),
+                LocalizationTest.class.getClassLoader());
+    }
+
+    private static BaseMessageBlueprint.Formatting formatting(String pattern) {
+        return new BaseMessageBlueprint.Formatting(pattern, new Slf4jFormatter(), Collections.emptyList());
+    }
+
+    private static String getPattern(BaseMessageBlueprint.Formatting formatting) {
+        return new BaseMessageBlueprint(null, formatting, PropertyTable.EMPTY).getPattern();
+    }
+
+    @CodeSpec(pattern = "UNT-{}")
+    private interface UntranslatedMessages {
+
+        @MessageSpec(id = 1, pattern = "Book {} is not translated")
+        Message notTranslated(String title);
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+/**
+ * Tests querying messages by their properties.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class MessageCatalogTest {
+
+    private static final String TYPE = "type";
+    private static final String AUDIENCE = "audience";
+    private static final String ERROR = "Error";
+    private static final String CUSTOMER = "customer";
+
+    @Test
+    public void messagesFoundWhenPropertyMatches() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, InventoryMessages.class);
+        assertEquals(codes(catalog.find(TYPE, ERROR)), Arrays.asList("BOR-21", "BOR-22", "INV-1"));
+        assertEquals(codes(catalog.find(TYPE, "Warning")), Collections.singletonList("BOR-23"));
+    }
+
+    @Test
+    public void onlyMessagesWithAllPropertiesFoundWhenFindAll() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, InventoryMessages.class);
+        assertEquals(codes(catalog.findAll(properties(ERROR, CUSTOMER))), Collections.singletonList("BOR-22"));
+    }
+
+    @Test
+    public void messagesWithAnyPropertyFoundWhenFindAny() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, InventoryMessages.class);
+        assertEquals(codes(catalog.findAny(properties("Warning", CUSTOMER))), Arrays.asList("BOR-22", "BOR-23"));
+    }
+
+    @Test
+    public void nothingFoundWhenValueUnknown() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class);
+        assertTrue(catalog.find(TYPE, "Info").isEmpty());
+        assertTrue(catalog.find("unknown", ERROR).isEmpty());
+        assertTrue(catalog.findAll(properties(ERROR, "operations")).isEmpty());
+        assertTrue(catalog.findAny(Collections.emptyMap()).isEmpty());
+    }
+
+    @Test
+    public void allMessagesFoundWhenFindAllWithoutProperties() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, InventoryMessages.class);
+        assertEquals(codes(catalog.findAll(Collections.emptyMap())), codes(catalog.getMessages()));
+        assertEquals(catalog.getMessages().size(), 4);
+    }
+
+    @Test
+    public void indexExtendedWhenRepositoryRegisteredAfterQuery() {
+
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class);
+        List<MessageDescriptor> before = catalog.find(TYPE, ERROR);
+        assertEquals(codes(before), Arrays.asList("BOR-21", "BOR-22"));
+
+        catalog.register(InventoryMessages.class);
+        assertEquals(codes(catalog.find(TYPE, ERROR)), Arrays.asList("BOR-21", "BOR-22", "INV-1"));
+        // results of earlier queries are not affected
+        assertEquals(codes(before), Arrays.asList("BOR-21", "BOR-22"));
+    }
+
+    @Test
+    public void messagesIndexedOnceWhenRepositoryRegisteredTwice() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class);
+        catalog.getMessages();
+        catalog.register(BorrowingMessages.class);
+        assertEquals(catalog.getMessages().size(), 3);
+    }
+
+    @Test
+    public void valuesListedWhenPropertyDefined() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, InventoryMessages.class);
+        assertEquals(catalog.getPropertyValues(TYPE), new HashSet<>(Arrays.asList(ERROR, "Warning")));
+        assertTrue(catalog.getPropertyValues("unknown").isEmpty());
+    }
+
+    @Test
+    public void descriptorDescribesMessage() {
+
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(InventoryMessages.class);
+        MessageDescriptor descriptor = catalog.getMessages().get(0);
+
+        assertEquals(descriptor.getRepository(), InventoryMessages.class);
+        assertEquals(descriptor.getMethodName(), "bookMissing");
+        assertEquals(descriptor.getNumericCode(), 1);
+        assertEquals(descriptor.getCode(), "INV-1");
+        assertEquals(descriptor.getPattern(), "Book {} is missing");
+        assertEquals(descriptor.getProperty(TYPE), ERROR);
+    }
+
+    @Test
+    public void inheritedMessagesDescribedByDeclaringInterface() {
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(ExtendedInventoryMessages.class);
+        assertEquals(codes(catalog.find(TYPE, ERROR)), Arrays.asList("INV-1", "EXT-2"));
+    }
+
+    @Test
+    public void staticMethodsNotDescribed() {
+        assertEquals(codes(MessageCatalog.describe(StaticMethodMessages.class)), Collections.singletonList("1"));
+    }
+
+    @Test
+    public void describedRepositoriesIndexedWhenAnotherCannotBeDescribed() throws Exception {
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("MissingFormatter", "public class MissingFormatter extends "
+                                                + "com.amdocs.textcrate.formatters.ToStringFormatter { }\n");
+        sources.put("BrokenMessages", "@com.amdocs.textcrate.api.annotations.MessageFormatter("
+                                              + "type = MissingFormatter.class)\n"
+                                              + "public interface BrokenMessages { }\n");
+        Path directory = RepositoryCompiler.compile(sources);
+        Files.delete(directory.resolve(RepositoryCompiler.PACKAGE.replace('.', '/') + "/MissingFormatter.class"));
+        Class<?> broken = RepositoryCompiler.load(directory, "BrokenMessages");
+
+        MessageCatalog catalog = new MessageCatalog();
+        catalog.register(BorrowingMessages.class, broken, InventoryMessages.class);
+
+        try {
+            catalog.getMessages();
+            fail("Describing a repository with a missing formatter expected to fail");
+        } catch (TypeNotPresentException e) {
+            // the repository that failed can be registered again
+            assertEquals(codes(catalog.getMessages()), Arrays.asList("BOR-21", "BOR-22", "BOR-23", "INV-1"));
+        }
+
+        catalog.register(broken);
+        try {
+            catalog.getMessages();
+            fail("Describing a repository registered again expected to fail again");
+        } catch (TypeNotPresentException e) {
+            assertEquals(catalog.getMessages().size(), 4);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void registrationFailsWhenNotInterface() {
+        new MessageCatalog().register(String.class);
+    }
+
+    private static List<String> codes(List<MessageDescriptor> descriptors) {
+        return descriptors.stream().map(MessageDescriptor::getCode).collect(Collectors.toList());
+    }
+
+    private static Map<String, String> properties(String type, String audience) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(TYPE, type);
+        properties.put(AUDIENCE, audience);
+        return properties;
+    }
+
+    @CodeSpec(pattern = "BOR-{}", offset = 20)
+    @MessageProperty(name = TYPE, value = ERROR)
+    private interface BorrowingMessages {
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        Message bookUnavailable(String title);
+
+        @MessageSpec(id = 2, pattern = "Attempt to borrow more than {} books")
+        @MessageProperty(name = AUDIENCE, value = CUSTOMER)
+        Message tooManyBooks(int maxAllowed);
+
+        @MessageSpec(id = 3, pattern = "Library card of {} expires soon")
+        @MessageProperty(name = TYPE, value = "Warning")
+        Message cardExpiring(String reader);
+
+        Message unannotated();
+    }
+
+    @CodeSpec(pattern = "INV-{}")
+    @MessageProperty(name = TYPE, value = ERROR)
+    private interface InventoryMessages {
+
+        @MessageSpec(id = 1, pattern = "Book {} is missing")
+        Message bookMissing(String title);
+    }
+
+    private interface StaticMethodMessages {
+
+        @MessageSpec(id = 1, pattern = "A message")
+        Message message();
+
+        @MessageSpec(id = 2, pattern = "Not a message")
+        static Message notMessage() {
+            return null;
+        }
+    }
+
+    @CodeSpec(pattern = "EXT-{}")
+    private interface ExtendedInventoryMessages extends InventoryMessages {
+
+        @MessageSpec(id = 2, pattern = "Shelf {} is full")
+        @MessageProperty(name = TYPE, value = ERROR)
+        Message shelfFull(String shelf);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageFormatter;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.formatters.PrintfFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.Test;
+
+/**
+ * Tests recognizing messages in rendered text.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class MessageClassifierTest {
+
+    private static final MessageClassifier CLASSIFIER = MessageClassifier.of(
+            MessageCatalog.describe(ClassifiedMessages.class));
+
+    @Test
+    public void messageAndArgumentsFoundWhenRendered() {
+        MessageMatch match = CLASSIFIER.classify("'Dune' is currently not available").get();
+        assertEquals(match.getDescriptor().getCode(), "CLS-1");
+        assertEquals(match.getArguments(), Collections.singletonList("Dune"));
+    }
+
+    @Test
+    public void everyMessageFoundWhenRenderedWithArguments() {
+
+        ClassifiedMessages messages = Messages.from(ClassifiedMessages.class);
+        List<Message> rendered = Arrays.asList(
+                messages.bookUnavailable("The Left Hand of Darkness"),
+                messages.tooManyBooks(5, "Ursula"),
+                messages.cardExpiring(),
+                messages.bookReserved("Dune", "Paul"),
+                messages.bookOverdue("Emma", 3),
+                messages.escaped("value"),
+                messages.bookReturned("Dune"));
+
+        for (Message message : rendered) {
+            MessageMatch match = CLASSIFIER.classify(message.getMessage()).get();
+            assertEquals(match.getDescriptor().getCode(), message.getCode(), message.getMessage());
+            assertEquals(match.getArguments(), Arrays.stream(message.getArguments()).map(String::valueOf)
+                                                       .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void argumentsEmptyWhenNoPlaceholders() {
+        MessageMatch match = CLASSIFIER.classify("Library card expires soon").get();
+        assertEquals(match.getDescriptor().getCode(), "CLS-3");
+        assertTrue(match.getArguments().isEmpty());
+    }
+
+    @Test
+    public void notFoundWhenLiteralsOutOfPlace() {
+        assertFalse(CLASSIFIER.classify("Note: 'Dune' is currently not available").isPresent());
+        assertFalse(CLASSIFIER.classify("'Dune' is currently not available.").isPresent());
+        assertFalse(CLASSIFIER.classify("Library card expires soon!").isPresent());
+        assertFalse(CLASSIFIER.classify("").isPresent());
+    }
+
+    @Test
+    public void mostSpecificMessageFoundWhenSeveralMatch() {
+        MessageMatch match = CLASSIFIER.classify("Book 'Dune' reserved for Paul").get();
+        assertEquals(match.getDescriptor().getCode(), "CLS-4");
+        assertEquals(match.getArguments(), Arrays.asList("Dune", "Paul"));
+    }
+
+    @Test
+    public void argumentCutWhenContainsFollowingLiteral() {
+        MessageMatch match = CLASSIFIER.classify("Book 'A' reserved for B' reserved for Paul").get();
+        assertEquals(match.getArguments(), Arrays.asList("A", "B' reserved for Paul"));
+    }
+
+    @Test
+    public void literalsFoundInOrderWhenRepeatedInText() {
+        MessageClassifier classifier = MessageClassifier.of(MessageCatalog.describe(ListedMessages.class));
+        MessageMatch match = classifier.classify("Shelves: A, B, C, D and E").get();
+        assertEquals(match.getArguments(), Arrays.asList("A", "B", "C, D", "E"));
+    }
+
+    @Test
+    public void escapedPlaceholderMatchedAsLiteral() {
+        MessageMatch match = CLASSIFIER.classify("Literal {} and value").get();
+        assertEquals(match.getDescriptor().getCode(), "CLS-6");
+        assertEquals(match.getArguments(), Collections.singletonList("value"));
+    }
+
+    @Test
+    public void messageIgnoredWhenNotSlf4jFormat() {
+        MessageClassifier classifier = MessageClassifier.of(MessageCatalog.describe(PrintfMessages.class));
+        assertEquals(classifier.size(), 0);
+        assertFalse(classifier.classify("Printf Dune").isPresent());
+    }
+
+    @Test
+    public void resultsInOrderWhenClassifiedInParallel() {
+
+        List<String> lines = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> lines.add(i % 2 == 0 ? "'Book " + i + "' is currently not available"
+                                                                      : "Unknown line " + i));
+
+        List<Optional<MessageMatch>> results = CLASSIFIER.classifyAll(lines.stream()).collect(Collectors.toList());
+        assertEquals(results.size(), lines.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).map(match -> match.getArguments().get(0)),
+                    i % 2 == 0 ? Optional.of("Book " + i) : Optional.empty());
+        }
+    }
+
+    @Test
+    public void literalsSplitWhenEscapedPlaceholders() {
+        assertEquals(MessageClassifier.splitLiterals("a {} b \\{} c \\\\{} d"), Arrays.asList("a ", " b {} c \\", " d"));
+        assertEquals(MessageClassifier.splitLiterals("{}{}"), Arrays.asList("", "", ""));
+        assertEquals(MessageClassifier.splitLiterals("plain"), Collections.singletonList("plain"));
+    }
+
+    @CodeSpec(pattern = "CLS-{}")
+    interface ClassifiedMessages {
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        Message bookUnavailable(String title);
+
+        @MessageSpec(id = 2, pattern = "More than {} books borrowed by {}")
+        Message tooManyBooks(int limit, String reader);
+
+        @MessageSpec(id = 3, pattern = "Library card expires soon")
+        Message cardExpiring();
+
+        @MessageSpec(id = 4, pattern = "Book '{}' reserved for {}")
+        Message bookReserved(String title, String reader);
+
+        @MessageSpec(id = 5, pattern = "{} is {} days overdue")
+        Message bookOverdue(String title, int days);
+
+        @MessageSpec(id = 6, pattern = "Literal \\{} and {}")
+        Message escaped(String value);
+
+        @MessageSpec(id = 7, pattern = "Book {}")
+        Message bookReturned(String title);
+    }
+
+    interface ListedMessages {
+
+        @MessageSpec(id = 1, pattern = "Shelves: {}, {}, {} and {}")
+        Message shelves(String first, String second, String third, String fourth);
+    }
+
+    @MessageFormatter(type = PrintfFormatter.class)
+    interface PrintfMessages {
+
+        @MessageSpec(id = 1, pattern = "Printf %s")
+        Message printf(String value);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Formatter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CachedRendering;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageFormatter;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.formatters.CachedPatterns;
+import com.amdocs.textcrate.formatters.MessageFormatFormatter;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+/**
+ * Tests formatting messages with overridden patterns.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class MessageOverlayTest {
+
+    private static final OverlaidMessages MESSAGES = Messages.from(OverlaidMessages.class);
+
+    @Test
+    public void overriddenPatternUsedWhenFormattedWithOverlay() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-102", "You may only borrow {} books at a time");
+
+        Message message = MESSAGES.tooManyBooks(5);
+        assertEquals(overlay.format(message), "You may only borrow 5 books at a time");
+        assertEquals(overlay.format(message, Locale.GERMAN), "You may only borrow 5 books at a time");
+        assertEquals(overlay.getPattern(message), "You may only borrow {} books at a time");
+        assertEquals(overlay.size(), 1);
+    }
+
+    @Test
+    public void originalPatternUsedWhenNotOverridden() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-102", "You may only borrow {} books at a time");
+
+        Message message = MESSAGES.bookUnavailable("Dune");
+        assertEquals(overlay.format(message), "'Dune' is currently not available");
+        assertEquals(overlay.getPattern(message), "'{}' is currently not available");
+    }
+
+    @Test
+    public void messagesNotAffectedWhenOverridden() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-102", "You may only borrow {} books at a time");
+
+        Message message = MESSAGES.tooManyBooks(5);
+        assertEquals(message.getMessage(), "More than 5 books");
+        assertEquals(MessageOverlay.named("other").format(message), "More than 5 books");
+    }
+
+    @Test
+    public void overlaysIndependentWhenSameMessageOverridden() throws InvalidPatternException {
+
+        MessageOverlay acme = MessageOverlay.named("acme");
+        acme.override(OverlaidMessages.class, "OVL-102", "Acme allows {} books");
+        MessageOverlay globex = MessageOverlay.named("globex");
+        globex.override(OverlaidMessages.class, "OVL-102", "Globex allows {} books");
+
+        Message message = MESSAGES.tooManyBooks(3);
+        assertEquals(acme.format(message), "Acme allows 3 books");
+        assertEquals(globex.format(message), "Globex allows 3 books");
+    }
+
+    @Test
+    public void originalPatternUsedWhenReset() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-102", "First {}");
+        overlay.override(OverlaidMessages.class, "OVL-102", "Second {}");
+        assertEquals(overlay.format(MESSAGES.tooManyBooks(1)), "Second 1");
+
+        assertTrue(overlay.reset(OverlaidMessages.class, "OVL-102"));
+        assertFalse(overlay.reset(OverlaidMessages.class, "OVL-102"));
+        assertEquals(overlay.format(MESSAGES.tooManyBooks(1)), "More than 1 books");
+        assertEquals(overlay.size(), 0);
+    }
+
+    @Test
+    public void overriddenPatternUsedWhenRenderingCached() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-103", "Card renewal due");
+
+        Message message = MESSAGES.cardExpiring();
+        assertEquals(message.getMessage(), "Library card expires soon");
+        assertEquals(overlay.format(message), "Card renewal due");
+        assertEquals(message.getMessage(), "Library card expires soon");
+    }
+
+    @Test
+    public void allOverridesFoundWhenManyMessagesOverridden() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        overlay.override(OverlaidMessages.class, "OVL-101", "A {}");
+        overlay.override(OverlaidMessages.class, "OVL-102", "B {}");
+        overlay.override(OverlaidMessages.class, "OVL-103", "C");
+
+        assertEquals(overlay.format(MESSAGES.bookUnavailable("x")), "A x");
+        assertEquals(overlay.format(MESSAGES.tooManyBooks(1)), "B 1");
+        assertEquals(overlay.format(MESSAGES.cardExpiring()), "C");
+        assertEquals(overlay.size(), 3);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class)
+    public void exceptionThrownWhenPatternDoesNotMatchParameters() throws InvalidPatternException {
+        MessageOverlay.named("acme").override(OverlaidMessages.class, "OVL-103", "Expires on {}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "No message with code OVL-999 in .*")
+    public void exceptionThrownWhenCodeUnknown() throws InvalidPatternException {
+        MessageOverlay.named("acme").override(OverlaidMessages.class, "OVL-999", "Unknown");
+    }
+
+    @Test
+    public void overrideVisibleWhenAddedConcurrently() throws InvalidPatternException {
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> override(overlay, "OVL-101", "A {}")),
+                CompletableFuture.runAsync(() -> override(overlay, "OVL-102", "B {}")),
+                CompletableFuture.runAsync(() -> override(overlay, "OVL-103", "C"))).join();
+
+        assertEquals(overlay.size(), 3);
+        assertEquals(overlay.format(MESSAGES.cardExpiring()), "C");
+    }
+
+    @Test
+    public void formatterCacheUnchangedWhenOverriddenAndReset() throws InvalidPatternException {
+
+        MessageDescriptor descriptor = MessageCatalog.describe(FormattedMessages.class).get(0);
+        Formatter formatter = ((ResilientFormatter) descriptor.getFormatter()).getDelegate();
+        int cached = CachedPatterns.count(formatter);
+
+        MessageOverlay overlay = MessageOverlay.named("acme");
+        Message message = Messages.from(FormattedMessages.class).booksBorrowed(3);
+        for (int i = 0; i < 1000; i++) {
+            overlay.override(FormattedMessages.class, "FMT-1", "Request " + i + ": {0} books borrowed");
+            assertEquals(overlay.format(message), "Request " + i + ": 3 books borrowed");
+            assertTrue(overlay.reset(FormattedMessages.class, "FMT-1"));
+        }
+
+        assertEquals(CachedPatterns.count(formatter), cached);
+        assertEquals(overlay.size(), 0);
+    }
+
+    private static void override(MessageOverlay overlay, String code, String pattern) {
+
+        try {
+            overlay.override(OverlaidMessages.class, code, pattern);
+        } catch (InvalidPatternException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @CodeSpec(pattern = "FMT-{0}")
+    @MessageFormatter(type = MessageFormatFormatter.class)
+    interface FormattedMessages {
+
+        @MessageSpec(id = 1, pattern = "{0} books borrowed")
+        Message booksBorrowed(int count);
+    }
+
+    @CodeSpec(pattern = "OVL-{}", offset = 100)
+    interface OverlaidMessages {
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        Message bookUnavailable(String title);
+
+        @MessageSpec(id = 2, pattern = "More than {} books")
+        Message tooManyBooks(int limit);
+
+        @CachedRendering
+        @MessageSpec(id = 3, pattern = "Library card expires soon")
+        Message cardExpiring();
+    }
+}
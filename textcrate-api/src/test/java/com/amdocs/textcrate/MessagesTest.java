@@ -20,6 +20,9 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
 import com.amdocs.textcrate.spi.MessagesProvider;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
@@ -78,8 +81,22 @@ public class MessagesTest {
         assertTrue(implementationClass.startsWith(this.getClass().getPackage().getName() + PROXY_CLASS_PREFIX));
     }
 
+    @Test
+    public void repositoryRegisteredWithCatalogWhenLoaded() {
+        Messages.from(CatalogedMessages.class);
+        assertTrue(Messages.getCatalog().find("catalog", "registered").stream()
+                           .anyMatch(descriptor -> descriptor.getRepository() == CatalogedMessages.class));
+    }
+
     private interface MockMessages { /* methods not needed */}
 
+    private interface CatalogedMessages {
+
+        @MessageSpec(id = 1, pattern = "Registered")
+        @MessageProperty(name = "catalog", value = "registered")
+        Message registered();
+    }
+
     private static class MockMessagesImpl implements MockMessages { /* not needed */ }
 
     @SuppressWarnings("WeakerAccess")
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+/**
+ * Tests assigning ordinals to methods of a repository interface.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class MethodTableTest {
+
+    @Test
+    public void denseOrdinalsAssignedToAllMethods() throws NoSuchMethodException {
+
+        MethodTable table = new MethodTable(TableMessages.class);
+        assertEquals(table.size(), 3);
+
+        Set<Integer> ordinals = new HashSet<>();
+        for (String name : new String[] {"first", "second", "third"}) {
+            int ordinal = table.getOrdinal(TableMessages.class.getMethod(name));
+            assertEquals(table.getMethod(ordinal).getName(), name);
+            ordinals.add(ordinal);
+        }
+
+        assertEquals(ordinals.size(), 3);
+    }
+
+    @Test
+    public void sameOrdinalReturnedWhenDifferentInstancesOfMethod() throws NoSuchMethodException {
+
+        Method one = TableMessages.class.getMethod("second");
+        Method another = TableMessages.class.getMethod("second");
+        assertNotSame(one, another);
+
+        MethodTable table = new MethodTable(TableMessages.class);
+        int ordinal = table.getOrdinal(one);
+        assertEquals(table.getOrdinal(one), ordinal);
+        assertEquals(table.getOrdinal(another), ordinal);
+    }
+
+    @Test
+    public void notFoundWhenObjectMethod() throws NoSuchMethodException {
+        MethodTable table = new MethodTable(TableMessages.class);
+        Method toString = Object.class.getMethod("toString");
+        assertEquals(table.getOrdinal(toString), MethodTable.NOT_FOUND);
+        assertEquals(table.getOrdinal(toString), MethodTable.NOT_FOUND);
+    }
+
+    @Test
+    public void ordinalsResolvedWhenManyNewInstancesOfMethods() throws NoSuchMethodException {
+
+        MethodTable table = new MethodTable(TableMessages.class);
+        int ordinal = table.getOrdinal(TableMessages.class.getMethod("third"));
+
+        // more instances than the identity table can hold
+        for (int i = 0; i < 100; i++) {
+            assertEquals(table.getOrdinal(TableMessages.class.getMethod("third")), ordinal);
+        }
+    }
+
+    interface TableMessages {
+
+        @MessageSpec(id = 1, pattern = "First")
+        Message first();
+
+        @MessageSpec(id = 2, pattern = "Second")
+        Message second();
+
+        Message third();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.MessageFormatter;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.formatters.PrintfFormatter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.testng.annotations.Test;
+
+/**
+ * Tests generation of native image configuration.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class NativeImageConfigurationTest {
+
+    @Test
+    public void proxyPerRepositoryWhenMultipleRepositories() {
+        String json = NativeImageConfiguration.of(NativeMessages.class, PrintfNativeMessages.class).proxyConfig();
+        assertEquals(json, "[\n  [\"" + NativeMessages.class.getName() + "\"],\n  [\""
+                                   + PrintfNativeMessages.class.getName() + "\"]\n]\n");
+    }
+
+    @Test
+    public void emptyArraysWhenNoRepositories() {
+        NativeImageConfiguration configuration = NativeImageConfiguration.of();
+        assertEquals(configuration.proxyConfig(), "[]\n");
+        assertEquals(configuration.reflectConfig(), "[]\n");
+    }
+
+    @Test
+    public void parentInterfacesReflectedWhenRepositoryExtendsInterface() {
+        String json = NativeImageConfiguration.of(NativeMessages.class).reflectConfig();
+        assertTrue(json.contains("{\"name\": \"" + NativeMessages.class.getName() + "\", \"allPublicMethods\": true"));
+        assertTrue(json.contains("{\"name\": \"" + CommonMessages.class.getName() + "\", \"allPublicMethods\": true"));
+    }
+
+    @Test
+    public void customFormatterConstructorReflectedWhenNotBuiltIn() {
+        String json = NativeImageConfiguration.of(NativeMessages.class).reflectConfig();
+        assertTrue(json.contains("{\"name\": \"" + FormatterRegistryTest.BoundedSlf4jFormatter.class.getName()
+                                         + "\", \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]}"));
+    }
+
+    @Test
+    public void builtInFormatterNotReflected() {
+        String json = NativeImageConfiguration.of(PrintfNativeMessages.class).reflectConfig();
+        assertFalse(json.contains(PrintfFormatter.class.getName()));
+    }
+
+    @Test
+    public void indexIncludedInResources() {
+        String json = NativeImageConfiguration.of().resourceConfig();
+        assertTrue(json.contains("\"pattern\": \"\\\\QMETA-INF/textcrate/repositories\\\\E\""));
+    }
+
+    @Test
+    public void translationsIncludedInResources() {
+        String json = NativeImageConfiguration.of().resourceConfig();
+        assertTrue(json.contains("\"pattern\": \"\\\\QMETA-INF/textcrate/translations/\\\\E.*\\\\.bin\""));
+    }
+
+    @Test
+    public void translationPatternMatchesCatalogResources() {
+        Pattern pattern = Pattern.compile(Pattern.quote(TranslationCatalog.RESOURCE_DIRECTORY) + ".*\\.bin");
+        assertTrue(pattern.matcher(TranslationCatalog.getResourceName(Locale.forLanguageTag("de-CH"))).matches());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exceptionThrownWhenNotInterface() {
+        NativeImageConfiguration.of(String.class);
+    }
+
+    @Test
+    public void indexedRepositoriesConfigured() throws ClassNotFoundException {
+
+        String index = NativeMessages.class.getName() + "\n";
+        ServiceHelperClassLoader classLoader = new ServiceHelperClassLoader(RepositoryWarmUp.INDEX,
+                index.getBytes(StandardCharsets.UTF_8), Thread.currentThread().getContextClassLoader());
+
+        String json = NativeImageConfiguration.ofIndexed(classLoader).proxyConfig();
+        assertEquals(json, "[\n  [\"" + NativeMessages.class.getName() + "\"]\n]\n");
+    }
+
+    @Test
+    public void filesWrittenWhenMainCalled() throws IOException, ClassNotFoundException {
+
+        Path directory = Files.createTempDirectory("native-image");
+        Path target = directory.resolve("META-INF/native-image/messages");
+        NativeImageConfiguration.main(new String[] {target.toString(), NativeMessages.class.getName()});
+
+        assertEquals(new String(Files.readAllBytes(target.resolve(NativeImageConfiguration.PROXY_CONFIG)),
+                StandardCharsets.UTF_8), NativeImageConfiguration.of(NativeMessages.class).proxyConfig());
+        assertTrue(Files.exists(target.resolve(NativeImageConfiguration.REFLECT_CONFIG)));
+        assertTrue(Files.exists(target.resolve(NativeImageConfiguration.RESOURCE_CONFIG)));
+    }
+
+    interface CommonMessages {
+
+        @MessageSpec(id = 1, pattern = "Common")
+        Message common();
+    }
+
+    @MessageFormatter(type = FormatterRegistryTest.BoundedSlf4jFormatter.class)
+    interface NativeMessages extends CommonMessages {
+
+        @MessageSpec(id = 2, pattern = "Native {}")
+        Message nativeMessage(String argument);
+    }
+
+    @MessageFormatter(type = PrintfFormatter.class)
+    interface PrintfNativeMessages {
+
+        @MessageSpec(id = 1, pattern = "Printf %s")
+        Message printf(String argument);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import com.amdocs.textcrate.api.PropertyKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+/**
+ * Tests precomputed property tables of blueprints.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class PropertyTableTest {
+
+    @Test
+    public void emptyTableReturnedWhenNoProperties() {
+        assertSame(PropertyTable.of(Collections.emptyMap()), PropertyTable.EMPTY);
+        assertNull(PropertyTable.EMPTY.get(PropertyKey.TYPE));
+        assertNull(PropertyTable.EMPTY.get("type"));
+    }
+
+    @Test
+    public void sameValueReturnedWhenLookedUpByNameOrKey() {
+        PropertyTable table = PropertyTable.of(Collections.singletonMap("type", "Error"));
+        assertEquals(table.get("type"), "Error");
+        assertEquals(table.get(PropertyKey.TYPE), "Error");
+        assertNull(table.get(PropertyKey.SEVERITY));
+    }
+
+    @Test
+    public void nullReturnedWhenKeyInternedAfterTable() {
+        PropertyTable table = PropertyTable.of(Collections.singletonMap("audience", "Operations"));
+        assertNull(table.get(PropertyKey.of("interned-after-table")));
+    }
+
+    @Test
+    public void overridesAppliedWhenTableExtended() {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("type", "Error");
+        properties.put("audience", "Operations");
+        PropertyTable table = PropertyTable.of(properties).with(Collections.singletonMap("type", "Warning"));
+
+        assertEquals(table.get(PropertyKey.TYPE), "Warning");
+        assertEquals(table.get(PropertyKey.AUDIENCE), "Operations");
+        assertEquals(table.asMap().size(), 2);
+    }
+
+    @Test
+    public void sameTableReturnedWhenNoOverrides() {
+        PropertyTable table = PropertyTable.of(Collections.singletonMap("type", "Error"));
+        assertSame(table.with(Collections.emptyMap()), table);
+    }
+
+    @Test
+    public void sourceMapCopiedWhenTableCreated() {
+        Map<String, String> properties = new HashMap<>(Collections.singletonMap("type", "Error"));
+        PropertyTable table = PropertyTable.of(properties);
+        properties.put("type", "Warning");
+        assertEquals(table.get(PropertyKey.TYPE), "Error");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void mapUnmodifiable() {
+        PropertyTable.of(Collections.singletonMap("type", "Error")).asMap().put("type", "Warning");
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.spi.MessagesProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+/**
+ * Tests selection and caching of message providers.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class ProviderSelectorTest {
+
+    private static final String SERVICE = "META-INF/services/" + MessagesProvider.class.getName();
+
+    @Test
+    public void sameSelectorReturnedWhenSameClassLoader() {
+        ClassLoader classLoader = classLoader(LowPriorityProvider.class);
+        assertSame(ProviderSelector.forClassLoader(classLoader), ProviderSelector.forClassLoader(classLoader));
+    }
+
+    @Test
+    public void systemClassLoaderUsedWhenClassLoaderNull() {
+        assertSame(ProviderSelector.forClassLoader(null),
+                ProviderSelector.forClassLoader(ClassLoader.getSystemClassLoader()));
+    }
+
+    @Test
+    public void providersSortedByDescendingPriority() {
+
+        List<MessagesProvider> providers = ProviderSelector.forClassLoader(
+                classLoader(LowPriorityProvider.class, DecliningProvider.class, HighPriorityProvider.class))
+                                                   .getProviders();
+
+        assertEquals(providers.size(), 3);
+        assertEquals(providers.get(0).getClass(), HighPriorityProvider.class);
+        assertEquals(providers.get(1).getClass(), DecliningProvider.class);
+        assertEquals(providers.get(2).getClass(), LowPriorityProvider.class);
+    }
+
+    @Test
+    public void highestPriorityProviderWinsWhenSeveralProvide() {
+
+        ClassLoader classLoader = classLoader(LowPriorityProvider.class, HighPriorityProvider.class);
+        Optional<ProviderSelector.Selection<SelectedMessages>> selection =
+                ProviderSelector.forClassLoader(classLoader).select(SelectedMessages.class);
+
+        assertTrue(selection.isPresent());
+        assertEquals(selection.get().getProvider().getClass(), HighPriorityProvider.class);
+        assertEquals(selection.get().getMessages().provider(), "high");
+    }
+
+    @Test
+    public void decliningProviderAskedOnceWhenSameInterface() {
+
+        ClassLoader classLoader = classLoader(DecliningProvider.class, LowPriorityProvider.class);
+        ProviderSelector selector = ProviderSelector.forClassLoader(classLoader);
+        DecliningProvider declining = (DecliningProvider) selector.getProviders().get(0);
+
+        assertEquals(selector.select(SelectedMessages.class).get().getMessages().provider(), "low");
+        assertEquals(selector.select(SelectedMessages.class).get().getMessages().provider(), "low");
+        assertEquals(declining.calls.get(), 1);
+    }
+
+    @Test
+    public void nothingSelectedWhenNoProviders() {
+        ClassLoader classLoader = classLoader(DecliningProvider.class);
+        assertFalse(ProviderSelector.forClassLoader(classLoader).select(SelectedMessages.class).isPresent());
+    }
+
+    @Test
+    public void highestPriorityProviderUsedByMessages() {
+        ClassLoader classLoader = classLoader(LowPriorityProvider.class, HighPriorityProvider.class);
+        assertEquals(Messages.from(SelectedMessages.class, classLoader).provider(), "high");
+    }
+
+    private static ClassLoader classLoader(Class<?>... providers) {
+
+        StringBuilder services = new StringBuilder();
+        for (Class<?> provider : providers) {
+            services.append(provider.getName()).append('\n');
+        }
+
+        return new ServiceHelperClassLoader(SERVICE, services.toString().getBytes(StandardCharsets.UTF_8),
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    interface SelectedMessages {
+
+        String provider();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static class LowPriorityProvider implements MessagesProvider {
+
+        @Override
+        public <T> Optional<T> getMessages(Class<T> clazz) {
+            return Optional.of(clazz.cast((SelectedMessages) () -> "low"));
+        }
+
+        @Override
+        public int getPriority() {
+            return -10;
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static class HighPriorityProvider implements MessagesProvider {
+
+        @Override
+        public <T> Optional<T> getMessages(Class<T> clazz) {
+            return Optional.of(clazz.cast((SelectedMessages) () -> "high"));
+        }
+
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static class DecliningProvider implements MessagesProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public <T> Optional<T> getMessages(Class<T> clazz) {
+            calls.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+}
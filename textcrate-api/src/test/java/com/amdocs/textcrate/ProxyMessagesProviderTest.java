@@ -19,16 +19,26 @@ package com.amdocs.textcrate;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.PropertyKey;
 import com.amdocs.textcrate.api.Validator;
 import com.amdocs.textcrate.api.annotations.CodeSpec;
 import com.amdocs.textcrate.api.annotations.MessageFormatter;
 import com.amdocs.textcrate.api.annotations.MessageProperty;
 import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.api.annotations.Placeholder;
+import com.amdocs.textcrate.formatters.MessageFormatFormatter;
+import com.amdocs.textcrate.formatters.NamedPlaceholderFormatter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Optional;
 import org.testng.annotations.Test;
@@ -121,6 +131,21 @@ public class ProxyMessagesProviderTest {
         assertEquals(message.getMessage(), "Pattern: '{} is still alive!'. Arguments: [This method]");
     }
 
+    @Test
+    public void encodingDelegatedToFormatterWhenRenderedToBytes() throws IOException {
+
+        EncodingMessages messages = new ProxyMessagesProvider().getMessages(EncodingMessages.class)
+                                            .orElseThrow(IllegalStateException::new);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        messages.greet("you").renderTo(buffer);
+        assertEquals(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), "Encoded: Hi, {}");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        messages.greet("you").renderTo(output);
+        assertEquals(new String(output.toByteArray(), StandardCharsets.UTF_8), "Encoded: Hi, {}");
+    }
+
     @Test
     public void messageReturnedEvenWhenFormatterCannotBeInstantiated() {
         final Optional<BadFormatterMessages> messages =
@@ -142,6 +167,106 @@ public class ProxyMessagesProviderTest {
         assertEquals(data.getMessage(), data.getMessage(Locale.FRENCH));
     }
 
+    @Test
+    public void localizedOutputWhenLocalePassedAndFormatterLocaleAware() {
+        final Optional<LocalizedMessages> messages = new ProxyMessagesProvider().getMessages(LocalizedMessages.class);
+        assertTrue(messages.isPresent());
+        final Message data = messages.get().total(1234.5);
+        assertEquals(data.getMessage(Locale.US), "Total: 1,234.5");
+        assertEquals(data.getMessage(Locale.GERMANY), "Total: 1.234,5");
+    }
+
+    @Test
+    public void placeholdersBoundToParametersWhenNamed() {
+        final Optional<NamedMessages> messages = new ProxyMessagesProvider().getMessages(NamedMessages.class);
+        assertTrue(messages.isPresent());
+        assertEquals(messages.get().outOfStock("Downtown", "Dune").getMessage(),
+                "Book 'Dune' is out of stock in Downtown");
+    }
+
+    @Test
+    public void codeSpecOfDeclaringInterfaceAppliedWhenMethodInherited() {
+        final Optional<InheritingMessages> messages = new ProxyMessagesProvider().getMessages(InheritingMessages.class);
+        assertTrue(messages.isPresent());
+        assertEquals(messages.get().notFound("/books").getCode(), "HTTP-404");
+        assertEquals(messages.get().notFound("/books").getMessage(), "Resource /books not found");
+        assertEquals(messages.get().bookLost("Dune").getCode(), "LIB-7");
+    }
+
+    @Test
+    public void codeSpecOfRepositoryAppliedWhenDeclaringInterfaceHasNone() {
+        final Optional<InheritingMessages> messages = new ProxyMessagesProvider().getMessages(InheritingMessages.class);
+        assertTrue(messages.isPresent());
+        assertEquals(messages.get().internalError().getCode(), "LIB-0");
+    }
+
+    @Test
+    public void formatterOfDeclaringInterfaceAppliedWhenMethodInherited() {
+        final Optional<InheritingMessages> messages = new ProxyMessagesProvider().getMessages(InheritingMessages.class);
+        assertTrue(messages.isPresent());
+        assertEquals(messages.get().total(1234.5).getMessage(Locale.GERMANY), "Total: 1.234,5");
+        assertEquals(messages.get().bookLost("Dune").getMessage(), "Book Dune is lost");
+    }
+
+    @Test
+    public void propertiesMergedWhenMethodInherited() {
+        final Optional<InheritingMessages> messages = new ProxyMessagesProvider().getMessages(InheritingMessages.class);
+        assertTrue(messages.isPresent());
+        final Message inherited = messages.get().notFound("/books");
+        assertEquals(inherited.getProperty(PROP_ONE_KEY), "HTTP");
+        assertEquals(inherited.getProperty(PROP_TWO_KEY), PROP_TWO_VALUE);
+        assertEquals(messages.get().bookLost("Dune").getProperty(PROP_ONE_KEY), PROP_ONE_VALUE);
+    }
+
+    @Test
+    public void annotationsOfIntermediateInterfaceAppliedWhenMethodInheritedIndirectly() {
+        final Optional<BranchMessages> messages = new ProxyMessagesProvider().getMessages(BranchMessages.class);
+        assertTrue(messages.isPresent());
+        final Message inherited = messages.get().closed("Downtown");
+        assertEquals(inherited.getCode(), "STORE-3");
+        assertEquals(inherited.getMessage(), "Store Downtown is closed");
+        assertEquals(inherited.getProperty(PROP_ONE_KEY), "Store");
+        assertEquals(inherited.getProperty(PROP_TWO_KEY), PROP_TWO_VALUE);
+        assertEquals(messages.get().relocated("Uptown").getCode(), "BRANCH-5");
+    }
+
+    @Test
+    public void inheritedMethodsWarmedUp() {
+        assertEquals(ProxyMessagesProvider.warmUp(Messages.from(InheritingMessages.class)).orElse(0), 4);
+    }
+
+    @Test
+    public void methodPropertiesOverrideRepositoryProperties() {
+        final Optional<MessagesWithProperties> messages =
+                new ProxyMessagesProvider().getMessages(MessagesWithProperties.class);
+        assertTrue(messages.isPresent());
+        final Message data = messages.get().withOwnProperties();
+        assertEquals(data.getProperty(PROP_ONE_KEY), PROP_ONE_VALUE);
+        assertEquals(data.getProperty(PROP_TWO_KEY), "Two");
+        assertEquals(data.getProperty("three"), "3");
+    }
+
+    @Test
+    public void propertiesFoundWhenLookedUpByKey() {
+        final Optional<MessagesWithProperties> messages =
+                new ProxyMessagesProvider().getMessages(MessagesWithProperties.class);
+        assertTrue(messages.isPresent());
+        final Message data = messages.get().withOwnProperties();
+        assertEquals(data.getProperty(PropertyKey.of(PROP_ONE_KEY)), PROP_ONE_VALUE);
+        assertEquals(data.getProperty(PropertyKey.of(PROP_TWO_KEY)), "Two");
+        assertNull(data.getProperty(PropertyKey.AUDIENCE));
+    }
+
+    @Test
+    public void methodPropertiesRetainedEvenWhenUnannotatedMessage() {
+        final Optional<MessagesWithProperties> messages =
+                new ProxyMessagesProvider().getMessages(MessagesWithProperties.class);
+        assertTrue(messages.isPresent());
+        final Message data = messages.get().unAnnotatedWithProperty();
+        assertEquals(data.getProperty(PROP_ONE_KEY), "One");
+        assertEquals(data.getProperty(PropertyKey.of(PROP_TWO_KEY)), PROP_TWO_VALUE);
+    }
+
     @Test
     public void sameOutputWhenLocalePassedToUnannotatedMessage() {
         final Optional<TestMessages> messages =
@@ -293,11 +418,76 @@ public class ProxyMessagesProviderTest {
         Message hello(String name);
     }
 
+    @MessageFormatter(type = MessageFormatFormatter.class)
+    private interface LocalizedMessages {
+
+        @MessageSpec(id = 1, pattern = "Total: {0,number}")
+        Message total(double amount);
+    }
+
+    @MessageFormatter(type = NamedPlaceholderFormatter.class)
+    private interface NamedMessages {
+
+        @MessageSpec(id = 12, pattern = "Book '{title}' is out of stock in {store}")
+        Message outOfStock(@Placeholder("store") String store, @Placeholder("title") String title);
+    }
+
+    @CodeSpec(pattern = "HTTP-{}", offset = 400)
+    @MessageProperty(name = PROP_ONE_KEY, value = "HTTP")
+    private interface HttpErrors {
+
+        @MessageSpec(id = 4, pattern = "Resource {} not found")
+        Message notFound(String path);
+    }
+
+    private interface ServerErrors {
+
+        @MessageSpec(id = 0, pattern = "Internal error")
+        Message internalError();
+    }
+
+    private interface StoreStatus {
+
+        @MessageSpec(id = 3, pattern = "Store {0} is closed")
+        Message closed(String store);
+    }
+
+    @CodeSpec(pattern = "STORE-{0}")
+    @MessageFormatter(type = MessageFormatFormatter.class)
+    @MessageProperty(name = PROP_ONE_KEY, value = "Store")
+    private interface StoreMessages extends StoreStatus { }
+
+    @CodeSpec(pattern = "BRANCH-{}")
+    @MessageProperty(name = PROP_ONE_KEY, value = PROP_ONE_VALUE)
+    @MessageProperty(name = PROP_TWO_KEY, value = PROP_TWO_VALUE)
+    private interface BranchMessages extends StoreMessages {
+
+        @MessageSpec(id = 5, pattern = "Branch moved to {}")
+        Message relocated(String store);
+    }
+
+    @CodeSpec(pattern = "LIB-{}")
+    @MessageProperty(name = PROP_ONE_KEY, value = PROP_ONE_VALUE)
+    @MessageProperty(name = PROP_TWO_KEY, value = PROP_TWO_VALUE)
+    private interface InheritingMessages extends HttpErrors, ServerErrors, LocalizedMessages {
+
+        @MessageSpec(id = 7, pattern = "Book {} is lost")
+        Message bookLost(String title);
+    }
+
     @MessageProperty(name = PROP_ONE_KEY, value = PROP_ONE_VALUE)
     @MessageProperty(name = PROP_TWO_KEY, value = PROP_TWO_VALUE)
     private interface MessagesWithProperties {
 
         Message unAnnotated(String argument);
+
+        @MessageProperty(name = PROP_ONE_KEY, value = "One")
+        Message unAnnotatedWithProperty();
+
+        @MessageSpec(id = 3, pattern = "Own properties")
+        @MessageProperty(name = PROP_TWO_KEY, value = "Two")
+        @MessageProperty(name = "three", value = "3")
+        Message withOwnProperties();
     }
 
     @MessageFormatter(type = FailingFormatter.class)
@@ -307,6 +497,13 @@ public class ProxyMessagesProviderTest {
         Message isAlive(String who);
     }
 
+    @MessageFormatter(type = EncodingOnlyFormatter.class)
+    private interface EncodingMessages {
+
+        @MessageSpec(id = 1, pattern = "Hi, {}")
+        Message greet(String who);
+    }
+
     @MessageFormatter(type = NonInstantiableFormatter.class)
     private interface BadFormatterMessages {
 
@@ -333,6 +530,46 @@ public class ProxyMessagesProviderTest {
         }
     }
 
+    /**
+     * Can only encode messages, so that a message would fall back if rendered via a string.
+     */
+    @SuppressWarnings("WeakerAccess") // class accessed using reflection
+    static class EncodingOnlyFormatter implements Formatter {
+
+        @Override
+        public String format(String pattern, Object... arguments) {
+            throw new UnsupportedOperationException("format");
+        }
+
+        @Override
+        public CompiledPattern compile(String pattern) {
+
+            byte[] encoded = ("Encoded: " + pattern).getBytes(StandardCharsets.UTF_8);
+            return new CompiledPattern() {
+
+                @Override
+                public String format(Object... arguments) {
+                    throw new UnsupportedOperationException("format");
+                }
+
+                @Override
+                public void encodeTo(ByteBuffer destination, Locale locale, Object... arguments) {
+                    destination.put(encoded);
+                }
+
+                @Override
+                public ByteBuffer encodeGrowing(ByteBuffer destination, Locale locale, Object... arguments) {
+                    return destination.put(encoded);
+                }
+            };
+        }
+
+        @Override
+        public Optional<Validator> getValidator() {
+            return Optional.empty();
+        }
+    }
+
     static class NonInstantiableFormatter implements Formatter {
 
         NonInstantiableFormatter() {
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CachedRendering;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.formatters.Slf4jFormatter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+/**
+ * Tests caching of rendered messages.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RenderCacheTest {
+
+    private static final MessageBlueprint BLUEPRINT = new BaseMessageBlueprint(null,
+            new BaseMessageBlueprint.Formatting("Service {} unavailable", new Slf4jFormatter()), Collections.emptyMap());
+
+    @Test
+    public void renderedOnceWhenSameArguments() {
+
+        RenderCache cache = new RenderCache(10);
+        AtomicInteger renders = new AtomicInteger();
+        Object[] arguments = {"billing"};
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(cache.get(BLUEPRINT, null, arguments, () -> render(renders, arguments)),
+                    "Service billing unavailable");
+        }
+
+        assertEquals(renders.get(), 1);
+        RenderCacheStats stats = cache.stats();
+        assertEquals(stats.getHitCount(), 4);
+        assertEquals(stats.getMissCount(), 1);
+        assertEquals(stats.getSize(), 1);
+        assertEquals(stats.getHitRate(), 0.8, 0.0001);
+    }
+
+    @Test
+    public void renderedAgainWhenLocaleDifferent() {
+
+        RenderCache cache = new RenderCache(10);
+        AtomicInteger renders = new AtomicInteger();
+        Object[] arguments = {"billing"};
+
+        cache.get(BLUEPRINT, null, arguments, () -> render(renders, arguments));
+        cache.get(BLUEPRINT, Locale.US, arguments, () -> render(renders, arguments));
+        cache.get(BLUEPRINT, Locale.US, arguments, () -> render(renders, arguments));
+
+        assertEquals(renders.get(), 2);
+    }
+
+    @Test
+    public void cachedMessageUnaffectedWhenArgumentArrayChanged() {
+
+        RenderCache cache = new RenderCache(10);
+        Object[] arguments = {"billing"};
+        cache.get(BLUEPRINT, null, arguments, () -> BLUEPRINT.format(arguments));
+
+        arguments[0] = "shipping";
+        assertEquals(cache.get(BLUEPRINT, null, arguments, () -> BLUEPRINT.format(arguments)),
+                "Service shipping unavailable");
+    }
+
+    @Test
+    public void sizeNeverExceedsMaximumWhenManyDifferentMessages() {
+
+        RenderCache cache = new RenderCache(8);
+        for (int i = 0; i < 1000; i++) {
+            Object[] arguments = {i};
+            cache.get(BLUEPRINT, null, arguments, () -> BLUEPRINT.format(arguments));
+        }
+
+        RenderCacheStats stats = cache.stats();
+        assertTrue(stats.getSize() <= 8);
+        assertEquals(stats.getMaximumSize(), 8);
+    }
+
+    @Test
+    public void popularMessageKeptWhenOneOffMessagesRendered() {
+
+        RenderCache cache = new RenderCache(4);
+        AtomicInteger renders = new AtomicInteger();
+        Object[] popular = {"billing"};
+
+        for (int i = 0; i < 200; i++) {
+            cache.get(BLUEPRINT, null, popular, () -> render(renders, popular));
+            Object[] oneOff = {"one-off-" + i};
+            cache.get(BLUEPRINT, null, oneOff, () -> BLUEPRINT.format(oneOff));
+        }
+
+        assertEquals(renders.get(), 1);
+    }
+
+    @Test
+    public void cacheableWhenImmutableArguments() {
+        assertTrue(RenderCache.isCacheable(new Object[] {"a", 1, 2L, null, LocalDate.MIN, TimeUnit.SECONDS}));
+        assertTrue(RenderCache.isCacheable(new Object[0]));
+    }
+
+    @Test
+    public void notCacheableWhenMutableArgument() {
+        assertFalse(RenderCache.isCacheable(new Object[] {"a", new ArrayList<>()}));
+        assertFalse(RenderCache.isCacheable(new Object[] {new StringBuilder("a")}));
+        assertFalse(RenderCache.isCacheable(new Object[] {new int[] {1}}));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void creationFailsWhenSizeNotPositive() {
+        new RenderCache(0);
+    }
+
+    @Test
+    public void statisticsAvailableWhenRepositoryCached() {
+
+        CachedMessages messages = Messages.from(CachedMessages.class);
+        Message first = messages.unavailable("billing");
+        Message second = messages.unavailable("billing");
+        assertEquals(first.getMessage(), second.getMessage());
+
+        RenderCacheStats stats = Messages.getRenderCacheStats(messages).orElseThrow(AssertionError::new);
+        assertEquals(stats.getHitCount(), 1);
+        assertEquals(stats.getMissCount(), 1);
+        assertEquals(stats.getMaximumSize(), 64);
+    }
+
+    @Test
+    public void onlyAnnotatedMethodCachedWhenRepositoryNotAnnotated() {
+
+        PartiallyCachedMessages messages = Messages.from(PartiallyCachedMessages.class);
+        messages.cached("a").getMessage();
+        messages.notCached("a").getMessage();
+        messages.notCached("a").getMessage();
+
+        RenderCacheStats stats = Messages.getRenderCacheStats(messages).orElseThrow(AssertionError::new);
+        assertEquals(stats.getMissCount(), 1);
+        assertEquals(stats.getMaximumSize(), CachedRendering.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void noStatisticsWhenRepositoryNotCached() {
+        assertFalse(Messages.getRenderCacheStats(Messages.from(UncachedMessages.class)).isPresent());
+    }
+
+    private static String render(AtomicInteger renders, Object[] arguments) {
+        renders.incrementAndGet();
+        return BLUEPRINT.format(arguments);
+    }
+
+    @CachedRendering(maximumSize = 64)
+    private interface CachedMessages {
+
+        @MessageSpec(id = 1, pattern = "Service {} unavailable")
+        Message unavailable(String service);
+    }
+
+    private interface PartiallyCachedMessages {
+
+        @CachedRendering
+        @MessageSpec(id = 1, pattern = "Cached {}")
+        Message cached(String argument);
+
+        @MessageSpec(id = 2, pattern = "Not cached {}")
+        Message notCached(String argument);
+    }
+
+    private interface UncachedMessages {
+
+        @MessageSpec(id = 1, pattern = "Not cached")
+        Message notCached();
+    }
+}
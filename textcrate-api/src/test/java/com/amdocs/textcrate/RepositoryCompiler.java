@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+
+import com.amdocs.textcrate.api.Message;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.testng.SkipException;
+
+/**
+ * Compiles repositories on the fly, for tests that depend on how a repository has been compiled or loaded. A JDK is
+ * needed, otherwise the test is skipped.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class RepositoryCompiler {
+
+    static final String PACKAGE = "com.amdocs.textcrate.generated";
+
+    private RepositoryCompiler() { /* prevent instantiation */ }
+
+    /**
+     * Compiles types of the generated package into a new directory.
+     *
+     * @param sources source code by simple type name
+     * @param options additional compiler options
+     * @return directory with the compiled classes
+     */
+    static Path compile(Map<String, String> sources, String... options) throws IOException {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new SkipException("A Java compiler is required to generate repositories");
+        }
+
+        Path directory = Files.createTempDirectory("repositories");
+        String classPath = new File(Message.class.getProtectionDomain().getCodeSource().getLocation().getPath())
+                                   .getPath();
+        List<String> arguments = new ArrayList<>(Arrays.asList(options));
+        arguments.addAll(Arrays.asList("-classpath", classPath, "-d", directory.toString()));
+
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = directory.resolve(source.getKey() + ".java");
+            Files.write(file, ("package " + PACKAGE + ";\n\n" + source.getValue()).getBytes(StandardCharsets.UTF_8));
+            arguments.add(file.toString());
+        }
+
+        assertEquals(compiler.run(null, null, null, arguments.toArray(new String[0])), 0);
+        return directory;
+    }
+
+    /**
+     * Loads a compiled type with a new class loader.
+     *
+     * @param directory directory with the compiled classes
+     * @param name simple type name
+     * @return loaded type
+     */
+    static Class<?> load(Path directory, String name) throws IOException, ClassNotFoundException {
+        ClassLoader classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()},
+                RepositoryCompiler.class.getClassLoader());
+        return Class.forName(PACKAGE + "." + name, true, classLoader);
+    }
+}
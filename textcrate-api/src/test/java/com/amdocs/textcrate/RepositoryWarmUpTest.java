@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/**
+ * Tests warming up of message repositories.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RepositoryWarmUpTest {
+
+    @Test
+    public void allAnnotatedMethodsWarmedUpWhenDefaultProvider() {
+
+        WarmUpMessages messages = Messages.from(WarmUpMessages.class);
+        WarmUpReport report = Messages.warmUp(messages);
+
+        assertTrue(report.isSuccessful());
+        assertEquals(report.getEntries().size(), 1);
+
+        WarmUpReport.Entry entry = report.getEntries().get(0);
+        assertEquals(entry.getRepositoryName(), WarmUpMessages.class.getName());
+        assertEquals(entry.getBlueprintCount(), 2);
+        assertSame(entry.getRepository().orElse(null), messages);
+        assertFalse(entry.getFailure().isPresent());
+        assertEquals(messages.first().getCode(), "W-1");
+    }
+
+    @Test
+    public void nothingWarmedUpWhenCustomImplementation() {
+
+        WarmUpReport report = Messages.warmUp(new CustomWarmUpMessages());
+
+        assertTrue(report.isSuccessful());
+        assertEquals(report.getEntries().get(0).getRepositoryName(), WarmUpMessages.class.getName());
+        assertEquals(report.getEntries().get(0).getBlueprintCount(), 0);
+    }
+
+    @Test
+    public void entriesInOrderWhenMultipleRepositories() {
+
+        WarmUpReport report = Messages.warmUp(Messages.from(WarmUpMessages.class),
+                Messages.from(OtherWarmUpMessages.class));
+
+        assertEquals(report.getEntries().size(), 2);
+        assertEquals(report.getEntries().get(0).getRepositoryName(), WarmUpMessages.class.getName());
+        assertEquals(report.getEntries().get(1).getRepositoryName(), OtherWarmUpMessages.class.getName());
+        assertEquals(report.getEntries().get(1).getBlueprintCount(), 1);
+    }
+
+    @Test
+    public void indexedRepositoriesCreatedAndWarmedUp() {
+
+        String index = "# repositories of this module\n"
+                               + WarmUpMessages.class.getName() + "\n\n"
+                               + "com.amdocs.textcrate.NoSuchMessages\n"
+                               + WarmUpMessages.class.getName() + "\n";
+
+        ServiceHelperClassLoader classLoader = new ServiceHelperClassLoader(RepositoryWarmUp.INDEX,
+                index.getBytes(StandardCharsets.UTF_8), Thread.currentThread().getContextClassLoader());
+        WarmUpReport report = Messages.warmUpIndexed(classLoader);
+
+        assertFalse(report.isSuccessful());
+
+        List<WarmUpReport.Entry> entries = report.getEntries();
+        assertEquals(entries.size(), 2);
+        assertEquals(entries.get(0).getBlueprintCount(), 2);
+        assertTrue(entries.get(0).getRepository().orElse(null) instanceof WarmUpMessages);
+        assertEquals(entries.get(1).getRepositoryName(), "com.amdocs.textcrate.NoSuchMessages");
+        assertTrue(entries.get(1).getFailure().orElse(null) instanceof ClassNotFoundException);
+        assertFalse(entries.get(1).getRepository().isPresent());
+    }
+
+    @CodeSpec(pattern = "W-{}")
+    private interface WarmUpMessages {
+
+        @MessageSpec(id = 1, pattern = "First")
+        Message first();
+
+        @MessageSpec(id = 2, pattern = "Second {}")
+        Message second(String argument);
+
+        Message unannotated();
+    }
+
+    private interface OtherWarmUpMessages {
+
+        @MessageSpec(id = 1, pattern = "Other")
+        Message other();
+    }
+
+    private static class CustomWarmUpMessages implements WarmUpMessages {
+
+        @Override
+        public Message first() {
+            return null;
+        }
+
+        @Override
+        public Message second(String argument) {
+            return null;
+        }
+
+        @Override
+        public Message unannotated() {
+            return null;
+        }
+    }
+}
@@ -21,11 +21,18 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.Formatter;
 import com.amdocs.textcrate.api.InvalidPatternException;
 import com.amdocs.textcrate.api.Validator;
+import com.amdocs.textcrate.formatters.NamedPlaceholderFormatter;
 import com.amdocs.textcrate.formatters.Slf4jFormatter;
 import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import org.testng.annotations.Test;
@@ -90,6 +97,75 @@ public class ResilientFormatterTest {
         assertSame(formatter, validator.get());
     }
 
+    @Test
+    public void compiledFormattingDelegatedWhenInputCorrect() {
+        SpyFormatter spy = new SpyFormatter();
+        CompiledPattern compiled = new ResilientFormatter(new Slf4jFormatter(), spy).compile("Hello, {}!");
+        assertEquals(compiled.format("world"), "Hello, world!");
+        assertFalse(spy.formatted);
+    }
+
+    @Test
+    public void compiledFormattingFallsBackWhenDelegateFails() {
+        SpyFormatter spy = new SpyFormatter();
+        CompiledPattern compiled = new ResilientFormatter(new BrokenFormatter(), spy).compile("Pattern");
+        assertEquals(compiled.format(), FALLBACK_OUTPUT);
+        assertTrue(spy.formatted);
+    }
+
+    @Test
+    public void partialOutputDiscardedWhenCompiledFormattingFallsBack() {
+        StringBuilder builder = new StringBuilder("Message: ");
+        CompiledPattern compiled = new ResilientFormatter(new PartiallyWritingFormatter(), new SpyFormatter())
+                                           .compile("Pattern");
+        compiled.formatTo(builder);
+        assertEquals(builder.toString(), "Message: " + FALLBACK_OUTPUT);
+    }
+
+    @Test
+    public void partialOutputDiscardedWhenEncodingFallsBack() {
+        ByteBuffer buffer = ByteBuffer.allocate(64).put((byte) '>');
+        CompiledPattern compiled = new ResilientFormatter(new PartiallyWritingFormatter(), new SpyFormatter())
+                                           .compile("Pattern");
+        compiled.encodeTo(buffer, null);
+        assertEquals(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), ">" + FALLBACK_OUTPUT);
+    }
+
+    @Test
+    public void encodingDelegatedWhenInputCorrect() {
+        SpyFormatter spy = new SpyFormatter();
+        CompiledPattern compiled = new ResilientFormatter(new Slf4jFormatter(), spy).compile("Hello, {}!");
+        ByteBuffer buffer = compiled.encodeGrowing(ByteBuffer.allocate(4), null, "world");
+        assertEquals(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), "Hello, world!");
+        assertFalse(spy.formatted);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void doesNotFallBackWhenBufferTooSmall() {
+        SpyFormatter spy = new SpyFormatter();
+        try {
+            new ResilientFormatter(new Slf4jFormatter(), spy).compile("Hello, {}!")
+                    .encodeTo(ByteBuffer.allocate(4), null, "world");
+        } finally {
+            assertFalse(spy.formatted);
+        }
+    }
+
+    @Test
+    public void compilationFallsBackWhenDelegateCannotCompile() {
+        SpyFormatter spy = new SpyFormatter();
+        CompiledPattern compiled = new ResilientFormatter(new NonCompilingFormatter(), spy).compile("Pattern");
+        assertEquals(compiled.format(), FALLBACK_OUTPUT);
+        assertTrue(spy.formatted);
+    }
+
+    @Test
+    public void parameterNamesPassedWhenCompiledForMethod() {
+        CompiledPattern compiled = new ResilientFormatter(new NamedPlaceholderFormatter(), new SpyFormatter())
+                                           .compile("{b}{a}", Arrays.asList("a", "b"));
+        assertEquals(compiled.format("1", "2"), "21");
+    }
+
     @Test(expectedExceptions = InvalidPatternException.class)
     public void doesNotFallsBackWhenExpectedError() throws InvalidPatternException {
 
@@ -156,4 +232,38 @@ public class ResilientFormatterTest {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    private static class PartiallyWritingFormatter extends NonValidatingFormatter {
+
+        @Override
+        public CompiledPattern compile(String pattern) {
+            return new CompiledPattern() {
+
+                @Override
+                public String format(Object... arguments) {
+                    throw new IllegalStateException();
+                }
+
+                @Override
+                public void formatTo(StringBuilder destination, Object... arguments) {
+                    destination.append("partial");
+                    throw new IllegalStateException();
+                }
+
+                @Override
+                public void encodeTo(ByteBuffer destination, Locale locale, Object... arguments) {
+                    destination.put("partial".getBytes(StandardCharsets.UTF_8));
+                    throw new IllegalStateException();
+                }
+            };
+        }
+    }
+
+    private static class NonCompilingFormatter extends NonValidatingFormatter {
+
+        @Override
+        public CompiledPattern compile(String pattern) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Enumeration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Allows loading resources from memory via a custom class loader and URL protocol.
@@ -41,20 +42,28 @@ class ServiceHelperClassLoader extends ClassLoader {
 
     private static final InMemoryURLStreamHandler HANDLER = new InMemoryURLStreamHandler();
 
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
     static {
         // register the protocol
         URL.setURLStreamHandlerFactory(protocol -> PROTOCOL.equals(protocol) ? HANDLER : null);
     }
 
+    private final String resourceName;
+    private final String resourcePath;
+
     public ServiceHelperClassLoader(String resourceName, byte[] resourceContent, ClassLoader parent) {
         super(parent);
-        HANDLER.add(resourceName, resourceContent);
+        // each instance serves only its own resource, even if another instance uses the same name
+        this.resourceName = resourceName;
+        this.resourcePath = INSTANCES.incrementAndGet() + "/" + resourceName;
+        HANDLER.add(resourcePath, resourceContent);
     }
 
     @Override
     public Enumeration<URL> getResources(String name) throws IOException {
-        return HANDLER.contains(name)
-                       ? Collections.enumeration(Collections.singletonList(new URL(URL_PREFIX + name)))
+        return resourceName.equals(name)
+                       ? Collections.enumeration(Collections.singletonList(new URL(URL_PREFIX + resourcePath)))
                        : Collections.emptyEnumeration();
     }
 
@@ -66,10 +75,6 @@ class ServiceHelperClassLoader extends ClassLoader {
             resources.put(name, content);
         }
 
-        boolean contains(String name) {
-            return resources.containsKey(name);
-        }
-
         @Override
         protected URLConnection openConnection(URL url) {
             String name = Objects.requireNonNull(url, "URL cannot be null")
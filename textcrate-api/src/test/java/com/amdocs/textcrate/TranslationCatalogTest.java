@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+/**
+ * Tests writing and reading compiled translations.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class TranslationCatalogTest {
+
+    private static final String REPOSITORY = "com.example.BookBorrowingErrors";
+
+    @Test
+    public void translationsReadWhenWritten() throws IOException {
+
+        TranslationCatalog catalog = TranslationCatalog.read(new ByteArrayInputStream(write(Locale.GERMAN)));
+
+        assertEquals(catalog.getLocale(), Locale.GERMAN);
+        assertEquals(catalog.size(), 3);
+        assertEquals(catalog.getPattern(REPOSITORY, 21), Optional.of("'{}' ist zurzeit nicht verfügbar"));
+        assertEquals(catalog.getPattern(REPOSITORY, 22), Optional.of("Mehr als {} Bücher"));
+        assertEquals(catalog.getPattern("com.example.Other", 1), Optional.of("Andere"));
+    }
+
+    @Test
+    public void emptyWhenNotTranslated() throws IOException {
+        TranslationCatalog catalog = TranslationCatalog.read(new ByteArrayInputStream(write(Locale.GERMAN)));
+        assertFalse(catalog.getPattern(REPOSITORY, 23).isPresent());
+        assertFalse(catalog.getPattern("com.example.Unknown", 21).isPresent());
+    }
+
+    @Test
+    public void laterCatalogWinsWhenMerged() throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TranslationCatalogWriter writer = new TranslationCatalogWriter(output, Locale.GERMAN)) {
+            writer.write(REPOSITORY, 22, "Zu viele Bücher");
+            writer.write(REPOSITORY, 24, "Neu");
+        }
+
+        TranslationCatalog merged = TranslationCatalog.read(new ByteArrayInputStream(write(Locale.GERMAN)))
+                                            .merge(TranslationCatalog.read(
+                                                    new ByteArrayInputStream(output.toByteArray())));
+        assertEquals(merged.size(), 4);
+        assertEquals(merged.getPattern(REPOSITORY, 21), Optional.of("'{}' ist zurzeit nicht verfügbar"));
+        assertEquals(merged.getPattern(REPOSITORY, 22), Optional.of("Zu viele Bücher"));
+    }
+
+    @Test
+    public void resourceNameContainsLanguageTag() {
+        assertEquals(TranslationCatalog.getResourceName(Locale.forLanguageTag("de-CH")),
+                "META-INF/textcrate/translations/de-CH.bin");
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Not a translation catalog")
+    public void readingFailsWhenNotCatalog() throws IOException {
+        TranslationCatalog.read(new ByteArrayInputStream("Not a catalog".getBytes("UTF-8")));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readingFailsWhenTruncated() throws IOException {
+        byte[] bytes = write(Locale.GERMAN);
+        byte[] truncated = new byte[bytes.length - 5];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        TranslationCatalog.read(new ByteArrayInputStream(truncated));
+    }
+
+    static byte[] write(Locale locale) throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TranslationCatalogWriter writer = new TranslationCatalogWriter(output, locale)) {
+            writer.write(REPOSITORY, 21, "'{}' ist zurzeit nicht verfügbar");
+            writer.write(REPOSITORY, 22, "Mehr als {} Bücher");
+            writer.write("com.example.Other", 1, "Andere");
+            assertEquals(writer.getCount(), 3);
+        }
+
+        return output.toByteArray();
+    }
+}
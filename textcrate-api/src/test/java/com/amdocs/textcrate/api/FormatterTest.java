@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+/**
+ * Tests default behavior of the formatter SPI.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class FormatterTest {
+
+    private static final Formatter FORMATTER = new Formatter() {
+
+        @Override
+        public String format(String pattern, Object... arguments) {
+            return pattern + Arrays.toString(arguments);
+        }
+
+        @Override
+        public Optional<Validator> getValidator() {
+            return Optional.empty();
+        }
+    };
+
+    @Test
+    public void compiledPatternDelegatesToFormatterByDefault() {
+        assertEquals(FORMATTER.compile("P").format(1, 2), "P[1, 2]");
+    }
+
+    @Test
+    public void compiledPatternAppendsToBuilderByDefault() {
+        StringBuilder builder = new StringBuilder(">");
+        FORMATTER.compile("P").formatTo(builder, "a");
+        assertEquals(builder.toString(), ">P[a]");
+    }
+
+    @Test
+    public void formatterNotShareableByDefault() {
+        assertFalse(FORMATTER.isShareable());
+    }
+}
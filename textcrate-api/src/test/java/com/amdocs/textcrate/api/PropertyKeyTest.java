@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.api;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests interning of property names.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class PropertyKeyTest {
+
+    @Test
+    public void sameKeyReturnedWhenSameName() {
+        assertSame(PropertyKey.of("type"), PropertyKey.TYPE);
+        assertSame(PropertyKey.of(new String("interned")), PropertyKey.of("interned"));
+    }
+
+    @Test
+    public void slotsDifferentWhenNamesDifferent() {
+        assertNotEquals(PropertyKey.of("first-slot").getSlot(), PropertyKey.of("second-slot").getSlot());
+        assertNotEquals(PropertyKey.SEVERITY.getSlot(), PropertyKey.AUDIENCE.getSlot());
+    }
+
+    @Test
+    public void nameReturnedWhenToString() {
+        assertEquals(PropertyKey.of("team").toString(), "team");
+        assertEquals(PropertyKey.of("team").getName(), "team");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void keyCannotBeCreatedWhenNameNull() {
+        PropertyKey.of(null);
+    }
+}
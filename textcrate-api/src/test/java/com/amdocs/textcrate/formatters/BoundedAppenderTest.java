@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests writing text within limits.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class BoundedAppenderTest {
+
+    @Test
+    public void textWrittenInFullWhenFits() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 5);
+        out.append("abc").append('d').append('e');
+        assertEquals(builder.toString(), "abcde");
+        assertFalse(out.isFull());
+    }
+
+    @Test
+    public void textCutWithMarkerWhenLimitExceeded() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 8);
+        out.append("0123456789");
+        assertEquals(builder.toString(), "01234...");
+        assertTrue(out.isFull());
+    }
+
+    @Test
+    public void writtenTextShortenedWhenSingleCharExceedsLimit() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 4);
+        out.append("abcd").append('e');
+        assertEquals(builder.toString(), "a...");
+    }
+
+    @Test
+    public void appendsIgnoredWhenFull() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 4);
+        out.append("abcdef").append("more").append('!');
+        assertEquals(builder.toString(), "a...");
+    }
+
+    @Test
+    public void limitCountedFromInitialLength() {
+        StringBuilder builder = new StringBuilder("prefix:");
+        new BoundedAppender(builder, 5).append("123456");
+        assertEquals(builder.toString(), "prefix:12...");
+    }
+
+    @Test
+    public void argumentCutButMessageContinuesWhenArgumentLimitExceeded() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 100);
+        out.append('<');
+        out.beginArgument(5);
+        out.append("argument");
+        assertTrue(out.isFull());
+        out.endArgument();
+        assertFalse(out.isFull());
+        out.append('>');
+        assertEquals(builder.toString(), "<ar...>");
+    }
+
+    @Test
+    public void messageLimitAppliedWhenNarrowerThanArgumentLimit() {
+        StringBuilder builder = new StringBuilder();
+        BoundedAppender out = new BoundedAppender(builder, 6);
+        out.append("<<");
+        out.beginArgument(10);
+        out.append("argument");
+        out.endArgument();
+        out.append('>');
+        assertEquals(builder.toString(), "<<a...");
+        assertTrue(out.isFull());
+    }
+}
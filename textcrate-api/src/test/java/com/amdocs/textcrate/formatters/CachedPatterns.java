@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import com.amdocs.textcrate.api.Formatter;
+
+/**
+ * Gives tests in other packages access to the number of patterns that a formatter keeps.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class CachedPatterns {
+
+    private CachedPatterns() { /* prevent instantiation */ }
+
+    /**
+     * Number of compiled patterns that a built-in formatter keeps.
+     *
+     * @param formatter formatter
+     * @return number of cached patterns
+     * @throws IllegalArgumentException if the formatter does not cache patterns
+     */
+    public static int count(Formatter formatter) {
+
+        if (formatter instanceof MessageFormatFormatter) {
+            return ((MessageFormatFormatter) formatter).getCachedPatternCount();
+        }
+
+        if (formatter instanceof PrintfFormatter) {
+            return ((PrintfFormatter) formatter).getCachedPatternCount();
+        }
+
+        if (formatter instanceof NamedPlaceholderFormatter) {
+            return ((NamedPlaceholderFormatter) formatter).getCachedPatternCount();
+        }
+
+        throw new IllegalArgumentException("Formatter does not cache patterns: " + formatter);
+    }
+}
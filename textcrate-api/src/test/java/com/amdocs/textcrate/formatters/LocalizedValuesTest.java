@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+/**
+ * Tests rendering of numbers, dates and times according to a locale.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class LocalizedValuesTest {
+
+    @Test
+    public void integersNotGroupedWhenLocaleGiven() {
+        assertEquals(LocalizedValues.format(8080, Locale.US), "8080");
+        assertEquals(LocalizedValues.format(-1234567L, Locale.GERMANY), "-1234567");
+        assertEquals(LocalizedValues.format(new BigInteger("12345678901234567890"), Locale.US),
+                "12345678901234567890");
+    }
+
+    @Test
+    public void decimalsGroupedWhenLocaleGiven() {
+        assertEquals(LocalizedValues.format(1234567.0, Locale.US), "1,234,567");
+        assertEquals(LocalizedValues.format(new BigDecimal("-1234567.5"), Locale.GERMANY), "-1.234.567,5");
+    }
+
+    @Test
+    public void fractionDigitsKeptWhenDecimal() {
+        assertEquals(LocalizedValues.format(1234.56789, Locale.GERMANY), "1.234,56789");
+        assertEquals(LocalizedValues.format(0.1f, Locale.US), "0.1");
+        assertEquals(LocalizedValues.format(new BigDecimal("3.14159265358979323846"), Locale.US),
+                "3.14159265358979323846");
+    }
+
+    @Test
+    public void nullReturnedWhenCustomNumber() {
+        assertNull(LocalizedValues.format(new AtomicLong(5), Locale.US));
+    }
+
+    @Test
+    public void nullReturnedWhenNotLocalizable() {
+        assertNull(LocalizedValues.format("1234", Locale.US));
+        assertNull(LocalizedValues.format(null, Locale.US));
+        assertNull(LocalizedValues.format(Instant.EPOCH, Locale.US));
+    }
+
+    @Test
+    public void mediumStyleUsedWhenDateOrTime() {
+
+        LocalDate date = LocalDate.of(2018, 5, 8);
+        assertEquals(LocalizedValues.format(date, Locale.GERMANY),
+                DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(Locale.GERMANY).format(date));
+
+        LocalTime time = LocalTime.of(13, 45, 10);
+        assertEquals(LocalizedValues.format(time, Locale.US),
+                DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM).withLocale(Locale.US).format(time));
+    }
+
+    @Test
+    public void defaultTimeZoneUsedWhenLegacyDate() {
+
+        LocalDateTime dateTime = LocalDateTime.of(2018, 5, 8, 13, 45, 10);
+        Date date = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        assertEquals(LocalizedValues.format(date, Locale.FRANCE),
+                DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(Locale.FRANCE).format(dateTime));
+
+    }
+
+    @Test
+    public void nullReturnedWhenSubclassOfDate() {
+        Date subclass = new Date(0) { };
+        assertNull(LocalizedValues.format(subclass, Locale.FRANCE));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+/**
+ * Tests formatting and validation for the {@link MessageFormat} format.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class MessageFormatFormatterTest {
+
+    private static final String NO_MATCH = ".*not match.*";
+    private static final String CHOICE = "{0,choice,0#no files|1#one file|1<{0,number,integer} files}";
+
+    @Test
+    public void outputSameAsMessageFormatWhenDefaultLocale() {
+        final String pattern = "Disk {1} contains " + CHOICE + ".";
+        assertEquals(new MessageFormatFormatter().format(pattern, 1273, "D"),
+                MessageFormat.format(pattern, 1273, "D"));
+    }
+
+    @Test
+    public void outputLocalizedWhenLocaleGiven() {
+        CompiledPattern compiled = new MessageFormatFormatter().compile("{0,number,#,##0.00}");
+        assertEquals(compiled.format(Locale.US, 1234.5), "1,234.50");
+        assertEquals(compiled.format(Locale.GERMANY, 1234.5), "1.234,50");
+    }
+
+    @Test
+    public void outputAppendedWhenFormattedToBuilder() {
+        StringBuilder builder = new StringBuilder(">");
+        new MessageFormatFormatter().compile("{0} of {1}").formatTo(builder, Locale.US, 1, 2);
+        assertEquals(builder.toString(), ">1 of 2");
+    }
+
+    @Test
+    public void compiledPatternNotCachedWhenCompiled() {
+        MessageFormatFormatter formatter = new MessageFormatFormatter();
+        assertNotSame(formatter.compile("{0}!"), formatter.compile("{0}!"));
+        assertEquals(formatter.getCachedPatternCount(), 0);
+    }
+
+    @Test
+    public void cachedPatternsBoundedWhenFormattedWithManyPatterns() {
+
+        MessageFormatFormatter formatter = new MessageFormatFormatter();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(formatter.format("{0} #" + i, "Pattern"), "Pattern #" + i);
+        }
+
+        assertEquals(formatter.getCachedPatternCount(), PatternCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void compilationFailsWhenPatternInvalid() {
+        new MessageFormatFormatter().compile("{0");
+    }
+
+    @Test
+    public void sameOutputWhenFormattedConcurrently() throws Exception {
+
+        CompiledPattern compiled = new MessageFormatFormatter().compile("{0,number,integer} - {1}");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final int value = i;
+                tasks.add(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        if (!compiled.format(Locale.US, value, j).equals(value + " - " + j)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isShareable() {
+        assertTrue(new MessageFormatFormatter().isShareable());
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*empty.*")
+    public void validationThrowsExceptionWhenPatternEmpty() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("  ");
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*generic.*")
+    public void validationThrowsExceptionWhenPatternPlaceholderOnly() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("{0}", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = "Invalid.*")
+    public void validationThrowsExceptionWhenPatternMalformed() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Broken {0", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = NO_MATCH)
+    public void validationThrowsExceptionWhenIndexBeyondParameters() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Values {0} and {1}", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = NO_MATCH)
+    public void validationThrowsExceptionWhenParameterUnused() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Value {0}", String.class, String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*as a number")
+    public void validationThrowsExceptionWhenNumberFormatForNonNumeric() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Total: {0,number}", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*as a number")
+    public void validationThrowsExceptionWhenChoiceForNonNumeric() throws InvalidPatternException {
+        new MessageFormatFormatter().validate(CHOICE, Boolean.TYPE);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*as a date")
+    public void validationThrowsExceptionWhenDateFormatForNonDate() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Due: {0,date}", String.class);
+    }
+
+    @Test
+    public void validationSucceedsWhenTypesMatchFormats() throws InvalidPatternException {
+        new MessageFormatFormatter().validate("Due: {0,date} {1,number} {2} " + "{3,choice,0#none|1#some}",
+                Date.class, Integer.TYPE, Object.class, Long.class);
+    }
+}
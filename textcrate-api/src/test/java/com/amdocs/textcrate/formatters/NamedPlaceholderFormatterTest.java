@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.testng.annotations.Test;
+
+/**
+ * Tests formatting and validation for named placeholders.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class NamedPlaceholderFormatterTest {
+
+    @Test
+    public void placeholdersBoundToParametersWhenNamesGiven() {
+        CompiledPattern compiled = new NamedPlaceholderFormatter().compile(
+                "Book '{title}' is out of stock in {store}", Arrays.asList("store", "title"));
+        assertEquals(compiled.format("Downtown", "Dune"), "Book 'Dune' is out of stock in Downtown");
+    }
+
+    @Test
+    public void samePlaceholderRenderedTwiceWhenRepeated() {
+        CompiledPattern compiled = new NamedPlaceholderFormatter().compile(
+                "{name}, {name}, {name}!", Collections.singletonList("name"));
+        assertEquals(compiled.format("Go"), "Go, Go, Go!");
+    }
+
+    @Test
+    public void placeholdersBoundInOrderOfAppearanceWhenNamesUnknown() {
+        assertEquals(new NamedPlaceholderFormatter().format("{b} then {a} then {b}", 1, 2), "1 then 2 then 1");
+    }
+
+    @Test
+    public void placeholderRenderedAsIsWhenArgumentMissing() {
+        assertEquals(new NamedPlaceholderFormatter().format("{a} and {b}", "x"), "x and {b}");
+    }
+
+    @Test
+    public void bracketsRenderedAsIsWhenNotPlaceholder() {
+        assertEquals(new NamedPlaceholderFormatter().format("{} { x} {1} {a-b} {", "unused"), "{} { x} {1} {a-b} {");
+    }
+
+    @Test
+    public void placeholderRenderedAsIsWhenEscaped() {
+        assertEquals(new NamedPlaceholderFormatter().format("\\{a} is {a}", "x"), "{a} is x");
+    }
+
+    @Test
+    public void arraysRenderedDeeplyWhenArgument() {
+        assertEquals(new NamedPlaceholderFormatter().format("Items: {items}", (Object) new Object[] {1, new int[] {2}}),
+                "Items: [1, [2]]");
+    }
+
+    @Test
+    public void nullReturnedWhenPatternNull() {
+        assertNull(new NamedPlaceholderFormatter().format(null, "x"));
+    }
+
+    @Test
+    public void outputAppendedWhenFormattedToBuilder() {
+        StringBuilder builder = new StringBuilder(">");
+        new NamedPlaceholderFormatter().compile("{a}={b}").formatTo(builder, "x", 1);
+        assertEquals(builder.toString(), ">x=1");
+    }
+
+    @Test
+    public void compiledPatternNotCachedWhenNamesUnknown() {
+        NamedPlaceholderFormatter formatter = new NamedPlaceholderFormatter();
+        assertNotSame(formatter.compile("{a}!"), formatter.compile("{a}!", Collections.emptyList()));
+        assertEquals(formatter.getCachedPatternCount(), 0);
+    }
+
+    @Test
+    public void cachedPatternsBoundedWhenFormattedWithManyPatterns() {
+
+        NamedPlaceholderFormatter formatter = new NamedPlaceholderFormatter();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(formatter.format("{name} #" + i, "Pattern"), "Pattern #" + i);
+        }
+
+        assertEquals(formatter.getCachedPatternCount(), PatternCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*\\{titel}.*")
+    public void compilationFailsWhenPlaceholderDoesNotMatchParameter() {
+        new NamedPlaceholderFormatter().compile("Book {titel}", Collections.singletonList("title"));
+    }
+
+    @Test
+    public void isShareable() {
+        assertTrue(new NamedPlaceholderFormatter().isShareable());
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*empty.*")
+    public void validationThrowsExceptionWhenPatternEmpty() throws InvalidPatternException {
+        new NamedPlaceholderFormatter().validate(" ");
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*generic.*")
+    public void validationThrowsExceptionWhenPatternPlaceholderOnly() throws InvalidPatternException {
+        new NamedPlaceholderFormatter().validate(" {message} ", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*not match.*")
+    public void validationThrowsExceptionWhenParameterCountDifferent() throws InvalidPatternException {
+        new NamedPlaceholderFormatter().validate("{a} and {b} and {a}", String.class, String.class, String.class);
+    }
+
+    @Test
+    public void validationSucceedsWhenEachParameterReferenced() throws InvalidPatternException {
+        new NamedPlaceholderFormatter().validate("{a} and {b} and {a}", String.class, Integer.TYPE);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+/**
+ * Tests keeping recently used compiled patterns.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class PatternCacheTest {
+
+    @Test
+    public void patternCompiledOnceWhenCached() {
+        AtomicInteger compiled = new AtomicInteger();
+        PatternCache<Object> cache = new PatternCache<>(pattern -> compiled.incrementAndGet());
+        assertSame(cache.get("a"), cache.get("a"));
+        assertEquals(compiled.get(), 1);
+    }
+
+    @Test
+    public void sizeBoundedWhenManyPatterns() {
+        PatternCache<Object> cache = new PatternCache<>(pattern -> new Object());
+        for (int i = 0; i < 1000; i++) {
+            cache.get(Integer.toString(i));
+        }
+
+        assertEquals(cache.size(), PatternCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void leastRecentlyUsedEvictedWhenFull() {
+
+        PatternCache<Object> cache = new PatternCache<>(pattern -> new Object(), 2);
+        Object first = cache.get("first");
+        Object second = cache.get("second");
+        cache.get("first");
+        cache.get("third");
+
+        assertSame(cache.get("first"), first);
+        assertNotSame(cache.get("second"), second);
+    }
+}
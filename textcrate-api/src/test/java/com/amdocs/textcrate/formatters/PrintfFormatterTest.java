@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.CompiledPattern;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests formatting and validation for the printf format.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class PrintfFormatterTest {
+
+    private static final String NO_MATCH = ".*not match.*";
+
+    @Test(dataProvider = "printfCases")
+    public void outputSameAsStringFormat(String pattern, Object[] arguments) {
+        assertEquals(new PrintfFormatter().compile(pattern).format(Locale.US, arguments),
+                String.format(Locale.US, pattern, arguments));
+    }
+
+    @Test(dataProvider = "printfCases")
+    public void localizedOutputSameAsStringFormat(String pattern, Object[] arguments) {
+        Locale arabic = new Locale("ar", "EG");
+        assertEquals(new PrintfFormatter().compile(pattern).format(arabic, arguments),
+                String.format(arabic, pattern, arguments));
+    }
+
+    @DataProvider
+    public static Object[][] printfCases() {
+        Formattable formattable = (formatter, flags, width, precision) -> formatter.format("custom");
+        return new Object[][] {
+                {"No specifiers", new Object[0]},
+                {"%s and %s", new Object[] {"one", null}},
+                {"%d, %d, %d, %d", new Object[] {1, -2L, (short) 3, (byte) -4}},
+                {"[%5s] [%-5s] [%.2s] [%-6.3s]", new Object[] {"ab", "cd", "efgh", "ijkl"}},
+                {"[%5d] [%-5d] [%05d] [%05d]", new Object[] {42, 42, 42, -42}},
+                {"%08d", new Object[] {123456789}},
+                {"%d", new Object[] {BigInteger.TEN.pow(30)}},
+                {"%,d", new Object[] {1234567}},
+                {"%.2f and %10.3e", new Object[] {3.14159, 12345.678}},
+                {"%x %X %o", new Object[] {255, 255, 8}},
+                {"%b %c %h", new Object[] {true, 'z', "hash"}},
+                {"%S", new Object[] {"upper"}},
+                {"100%% sure%n", new Object[0]},
+                {"%2$s %1$s %<s %s", new Object[] {"a", "b"}},
+                {"%tY-%<tm-%<td", new Object[] {LocalDate.of(2018, 5, 8)}},
+                {"%s", new Object[] {formattable}},
+                {"%s", new Object[] {new BigDecimal("1.50")}}
+        };
+    }
+
+    @Test
+    public void defaultLocaleUsedWhenNoLocaleGiven() {
+        assertEquals(new PrintfFormatter().format("%.1f", 1.5), String.format("%.1f", 1.5));
+    }
+
+    @Test
+    public void outputAppendedWhenFormattedToBuilder() {
+        StringBuilder builder = new StringBuilder(">");
+        new PrintfFormatter().compile("%s=%d").formatTo(builder, "x", 1);
+        assertEquals(builder.toString(), ">x=1");
+    }
+
+    @Test
+    public void compiledPatternReusableWhenNotCached() {
+        PrintfFormatter formatter = new PrintfFormatter();
+        CompiledPattern compiled = formatter.compile("%s!");
+        assertNotSame(formatter.compile("%s!"), compiled);
+        assertEquals(formatter.getCachedPatternCount(), 0);
+        assertEquals(compiled.format("a"), "a!");
+        assertEquals(compiled.format("b"), "b!");
+    }
+
+    @Test
+    public void cachedPatternsBoundedWhenFormattedWithManyPatterns() {
+
+        PrintfFormatter formatter = new PrintfFormatter();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(formatter.format("%s #" + i, "Pattern"), "Pattern #" + i);
+        }
+
+        assertEquals(formatter.getCachedPatternCount(), PatternCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test(expectedExceptions = UnknownFormatConversionException.class)
+    public void compilationFailsWhenConversionUnknown() {
+        new PrintfFormatter().compile("Value %q");
+    }
+
+    @Test(expectedExceptions = UnknownFormatConversionException.class)
+    public void compilationFailsWhenTrailingPercent() {
+        new PrintfFormatter().compile("Value %");
+    }
+
+    @Test(expectedExceptions = MissingFormatArgumentException.class)
+    public void formattingFailsWhenArgumentMissing() {
+        new PrintfFormatter().format("%s and %s", "one");
+    }
+
+    @Test
+    public void isShareable() {
+        assertTrue(new PrintfFormatter().isShareable());
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*empty.*")
+    public void validationThrowsExceptionWhenPatternEmpty() throws InvalidPatternException {
+        new PrintfFormatter().validate("");
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*generic.*")
+    public void validationThrowsExceptionWhenPatternPlaceholderOnly() throws InvalidPatternException {
+        new PrintfFormatter().validate(" %s ", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = "Invalid.*")
+    public void validationThrowsExceptionWhenPatternMalformed() throws InvalidPatternException {
+        new PrintfFormatter().validate("Broken %q", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = NO_MATCH)
+    public void validationThrowsExceptionWhenParameterCountDifferent() throws InvalidPatternException {
+        new PrintfFormatter().validate("Values %s and %s", String.class);
+    }
+
+    @Test(expectedExceptions = InvalidPatternException.class, expectedExceptionsMessageRegExp = ".*does not match.*")
+    public void validationThrowsExceptionWhenTypeDoesNotMatchConversion() throws InvalidPatternException {
+        new PrintfFormatter().validate("Total: %.2f", Integer.TYPE);
+    }
+
+    @Test
+    public void validationSucceedsWhenTypesMatchConversions() throws InvalidPatternException {
+        new PrintfFormatter().validate("%2$s %1$08d %<x %3$.2f %4$tY %5$c %%%n",
+                Long.TYPE, Object.class, BigDecimal.class, LocalDate.class, Character.TYPE);
+    }
+}
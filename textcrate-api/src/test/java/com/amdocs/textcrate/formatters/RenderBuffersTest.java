@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reusing buffers for rendering messages.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RenderBuffersTest {
+
+    @Test
+    public void bufferPresizedWhenAcquired() {
+        RenderBuffers buffers = new RenderBuffers(1024);
+        assertTrue(buffers.acquire(300).capacity() >= 300);
+    }
+
+    @Test
+    public void presizeCappedWhenEstimateTooLarge() {
+        RenderBuffers buffers = new RenderBuffers(1024);
+        assertTrue(buffers.acquire(1_000_000).capacity() < 1_000_000);
+    }
+
+    @Test
+    public void emptyBufferReusedWhenReleased() {
+
+        RenderBuffers buffers = new RenderBuffers(1024);
+        StringBuilder first = buffers.acquire(10);
+        first.append("Rendered");
+        assertEquals(buffers.release(first), "Rendered");
+
+        StringBuilder second = buffers.acquire(10);
+        assertSame(second, first);
+        assertEquals(second.length(), 0);
+    }
+
+    @Test
+    public void bufferDroppedWhenGrownBeyondCap() {
+
+        RenderBuffers buffers = new RenderBuffers(64);
+        StringBuilder large = buffers.acquire(10);
+        large.append(new String(new char[100]));
+        buffers.release(large);
+
+        assertNotSame(buffers.acquire(10), large);
+    }
+
+    @Test
+    public void separateBufferUsedWhenRenderNested() {
+
+        RenderBuffers buffers = new RenderBuffers(1024);
+        StringBuilder outer = buffers.acquire(10);
+        StringBuilder inner = buffers.acquire(10);
+        assertNotSame(inner, outer);
+
+        inner.append("inner");
+        outer.append("outer ").append(buffers.release(inner));
+        assertEquals(buffers.release(outer), "outer inner");
+    }
+
+    @Test
+    public void messagesCorrectWhenRenderedConcurrently() {
+
+        Slf4jFormatter formatter = new Slf4jFormatter();
+        List<CompletableFuture<Boolean>> renders = IntStream.range(0, 64).mapToObj(
+                i -> CompletableFuture.supplyAsync(() -> IntStream.range(0, 1000).allMatch(
+                        j -> formatter.compile("Render {} of {}").format(j, i).equals("Render " + j + " of " + i))))
+                .collect(Collectors.toList());
+
+        assertTrue(renders.stream().allMatch(CompletableFuture::join));
+    }
+}
@@ -17,8 +17,22 @@
 package com.amdocs.textcrate.formatters;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
 
+import com.amdocs.textcrate.api.CompiledPattern;
 import com.amdocs.textcrate.api.InvalidPatternException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.helpers.MessageFormatter;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -107,4 +121,231 @@ public class Slf4jFormatterTest {
     public void validationSucceedsWhenTwoPlaceholdersAndTwoParametersGiven() throws InvalidPatternException {
         new Slf4jFormatter().validate("Message arguments {} and {}, a total of two", Integer.TYPE, String.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void boundedOutputSameAsUnboundedWhenWithinLimits() {
+        assertEquals(new Slf4jFormatter(RenderLimits.of(100, 100)).format("Hello, {}!", "world"), "Hello, world!");
+    }
+
+    @Test(dataProvider = "slf4jCases")
+    public void boundedOutputMatchesSlf4jWhenWithinLimits(String pattern, Object[] arguments) {
+        Slf4jFormatter bounded = new Slf4jFormatter(RenderLimits.of(1000, 1000));
+        assertEquals(bounded.format(pattern, arguments), MessageFormatter.arrayFormat(pattern, arguments).getMessage());
+    }
+
+    @Test(dataProvider = "slf4jCases")
+    public void compiledOutputMatchesSlf4j(String pattern, Object[] arguments) {
+        assertEquals(new Slf4jFormatter().compile(pattern).format(arguments),
+                MessageFormatter.arrayFormat(pattern, arguments).getMessage());
+    }
+
+    @Test
+    public void compiledOutputAppendedWhenFormattedToBuilder() {
+        StringBuilder builder = new StringBuilder("Message: ");
+        new Slf4jFormatter().compile("{} + {} = {}").formatTo(builder, 1, 2, 3);
+        assertEquals(builder.toString(), "Message: 1 + 2 = 3");
+    }
+
+    @Test
+    public void compiledPatternReusableWhenDifferentArguments() {
+        CompiledPattern compiled = new Slf4jFormatter().compile("Hello, {}!");
+        assertEquals(compiled.format("world"), "Hello, world!");
+        assertEquals(compiled.format("again"), "Hello, again!");
+        assertEquals(compiled.format(), "Hello, {}!");
+    }
+
+    @Test
+    public void numbersLocalizedWhenLocaleGiven() {
+        CompiledPattern compiled = new Slf4jFormatter().compile("Total {} of {}, items {}");
+        Object[] arguments = {1234.5, 100000, new Object[] {1000.0, "1000.0"}};
+        assertEquals(compiled.format(Locale.GERMANY, arguments), "Total 1.234,5 of 100000, items [1.000, 1000.0]");
+        assertEquals(compiled.format(arguments), "Total 1234.5 of 100000, items [1000.0, 1000.0]");
+    }
+
+    @Test
+    public void arrayElementsLocalizedWhenLocaleGiven() {
+        StringBuilder builder = new StringBuilder();
+        new Slf4jFormatter(RenderLimits.of(100, 20)).compile("Values {}")
+                .formatTo(builder, Locale.US, (Object) new double[] {1000.5, 2000000});
+        assertEquals(builder.toString(), "Values [1,000.5, 2,000,000]");
+    }
+
+    @Test
+    public void nullReturnedWhenCompiledPatternNull() {
+        assertNull(new Slf4jFormatter().compile(null).format("argument"));
+    }
+
+    @DataProvider
+    public static Object[][] slf4jCases() {
+        Object[] selfReferencing = new Object[2];
+        selfReferencing[0] = "self";
+        selfReferencing[1] = selfReferencing;
+        List<Object> selfContaining = new ArrayList<>();
+        selfContaining.add(selfContaining);
+        return new Object[][] {
+                {"No placeholders", new Object[] {"unused"}},
+                {"{} and {}", new Object[] {"one"}},
+                {"{}, {}", new Object[] {"one", "two", "three"}},
+                {"Escaped \\{} and {}", new Object[] {"one"}},
+                {"Double escaped \\\\{}", new Object[] {"one"}},
+                {"Escaped without arguments \\{}", new Object[0]},
+                {"Arrays {} {} {}", new Object[] {new int[] {1, 2}, new String[] {"a", null}, new char[] {'x'}}},
+                {"Nested {}", new Object[] {new Object[] {new long[] {3L}, new Object[] {"deep"}}}},
+                {"Cyclic {}", new Object[] {selfReferencing}},
+                {"Throwable {}", new Object[] {"one", new IllegalStateException("trailing")}},
+                {"Nulls {} {}", new Object[] {null, null}},
+                {"No arguments {}", null},
+                {"{}{}{}", new Object[] {1, 2, 3}},
+                {"\\\\{}\\{}{}", new Object[] {1, 2}},
+                {"Collection {}", new Object[] {Arrays.asList(1, 2)}},
+                {"Array in collection {}", new Object[] {Collections.singletonList(new int[] {1})}},
+                {"Array in map {}", new Object[] {Collections.singletonMap(new Object[] {"k"}, new long[] {2L})}},
+                {"Self-containing {}", new Object[] {selfContaining}},
+                {"Unused escape \\{} {} \\{}", new Object[] {"one"}}
+        };
+    }
+
+    @Test(dataProvider = "slf4jCases")
+    public void encodedSameAsFormattedWhenCompiled(String pattern, Object[] arguments) {
+        CompiledPattern compiled = new Slf4jFormatter().compile(pattern);
+        assertEquals(encode(compiled, 256, null, arguments), compiled.format(arguments));
+    }
+
+    @Test
+    public void encodedInUtf8WhenNotAscii() {
+        CompiledPattern compiled = new Slf4jFormatter().compile("Größe {} \u20ac, {} \ud83d\udcda");
+        assertEquals(encode(compiled, 64, null, "\u00e9t\u00e9", "\ud83d\ude00"),
+                "Größe \u00e9t\u00e9 \u20ac, \ud83d\ude00 \ud83d\udcda");
+    }
+
+    @Test
+    public void argumentsLocalizedWhenEncodedWithLocale() {
+        CompiledPattern compiled = new Slf4jFormatter().compile("Total {}");
+        assertEquals(encode(compiled, 64, Locale.US, 1234567.5), "Total 1,234,567.5");
+    }
+
+    @Test
+    public void positionRestoredWhenEncodedMessageDoesNotFit() {
+
+        CompiledPattern compiled = new Slf4jFormatter().compile("Value of {} is {}");
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) '>');
+
+        try {
+            compiled.encodeTo(buffer, null, "x", "too long to fit");
+            fail("Overflow expected");
+        } catch (BufferOverflowException e) {
+            assertEquals(buffer.position(), 1);
+        }
+    }
+
+    @Test
+    public void encodingContinuedInLargerBufferWhenGrowing() {
+
+        ByteBuffer original = ByteBuffer.allocate(4);
+        original.put((byte) '>');
+
+        ByteBuffer grown = new Slf4jFormatter().compile("Grüße, {} and {}!").encodeGrowing(original, null, "Zoë", 42);
+        assertEquals(decode(grown), ">Grüße, Zoë and 42!");
+        assertEquals(original.position(), 1);
+    }
+
+    @Test
+    public void sameBufferReturnedWhenGrowingNotNeeded() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertSame(new Slf4jFormatter().compile("Hello, {}!").encodeGrowing(buffer, null, "world"), buffer);
+        assertEquals(decode(buffer), "Hello, world!");
+    }
+
+    @Test
+    public void encodingContinuedInLargerBufferWhenBoundedAndGrowing() {
+        CompiledPattern compiled = new Slf4jFormatter(RenderLimits.of(100, 6)).compile("[{}] and [{}]");
+        ByteBuffer grown = compiled.encodeGrowing(ByteBuffer.allocate(2), null, "0123456789", "ok");
+        assertEquals(decode(grown), "[012...] and [ok]");
+    }
+
+    @Test
+    public void encodedWhenBoundedAndDirectBuffer() {
+        CompiledPattern compiled = new Slf4jFormatter(RenderLimits.of(100, 6)).compile("[{}] and [{}]");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        compiled.encodeTo(buffer, null, "0123456789", "ok");
+        assertEquals(decode(buffer), "[012...] and [ok]");
+    }
+
+    private static String encode(CompiledPattern compiled, int capacity, Locale locale, Object... arguments) {
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        compiled.encodeTo(buffer, locale, arguments);
+        return decode(buffer);
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        buffer.flip();
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    @Test
+    public void nullReturnedWhenBoundedAndPatternNull() {
+        assertNull(new Slf4jFormatter(RenderLimits.of(10, 10)).format(null, "argument"));
+    }
+
+    @Test
+    public void messageCutWhenLongerThanMaxLength() {
+        Slf4jFormatter formatter = new Slf4jFormatter(RenderLimits.of(12, 100));
+        assertEquals(formatter.format("Value of {} is {}", "x", "y"), "Value of ...");
+    }
+
+    @Test
+    public void argumentCutWhenLongerThanMaxArgumentLength() {
+        Slf4jFormatter formatter = new Slf4jFormatter(RenderLimits.of(100, 6));
+        assertEquals(formatter.format("[{}] and [{}]", "0123456789", "ok"), "[012...] and [ok]");
+    }
+
+    @Test
+    public void collectionStreamedWhenLongerThanMaxArgumentLength() {
+
+        List<Integer> huge = new ArrayList<>(Collections.nCopies(1_000_000, 7));
+        Slf4jFormatter formatter = new Slf4jFormatter(RenderLimits.of(100, 12));
+        assertEquals(formatter.format("Items: {}", huge), "Items: [7, 7, 7,...");
+    }
+
+    @Test
+    public void collectionRenderedAsToStringWhenWithinLimits() {
+        List<Object> list = Arrays.asList("a", 1, Collections.singletonMap("k", "v"));
+        Slf4jFormatter formatter = new Slf4jFormatter(RenderLimits.of(100, 100));
+        assertEquals(formatter.format("{}", list), list.toString());
+    }
+
+    @Test
+    public void arrayStreamedWhenLongerThanMaxLength() {
+        Slf4jFormatter formatter = new Slf4jFormatter(RenderLimits.of(10, 100));
+        assertEquals(formatter.format("{}", (Object) new long[100_000]), "[0, 0, ...");
+    }
+
+    @Test
+    public void failedToStringReportedWhenBounded() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new UnsupportedOperationException("toString");
+            }
+        };
+        assertEquals(new Slf4jFormatter(RenderLimits.of(100, 100)).format("{}", broken), "[FAILED toString()]");
+    }
+
+    @Test
+    public void failedToStringReportedWhenBoundedAndErrorThrown() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("toString");
+            }
+        };
+        assertEquals(new Slf4jFormatter(RenderLimits.of(100, 100)).format("{} and {}", broken, "next"),
+                "[FAILED toString()] and next");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void limitsRejectedWhenTooSmallForMarker() {
+        RenderLimits.of(2, 10);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reusing objects through a pool.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class StripedPoolTest {
+
+    @Test
+    public void objectReusedWhenReleased() {
+        StripedPool<Object> pool = new StripedPool<>(Object::new);
+        Object first = pool.borrow();
+        pool.release(first);
+        assertSame(pool.borrow(), first);
+    }
+
+    @Test
+    public void newObjectCreatedWhenPooledInUse() {
+        AtomicInteger created = new AtomicInteger();
+        StripedPool<Object> pool = new StripedPool<>(() -> created.incrementAndGet());
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(created.get(), 2);
+    }
+
+    @Test
+    public void extraObjectDroppedWhenSlotOccupied() {
+        StripedPool<Object> pool = new StripedPool<>(Object::new);
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+        pool.release(first);
+        pool.release(second);
+        assertSame(pool.borrow(), first);
+        assertNotSame(pool.borrow(), second);
+    }
+}
@@ -16,10 +16,16 @@
 
 package com.amdocs.textcrate.formatters;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 import com.amdocs.textcrate.api.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.testng.annotations.Test;
 
@@ -46,4 +52,53 @@ public class ToStringFormatterTest {
         Optional<Validator> validator = new ToStringFormatter().getValidator();
         assertFalse(validator.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void boundedOutputSameAsUnboundedWhenWithinLimits() {
+        ToStringFormatter bounded = new ToStringFormatter(RenderLimits.of(100, 100));
+        assertEquals(bounded.format("P", 1, "2"), new ToStringFormatter().format("P", 1, "2"));
+        assertEquals(bounded.format(null, (Object[]) null), new ToStringFormatter().format(null, (Object[]) null));
+    }
+
+    @Test
+    public void nestedArraysSameAsUnboundedWhenWithinLimits() {
+        ToStringFormatter bounded = new ToStringFormatter(RenderLimits.of(200, 100));
+        Object[] arguments = {new int[] {1}, new Object[] {"a"}, Arrays.asList(new long[] {2L}, "b")};
+        assertEquals(bounded.format("P", arguments), new ToStringFormatter().format("P", arguments));
+    }
+
+    @Test
+    public void selfContainingCollectionSameAsUnboundedWhenWithinLimits() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        ToStringFormatter bounded = new ToStringFormatter(RenderLimits.of(100, 100));
+        assertEquals(bounded.format("P", list), new ToStringFormatter().format("P", list));
+    }
+
+    @Test
+    public void failedToStringReportedWhenBounded() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new StackOverflowError();
+            }
+        };
+        ToStringFormatter bounded = new ToStringFormatter(RenderLimits.of(100, 100));
+        assertEquals(bounded.format("P", broken, 1), "Pattern: 'P'. Arguments: [[FAILED toString()], 1]");
+    }
+
+    @Test
+    public void deepCycleCutWhenBounded() {
+        List<Object> outer = new ArrayList<>();
+        outer.add(Collections.singletonList(outer));
+        String message = new ToStringFormatter(RenderLimits.of(100, 100)).format("P", outer);
+        assertTrue(message.endsWith("[[[...]]]"), message);
+    }
+
+    @Test
+    public void argumentsStreamedWhenBounded() {
+        ToStringFormatter bounded = new ToStringFormatter(RenderLimits.of(100, 10));
+        assertEquals(bounded.format("P", Collections.nCopies(1_000_000, "x"), 1),
+                "Pattern: 'P'. Arguments: [[x, x, ..., 1]");
+    }
+}
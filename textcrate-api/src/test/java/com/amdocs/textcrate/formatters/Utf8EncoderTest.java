@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.formatters;
+
+import static org.testng.Assert.assertEquals;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests encoding characters in UTF-8.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class Utf8EncoderTest {
+
+    @DataProvider
+    public static Object[][] texts() {
+        return new Object[][] {
+                {""},
+                {"Plain ASCII text"},
+                {"Two bytes: éßñ"},
+                {"é at the start, three bytes: €中"},
+                {"Four bytes: 📚😀"},
+                {"Lone surrogates: \ud83d and \udcda, trailing \ud83d"},
+                {"Mixed \u007f\u0080߿ࠀ￿"}
+        };
+    }
+
+    @Test(dataProvider = "texts")
+    public void sameBytesAsStringWhenHeapBuffer(String text) {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        Utf8Encoder.encode(text, buffer);
+        assertEquals(bytes(buffer), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(dataProvider = "texts")
+    public void sameBytesAsStringWhenDirectBuffer(String text) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+        Utf8Encoder.encode(text, buffer);
+        assertEquals(bytes(buffer), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(dataProvider = "texts")
+    public void lengthSameAsEncodedWhenWholeText(String text) {
+        assertEquals(Utf8Encoder.length(text, 0, text.length()), text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void appendedAtPositionWhenSliceOfArray() {
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[16], 4, 12).slice();
+        buffer.put((byte) '>');
+        Utf8Encoder.encode("abé", buffer);
+
+        assertEquals(bytes(buffer), ">abé".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void exceptionThrownWhenAsciiDoesNotFit() {
+        Utf8Encoder.encode("Too long", ByteBuffer.allocate(4));
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
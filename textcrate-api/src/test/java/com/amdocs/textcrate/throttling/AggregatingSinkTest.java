@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+/**
+ * Tests aggregation of repeated messages.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class AggregatingSinkTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    @Test
+    public void firstOccurrencesPassedWhenWithinLimit() {
+
+        List<Message> passed = new ArrayList<>();
+        AggregatingSink sink = new AggregatingSink(passed::add, 2, WINDOW, new AtomicLong()::get);
+
+        sink.accept(new UnrenderableMessage("A", 1));
+        sink.accept(new UnrenderableMessage("B", 1));
+        sink.accept(new UnrenderableMessage("A", 2));
+        sink.accept(new UnrenderableMessage("A", 3));
+
+        assertEquals(passed.size(), 3);
+        assertEquals(passed.get(2).getArguments()[0], 2);
+    }
+
+    @Test
+    public void summaryPassedWhenWindowEnds() {
+
+        List<Message> passed = new ArrayList<>();
+        AtomicLong clock = new AtomicLong();
+        AggregatingSink sink = new AggregatingSink(passed::add, 1, WINDOW, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            sink.accept(new UnrenderableMessage("A", i));
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Message next = new UnrenderableMessage("A", 100);
+        sink.accept(next);
+
+        assertEquals(passed.size(), 3);
+        SuppressionSummary summary = (SuppressionSummary) passed.get(1);
+        assertEquals(summary.getCode(), "A");
+        assertEquals(summary.getSuppressedCount(), 4);
+        assertEquals(summary.getSample().orElseThrow(AssertionError::new).getArguments()[0], 1);
+        assertEquals(summary.getProperty("type"), "Error");
+        assertEquals(summary.getMessage(), "Message A was suppressed 4 times within 10000 ms, e.g. with arguments [1]");
+        assertSame(passed.get(2), next);
+    }
+
+    @Test
+    public void noSummaryWhenNothingSuppressed() {
+
+        List<Message> passed = new ArrayList<>();
+        AtomicLong clock = new AtomicLong();
+        AggregatingSink sink = new AggregatingSink(passed::add, 1, WINDOW, clock::get);
+
+        sink.accept(new UnrenderableMessage("A", 1));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        sink.accept(new UnrenderableMessage("A", 2));
+        sink.flush();
+
+        assertEquals(passed.size(), 2);
+    }
+
+    @Test
+    public void pendingSummariesPassedWhenFlushed() {
+
+        List<Message> passed = new ArrayList<>();
+        AggregatingSink sink = new AggregatingSink(passed::add, 0, WINDOW, new AtomicLong()::get);
+
+        sink.accept(new UnrenderableMessage("A", 1));
+        sink.accept(new UnrenderableMessage("B", 1));
+        sink.accept(new UnrenderableMessage("B", 2));
+        assertTrue(passed.isEmpty());
+
+        sink.flush();
+        assertEquals(passed.size(), 2);
+        assertTrue(passed.stream().allMatch(message -> message instanceof SuppressionSummary));
+
+        sink.flush();
+        assertEquals(passed.size(), 2);
+    }
+
+    @Test
+    public void localizedSummaryWhenLocaleGiven() {
+
+        List<Message> passed = new ArrayList<>();
+        AggregatingSink sink = new AggregatingSink(passed::add, 0, WINDOW, new AtomicLong()::get);
+        for (int i = 0; i < 1500; i++) {
+            sink.accept(new UnrenderableMessage("A", i));
+        }
+
+        sink.flush();
+        assertEquals(passed.get(0).getMessage(Locale.US),
+                "Message A was suppressed 1500 times within 10000 ms, e.g. with arguments [0]");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void creationFailsWhenWindowNotPositive() {
+        new AggregatingSink(message -> { }, 1, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void creationFailsWhenPassThroughNegative() {
+        new AggregatingSink(message -> { }, -1, WINDOW);
+    }
+
+    /**
+     * Fails if rendered, to make sure suppressed messages are never rendered.
+     */
+    static class UnrenderableMessage implements Message {
+
+        private final String code;
+        private final Object[] arguments;
+
+        UnrenderableMessage(String code, Object... arguments) {
+            this.code = code;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public String getPattern() {
+            return "{}";
+        }
+
+        @Override
+        public String getPattern(Locale locale) {
+            return getPattern();
+        }
+
+        @Override
+        public String getMessage() {
+            throw new AssertionError("Must not be rendered");
+        }
+
+        @Override
+        public String getMessage(Locale locale) {
+            throw new AssertionError("Must not be rendered");
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public String getProperty(String name) {
+            return "type".equals(name) ? "Error" : null;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.throttling;
+
+import static org.testng.Assert.assertEquals;
+
+import com.amdocs.textcrate.Messages;
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+/**
+ * Tests rate limiting of messages by code.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RateLimitingSinkTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void burstPassedAndRestDeniedWhenSameInstant() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(100, 199, 1.0, 3)), 16, new AtomicLong()::get);
+
+        for (int i = 0; i < 10; i++) {
+            sink.accept(new NumberedMessage(150));
+        }
+
+        assertEquals(passed.size(), 3);
+        assertEquals(sink.getDeniedCount(), 7);
+    }
+
+    @Test
+    public void sustainedRateAllowedWhenTimePasses() {
+
+        List<Message> passed = new ArrayList<>();
+        AtomicLong clock = new AtomicLong(-5 * SECOND);
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(100, 199, 2.0, 1)), 16, clock::get);
+
+        // 4 messages per second at a rate of 2 per second
+        for (int i = 0; i < 40; i++) {
+            sink.accept(new NumberedMessage(100));
+            clock.addAndGet(SECOND / 4);
+        }
+
+        assertEquals(passed.size(), 20);
+    }
+
+    @Test
+    public void codesLimitedSeparatelyWhenSameRule() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(100, 199, 1.0, 1)), 16, new AtomicLong()::get);
+
+        for (int i = 0; i < 3; i++) {
+            sink.accept(new NumberedMessage(100));
+            sink.accept(new NumberedMessage(101));
+        }
+
+        assertEquals(passed.size(), 2);
+    }
+
+    @Test
+    public void messagePassedWhenNoRuleMatches() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(100, 199, 1.0, 1)), 16, new AtomicLong()::get);
+
+        for (int i = 0; i < 5; i++) {
+            sink.accept(new NumberedMessage(200));
+            sink.accept(new NumberedMessage(-1));
+        }
+
+        assertEquals(passed.size(), 10);
+    }
+
+    @Test
+    public void messagePassedWhenNoNumericCode() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forProperty("type", "Warning", 1.0, 1)));
+
+        AggregatingSinkTest.UnrenderableMessage message = new AggregatingSinkTest.UnrenderableMessage("A");
+        sink.accept(message);
+        sink.accept(message);
+
+        assertEquals(passed.size(), 2);
+    }
+
+    @Test
+    public void messagePassedWhenCapacityExceeded() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(0, 1000, 1.0, 1)), 1, new AtomicLong()::get);
+
+        for (int code = 0; code < 10; code++) {
+            sink.accept(new NumberedMessage(code));
+            sink.accept(new NumberedMessage(code));
+        }
+
+        // the table has room for a few codes only, the rest is not limited
+        assertEquals(passed.size() + sink.getDeniedCount(), 20);
+        assertEquals(sink.getDeniedCount(), 4);
+    }
+
+    @Test
+    public void repositoryMessagesLimitedWhenPropertyMatches() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add, Arrays.asList(
+                RateLimitRule.forCodes(1, 1, 100.0, 100),
+                RateLimitRule.forProperty("type", "Warning", 1.0, 2)), 16, new AtomicLong()::get);
+
+        WarningMessages warnings = Messages.from(WarningMessages.class);
+        for (int i = 0; i < 5; i++) {
+            sink.accept(warnings.invalidInput("field" + i));
+            sink.accept(warnings.firstInRange());
+        }
+
+        assertEquals(passed.size(), 7);
+        assertEquals(passed.get(0).getNumericCode(), OptionalInt.of(1002));
+    }
+
+    @Test
+    public void repositoriesLimitedSeparatelyWhenSameNumericCode() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forProperty("type", "Warning", 1.0, 1)), 16,
+                new AtomicLong()::get);
+
+        WarningMessages warnings = Messages.from(WarningMessages.class);
+        ErrorMessages errors = Messages.from(ErrorMessages.class);
+        for (int i = 0; i < 3; i++) {
+            sink.accept(warnings.invalidInput("field"));
+            sink.accept(errors.invalidInput("field"));
+        }
+
+        // the same numeric code, but only warnings match the rule
+        assertEquals(passed.size(), 4);
+        assertEquals(sink.getDeniedCount(), 2);
+    }
+
+    @Test
+    public void burstAllowedWhenToleranceBeyondLong() {
+
+        List<Message> passed = new ArrayList<>();
+        RateLimitingSink sink = new RateLimitingSink(passed::add,
+                Collections.singletonList(RateLimitRule.forCodes(100, 199, 0.1, Integer.MAX_VALUE)), 16,
+                new AtomicLong()::get);
+
+        for (int i = 0; i < 10; i++) {
+            sink.accept(new NumberedMessage(100));
+        }
+
+        assertEquals(passed.size(), 10);
+    }
+
+    @Test
+    public void toleranceCappedWhenBurstLarge() {
+        RateLimitRule rule = RateLimitRule.forCodes(100, 199, 1e-9, Integer.MAX_VALUE);
+        assertEquals(rule.getToleranceNanos(), Long.MAX_VALUE - rule.getEmissionIntervalNanos());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void ruleRejectedWhenRangeInvalid() {
+        RateLimitRule.forCodes(10, 9, 1.0, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void ruleRejectedWhenRateNotPositive() {
+        RateLimitRule.forCodes(1, 9, 0.0, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void ruleRejectedWhenBurstNotPositive() {
+        RateLimitRule.forProperty("type", "Warning", 1.0, 0);
+    }
+
+    @CodeSpec(offset = 1000, pattern = "W{}")
+    @MessageProperty(name = "type", value = "Warning")
+    private interface WarningMessages {
+
+        @MessageSpec(id = 2, pattern = "Invalid input in {}")
+        Message invalidInput(String field);
+
+        @MessageSpec(id = -999, pattern = "Matches a code range")
+        Message firstInRange();
+    }
+
+    @CodeSpec(offset = 1000, pattern = "E{}")
+    @MessageProperty(name = "type", value = "Error")
+    private interface ErrorMessages {
+
+        @MessageSpec(id = 2, pattern = "Invalid input in {}")
+        Message invalidInput(String field);
+    }
+
+    private static class NumberedMessage extends AggregatingSinkTest.UnrenderableMessage {
+
+        private final int numericCode;
+
+        private NumberedMessage(int numericCode) {
+            super(Integer.toString(numericCode));
+            this.numericCode = numericCode;
+        }
+
+        @Override
+        public OptionalInt getNumericCode() {
+            return OptionalInt.of(numericCode);
+        }
+    }
+}
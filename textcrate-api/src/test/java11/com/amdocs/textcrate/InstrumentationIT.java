@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate;
+
+import static org.testng.Assert.assertEquals;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the Java Flight Recorder events of the multi-release JAR. Runs only on Java 11 and later, against the packaged
+ * JAR.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class InstrumentationIT {
+
+    private static final String RENDERING = "com.amdocs.textcrate.Rendering";
+    private static final String REPOSITORY_CREATION = "com.amdocs.textcrate.RepositoryCreation";
+
+    @Test
+    public void eventsRecordedWhenEnabled() throws IOException {
+
+        Path file = Files.createTempFile("textcrate", ".jfr");
+
+        try (Recording recording = new Recording()) {
+
+            recording.enable(RENDERING).withThreshold(Duration.ZERO);
+            recording.enable(REPOSITORY_CREATION).withThreshold(Duration.ZERO);
+            recording.start();
+
+            RecordedMessages messages = Messages.from(RecordedMessages.class);
+            messages.greeting("JFR").getMessage(Locale.FRANCE);
+
+            recording.stop();
+            recording.dump(file);
+
+        } finally {
+            file.toFile().deleteOnExit();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        List<RecordedEvent> creations = ofType(events, REPOSITORY_CREATION);
+        assertEquals(creations.size(), 1);
+        assertEquals(creations.get(0).getString("repository"), RecordedMessages.class.getName());
+
+        List<RecordedEvent> renderings = ofType(events, RENDERING);
+        assertEquals(renderings.size(), 1);
+        assertEquals(renderings.get(0).getString("code"), "JFR-1");
+        assertEquals(renderings.get(0).getString("pattern"), "Hello, {}!");
+        assertEquals(renderings.get(0).getString("locale"), "fr-FR");
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+                       .collect(Collectors.toList());
+    }
+
+    @CodeSpec(pattern = "JFR-{}")
+    private interface RecordedMessages {
+
+        @MessageSpec(id = 1, pattern = "Hello, {}!")
+        Message greeting(String name);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.maven;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+
+/**
+ * Class path of the module that a goal runs in, which is where its message repositories are loaded from.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class ClassPath {
+
+    private ClassPath() { /* prevent instantiation */ }
+
+    /**
+     * Creates a class loader for class path elements, e.g. the compile class path of a module.
+     *
+     * @param elements files and directories
+     * @param parent parent class loader, which must be able to load the classes of this library
+     * @return class loader, to be closed by the caller
+     * @throws MojoExecutionException if an element cannot be converted to a URL
+     */
+    static URLClassLoader newClassLoader(List<String> elements, ClassLoader parent) throws MojoExecutionException {
+        return new URLClassLoader(toUrls(elements), parent);
+    }
+
+    private static URL[] toUrls(List<String> elements) throws MojoExecutionException {
+
+        URL[] urls = new URL[elements.size()];
+        for (int i = 0; i < urls.length; i++) {
+
+            try {
+                urls[i] = new File(elements.get(i)).toURI().toURL();
+            } catch (MalformedURLException e) {
+                throw new MojoExecutionException("Invalid class path element " + elements.get(i), e);
+            }
+        }
+
+        return urls;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.maven;
+
+import com.amdocs.textcrate.tools.CatalogExporter;
+import com.amdocs.textcrate.tools.ExportFormat;
+import com.amdocs.textcrate.tools.RepositoryScanner;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * <p>Exports the messages of the repositories of a module, e.g. for translators:</p>
+ *
+ * <pre>
+ *     mvn process-classes com.amdocs.textcrate:textcrate-maven-plugin:export -Dtextcrate.export.format=XLIFF
+ * </pre>
+ *
+ * <p>By default, the compiled classes of the module are scanned for repositories. If the module lists its
+ * repositories in <code>META-INF/textcrate/repositories</code>, the index can be used instead, which is faster,
+ * and also covers repositories of dependencies.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@Mojo(name = "export", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class ExportMojo extends AbstractMojo {
+
+    @Parameter(property = "textcrate.export.format", defaultValue = "XLIFF")
+    private ExportFormat format;
+
+    /**
+     * Target file, by default <code>messages</code> with the extension of the format in
+     * <code>target/textcrate</code>.
+     */
+    @Parameter(property = "textcrate.export.outputFile")
+    private File outputFile;
+
+    @Parameter(defaultValue = "${project.build.directory}/textcrate", readonly = true)
+    private File outputDirectory;
+
+    /**
+     * Language of the message patterns, as a BCP 47 tag.
+     */
+    @Parameter(property = "textcrate.export.sourceLanguage", defaultValue = "en")
+    private String sourceLanguage;
+
+    /**
+     * Whether to export the repositories listed in <code>META-INF/textcrate/repositories</code> instead of scanning
+     * the compiled classes.
+     */
+    @Parameter(property = "textcrate.export.indexed", defaultValue = "false")
+    private boolean indexed;
+
+    @Parameter(property = "textcrate.export.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", readonly = true, required = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        if (skip) {
+            getLog().info("Skipping export of messages");
+            return;
+        }
+
+        File target = outputFile == null ? new File(outputDirectory, "messages." + format.getExtension()) : outputFile;
+        CatalogExporter exporter = CatalogExporter.of(format).withSourceLanguage(sourceLanguage);
+
+        try (URLClassLoader classLoader = ClassPath.newClassLoader(classpathElements,
+                CatalogExporter.class.getClassLoader())) {
+
+            int count = indexed ? exporter.exportIndexed(classLoader, target.toPath())
+                                : exporter.export(RepositoryScanner.scan(classesDirectory.toPath(), classLoader),
+                                        target.toPath());
+            getLog().info(String.format("Exported %d messages to %s", count, target));
+
+        } catch (IOException | ClassNotFoundException e) {
+            throw new MojoExecutionException("Failed to export messages", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.maven;
+
+import com.amdocs.textcrate.tools.ImportReport;
+import com.amdocs.textcrate.tools.TranslationImporter;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * <p>Compiles translated XLIFF, PO or CSV files into the binary catalogs that are loaded at runtime. The files of
+ * a locale are kept in a directory named after its BCP 47 language tag, e.g.</p>
+ *
+ * <pre>
+ *     src/main/translations/de/messages.xlf
+ *     src/main/translations/pt-BR/messages.po
+ * </pre>
+ *
+ * <p>Catalogs are written to the output directory of the module, so that they are packaged with its classes. The
+ * build fails if a translation does not match a message, or its pattern cannot be used with the message.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@Mojo(name = "import-translations", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class ImportMojo extends AbstractMojo {
+
+    /**
+     * Directory with a subdirectory of translation files for each locale.
+     */
+    @Parameter(property = "textcrate.import.translationsDirectory",
+            defaultValue = "${project.basedir}/src/main/translations")
+    private File translationsDirectory;
+
+    /**
+     * Whether to fail the build if some translations have been rejected.
+     */
+    @Parameter(property = "textcrate.import.failOnProblems", defaultValue = "true")
+    private boolean failOnProblems;
+
+    @Parameter(property = "textcrate.import.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", readonly = true, required = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+
+        if (skip) {
+            getLog().info("Skipping import of translations");
+            return;
+        }
+
+        if (!translationsDirectory.isDirectory()) {
+            getLog().info("No translations in " + translationsDirectory);
+            return;
+        }
+
+        ImportReport report;
+        try (URLClassLoader classLoader = ClassPath.newClassLoader(classpathElements,
+                TranslationImporter.class.getClassLoader())) {
+
+            report = TranslationImporter.forClassLoader(classLoader)
+                                        .importTranslations(findFiles(translationsDirectory.toPath()),
+                                                classesDirectory.toPath());
+
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to import translations", e);
+        }
+
+        for (ImportReport.Entry entry : report.getEntries()) {
+
+            if (entry.getFailure().isPresent()) {
+                throw new MojoExecutionException("Failed to import translations for " + entry.getLocale(),
+                        entry.getFailure().get());
+            }
+
+            entry.getProblems().forEach(problem -> getLog().warn(problem));
+            getLog().info(String.format("Imported %d translations to %s", entry.getTranslationCount(),
+                    entry.getCatalog()));
+        }
+
+        if (failOnProblems && !report.isSuccessful()) {
+            throw new MojoFailureException("Some translations have been rejected, see the warnings above");
+        }
+    }
+
+    private static Map<Locale, List<Path>> findFiles(Path directory) throws IOException {
+
+        Map<Locale, List<Path>> files = new HashMap<>();
+        try (Stream<Path> locales = Files.list(directory)) {
+
+            for (Path localeDirectory : locales.filter(Files::isDirectory).collect(Collectors.toList())) {
+
+                try (Stream<Path> translations = Files.list(localeDirectory)) {
+                    // sorted, so that the order in which files override each other is stable
+                    List<Path> regular = translations.filter(Files::isRegularFile).sorted()
+                                                     .collect(Collectors.toCollection(ArrayList::new));
+                    if (!regular.isEmpty()) {
+                        files.put(Locale.forLanguageTag(localeDirectory.getFileName().toString()), regular);
+                    }
+                }
+            }
+        }
+
+        return files;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amdocs.textcrate.maven;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import com.amdocs.textcrate.tools.ExportFormat;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the goal that exports messages.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class ExportMojoTest {
+
+    @Test
+    public void messagesExportedWhenClassesScanned() throws Exception {
+
+        Path directory = Files.createTempDirectory("export");
+        File target = directory.resolve("messages.csv").toFile();
+
+        ExportMojo mojo = mojo(ExportFormat.CSV, directory);
+        MojoParameters.set(mojo, "outputFile", target);
+        mojo.execute();
+
+        List<String> lines = Files.readAllLines(target.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.contains(ShelvingMessages.class.getName() + ",bookMisplaced,SHL-1,Book {} is misplaced,"),
+                lines.toString());
+    }
+
+    @Test
+    public void defaultFileNamedAfterFormatWhenNoOutputFile() throws Exception {
+
+        Path directory = Files.createTempDirectory("export");
+        mojo(ExportFormat.PO, directory).execute();
+
+        String po = new String(Files.readAllBytes(directory.resolve("messages.pot")), StandardCharsets.UTF_8);
+        assertTrue(po.contains("msgid \"Book {} is misplaced\""), po);
+    }
+
+    @Test
+    public void nothingExportedWhenSkipped() throws Exception {
+
+        Path directory = Files.createTempDirectory("export");
+        ExportMojo mojo = mojo(ExportFormat.XLIFF, directory);
+        MojoParameters.set(mojo, "skip", true);
+        mojo.execute();
+
+        assertFalse(Files.exists(directory.resolve("messages.xlf")));
+    }
+
+    @Test
+    public void emptyCatalogExportedWhenNotIndexed() throws Exception {
+
+        Path directory = Files.createTempDirectory("export");
+        ExportMojo mojo = mojo(ExportFormat.CSV, directory);
+        MojoParameters.set(mojo, "indexed", true);
+        mojo.execute();
+
+        assertEquals(Files.readAllLines(directory.resolve("messages.csv"), StandardCharsets.UTF_8).size(), 1);
+    }
+
+    @Test(expectedExceptions = MojoExecutionException.class)
+    public void exceptionThrownWhenOutputNotWritable() throws Exception {
+
+        Path directory = Files.createTempDirectory("export");
+        ExportMojo mojo = mojo(ExportFormat.CSV, directory);
+        MojoParameters.set(mojo, "outputFile", Files.createFile(directory.resolve("file")).resolve("messages.csv")
+                                                       .toFile());
+        mojo.execute();
+    }
+
+    private static ExportMojo mojo(ExportFormat format, Path outputDirectory)
+            throws ReflectiveOperationException, URISyntaxException {
+
+        File classes = testClasses();
+
+        ExportMojo mojo = new ExportMojo();
+        MojoParameters.set(mojo, "format", format);
+        MojoParameters.set(mojo, "outputDirectory", outputDirectory.toFile());
+        MojoParameters.set(mojo, "sourceLanguage", "en");
+        MojoParameters.set(mojo, "classesDirectory", classes);
+        MojoParameters.set(mojo, "classpathElements", Collections.singletonList(classes.getPath()));
+        return mojo;
+    }
+
+    static File testClasses() throws URISyntaxException {
+        return new File(ExportMojoTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    @CodeSpec(pattern = "SHL-{}")
+    interface ShelvingMessages {
+
+        @MessageSpec(id = 1, pattern = "Book {} is misplaced")
+        Message bookMisplaced(String title);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amdocs.textcrate.maven;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.TranslationCatalog;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the goal that compiles translations into catalogs.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class ImportMojoTest {
+
+    private static final String REPOSITORY = ExportMojoTest.ShelvingMessages.class.getName();
+
+    @Test
+    public void catalogWrittenPerLocaleDirectory() throws Exception {
+
+        Path translations = Files.createTempDirectory("translations");
+        write(translations, "de", "repository,code,translation\n" + REPOSITORY + ",SHL-1,Buch {} ist verstellt\n");
+        write(translations, "pt-BR", "repository,code,translation\n" + REPOSITORY + ",SHL-1,Livro {} fora do lugar\n");
+        Path classes = Files.createTempDirectory("classes");
+
+        mojo(translations, classes).execute();
+
+        assertEquals(read(classes, Locale.GERMAN).getPattern(REPOSITORY, 1), Optional.of("Buch {} ist verstellt"));
+        assertEquals(read(classes, Locale.forLanguageTag("pt-BR")).getPattern(REPOSITORY, 1),
+                Optional.of("Livro {} fora do lugar"));
+    }
+
+    @Test
+    public void nothingWrittenWhenNoTranslationsDirectory() throws Exception {
+
+        Path classes = Files.createTempDirectory("classes");
+        mojo(classes.resolve("missing"), classes).execute();
+
+        assertFalse(Files.exists(classes.resolve(TranslationCatalog.RESOURCE_DIRECTORY)));
+    }
+
+    @Test
+    public void nothingWrittenWhenSkipped() throws Exception {
+
+        Path translations = Files.createTempDirectory("translations");
+        write(translations, "de", "repository,code,translation\n" + REPOSITORY + ",SHL-1,Buch {} ist verstellt\n");
+        Path classes = Files.createTempDirectory("classes");
+
+        ImportMojo mojo = mojo(translations, classes);
+        MojoParameters.set(mojo, "skip", true);
+        mojo.execute();
+
+        assertFalse(Files.exists(classes.resolve(TranslationCatalog.getResourceName(Locale.GERMAN))));
+    }
+
+    @Test(expectedExceptions = MojoFailureException.class)
+    public void buildFailedWhenTranslationRejected() throws Exception {
+        Path translations = Files.createTempDirectory("translations");
+        write(translations, "de", "repository,code,translation\n" + REPOSITORY + ",SHL-2,Unbekannt\n");
+        mojo(translations, Files.createTempDirectory("classes")).execute();
+    }
+
+    @Test
+    public void acceptedTranslationsWrittenWhenProblemsAllowed() throws Exception {
+
+        Path translations = Files.createTempDirectory("translations");
+        write(translations, "de", "repository,code,translation\n" + REPOSITORY + ",SHL-1,Buch {} ist verstellt\n"
+                                          + REPOSITORY + ",SHL-2,Unbekannt\n");
+        Path classes = Files.createTempDirectory("classes");
+
+        ImportMojo mojo = mojo(translations, classes);
+        MojoParameters.set(mojo, "failOnProblems", false);
+        mojo.execute();
+
+        assertTrue(read(classes, Locale.GERMAN).getPattern(REPOSITORY, 1).isPresent());
+    }
+
+    @Test(expectedExceptions = MojoExecutionException.class)
+    public void exceptionThrownWhenFileMalformed() throws Exception {
+
+        Path translations = Files.createTempDirectory("translations");
+        Path locale = Files.createDirectory(translations.resolve("de"));
+        Files.write(locale.resolve("messages.xlf"), "<xliff><file".getBytes(StandardCharsets.UTF_8));
+        mojo(translations, Files.createTempDirectory("classes")).execute();
+    }
+
+    private static ImportMojo mojo(Path translations, Path classes)
+            throws ReflectiveOperationException, URISyntaxException {
+
+        File testClasses = ExportMojoTest.testClasses();
+
+        ImportMojo mojo = new ImportMojo();
+        MojoParameters.set(mojo, "translationsDirectory", translations.toFile());
+        MojoParameters.set(mojo, "failOnProblems", true);
+        MojoParameters.set(mojo, "classesDirectory", classes.toFile());
+        MojoParameters.set(mojo, "classpathElements", Collections.singletonList(testClasses.getPath()));
+        return mojo;
+    }
+
+    private static void write(Path translations, String languageTag, String csv) throws IOException {
+        Path locale = Files.createDirectory(translations.resolve(languageTag));
+        Files.write(locale.resolve("messages.csv"), csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TranslationCatalog read(Path classes, Locale locale) throws IOException {
+        try (InputStream input = Files.newInputStream(classes.resolve(TranslationCatalog.getResourceName(locale)))) {
+            return TranslationCatalog.read(input);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amdocs.textcrate.maven;
+
+import java.lang.reflect.Field;
+import org.apache.maven.plugin.AbstractMojo;
+
+/**
+ * Sets parameters of goals the way Maven does, since the fields are private.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class MojoParameters {
+
+    private MojoParameters() { /* prevent instantiation */ }
+
+    static void set(AbstractMojo mojo, String name, Object value) throws ReflectiveOperationException {
+        Field field = mojo.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
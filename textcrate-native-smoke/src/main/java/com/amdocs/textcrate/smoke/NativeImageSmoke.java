@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.smoke;
+
+import com.amdocs.textcrate.Messages;
+import com.amdocs.textcrate.api.Message;
+
+/**
+ * Looks up a message, and exits with a non-zero status if any part of it is not as declared, e.g. because the native
+ * image configuration misses the annotations of the repository.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class NativeImageSmoke {
+
+    private NativeImageSmoke() { /* prevent instantiation */ }
+
+    /**
+     * Runs the smoke test.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+
+        Message message = Messages.from(SmokeMessages.class).bookUnavailable("Dune");
+
+        boolean passed = check("code", message.getCode(), "SMOKE-1")
+                                 & check("message", message.getMessage(), "'Dune' is currently not available")
+                                 & check("property", message.getProperty("type"), "Error");
+        if (!passed) {
+            System.exit(1);
+        }
+
+        System.out.println("Native image smoke test passed: " + message);
+    }
+
+    private static boolean check(String what, String actual, String expected) {
+
+        if (expected.equals(actual)) {
+            return true;
+        }
+
+        System.err.println("Unexpected " + what + ": '" + actual + "' instead of '" + expected + "'");
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.smoke;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+
+/**
+ * A repository that relies on a dynamic proxy and annotations, the two things a native image must be told about.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@CodeSpec(pattern = "SMOKE-{}")
+@MessageProperty(name = "type", value = "Error")
+public interface SmokeMessages {
+
+    @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+    Message bookUnavailable(String title);
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageCatalog;
+import com.amdocs.textcrate.MessageDescriptor;
+import com.amdocs.textcrate.Messages;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Exports the messages of repositories, e.g. for translators or for documentation of message codes:</p>
+ *
+ * <pre>
+ *     CatalogExporter.of(ExportFormat.XLIFF).exportIndexed(classLoader, Paths.get("target/messages.xlf"));
+ * </pre>
+ *
+ * <p>The messages are described and written one repository at a time, so the memory it takes does not depend on
+ * the total number of messages. For the same repositories the output is always the same, which makes it suitable for
+ * a version control system.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class CatalogExporter {
+
+    private static final String DEFAULT_SOURCE_LANGUAGE = "en";
+
+    private final ExportFormat format;
+    private final String sourceLanguage;
+
+    private CatalogExporter(ExportFormat format, String sourceLanguage) {
+        this.format = Objects.requireNonNull(format, "Format cannot be null");
+        this.sourceLanguage = Objects.requireNonNull(sourceLanguage, "Source language cannot be null");
+    }
+
+    /**
+     * Creates an exporter that assumes the patterns of the messages are in English.
+     *
+     * @param format export format
+     * @return exporter
+     */
+    public static CatalogExporter of(ExportFormat format) {
+        return new CatalogExporter(format, DEFAULT_SOURCE_LANGUAGE);
+    }
+
+    /**
+     * Creates an exporter for patterns in a different language, which matters to formats intended for translators.
+     *
+     * @param languageTag language of the patterns, e.g. <code>de</code>
+     * @return exporter
+     */
+    public CatalogExporter withSourceLanguage(String languageTag) {
+        return new CatalogExporter(format, languageTag);
+    }
+
+    /**
+     * Exports the repositories listed in <code>META-INF/textcrate/repositories</code> class path resources (see
+     * {@link Messages#getIndexedRepositoryNames(ClassLoader)}) to a file.
+     *
+     * @param classLoader class loader for looking up the index resources and the repository interfaces
+     * @param file target file, replaced if it exists
+     * @return number of exported messages
+     * @throws IOException if writing fails
+     * @throws ClassNotFoundException if a repository cannot be loaded
+     */
+    public int exportIndexed(ClassLoader classLoader, Path file) throws IOException, ClassNotFoundException {
+
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+
+        List<Class<?>> repositories = new ArrayList<>();
+        for (String name : Messages.getIndexedRepositoryNames(classLoader)) {
+            repositories.add(Class.forName(name, false, classLoader));
+        }
+
+        return export(repositories, file);
+    }
+
+    /**
+     * Exports repositories to a file, in the order they are given.
+     *
+     * @param repositories repository interfaces
+     * @param file target file, replaced if it exists
+     * @return number of exported messages
+     * @throws IOException if writing fails
+     */
+    public int export(Iterable<? extends Class<?>> repositories, Path file) throws IOException {
+
+        Objects.requireNonNull(file, "File cannot be null");
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (Writer output = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return export(repositories, output);
+        }
+    }
+
+    /**
+     * Exports repositories, in the order they are given. The output is neither buffered nor closed by the exporter.
+     *
+     * @param repositories repository interfaces
+     * @param output where to write
+     * @return number of exported messages
+     * @throws IOException if writing fails
+     */
+    public int export(Iterable<? extends Class<?>> repositories, Writer output) throws IOException {
+
+        Objects.requireNonNull(repositories, "Repositories cannot be null");
+        Objects.requireNonNull(output, "Output cannot be null");
+
+        CatalogWriter writer = format.createWriter(output, sourceLanguage);
+        writer.begin();
+
+        int count = 0;
+        for (Class<?> repository : repositories) {
+
+            List<MessageDescriptor> descriptors = MessageCatalog.describe(repository);
+            writer.beginRepository(repository);
+            for (MessageDescriptor descriptor : descriptors) {
+                writer.write(descriptor);
+            }
+
+            writer.endRepository();
+            count += descriptors.size();
+        }
+
+        writer.end();
+        return count;
+    }
+}
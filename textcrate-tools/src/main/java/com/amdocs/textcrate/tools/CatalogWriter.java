@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageDescriptor;
+import java.io.IOException;
+
+/**
+ * <p>Writes message descriptors in an export format as they come, one repository after another, without keeping them
+ * in memory. Closing the writer does not close the underlying output.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+interface CatalogWriter {
+
+    void begin() throws IOException;
+
+    void beginRepository(Class<?> repository) throws IOException;
+
+    void write(MessageDescriptor descriptor) throws IOException;
+
+    void endRepository() throws IOException;
+
+    void end() throws IOException;
+}
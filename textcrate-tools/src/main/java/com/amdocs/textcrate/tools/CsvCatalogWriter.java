@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Streams messages as comma-separated values, a row per message.</p>
+ *
+ * <p>The properties of a message are written in a single column as <code>name=value</code> pairs separated by
+ * <code>;</code>, sorted by name. A <code>;</code>, <code>=</code> or <code>\</code> in a name or a value is escaped
+ * with a <code>\</code>, e.g. <code>note=a\=b\;c</code> for the value <code>a=b;c</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class CsvCatalogWriter implements CatalogWriter {
+
+    static final String HEADER = "repository,method,code,pattern,properties";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer output;
+
+    CsvCatalogWriter(Writer output) {
+        this.output = output;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        output.write(HEADER);
+        output.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void beginRepository(Class<?> repository) {
+        // every row has the repository
+    }
+
+    @Override
+    public void write(MessageDescriptor descriptor) throws IOException {
+
+        writeField(descriptor.getRepository().getName());
+        output.write(',');
+        writeField(descriptor.getMethodName());
+        output.write(',');
+        writeField(descriptor.getCode());
+        output.write(',');
+        writeField(descriptor.getPattern());
+        output.write(',');
+
+        StringBuilder properties = new StringBuilder();
+        for (Map.Entry<String, String> property : new TreeMap<>(descriptor.getProperties()).entrySet()) {
+
+            if (properties.length() > 0) {
+                properties.append(';');
+            }
+
+            appendProperty(properties, property.getKey());
+            properties.append('=');
+            appendProperty(properties, property.getValue());
+        }
+
+        writeField(properties.toString());
+        output.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void endRepository() {
+        // nothing to close
+    }
+
+    @Override
+    public void end() throws IOException {
+        output.flush();
+    }
+
+    private static void appendProperty(StringBuilder properties, String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+            if ((c == ';') || (c == '=') || (c == '\\')) {
+                properties.append('\\');
+            }
+
+            properties.append(c);
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = (c == ',') || (c == '"') || (c == '\r') || (c == '\n');
+        }
+
+        if (!quoted) {
+            output.write(value);
+            return;
+        }
+
+        output.write('"');
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+            if (c == '"') {
+                output.write('"');
+            }
+
+            output.write(c);
+        }
+
+        output.write('"');
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>Reads comma-separated values according to RFC 4180, a record at a time. The header row must have
+ * the columns <code>repository</code>, <code>code</code> and <code>translation</code>, in any order, so a file
+ * exported with {@link ExportFormat#CSV} can be translated by adding a column. Other columns are ignored.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class CsvTranslationSource implements TranslationSource {
+
+    static final String REPOSITORY_COLUMN = "repository";
+    static final String CODE_COLUMN = "code";
+    static final String TRANSLATION_COLUMN = "translation";
+
+    @Override
+    public void read(Path file, Handler handler) throws IOException {
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+
+            Records records = new Records(reader);
+            List<String> header = records.next();
+            if (header == null) {
+                return;
+            }
+
+            int repository = column(header, REPOSITORY_COLUMN);
+            int code = column(header, CODE_COLUMN);
+            int translation = column(header, TRANSLATION_COLUMN);
+            int width = Math.max(repository, Math.max(code, translation)) + 1;
+
+            List<String> record;
+            while ((record = records.next()) != null) {
+
+                if ((record.size() >= width) && !record.get(translation).isEmpty()) {
+                    handler.accept(new Translation(record.get(repository), record.get(code),
+                            record.get(translation), "record " + records.count));
+                }
+            }
+        }
+    }
+
+    private static int column(List<String> header, String name) throws IOException {
+
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(name)) {
+                return i;
+            }
+        }
+
+        throw new IOException("Column '" + name + "' is missing");
+    }
+
+    /**
+     * Splits the input into records, which may span lines if a quoted field contains line breaks.
+     */
+    private static final class Records {
+
+        private final Reader reader;
+        private int next;
+        private int count;
+
+        private Records(Reader reader) throws IOException {
+            this.reader = reader;
+            this.next = reader.read();
+        }
+
+        private List<String> next() throws IOException {
+
+            if (next < 0) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (next >= 0) {
+
+                char c = (char) next;
+                next = reader.read();
+
+                if (quoted) {
+
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (next == '"') {
+                        field.append('"');
+                        next = reader.read();
+                    } else {
+                        quoted = false;
+                    }
+
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+            }
+
+            fields.add(field.toString());
+            count++;
+            return fields;
+        }
+    }
+}
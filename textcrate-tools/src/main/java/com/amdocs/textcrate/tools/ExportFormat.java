@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * <p>Formats in which messages can be exported by {@link CatalogExporter}.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public enum ExportFormat {
+
+    /**
+     * <a href="http://docs.oasis-open.org/xliff/v1.2/os/xliff-core.html">XLIFF 1.2</a>, for translators. Each
+     * repository is a <code>file</code>, and each message is a <code>trans-unit</code> identified by its code, with
+     * the message properties as notes.
+     */
+    XLIFF("xlf") {
+        @Override
+        CatalogWriter createWriter(Writer output, String sourceLanguage) throws IOException {
+            return new XliffCatalogWriter(output, sourceLanguage);
+        }
+    },
+
+    /**
+     * Comma-separated values according to <a href="https://tools.ietf.org/html/rfc4180">RFC 4180</a>, with a header
+     * row. Properties are listed in a single column as <code>name=value</code> pairs separated by <code>;</code>.
+     */
+    CSV("csv") {
+        @Override
+        CatalogWriter createWriter(Writer output, String sourceLanguage) {
+            return new CsvCatalogWriter(output);
+        }
+    },
+
+    /**
+     * A GNU gettext PO template. The context of each entry is the repository and the code of the message, separated by
+     * a colon, which allows to import the translated PO files.
+     */
+    PO("pot") {
+        @Override
+        CatalogWriter createWriter(Writer output, String sourceLanguage) {
+            return new PoCatalogWriter(output);
+        }
+    },
+
+    /**
+     * A JSON array with an object per message, e.g. for generating documentation of message codes.
+     */
+    JSON("json") {
+        @Override
+        CatalogWriter createWriter(Writer output, String sourceLanguage) {
+            return new JsonCatalogWriter(output);
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Conventional file name extension of the format.
+     *
+     * @return extension without a leading dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    abstract CatalogWriter createWriter(Writer output, String sourceLanguage) throws IOException;
+}
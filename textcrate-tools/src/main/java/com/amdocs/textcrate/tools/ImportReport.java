@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * <p>Outcome of importing translations with {@link TranslationImporter}, with an entry for each locale.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@EqualsAndHashCode
+@ToString
+public final class ImportReport {
+
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+
+    ImportReport(List<Entry> entries, long elapsedNanos) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Results for individual locales.
+     *
+     * @return unmodifiable list of entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Wall-clock time of the whole import. Locales are imported in parallel.
+     *
+     * @return total time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Whether all translations have been imported.
+     *
+     * @return <code>true</code> if no locale has failed or has rejected translations
+     */
+    public boolean isSuccessful() {
+        return entries.stream().allMatch(entry -> (entry.failure == null) && entry.problems.isEmpty());
+    }
+
+    /**
+     * Result of importing the translations of a single locale.
+     */
+    @EqualsAndHashCode
+    @ToString
+    public static final class Entry {
+
+        private final Locale locale;
+        private final Path catalog;
+        private final int translationCount;
+        private final List<String> problems;
+        private final long elapsedNanos;
+        private final Throwable failure;
+
+        Entry(Locale locale, Path catalog, int translationCount, List<String> problems, long elapsedNanos,
+                Throwable failure) {
+            this.locale = locale;
+            this.catalog = catalog;
+            this.translationCount = translationCount;
+            this.problems = Collections.unmodifiableList(problems);
+            this.elapsedNanos = elapsedNanos;
+            this.failure = failure;
+        }
+
+        /**
+         * Locale of the translations.
+         *
+         * @return locale
+         */
+        public Locale getLocale() {
+            return locale;
+        }
+
+        /**
+         * The compiled catalog that has been written.
+         *
+         * @return catalog file
+         */
+        public Path getCatalog() {
+            return catalog;
+        }
+
+        /**
+         * Number of translations in the catalog.
+         *
+         * @return number of accepted translations
+         */
+        public int getTranslationCount() {
+            return translationCount;
+        }
+
+        /**
+         * Translations that have been rejected, e.g. because they do not match a message, or their pattern is
+         * invalid for the message.
+         *
+         * @return unmodifiable list of descriptions, with the file and the location of each translation
+         */
+        public List<String> getProblems() {
+            return problems;
+        }
+
+        /**
+         * Time it took to import the translations of the locale.
+         *
+         * @return import time
+         */
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * Error that has stopped the import of the locale, e.g. a file that cannot be read or parsed.
+         *
+         * @return failure, empty if the import has completed
+         */
+        public Optional<Throwable> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+    }
+}
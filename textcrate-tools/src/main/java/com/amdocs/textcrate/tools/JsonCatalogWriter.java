@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Streams messages as a JSON array, an object per line.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class JsonCatalogWriter implements CatalogWriter {
+
+    private final Writer output;
+    private boolean first = true;
+
+    JsonCatalogWriter(Writer output) {
+        this.output = output;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        output.write('[');
+    }
+
+    @Override
+    public void beginRepository(Class<?> repository) {
+        // every object has the repository
+    }
+
+    @Override
+    public void write(MessageDescriptor descriptor) throws IOException {
+
+        output.write(first ? "\n  {" : ",\n  {");
+        first = false;
+
+        writeMember("repository", descriptor.getRepository().getName());
+        output.write(", ");
+        writeMember("method", descriptor.getMethodName());
+        output.write(", ");
+        writeMember("code", descriptor.getCode());
+        output.write(", \"numericCode\": ");
+        output.write(Integer.toString(descriptor.getNumericCode()));
+        output.write(", ");
+        writeMember("pattern", descriptor.getPattern());
+        output.write(", \"properties\": {");
+
+        String separator = "";
+        for (Map.Entry<String, String> property : new TreeMap<>(descriptor.getProperties()).entrySet()) {
+            output.write(separator);
+            writeMember(property.getKey(), property.getValue());
+            separator = ", ";
+        }
+
+        output.write("}}");
+    }
+
+    @Override
+    public void endRepository() {
+        // objects are not grouped by repository
+    }
+
+    @Override
+    public void end() throws IOException {
+        output.write(first ? "]\n" : "\n]\n");
+        output.flush();
+    }
+
+    private void writeMember(String name, String value) throws IOException {
+        writeString(name);
+        output.write(": ");
+        writeString(value);
+    }
+
+    private void writeString(String value) throws IOException {
+
+        output.write('"');
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    output.write("\\\"");
+                    break;
+                case '\\':
+                    output.write("\\\\");
+                    break;
+                case '\n':
+                    output.write("\\n");
+                    break;
+                case '\r':
+                    output.write("\\r");
+                    break;
+                case '\t':
+                    output.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        output.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        output.write(c);
+                    }
+            }
+        }
+
+        output.write('"');
+    }
+}
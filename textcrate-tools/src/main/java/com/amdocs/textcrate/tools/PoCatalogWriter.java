@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Streams messages as a GNU gettext PO template. The context of an entry identifies the message, the properties
+ * of a message are extracted comments, and the repository method is the reference.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class PoCatalogWriter implements CatalogWriter {
+
+    private final Writer output;
+
+    PoCatalogWriter(Writer output) {
+        this.output = output;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        output.write("msgid \"\"\nmsgstr \"\"\n\"Content-Type: text/plain; charset=UTF-8\\n\"\n");
+    }
+
+    @Override
+    public void beginRepository(Class<?> repository) {
+        // every entry has the repository
+    }
+
+    @Override
+    public void write(MessageDescriptor descriptor) throws IOException {
+
+        output.write('\n');
+        for (Map.Entry<String, String> property : new TreeMap<>(descriptor.getProperties()).entrySet()) {
+            output.write("#. " + property.getKey() + "=" + property.getValue() + "\n");
+        }
+
+        output.write("#: " + descriptor.getRepository().getName() + "#" + descriptor.getMethodName() + "\n");
+        output.write("msgctxt ");
+        writeString(descriptor.getRepository().getName() + PoTranslationSource.CONTEXT_SEPARATOR
+                            + descriptor.getCode());
+        output.write("\nmsgid ");
+        writeString(descriptor.getPattern());
+        output.write("\nmsgstr \"\"\n");
+    }
+
+    @Override
+    public void endRepository() {
+        // entries are not grouped by repository
+    }
+
+    @Override
+    public void end() throws IOException {
+        output.flush();
+    }
+
+    private void writeString(String value) throws IOException {
+
+        output.write('"');
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    output.write("\\\"");
+                    break;
+                case '\\':
+                    output.write("\\\\");
+                    break;
+                case '\n':
+                    output.write("\\n");
+                    break;
+                case '\t':
+                    output.write("\\t");
+                    break;
+                case '\r':
+                    output.write("\\r");
+                    break;
+                default:
+                    output.write(c);
+            }
+        }
+
+        output.write('"');
+    }
+}
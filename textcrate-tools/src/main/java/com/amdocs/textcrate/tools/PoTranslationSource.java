@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>Reads GNU gettext PO files line by line, as created from a template exported by {@link ExportFormat#PO}.
+ * The context (<code>msgctxt</code>) of an entry is the repository and the message code separated by a colon, and
+ * <code>msgstr</code> is the translation. Fuzzy entries are skipped, as gettext does.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class PoTranslationSource implements TranslationSource {
+
+    static final char CONTEXT_SEPARATOR = ':';
+
+    @Override
+    public void read(Path file, Handler handler) throws IOException {
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+
+            Entry entry = new Entry();
+            StringBuilder current = null;
+            String line;
+            int number = 0;
+
+            while ((line = reader.readLine()) != null) {
+
+                number++;
+                String trimmed = line.trim();
+
+                if (trimmed.isEmpty()) {
+                    entry.complete(handler);
+                    entry = new Entry();
+                    current = null;
+                } else if (trimmed.startsWith("#,")) {
+                    entry.fuzzy |= trimmed.contains("fuzzy");
+                } else if (trimmed.startsWith("#")) {
+                    current = null;
+                } else if (trimmed.startsWith("msgctxt ")) {
+                    entry.line = number;
+                    current = entry.context;
+                    current.append(unquote(trimmed.substring("msgctxt ".length()), number));
+                } else if (trimmed.startsWith("msgid ")) {
+                    entry.line = entry.line == 0 ? number : entry.line;
+                    current = entry.id;
+                    current.append(unquote(trimmed.substring("msgid ".length()), number));
+                } else if (trimmed.startsWith("msgstr ")) {
+                    current = entry.translation;
+                    current.append(unquote(trimmed.substring("msgstr ".length()), number));
+                } else if (trimmed.startsWith("\"") && (current != null)) {
+                    current.append(unquote(trimmed, number));
+                } else {
+                    // plural forms and other keywords do not apply to messages
+                    current = null;
+                }
+            }
+
+            entry.complete(handler);
+        }
+    }
+
+    private static String unquote(String quoted, int line) throws IOException {
+
+        if ((quoted.length() < 2) || (quoted.charAt(0) != '"') || (quoted.charAt(quoted.length() - 1) != '"')) {
+            throw new IOException("Invalid string on line " + line + ": " + quoted);
+        }
+
+        StringBuilder value = new StringBuilder(quoted.length());
+        for (int i = 1; i < quoted.length() - 1; i++) {
+
+            char c = quoted.charAt(i);
+            if ((c != '\\') || (i == quoted.length() - 2)) {
+                value.append(c);
+                continue;
+            }
+
+            char escaped = quoted.charAt(++i);
+            switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                default:
+                    value.append(escaped);
+            }
+        }
+
+        return value.toString();
+    }
+
+    private static final class Entry {
+
+        private final StringBuilder context = new StringBuilder();
+        private final StringBuilder id = new StringBuilder();
+        private final StringBuilder translation = new StringBuilder();
+        private boolean fuzzy;
+        private int line;
+
+        private void complete(Handler handler) throws IOException {
+
+            // the header has an empty ID
+            if (fuzzy || (id.length() == 0) || (translation.length() == 0)) {
+                return;
+            }
+
+            int separator = context.indexOf(String.valueOf(CONTEXT_SEPARATOR));
+            if (separator < 0) {
+                throw new IOException("Invalid context on line " + line + ", expected repository:code");
+            }
+
+            handler.accept(new Translation(context.substring(0, separator), context.substring(separator + 1),
+                    translation.toString(), "line " + line));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Finds message repositories among compiled classes, for modules that do not list their repositories in
+ * <code>META-INF/textcrate/repositories</code>. A repository is an interface that has at least one method annotated
+ * with {@link MessageSpec}, including inherited methods.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class RepositoryScanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryScanner.class);
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private RepositoryScanner() { /* prevent instantiation */ }
+
+    /**
+     * Loads the classes in a directory, without initializing them, and selects message repositories.
+     *
+     * @param classesDirectory root of a class directory tree, e.g. <code>target/classes</code>
+     * @param classLoader class loader that can load the classes in the directory and their dependencies
+     * @return repository interfaces, ordered by name
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<Class<?>> scan(Path classesDirectory, ClassLoader classLoader) throws IOException {
+
+        Objects.requireNonNull(classesDirectory, "Directory cannot be null");
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+
+        if (!Files.isDirectory(classesDirectory)) {
+            return new ArrayList<>();
+        }
+
+        List<String> names;
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            names = files.map(file -> classesDirectory.relativize(file).toString())
+                            .filter(RepositoryScanner::isClassFile)
+                            .map(RepositoryScanner::toClassName)
+                            .sorted()
+                            .collect(Collectors.toList());
+        }
+
+        List<Class<?>> repositories = new ArrayList<>();
+        for (String name : names) {
+
+            Class<?> type = load(name, classLoader);
+            if ((type != null) && isRepository(type)) {
+                repositories.add(type);
+            }
+        }
+
+        return repositories;
+    }
+
+    private static boolean isClassFile(String path) {
+        return path.endsWith(CLASS_SUFFIX) && !path.endsWith("module-info.class")
+                       && !path.endsWith("package-info.class");
+    }
+
+    private static String toClassName(String path) {
+        return path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('\\', '/').replace('/', '.');
+    }
+
+    private static Class<?> load(String name, ClassLoader classLoader) {
+
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            // a class that cannot be loaded cannot be a usable repository either
+            LOGGER.debug("Skipping class {}", name, e);
+            return null;
+        }
+    }
+
+    private static boolean isRepository(Class<?> type) {
+
+        if (!type.isInterface() || type.isAnnotation()) {
+            return false;
+        }
+
+        try {
+
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(MessageSpec.class)) {
+                    return true;
+                }
+            }
+
+            return false;
+
+        } catch (LinkageError e) {
+            LOGGER.debug("Skipping interface {}", type.getName(), e);
+            return false;
+        }
+    }
+}
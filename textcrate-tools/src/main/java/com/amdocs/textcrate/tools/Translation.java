@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <p>A translated pattern as read from a translation file, before it is matched with a message.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+final class Translation {
+
+    private final String repository;
+    private final String code;
+    private final String pattern;
+
+    /**
+     * Where the translation is in the file, for reporting problems, e.g. a line number.
+     */
+    private final String location;
+}
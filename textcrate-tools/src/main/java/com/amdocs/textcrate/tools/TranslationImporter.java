@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageCatalog;
+import com.amdocs.textcrate.MessageDescriptor;
+import com.amdocs.textcrate.TranslationCatalog;
+import com.amdocs.textcrate.TranslationCatalogWriter;
+import com.amdocs.textcrate.api.InvalidPatternException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Imports translation files returned by translators into the compiled catalogs that are loaded at runtime (see
+ * {@link TranslationCatalog}). XLIFF, PO and CSV files are supported, see {@link ExportFormat} for their
+ * structure.</p>
+ *
+ * <pre>
+ *     ImportReport report = TranslationImporter.forClassLoader(classLoader)
+ *             .importTranslations(Collections.singletonMap(Locale.GERMAN, files), Paths.get("target/classes"));
+ * </pre>
+ *
+ * <p>Files are read as streams and each translation is written to the catalog as soon as it has been read, so
+ * large files do not have to fit into memory. Every translation is validated with the {@link
+ * com.amdocs.textcrate.api.Validator} of the formatter of its repository, against the parameter types of the
+ * repository method. Translations that do not match a message or are not valid are rejected and reported, the
+ * others are imported. Locales are imported in parallel on the common fork-join pool.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public final class TranslationImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TranslationImporter.class);
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Messages of the repositories by their codes, shared by all locales. Empty for names that are not repositories.
+     */
+    private final Map<String, Optional<Map<String, MessageDescriptor>>> repositories = new ConcurrentHashMap<>();
+
+    private TranslationImporter(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Creates an importer.
+     *
+     * @param classLoader class loader that can load the repository interfaces
+     * @return importer
+     */
+    public static TranslationImporter forClassLoader(ClassLoader classLoader) {
+        return new TranslationImporter(Objects.requireNonNull(classLoader, "Class loader cannot be null"));
+    }
+
+    /**
+     * Imports translations, a catalog per locale.
+     *
+     * @param files translation files of each locale, imported in the given order, so that a later file may override
+     *              translations of an earlier one
+     * @param outputDirectory root of the class path directory tree to write catalogs to, e.g.
+     *                        <code>target/classes</code>
+     * @return report with the outcome for each locale
+     */
+    public ImportReport importTranslations(Map<Locale, ? extends Collection<Path>> files, Path outputDirectory) {
+
+        Objects.requireNonNull(files, "Files cannot be null");
+        Objects.requireNonNull(outputDirectory, "Output directory cannot be null");
+
+        long start = System.nanoTime();
+
+        List<CompletableFuture<ImportReport.Entry>> futures = files.entrySet().stream()
+                .map(locale -> CompletableFuture.supplyAsync(
+                        () -> importLocale(locale.getKey(), locale.getValue(), outputDirectory),
+                        ForkJoinPool.commonPool()))
+                .collect(Collectors.toList());
+        List<ImportReport.Entry> entries = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+        ImportReport report = new ImportReport(entries, System.nanoTime() - start);
+        LOGGER.debug("Translations imported: {}", report);
+        return report;
+    }
+
+    private ImportReport.Entry importLocale(Locale locale, Collection<Path> files, Path outputDirectory) {
+
+        long start = System.nanoTime();
+        Path catalog = outputDirectory.resolve(TranslationCatalog.getResourceName(locale));
+        List<String> problems = new ArrayList<>();
+        int count = 0;
+
+        try {
+
+            Files.createDirectories(catalog.getParent());
+            try (TranslationCatalogWriter writer = new TranslationCatalogWriter(Files.newOutputStream(catalog),
+                    locale)) {
+
+                for (Path file : files) {
+                    TranslationSource.forFile(file).read(file,
+                            translation -> accept(translation, file, writer, problems));
+                }
+
+                count = writer.getCount();
+            }
+
+            return new ImportReport.Entry(locale, catalog, count, problems, System.nanoTime() - start, null);
+
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to import translations for locale {}", locale, e);
+            deleteQuietly(catalog);
+            return new ImportReport.Entry(locale, catalog, 0, problems, System.nanoTime() - start, e);
+        }
+    }
+
+    private void accept(Translation translation, Path file, TranslationCatalogWriter writer, List<String> problems)
+            throws IOException {
+
+        Optional<Map<String, MessageDescriptor>> messages =
+                repositories.computeIfAbsent(translation.getRepository(), this::describe);
+        if (!messages.isPresent()) {
+            problems.add(String.format("%s, %s: unknown repository %s", file, translation.getLocation(),
+                    translation.getRepository()));
+            return;
+        }
+
+        MessageDescriptor descriptor = messages.get().get(translation.getCode());
+        if (descriptor == null) {
+            problems.add(String.format("%s, %s: unknown message %s in %s", file, translation.getLocation(),
+                    translation.getCode(), translation.getRepository()));
+            return;
+        }
+
+        try {
+            descriptor.validate(translation.getPattern());
+        } catch (InvalidPatternException e) {
+            problems.add(String.format("%s, %s: invalid translation of %s: %s", file, translation.getLocation(),
+                    translation.getCode(), e.getMessage()));
+            return;
+        }
+
+        writer.write(translation.getRepository(), descriptor.getNumericCode(), translation.getPattern());
+    }
+
+    private Optional<Map<String, MessageDescriptor>> describe(String repository) {
+
+        Class<?> type;
+        try {
+            type = Class.forName(repository, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("Cannot load repository {}", repository, e);
+            return Optional.empty();
+        }
+
+        if (!type.isInterface()) {
+            return Optional.empty();
+        }
+
+        Map<String, MessageDescriptor> byCode = new HashMap<>();
+        for (MessageDescriptor descriptor : MessageCatalog.describe(type)) {
+            byCode.put(descriptor.getCode(), descriptor);
+        }
+
+        return Optional.of(byCode);
+    }
+
+    private static void deleteQuietly(Path file) {
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete incomplete catalog {}", file, e);
+        }
+    }
+}
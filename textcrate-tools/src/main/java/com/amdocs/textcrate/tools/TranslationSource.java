@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * <p>Reads translation files of a particular format, one translation at a time, so that a file never has to fit
+ * into memory. Translations that are empty (i.e. not translated yet) are skipped.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+interface TranslationSource {
+
+    void read(Path file, Handler handler) throws IOException;
+
+    /**
+     * Picks a source by the file name extension: <code>.xlf</code> or <code>.xliff</code>, <code>.po</code>, and
+     * <code>.csv</code>.
+     *
+     * @param file translation file
+     * @return source for the format of the file
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    static TranslationSource forFile(Path file) {
+
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xlf") || name.endsWith(".xliff")) {
+            return new XliffTranslationSource();
+        }
+
+        if (name.endsWith(".po")) {
+            return new PoTranslationSource();
+        }
+
+        if (name.endsWith(".csv")) {
+            return new CsvTranslationSource();
+        }
+
+        throw new IllegalArgumentException("Unsupported format of translation file " + file);
+    }
+
+    /**
+     * Receives translations as they are read.
+     */
+    @FunctionalInterface
+    interface Handler {
+
+        void accept(Translation translation) throws IOException;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import com.amdocs.textcrate.MessageDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * <p>Streams messages as XLIFF 1.2 using StAX, which takes care of escaping.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class XliffCatalogWriter implements CatalogWriter {
+
+    static final String NAMESPACE = "urn:oasis:names:tc:xliff:document:1.2";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final XMLStreamWriter xml;
+    private final String sourceLanguage;
+
+    XliffCatalogWriter(Writer output, String sourceLanguage) throws IOException {
+
+        this.sourceLanguage = sourceLanguage;
+
+        try {
+            this.xml = OUTPUT_FACTORY.createXMLStreamWriter(output);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to create XML writer", e);
+        }
+    }
+
+    @Override
+    public void begin() throws IOException {
+
+        try {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("xliff");
+            xml.writeDefaultNamespace(NAMESPACE);
+            xml.writeAttribute("version", "1.2");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void beginRepository(Class<?> repository) throws IOException {
+
+        try {
+            xml.writeCharacters("\n  ");
+            xml.writeStartElement("file");
+            xml.writeAttribute("original", repository.getName());
+            xml.writeAttribute("source-language", sourceLanguage);
+            xml.writeAttribute("datatype", "plaintext");
+            xml.writeCharacters("\n    ");
+            xml.writeStartElement("body");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void write(MessageDescriptor descriptor) throws IOException {
+
+        try {
+
+            xml.writeCharacters("\n      ");
+            xml.writeStartElement("trans-unit");
+            xml.writeAttribute("id", descriptor.getCode());
+            xml.writeAttribute("resname", descriptor.getMethodName());
+
+            xml.writeCharacters("\n        ");
+            xml.writeStartElement("source");
+            xml.writeCharacters(descriptor.getPattern());
+            xml.writeEndElement();
+
+            // sorted, so that exports of the same messages are identical
+            for (Map.Entry<String, String> property : new TreeMap<>(descriptor.getProperties()).entrySet()) {
+                xml.writeCharacters("\n        ");
+                xml.writeStartElement("note");
+                xml.writeAttribute("from", property.getKey());
+                xml.writeCharacters(property.getValue());
+                xml.writeEndElement();
+            }
+
+            xml.writeCharacters("\n      ");
+            xml.writeEndElement();
+
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void endRepository() throws IOException {
+
+        try {
+            xml.writeCharacters("\n    ");
+            xml.writeEndElement();
+            xml.writeCharacters("\n  ");
+            xml.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void end() throws IOException {
+
+        try {
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+            xml.writeEndDocument();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+}
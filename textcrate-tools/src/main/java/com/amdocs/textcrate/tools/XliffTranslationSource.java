@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * <p>Reads XLIFF 1.2 as exported by {@link ExportFormat#XLIFF}, with a StAX parser. The repository is
+ * the <code>original</code> attribute of a <code>file</code>, the message code is the <code>id</code> of
+ * a <code>trans-unit</code>, and the translation is the text of its <code>target</code>.</p>
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+final class XliffTranslationSource implements TranslationSource {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // translation files come from outside, so no DTDs and external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @Override
+    public void read(Path file, Handler handler) throws IOException {
+
+        try (InputStream input = Files.newInputStream(file)) {
+
+            XMLStreamReader xml = INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                read(xml, handler);
+            } finally {
+                xml.close();
+            }
+
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse " + file, e);
+        }
+    }
+
+    private static void read(XMLStreamReader xml, Handler handler) throws XMLStreamException, IOException {
+
+        String repository = null;
+        String code = null;
+        int line = 0;
+        StringBuilder target = null;
+
+        while (xml.hasNext()) {
+
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+
+                switch (xml.getLocalName()) {
+                    case "file":
+                        repository = xml.getAttributeValue(null, "original");
+                        break;
+                    case "trans-unit":
+                        code = xml.getAttributeValue(null, "id");
+                        line = xml.getLocation().getLineNumber();
+                        break;
+                    case "target":
+                        target = new StringBuilder();
+                        break;
+                    default:
+                        // inline elements of a target contribute their text only
+                }
+
+            } else if (((event == XMLStreamConstants.CHARACTERS) || (event == XMLStreamConstants.CDATA))
+                               && (target != null)) {
+                target.append(xml.getText());
+
+            } else if ((event == XMLStreamConstants.END_ELEMENT) && "target".equals(xml.getLocalName())) {
+
+                if ((target.length() > 0) && (repository != null) && (code != null)) {
+                    handler.accept(new Translation(repository, code, target.toString(), "line " + line));
+                }
+
+                target = null;
+            }
+        }
+    }
+}
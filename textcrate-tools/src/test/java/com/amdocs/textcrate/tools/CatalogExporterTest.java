@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageProperty;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests exporting messages in supported formats.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class CatalogExporterTest {
+
+    private static final List<Class<?>> REPOSITORIES = Arrays.asList(BorrowingMessages.class, EmptyMessages.class);
+
+    @Test
+    public void messagesCountedWhenExported() throws IOException {
+        assertEquals(CatalogExporter.of(ExportFormat.CSV).export(REPOSITORIES, new StringWriter()), 2);
+    }
+
+    @Test
+    public void validXliffWrittenWhenXliffFormat() throws Exception {
+
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.XLIFF).withSourceLanguage("de").export(REPOSITORIES, output);
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(output.toString())));
+
+        NodeList files = document.getElementsByTagNameNS(XliffCatalogWriter.NAMESPACE, "file");
+        assertEquals(files.getLength(), 2);
+        Element file = (Element) files.item(0);
+        assertEquals(file.getAttribute("original"), BorrowingMessages.class.getName());
+        assertEquals(file.getAttribute("source-language"), "de");
+
+        NodeList units = document.getElementsByTagNameNS(XliffCatalogWriter.NAMESPACE, "trans-unit");
+        assertEquals(units.getLength(), 2);
+        Element unit = (Element) units.item(1);
+        assertEquals(unit.getAttribute("id"), "BOR-22");
+        assertEquals(unit.getAttribute("resname"), "tooManyBooks");
+        assertEquals(unit.getElementsByTagNameNS(XliffCatalogWriter.NAMESPACE, "source").item(0).getTextContent(),
+                "More than {} books, \"<limit>\" & co");
+
+        NodeList notes = unit.getElementsByTagNameNS(XliffCatalogWriter.NAMESPACE, "note");
+        assertEquals(notes.getLength(), 2);
+        assertEquals(((Element) notes.item(0)).getAttribute("from"), "audience");
+        assertEquals(notes.item(1).getTextContent(), "Error");
+    }
+
+    @Test
+    public void fieldsQuotedWhenCsvFormat() throws IOException {
+
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.CSV).export(REPOSITORIES, output);
+
+        String[] lines = output.toString().split("\r\n");
+        assertEquals(lines.length, 3);
+        assertEquals(lines[0], CsvCatalogWriter.HEADER);
+        assertEquals(lines[1], BorrowingMessages.class.getName()
+                                       + ",bookUnavailable,BOR-21,'{}' is currently not available,type=Error");
+        assertEquals(lines[2], BorrowingMessages.class.getName()
+                                       + ",tooManyBooks,BOR-22,\"More than {} books, \"\"<limit>\"\" & co\","
+                                       + "audience=customer;type=Error");
+    }
+
+    @Test
+    public void separatorsEscapedWhenInCsvProperties() throws IOException {
+
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.CSV).export(Collections.singletonList(AnnotatedMessages.class), output);
+
+        String[] lines = output.toString().split("\r\n");
+        assertEquals(lines.length, 2);
+        assertEquals(lines[1], AnnotatedMessages.class.getName()
+                                       + ",noted,ANN-1,Noted,n\\=1\\;=a\\=b\\;c \\\\ d;type=Info");
+    }
+
+    @Test
+    public void stringsEscapedWhenJsonFormat() throws IOException {
+
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.JSON).export(Collections.singletonList(BorrowingMessages.class), output);
+
+        assertEquals(output.toString(), "[\n"
+                + "  {\"repository\": \"" + BorrowingMessages.class.getName() + "\", \"method\": \"bookUnavailable\", "
+                + "\"code\": \"BOR-21\", \"numericCode\": 21, \"pattern\": \"'{}' is currently not available\", "
+                + "\"properties\": {\"type\": \"Error\"}},\n"
+                + "  {\"repository\": \"" + BorrowingMessages.class.getName() + "\", \"method\": \"tooManyBooks\", "
+                + "\"code\": \"BOR-22\", \"numericCode\": 22, "
+                + "\"pattern\": \"More than {} books, \\\"<limit>\\\" & co\", "
+                + "\"properties\": {\"audience\": \"customer\", \"type\": \"Error\"}}\n"
+                + "]\n");
+    }
+
+    @Test
+    public void contextIdentifiesMessageWhenPoFormat() throws IOException {
+
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.PO).export(Collections.singletonList(BorrowingMessages.class), output);
+
+        assertTrue(output.toString().startsWith("msgid \"\"\nmsgstr \"\"\n"));
+        assertTrue(output.toString().contains("\n#. audience=customer\n#. type=Error\n"
+                + "#: " + BorrowingMessages.class.getName() + "#tooManyBooks\n"
+                + "msgctxt \"" + BorrowingMessages.class.getName() + ":BOR-22\"\n"
+                + "msgid \"More than {} books, \\\"<limit>\\\" & co\"\n"
+                + "msgstr \"\"\n"), output.toString());
+    }
+
+    @Test
+    public void emptyArrayWrittenWhenNoMessages() throws IOException {
+        StringWriter output = new StringWriter();
+        CatalogExporter.of(ExportFormat.JSON).export(Collections.emptyList(), output);
+        assertEquals(output.toString(), "[]\n");
+    }
+
+    @Test
+    public void fileCreatedWhenExportedToPath() throws IOException {
+
+        Path file = Files.createTempDirectory("export").resolve("nested").resolve("messages.csv");
+        int count = CatalogExporter.of(ExportFormat.CSV).export(REPOSITORIES, file);
+
+        assertEquals(count, 2);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(lines.size(), 3);
+        assertTrue(lines.get(1).startsWith(BorrowingMessages.class.getName()));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exportFailsWhenNotInterface() throws IOException {
+        CatalogExporter.of(ExportFormat.JSON).export(Collections.singletonList(String.class), new StringWriter());
+    }
+
+    @CodeSpec(pattern = "BOR-{}", offset = 20)
+    @MessageProperty(name = "type", value = "Error")
+    interface BorrowingMessages {
+
+        @MessageSpec(id = 2, pattern = "More than {} books, \"<limit>\" & co")
+        @MessageProperty(name = "audience", value = "customer")
+        Message tooManyBooks(int limit);
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        Message bookUnavailable(String title);
+
+        Message unannotated();
+    }
+
+    @CodeSpec(pattern = "ANN-{}")
+    @MessageProperty(name = "type", value = "Info")
+    interface AnnotatedMessages {
+
+        @MessageSpec(id = 1, pattern = "Noted")
+        @MessageProperty(name = "n=1;", value = "a=b;c \\ d")
+        Message noted();
+    }
+
+    interface EmptyMessages {
+
+        Message unannotated();
+    }
+}
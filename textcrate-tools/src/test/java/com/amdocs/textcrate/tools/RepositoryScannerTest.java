@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/**
+ * Tests finding message repositories among compiled classes.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class RepositoryScannerTest {
+
+    @Test
+    public void repositoriesFoundWhenAnnotatedMethodsDeclaredOrInherited() throws IOException, URISyntaxException {
+        List<Class<?>> repositories = scanTestClasses();
+        assertTrue(repositories.contains(ScannedMessages.class));
+        assertTrue(repositories.contains(InheritingMessages.class));
+        assertTrue(repositories.contains(CatalogExporterTest.BorrowingMessages.class));
+    }
+
+    @Test
+    public void otherTypesSkipped() throws IOException, URISyntaxException {
+        List<Class<?>> repositories = scanTestClasses();
+        assertFalse(repositories.contains(RepositoryScannerTest.class));
+        assertFalse(repositories.contains(CatalogExporterTest.EmptyMessages.class));
+    }
+
+    @Test
+    public void nothingFoundWhenDirectoryMissing() throws IOException {
+        assertTrue(RepositoryScanner.scan(Paths.get("does-not-exist"), getClass().getClassLoader()).isEmpty());
+    }
+
+    private List<Class<?>> scanTestClasses() throws IOException, URISyntaxException {
+        Path classes = Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+        return RepositoryScanner.scan(classes, getClass().getClassLoader());
+    }
+
+    interface ScannedMessages {
+
+        @MessageSpec(id = 1, pattern = "Scanned")
+        Message scanned();
+    }
+
+    interface InheritingMessages extends ScannedMessages { }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amdocs.textcrate.tools;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.amdocs.textcrate.TranslationCatalog;
+import com.amdocs.textcrate.api.Message;
+import com.amdocs.textcrate.api.annotations.CodeSpec;
+import com.amdocs.textcrate.api.annotations.MessageSpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+/**
+ * Tests importing translation files into compiled catalogs.
+ *
+ * @author evitaliy
+ * @since 18 Oct 2026
+ */
+public class TranslationImporterTest {
+
+    private static final String REPOSITORY = BorrowingMessages.class.getName();
+
+    @Test
+    public void translationsImportedWhenXliff() throws IOException {
+
+        String xliff = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<xliff version=\"1.2\" xmlns=\"urn:oasis:names:tc:xliff:document:1.2\">\n"
+                + "  <file original=\"" + REPOSITORY + "\" source-language=\"en\" target-language=\"de\">\n"
+                + "    <body>\n"
+                + "      <trans-unit id=\"BOR-21\" resname=\"bookUnavailable\">\n"
+                + "        <source>'{}' is currently not available</source>\n"
+                + "        <target>'{}' ist zurzeit nicht verf&#252;gbar</target>\n"
+                + "      </trans-unit>\n"
+                + "      <trans-unit id=\"BOR-22\" resname=\"tooManyBooks\">\n"
+                + "        <source>More than {} books &amp; co</source>\n"
+                + "        <target><![CDATA[Mehr als {} Bücher & Co]]></target>\n"
+                + "      </trans-unit>\n"
+                + "      <trans-unit id=\"BOR-23\" resname=\"cardExpiring\">\n"
+                + "        <source>Library card expires soon</source>\n"
+                + "        <target/>\n"
+                + "      </trans-unit>\n"
+                + "    </body>\n"
+                + "  </file>\n"
+                + "</xliff>\n";
+
+        TranslationCatalog catalog = importSingle(Locale.GERMAN, "messages.xlf", xliff);
+        assertEquals(catalog.size(), 2);
+        assertEquals(catalog.getPattern(REPOSITORY, 21), Optional.of("'{}' ist zurzeit nicht verfügbar"));
+        assertEquals(catalog.getPattern(REPOSITORY, 22), Optional.of("Mehr als {} Bücher & Co"));
+    }
+
+    @Test
+    public void translationsImportedWhenPo() throws IOException {
+
+        String po = "msgid \"\"\n"
+                + "msgstr \"\"\n"
+                + "\"Content-Type: text/plain; charset=UTF-8\\n\"\n"
+                + "\n"
+                + "#: " + REPOSITORY + "#bookUnavailable\n"
+                + "msgctxt \"" + REPOSITORY + ":BOR-21\"\n"
+                + "msgid \"'{}' is currently not available\"\n"
+                + "msgstr \"'{}' n'est \"\n"
+                + "\"pas \\\"disponible\\\"\"\n"
+                + "\n"
+                + "#, fuzzy\n"
+                + "msgctxt \"" + REPOSITORY + ":BOR-22\"\n"
+                + "msgid \"More than {} books & co\"\n"
+                + "msgstr \"Plus de {} livres\"\n"
+                + "\n"
+                + "msgctxt \"" + REPOSITORY + ":BOR-23\"\n"
+                + "msgid \"Library card expires soon\"\n"
+                + "msgstr \"La carte expire bientôt\"\n";
+
+        TranslationCatalog catalog = importSingle(Locale.FRENCH, "messages.po", po);
+        assertEquals(catalog.size(), 2);
+        assertEquals(catalog.getPattern(REPOSITORY, 21), Optional.of("'{}' n'est pas \"disponible\""));
+        assertFalse(catalog.getPattern(REPOSITORY, 22).isPresent());
+        assertEquals(catalog.getPattern(REPOSITORY, 23), Optional.of("La carte expire bientôt"));
+    }
+
+    @Test
+    public void translationsImportedWhenCsv() throws IOException {
+
+        String csv = "repository,method,code,pattern,properties,translation\r\n"
+                + REPOSITORY + ",bookUnavailable,BOR-21,'{}' is currently not available,,'{}' non è disponibile\r\n"
+                + REPOSITORY + ",tooManyBooks,BOR-22,\"More than {} books & co\",,\"Più di {} libri,\n\"\"e co\"\"\"\r\n"
+                + REPOSITORY + ",cardExpiring,BOR-23,Library card expires soon,,\r\n";
+
+        TranslationCatalog catalog = importSingle(Locale.ITALIAN, "messages.csv", csv);
+        assertEquals(catalog.size(), 2);
+        assertEquals(catalog.getPattern(REPOSITORY, 21), Optional.of("'{}' non è disponibile"));
+        assertEquals(catalog.getPattern(REPOSITORY, 22), Optional.of("Più di {} libri,\n\"e co\""));
+    }
+
+    @Test
+    public void poTemplateImportedWhenTranslated() throws IOException {
+
+        StringWriter template = new StringWriter();
+        CatalogExporter.of(ExportFormat.PO).export(Collections.singletonList(BorrowingMessages.class), template);
+        String translated = template.toString().replace("msgid \"Library card expires soon\"\nmsgstr \"\"",
+                "msgid \"Library card expires soon\"\nmsgstr \"Übersetzt\"");
+
+        TranslationCatalog catalog = importSingle(Locale.GERMAN, "messages.po", translated);
+        assertEquals(catalog.getPattern(REPOSITORY, 23), Optional.of("Übersetzt"));
+    }
+
+    @Test
+    public void invalidTranslationsRejectedWhenImported() throws IOException {
+
+        String csv = "repository,code,translation\n"
+                + REPOSITORY + ",BOR-21,Nicht verfügbar\n"
+                + REPOSITORY + ",BOR-99,Unbekannt\n"
+                + "com.example.Unknown,BOR-21,'{}' unbekannt\n"
+                + REPOSITORY + ",BOR-22,Mehr als {} Bücher\n";
+
+        Path directory = Files.createTempDirectory("translations");
+        Path file = write(directory, "messages.csv", csv);
+        ImportReport report = importer().importTranslations(
+                Collections.singletonMap(Locale.GERMAN, Collections.singletonList(file)), directory);
+
+        assertFalse(report.isSuccessful());
+        ImportReport.Entry entry = report.getEntries().get(0);
+        assertEquals(entry.getTranslationCount(), 1);
+
+        List<String> problems = entry.getProblems();
+        assertEquals(problems.size(), 3);
+        assertTrue(problems.get(0).contains("invalid translation of BOR-21"), problems.get(0));
+        assertTrue(problems.get(1).contains("unknown message BOR-99"), problems.get(1));
+        assertTrue(problems.get(2).contains("unknown repository com.example.Unknown"), problems.get(2));
+    }
+
+    @Test
+    public void catalogPerLocaleWrittenWhenSeveralLocales() throws IOException {
+
+        Path directory = Files.createTempDirectory("translations");
+        Map<Locale, List<Path>> files = new HashMap<>();
+        files.put(Locale.GERMAN, Arrays.asList(
+                write(directory, "de-1.csv", "repository,code,translation\n" + REPOSITORY + ",BOR-23,Erste\n"),
+                write(directory, "de-2.csv", "repository,code,translation\n" + REPOSITORY + ",BOR-23,Zweite\n")));
+        files.put(Locale.FRENCH, Collections.singletonList(
+                write(directory, "fr.csv", "repository,code,translation\n" + REPOSITORY + ",BOR-23,Première\n")));
+
+        ImportReport report = importer().importTranslations(files, directory);
+        assertTrue(report.isSuccessful());
+        assertEquals(report.getEntries().size(), 2);
+
+        // a later file overrides an earlier one
+        assertEquals(read(directory, Locale.GERMAN).getPattern(REPOSITORY, 23), Optional.of("Zweite"));
+        assertEquals(read(directory, Locale.FRENCH).getPattern(REPOSITORY, 23), Optional.of("Première"));
+    }
+
+    @Test
+    public void failureReportedWhenFileMalformed() throws IOException {
+
+        Path directory = Files.createTempDirectory("translations");
+        Path file = write(directory, "broken.xlf", "<xliff><file original=\"x\">");
+        ImportReport report = importer().importTranslations(
+                Collections.singletonMap(Locale.GERMAN, Collections.singletonList(file)), directory);
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getEntries().get(0).getFailure().isPresent());
+        assertFalse(Files.exists(report.getEntries().get(0).getCatalog()));
+    }
+
+    @Test
+    public void failureReportedWhenFormatUnsupported() throws IOException {
+
+        Path directory = Files.createTempDirectory("translations");
+        Path file = write(directory, "messages.properties", "key=value");
+        ImportReport report = importer().importTranslations(
+                Collections.singletonMap(Locale.GERMAN, Collections.singletonList(file)), directory);
+
+        assertTrue(report.getEntries().get(0).getFailure().get() instanceof IllegalArgumentException);
+    }
+
+    private static TranslationCatalog importSingle(Locale locale, String fileName, String content)
+            throws IOException {
+
+        Path directory = Files.createTempDirectory("translations");
+        Path file = write(directory, fileName, content);
+
+        ImportReport report = importer().importTranslations(
+                Collections.singletonMap(locale, Collections.singletonList(file)), directory);
+        assertTrue(report.isSuccessful(), report.toString());
+        return read(directory, locale);
+    }
+
+    private static TranslationImporter importer() {
+        return TranslationImporter.forClassLoader(TranslationImporterTest.class.getClassLoader());
+    }
+
+    private static Path write(Path directory, String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TranslationCatalog read(Path directory, Locale locale) throws IOException {
+        try (InputStream input = Files.newInputStream(directory.resolve(TranslationCatalog.getResourceName(locale)))) {
+            return TranslationCatalog.read(input);
+        }
+    }
+
+    @CodeSpec(pattern = "BOR-{}", offset = 20)
+    interface BorrowingMessages {
+
+        @MessageSpec(id = 1, pattern = "'{}' is currently not available")
+        Message bookUnavailable(String title);
+
+        @MessageSpec(id = 2, pattern = "More than {} books & co")
+        Message tooManyBooks(int limit);
+
+        @MessageSpec(id = 3, pattern = "Library card expires soon")
+        Message cardExpiring();
+    }
+}